@@ -0,0 +1,268 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
+
+import de.captaingoldfish.restclient.application.utils.HttpClientBuilder;
+import de.captaingoldfish.restclient.application.utils.SingleFlightLoader;
+import de.captaingoldfish.restclient.application.utils.Utils;
+import de.captaingoldfish.restclient.database.entities.OpenIdProvider;
+import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * caches the signature keys of the OpenID Providers. The keys are loaded from the {@code jwks_uri} of the
+ * provider metadata and indexed by their key ids. If a token references a key id that is not known yet the
+ * keys are reloaded because the provider might have rotated its keys, but at most once within
+ * {@link #MIN_RELOAD_INTERVAL} per provider. Providers without a {@code jwks_uri} are verified with the
+ * signature verification key of the provider definition.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+public class JwksCache
+{
+
+  /**
+   * the keys of a provider are reloaded at most once within this interval if a token with an unknown key id is
+   * received
+   */
+  static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(30);
+
+  /**
+   * the keys of a provider are reloaded after this time even if all key ids are known to notice revoked keys
+   */
+  static final Duration MAX_KEYS_LIFETIME = Duration.ofHours(12);
+
+  /**
+   * the maximum number of providers whose keys are cached
+   */
+  private static final int MAX_CACHED_PROVIDERS = 1000;
+
+  /**
+   * the keys of the providers mapped by the ids of the providers
+   */
+  private final Cache<Long, ProviderKeySet> providerKeys = Caffeine.newBuilder()
+                                                                   .maximumSize(MAX_CACHED_PROVIDERS)
+                                                                   .expireAfterWrite(MAX_KEYS_LIFETIME)
+                                                                   .build();
+
+  /**
+   * makes sure that the keys of a single provider are only requested once at the same time
+   */
+  private final SingleFlightLoader<Long, ProviderKeySet> keyLoader = new SingleFlightLoader<>();
+
+  /**
+   * gets the verifiers that might be able to verify a token of the given provider with the given header. If the
+   * key id of the header is unknown the keys of the provider are reloaded if this is permitted yet
+   *
+   * @param openIdProvider the provider that issued the token
+   * @param header the header of the token to verify
+   * @return the verifiers that match the header. Will be empty if the provider has no matching key
+   */
+  public List<JWSVerifier> getVerifiers(OpenIdProvider openIdProvider, JWSHeader header)
+  {
+    ProviderKeySet keySet = getKeySet(openIdProvider);
+    List<JWSVerifier> verifiers = keySet.getVerifiers(header);
+    boolean isUnknownKeyId = header.getKeyID() != null && !keySet.containsKeyId(header.getKeyID());
+    if ((verifiers.isEmpty() || isUnknownKeyId) && keySet.getSource() != null
+        && keySet.isReloadPermitted(Instant.now(), MIN_RELOAD_INTERVAL))
+    {
+      log.debug("No key found for kid '{}' of provider '{}'. Reloading keys from '{}'",
+                header.getKeyID(),
+                openIdProvider.getName(),
+                keySet.getSource());
+      keySet = reloadKeySet(openIdProvider, keySet);
+      verifiers = keySet.getVerifiers(header);
+    }
+    return verifiers;
+  }
+
+  /**
+   * removes the keys of the given provider from the cache. Must be called if a provider is updated or deleted
+   */
+  public void invalidate(long openIdProviderId)
+  {
+    providerKeys.invalidate(openIdProviderId);
+  }
+
+  /**
+   * gets the cached keys of the given provider or loads them if they were not loaded yet or if the provider
+   * definition was changed after the keys were loaded
+   */
+  private ProviderKeySet getKeySet(OpenIdProvider openIdProvider)
+  {
+    ProviderKeySet keySet = getCachedKeySet(openIdProvider);
+    if (keySet != null)
+    {
+      return keySet;
+    }
+    return keyLoader.load(openIdProvider.getId(), () -> {
+      // another thread might have finished loading the keys in the meantime
+      ProviderKeySet loadedKeySet = getCachedKeySet(openIdProvider);
+      if (loadedKeySet == null)
+      {
+        loadedKeySet = loadKeySet(openIdProvider);
+        providerKeys.put(openIdProvider.getId(), loadedKeySet);
+      }
+      return loadedKeySet;
+    });
+  }
+
+  /**
+   * reloads the keys of the given provider. If the keys cannot be loaded the previous keys are kept and the
+   * next attempt is not made before {@link #MIN_RELOAD_INTERVAL} has passed
+   */
+  private ProviderKeySet reloadKeySet(OpenIdProvider openIdProvider, ProviderKeySet previousKeySet)
+  {
+    return keyLoader.load(openIdProvider.getId(), () -> {
+      ProviderKeySet currentKeySet = providerKeys.getIfPresent(openIdProvider.getId());
+      if (currentKeySet != null && currentKeySet != previousKeySet)
+      {
+        // another thread has already reloaded the keys
+        return currentKeySet;
+      }
+      ProviderKeySet reloadedKeySet;
+      try
+      {
+        reloadedKeySet = loadKeySet(openIdProvider);
+      }
+      catch (Exception ex)
+      {
+        log.warn("Failed to reload the keys of provider '{}'. Keeping the last known keys: {}",
+                 openIdProvider.getName(),
+                 ex.getMessage());
+        log.debug(ex.getMessage(), ex);
+        reloadedKeySet = previousKeySet.withLoadedAt(Instant.now());
+      }
+      providerKeys.put(openIdProvider.getId(), reloadedKeySet);
+      return reloadedKeySet;
+    });
+  }
+
+  /**
+   * gets the cached keys if they were loaded for the current definition of the provider
+   */
+  private ProviderKeySet getCachedKeySet(OpenIdProvider openIdProvider)
+  {
+    ProviderKeySet keySet = providerKeys.getIfPresent(openIdProvider.getId());
+    if (keySet == null || !Objects.equals(keySet.getProviderLastModified(), openIdProvider.getLastModified()))
+    {
+      return null;
+    }
+    return keySet;
+  }
+
+  /**
+   * loads the keys from the JWKS endpoint of the provider or from the signature verification key of the
+   * provider definition if the provider does not publish a JWKS endpoint
+   */
+  private ProviderKeySet loadKeySet(OpenIdProvider openIdProvider)
+  {
+    String jwksUri = null;
+    if (StringUtils.isNotBlank(openIdProvider.getDiscoveryEndpoint()))
+    {
+      OIDCProviderMetadata metadata = Utils.loadDiscoveryEndpointInfos(openIdProvider);
+      jwksUri = metadata.getJWKSetURI() == null ? null : metadata.getJWKSetURI().toString();
+    }
+    if (jwksUri == null)
+    {
+      List<JWK> keys = toJwk(openIdProvider.getSignatureVerificationKey()).map(Collections::singletonList)
+                                                                          .orElseGet(Collections::emptyList);
+      return new ProviderKeySet(null, openIdProvider.getLastModified(), keys, Instant.now());
+    }
+    JWKSet jwkSet = requestJwkSet(jwksUri);
+    ProviderKeySet keySet = new ProviderKeySet(jwksUri, openIdProvider.getLastModified(), jwkSet.getKeys(),
+                                               Instant.now());
+    log.debug("Loaded {} signature keys of provider '{}' from '{}'", keySet.size(), openIdProvider.getName(), jwksUri);
+    return keySet;
+  }
+
+  /**
+   * requests the keys from the given JWKS endpoint
+   */
+  private JWKSet requestJwkSet(String jwksUri)
+  {
+    log.info("Requesting JWKS from: {}", jwksUri);
+    CloseableHttpClient httpClient = HttpClientBuilder.getDefaultHttpClient();
+    try (CloseableHttpResponse response = httpClient.execute(new HttpGet(jwksUri)))
+    {
+      String responseBody = Utils.getBody(response);
+      if (response.getCode() != HttpStatus.SC_OK)
+      {
+        throw new BadRequestException(String.format("Failed to load keys from JWKS endpoint: %s", responseBody));
+      }
+      return JWKSet.parse(responseBody);
+    }
+    catch (BadRequestException ex)
+    {
+      throw ex;
+    }
+    catch (Exception ex)
+    {
+      throw new BadRequestException(String.format("Failed to load keys from JWKS endpoint: %s", ex.getMessage()), ex);
+    }
+  }
+
+  /**
+   * converts the X509 encoded public key of a provider definition into a JWK
+   */
+  static Optional<JWK> toJwk(byte[] encodedPublicKey)
+  {
+    if (encodedPublicKey == null)
+    {
+      return Optional.empty();
+    }
+    for ( String keyAlgorithm : List.of("RSA", "EC") )
+    {
+      try
+      {
+        PublicKey publicKey = KeyFactory.getInstance(keyAlgorithm)
+                                        .generatePublic(new X509EncodedKeySpec(encodedPublicKey));
+        if (publicKey instanceof RSAPublicKey rsaPublicKey)
+        {
+          return Optional.of(new RSAKey.Builder(rsaPublicKey).build());
+        }
+        ECPublicKey ecPublicKey = (ECPublicKey)publicKey;
+        Curve curve = Curve.forECParameterSpec(ecPublicKey.getParams());
+        return Optional.of(new ECKey.Builder(curve, ecPublicKey).build());
+      }
+      catch (Exception ex)
+      {
+        log.trace("Signature verification key is not an {} key: {}", keyAlgorithm, ex.getMessage());
+      }
+    }
+    log.warn("Ignoring unsupported signature verification key of provider definition");
+    return Optional.empty();
+  }
+}
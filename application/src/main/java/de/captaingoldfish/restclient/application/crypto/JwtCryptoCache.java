@@ -0,0 +1,221 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.security.MessageDigest;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.Algorithm;
+import com.nimbusds.jose.JWEDecrypter;
+import com.nimbusds.jose.JWEEncrypter;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDHDecrypter;
+import com.nimbusds.jose.crypto.ECDHEncrypter;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSADecrypter;
+import com.nimbusds.jose.crypto.RSAEncrypter;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshot.KeyMaterial;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * caches the ready-to-use signers, verifiers, encrypters and decrypters of the keys within the application
+ * keystore together with the header values that are derived from the keys. The objects are identified by the
+ * version of the {@link KeystoreSnapshot} they were built from, the alias of the key and the algorithm so
+ * that a modified keystore will always lead to new objects. The nimbus crypto objects are thread-safe and can
+ * therefore be shared by concurrent requests
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Slf4j
+public class JwtCryptoCache
+{
+
+  /**
+   * the maximum number of crypto objects that are cached at the same time
+   */
+  private static final int MAX_CRYPTO_OBJECTS = 500;
+
+  /**
+   * the cached crypto objects and header values
+   */
+  private final Cache<CryptoObjectKey, Object> cryptoObjects = Caffeine.newBuilder()
+                                                                       .maximumSize(MAX_CRYPTO_OBJECTS)
+                                                                       .build();
+
+  /**
+   * @return the signer for the given key and algorithm
+   */
+  public JWSSigner getSigner(KeystoreSnapshot snapshot, String alias, JWSAlgorithm algorithm)
+  {
+    return get(CryptoObjectType.SIGNER, snapshot, alias, algorithm, keyMaterial -> {
+      return createSigner(keyMaterial, algorithm);
+    });
+  }
+
+  /**
+   * @return the signature verifier for the given key and algorithm
+   */
+  public JWSVerifier getVerifier(KeystoreSnapshot snapshot, String alias, JWSAlgorithm algorithm)
+  {
+    return get(CryptoObjectType.VERIFIER, snapshot, alias, algorithm, keyMaterial -> {
+      return createVerifier(keyMaterial, algorithm);
+    });
+  }
+
+  /**
+   * @return the encrypter for the given key and algorithm
+   */
+  public JWEEncrypter getEncrypter(KeystoreSnapshot snapshot, String alias, Algorithm algorithm)
+  {
+    return get(CryptoObjectType.ENCRYPTER, snapshot, alias, algorithm, JwtCryptoCache::createEncrypter);
+  }
+
+  /**
+   * @return the decrypter for the given key and algorithm
+   */
+  public JWEDecrypter getDecrypter(KeystoreSnapshot snapshot, String alias, Algorithm algorithm)
+  {
+    return get(CryptoObjectType.DECRYPTER, snapshot, alias, algorithm, JwtCryptoCache::createDecrypter);
+  }
+
+  /**
+   * @return the SHA-256 thumbprint of the certificate of the given key
+   */
+  public Base64URL getSha256Thumbprint(KeystoreSnapshot snapshot, String alias)
+  {
+    return get(CryptoObjectType.SHA256_THUMBPRINT, snapshot, alias, null, JwtCryptoCache::createSha256Thumbprint);
+  }
+
+  /**
+   * @return the public JWK representation of the given key
+   */
+  public JWK getPublicJwk(KeystoreSnapshot snapshot, String alias)
+  {
+    return get(CryptoObjectType.PUBLIC_JWK, snapshot, alias, null, keyMaterial -> {
+      return getJwk(keyMaterial).toPublicJWK();
+    });
+  }
+
+  /**
+   * removes all cached objects
+   */
+  public void invalidate()
+  {
+    log.trace("Invalidating cached crypto objects");
+    cryptoObjects.invalidateAll();
+  }
+
+  /**
+   * gets the cached object or builds it from the key material of the given snapshot
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T get(CryptoObjectType type,
+                    KeystoreSnapshot snapshot,
+                    String alias,
+                    Algorithm algorithm,
+                    Function<KeyMaterial, T> factory)
+  {
+    KeyMaterial keyMaterial = snapshot.getKeyMaterial(alias);
+    CryptoObjectKey cryptoObjectKey = new CryptoObjectKey(type, snapshot.getVersion(), alias, algorithm);
+    return (T)cryptoObjects.get(cryptoObjectKey, key -> {
+      log.debug("Building {} for alias '{}' and algorithm '{}' of keystore version {}",
+                key.type(),
+                key.alias(),
+                key.algorithm(),
+                key.keystoreVersion());
+      return factory.apply(keyMaterial);
+    });
+  }
+
+  @SneakyThrows
+  private static JWSSigner createSigner(KeyMaterial keyMaterial, JWSAlgorithm algorithm)
+  {
+    return new DefaultJWSSignerFactory().createJWSSigner(getJwk(keyMaterial), algorithm);
+  }
+
+  @SneakyThrows
+  private static JWSVerifier createVerifier(KeyMaterial keyMaterial, JWSAlgorithm algorithm)
+  {
+    if (JWSAlgorithm.Family.RSA.contains(algorithm))
+    {
+      return new RSASSAVerifier((RSAPublicKey)keyMaterial.getPublicKey());
+    }
+    if (JWSAlgorithm.Family.EC.contains(algorithm))
+    {
+      return new ECDSAVerifier((ECPublicKey)keyMaterial.getPublicKey());
+    }
+    String errorMessage = String.format("Unsupported algorithm found '%s'", algorithm);
+    throw new IllegalArgumentException(errorMessage);
+  }
+
+  @SneakyThrows
+  private static JWEEncrypter createEncrypter(KeyMaterial keyMaterial)
+  {
+    JWK publicJwk = getJwk(keyMaterial).toPublicJWK();
+    if (publicJwk instanceof RSAKey rsaKey)
+    {
+      return new RSAEncrypter(rsaKey);
+    }
+    return new ECDHEncrypter((ECKey)publicJwk);
+  }
+
+  @SneakyThrows
+  private static JWEDecrypter createDecrypter(KeyMaterial keyMaterial)
+  {
+    JWK jwk = getJwk(keyMaterial);
+    if (jwk instanceof RSAKey rsaKey)
+    {
+      return new RSADecrypter(rsaKey);
+    }
+    return new ECDHDecrypter((ECKey)jwk);
+  }
+
+  @SneakyThrows
+  private static Base64URL createSha256Thumbprint(KeyMaterial keyMaterial)
+  {
+    byte[] encodedCertificate = keyMaterial.getCertificate().getEncoded();
+    return Base64URL.encode(MessageDigest.getInstance("SHA-256").digest(encodedCertificate));
+  }
+
+  /**
+   * @return the JWK of the key material
+   * @throws IllegalArgumentException if the key is neither an RSA nor an EC key
+   */
+  private static JWK getJwk(KeyMaterial keyMaterial)
+  {
+    if (keyMaterial.getJwk() == null)
+    {
+      throw new IllegalArgumentException(String.format("Cannot use key of type '%s'",
+                                                       keyMaterial.getPublicKey().getAlgorithm()));
+    }
+    return keyMaterial.getJwk();
+  }
+
+  /**
+   * the types of objects within the cache
+   */
+  private enum CryptoObjectType
+  {
+    SIGNER, VERIFIER, ENCRYPTER, DECRYPTER, SHA256_THUMBPRINT, PUBLIC_JWK
+  }
+
+  /**
+   * identifies a cached object by the version of the key material that was used to build it
+   */
+  private record CryptoObjectKey(CryptoObjectType type, long keystoreVersion, String alias, Algorithm algorithm)
+  {}
+}
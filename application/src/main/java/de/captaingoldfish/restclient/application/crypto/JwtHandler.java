@@ -1,13 +1,6 @@
 package de.captaingoldfish.restclient.application.crypto;
 
 import java.nio.charset.StandardCharsets;
-import java.security.KeyPair;
-import java.security.MessageDigest;
-import java.security.PublicKey;
-import java.security.cert.X509Certificate;
-import java.security.interfaces.ECPublicKey;
-import java.security.interfaces.RSAPublicKey;
-import java.security.spec.ECParameterSpec;
 import java.text.ParseException;
 import java.util.Optional;
 
@@ -15,28 +8,14 @@ import com.nimbusds.jose.JWECryptoParts;
 import com.nimbusds.jose.JWEDecrypter;
 import com.nimbusds.jose.JWEEncrypter;
 import com.nimbusds.jose.JWEHeader;
-import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.Payload;
-import com.nimbusds.jose.crypto.ECDHDecrypter;
-import com.nimbusds.jose.crypto.ECDHEncrypter;
-import com.nimbusds.jose.crypto.ECDSAVerifier;
-import com.nimbusds.jose.crypto.RSADecrypter;
-import com.nimbusds.jose.crypto.RSAEncrypter;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
-import com.nimbusds.jose.jwk.Curve;
-import com.nimbusds.jose.jwk.ECKey;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.EncryptedJWT;
 import com.nimbusds.jwt.SignedJWT;
 
-import de.captaingoldfish.restclient.database.entities.Keystore;
-import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
 import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
 import lombok.Builder;
 import lombok.Getter;
@@ -55,7 +34,7 @@ public class JwtHandler
   /**
    * needed to get access to the keys of the application keystore to sign, verify, encrypt or decrypt data
    */
-  private final KeystoreDao keystoreDao;
+  private final KeystoreSnapshotService keystoreSnapshotService;
 
   /**
    * creates either an encrypted JWT (JWE) or a signed JWT (JWS) based on the contents of the JOSE header
@@ -97,7 +76,8 @@ public class JwtHandler
   private JWSHeader addAdditionalJwsHeaders(String kid, JWSHeader jwsHeader, JwtAttribute[] attributes)
   {
     String keyId = Optional.ofNullable(kid).orElse(jwsHeader.getKeyID());
-    Keystore applicationKeystore = keystoreDao.getKeystore();
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+    JwtCryptoCache jwtCryptoCache = keystoreSnapshotService.getJwtCryptoCache();
 
     JWSHeader.Builder builder = new JWSHeader.Builder(jwsHeader);
 
@@ -105,14 +85,11 @@ public class JwtHandler
     {
       if (attribute == JwtAttribute.X5T_SHA256)
       {
-        X509Certificate certificate = applicationKeystore.getCertificate(keyId);
-        Base64URL sha256Thumbprint = Base64URL.encode(MessageDigest.getInstance("SHA-256")
-                                                                   .digest(certificate.getEncoded()));
-        builder.x509CertSHA256Thumbprint(sha256Thumbprint);
+        builder.x509CertSHA256Thumbprint(jwtCryptoCache.getSha256Thumbprint(snapshot, keyId));
       }
       else if (attribute == JwtAttribute.ADD_PUBLIC_KEY)
       {
-        builder.jwk(toJwk(applicationKeystore.getKeyPair(keyId)).toPublicJWK());
+        builder.jwk(jwtCryptoCache.getPublicJwk(snapshot, keyId));
       }
     }
     return builder.build();
@@ -128,7 +105,8 @@ public class JwtHandler
   private JWEHeader addAdditionalJweHeaders(String kid, JWEHeader jwsHeader, JwtAttribute[] attributes)
   {
     String keyId = Optional.ofNullable(kid).orElse(jwsHeader.getKeyID());
-    Keystore applicationKeystore = keystoreDao.getKeystore();
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+    JwtCryptoCache jwtCryptoCache = keystoreSnapshotService.getJwtCryptoCache();
 
     JWEHeader.Builder builder = new JWEHeader.Builder(jwsHeader);
 
@@ -136,14 +114,11 @@ public class JwtHandler
     {
       if (attribute == JwtAttribute.X5T_SHA256)
       {
-        X509Certificate certificate = applicationKeystore.getCertificate(keyId);
-        Base64URL sha256Thumbprint = Base64URL.encode(MessageDigest.getInstance("SHA-256")
-                                                                   .digest(certificate.getEncoded()));
-        builder.x509CertSHA256Thumbprint(sha256Thumbprint);
+        builder.x509CertSHA256Thumbprint(jwtCryptoCache.getSha256Thumbprint(snapshot, keyId));
       }
       else if (attribute == JwtAttribute.ADD_PUBLIC_KEY)
       {
-        builder.jwk(toJwk(applicationKeystore.getKeyPair(keyId)).toPublicJWK());
+        builder.jwk(jwtCryptoCache.getPublicJwk(snapshot, keyId));
       }
     }
     return builder.build();
@@ -178,9 +153,10 @@ public class JwtHandler
   private String signJwt(String kid, JWSHeader jwsHeader, String body)
   {
     String keyId = Optional.ofNullable(kid).orElse(jwsHeader.getKeyID());
-    Keystore applicationKeystore = keystoreDao.getKeystore();
-    KeyPair keyPair = applicationKeystore.getKeyPair(keyId);
-    return createSignedJwt(keyPair, jwsHeader, body);
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+    JWSSigner jwsSigner = keystoreSnapshotService.getJwtCryptoCache()
+                                                 .getSigner(snapshot, keyId, jwsHeader.getAlgorithm());
+    return createSignedJwt(jwsSigner, jwsHeader, body);
   }
 
   /**
@@ -191,7 +167,11 @@ public class JwtHandler
   {
     SignedJWT signedJwt = SignedJWT.parse(jws);
     String effectiveKeyId = Optional.ofNullable(keyId).orElse(signedJwt.getHeader().getKeyID());
-    JWSVerifier jwsVerifier = getVerifier(effectiveKeyId, signedJwt.getHeader());
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+    JWSVerifier jwsVerifier = keystoreSnapshotService.getJwtCryptoCache()
+                                                     .getVerifier(snapshot,
+                                                                  effectiveKeyId,
+                                                                  signedJwt.getHeader().getAlgorithm());
     boolean isValid = signedJwt.verify(jwsVerifier);
     if (!isValid)
     {
@@ -213,9 +193,10 @@ public class JwtHandler
   private String encryptJwt(String kid, JWEHeader jweHeader, String body)
   {
     String keyId = Optional.ofNullable(kid).orElse(jweHeader.getKeyID());
-    Keystore applicationKeystore = keystoreDao.getKeystore();
-    PublicKey publicKey = applicationKeystore.getCertificate(keyId).getPublicKey();
-    return createEncryptedJwt(publicKey, jweHeader, body);
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+    JWEEncrypter jweEncrypter = keystoreSnapshotService.getJwtCryptoCache()
+                                                       .getEncrypter(snapshot, keyId, jweHeader.getAlgorithm());
+    return createEncryptedJwt(jweEncrypter, jweHeader, body);
   }
 
   /**
@@ -229,61 +210,26 @@ public class JwtHandler
     EncryptedJWT encryptedJWT = EncryptedJWT.parse(jwt);
     JWEHeader jweHeader = encryptedJWT.getHeader();
     String keyId = Optional.ofNullable(kid).orElse(jweHeader.getKeyID());
-    Keystore applicationKeystore = keystoreDao.getKeystore();
-    KeyPair keyPair = applicationKeystore.getKeyPair(keyId);
-    String plainTextBody = decryptJwt(keyPair, encryptedJWT);
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+    JWEDecrypter jweDecrypter = keystoreSnapshotService.getJwtCryptoCache()
+                                                       .getDecrypter(snapshot, keyId, jweHeader.getAlgorithm());
+    encryptedJWT.decrypt(jweDecrypter);
+    String plainTextBody = encryptedJWT.getPayload().toString();
     String jweHeaderString = jweHeader.toString();
     return PlainJwtData.builder().header(jweHeaderString).body(plainTextBody).build();
   }
 
   /**
-   * decrypts the given encrypted JWT with the given keypair
-   *
-   * @return the plain content of the decrypted JWT
-   */
-  @SneakyThrows
-  private String decryptJwt(KeyPair keyPair, EncryptedJWT encryptedJWT)
-  {
-    JWEDecrypter jweDecrypter = getJweDecrypter(keyPair);
-    encryptedJWT.decrypt(jweDecrypter);
-    return encryptedJWT.getPayload().toString();
-  }
-
-  /**
-   * gets fitting decrypter based on the type of key that was selected
+   * builds an encrypted JWT with the given encrypter based on the data within the header
    *
-   * @param keyPair the key pair that is used to decrypt the JWT
-   */
-
-  @SneakyThrows
-  private JWEDecrypter getJweDecrypter(KeyPair keyPair)
-  {
-    switch (keyPair.getPublic().getAlgorithm())
-    {
-      case "RSA":
-        RSAKey rsaKey = toRsaJwk(keyPair);
-        return new RSADecrypter(rsaKey);
-      case "EC":
-        ECKey ecKey = toEcJwk(keyPair);
-        return new ECDHDecrypter(ecKey);
-      default:
-        throw new IllegalArgumentException(String.format("Cannot sign with key of type '%s'",
-                                                         keyPair.getPublic().getAlgorithm()));
-    }
-  }
-
-  /**
-   * builds an encrypted JWT with the given public key based on the data within the header
-   *
-   * @param publicKey the key used for encrypting
+   * @param jweEncrypter the encrypter of the key used for encrypting
    * @param jweHeader contains the algorithm to use for encryption
    * @param body the body that should be encrypted
    * @return the encrypted JWT
    */
   @SneakyThrows
-  private String createEncryptedJwt(PublicKey publicKey, JWEHeader jweHeader, String body)
+  private String createEncryptedJwt(JWEEncrypter jweEncrypter, JWEHeader jweHeader, String body)
   {
-    JWEEncrypter jweEncrypter = getJweEncrypter(publicKey);
     JWECryptoParts jweCryptoParts = jweEncrypter.encrypt(jweHeader, body.getBytes(StandardCharsets.UTF_8), null);
     EncryptedJWT encryptedJWT = new EncryptedJWT(jweCryptoParts.getHeader().toBase64URL(),
                                                  jweCryptoParts.getEncryptedKey(),
@@ -293,40 +239,16 @@ public class JwtHandler
   }
 
   /**
-   * selects an encrypter based on the given key
+   * builds a signature with the given signer and builds the signed JWT from it
    *
-   * @param publicKey the key that determines the encrypter to use
-   */
-  @SneakyThrows
-  private JWEEncrypter getJweEncrypter(PublicKey publicKey)
-  {
-    switch (publicKey.getAlgorithm())
-    {
-      case "RSA":
-        RSAKey rsaKey = toRsaJwk(new KeyPair(publicKey, null));
-        return new RSAEncrypter(rsaKey);
-      case "EC":
-        ECKey ecKey = toEcJwk(new KeyPair(publicKey, null));
-        return new ECDHEncrypter(ecKey);
-      default:
-        throw new IllegalArgumentException(String.format("Cannot sign with key of type '%s'",
-                                                         publicKey.getAlgorithm()));
-    }
-  }
-
-  /**
-   * builds a signature with the given key and builds the signed JWT from it
-   *
-   * @param keyPair the key pair used for signing
+   * @param jwsSigner the signer of the key used for signing
    * @param jwsHeader contains the algorithm to use for signature
    * @param body the body to sign together with the header
    * @return the signed JWT
    */
   @SneakyThrows
-  private String createSignedJwt(KeyPair keyPair, JWSHeader jwsHeader, String body)
+  private String createSignedJwt(JWSSigner jwsSigner, JWSHeader jwsHeader, String body)
   {
-    JWK jwk = toJwk(keyPair);
-    JWSSigner jwsSigner = new DefaultJWSSignerFactory().createJWSSigner(jwk, jwsHeader.getAlgorithm());
     Payload payload = new Payload(body);
     String headerAndBody = jwsHeader.toBase64URL().toString() + "." + payload.toBase64URL().toString();
     Base64URL signature = jwsSigner.sign(jwsHeader, headerAndBody.getBytes(StandardCharsets.UTF_8));
@@ -334,72 +256,6 @@ public class JwtHandler
     return jws.serialize();
   }
 
-  /**
-   * parsed an RSA or EC key to its JWK representation
-   *
-   * @param keyPair the keypair to parse
-   */
-  private JWK toJwk(KeyPair keyPair)
-  {
-    switch (keyPair.getPublic().getAlgorithm())
-    {
-      case "RSA":
-        return toRsaJwk(keyPair);
-      case "EC":
-        return toEcJwk(keyPair);
-      default:
-        return null; // should not happen due to previous validation
-    }
-  }
-
-  /**
-   * parses an EC key pair into its EC JWK representation
-   */
-  private ECKey toEcJwk(KeyPair keyPair)
-  {
-    ECPublicKey ecPublicKey = (ECPublicKey)keyPair.getPublic();
-    ECParameterSpec ecParameterSpec = ecPublicKey.getParams();
-    Curve curve = Curve.forECParameterSpec(ecParameterSpec);
-    ECKey.Builder builder = new ECKey.Builder(curve, ecPublicKey);
-    Optional.ofNullable(keyPair.getPrivate()).ifPresent(builder::privateKey);
-    return builder.build();
-  }
-
-  /**
-   * parses an RSA key pair into its RSA JWK representation
-   */
-  private RSAKey toRsaJwk(KeyPair keyPair)
-  {
-    RSAKey.Builder builder = new RSAKey.Builder((RSAPublicKey)keyPair.getPublic());
-    Optional.ofNullable(keyPair.getPrivate()).ifPresent(builder::privateKey);
-    return builder.build();
-  }
-
-  /**
-   * retrieves the signature verifier based on the data within the JWS header
-   */
-  @SneakyThrows
-  private JWSVerifier getVerifier(String keyId, JWSHeader header)
-  {
-    Keystore applicationKeystore = keystoreDao.getKeystore();
-    PublicKey publicKey = applicationKeystore.getCertificate(keyId).getPublicKey();
-
-    boolean isRsaAlgorithm = JWSAlgorithm.Family.RSA.stream().anyMatch(rsa -> rsa.equals(header.getAlgorithm()));
-    if (isRsaAlgorithm)
-    {
-      return new RSASSAVerifier((RSAPublicKey)publicKey);
-    }
-
-    boolean isEcAlgorithm = JWSAlgorithm.Family.EC.stream().anyMatch(ec -> ec.equals(header.getAlgorithm()));
-    if (isEcAlgorithm)
-    {
-      return new ECDSAVerifier((ECPublicKey)publicKey);
-    }
-
-    String errorMessage = String.format("Unsupported algorithm found '%s'", header.getAlgorithm());
-    throw new IllegalArgumentException(errorMessage);
-  }
-
   /**
    * an enum that is used to indicate that additional attributes should be added to the JWTs header before it is
    * signed or encrypted
@@ -0,0 +1,192 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
+
+import de.captaingoldfish.restclient.database.entities.Keystore;
+import de.captaingoldfish.restclient.database.entities.KeystoreEntry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * an immutable view on the decoded key material of a single version of the application keystore. The keystore
+ * is parsed and the private keys are unwrapped once when the snapshot is created so that signing, decrypting
+ * or building TLS contexts does neither have to parse the keystore nor to unwrap a key again. The keys are
+ * indexed by their aliases
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Slf4j
+public class KeystoreSnapshot
+{
+
+  /**
+   * a number that is incremented with each new snapshot. Can be used to identify objects that were derived from
+   * the key material of a specific snapshot
+   */
+  @Getter
+  private final long version;
+
+  /**
+   * the last modified timestamp of the keystore this snapshot was created from
+   */
+  @Getter
+  private final Instant lastModified;
+
+  /**
+   * the password of the keystore this snapshot was created from
+   */
+  @Getter
+  private final String keystorePassword;
+
+  /**
+   * the decoded key material mapped by the aliases
+   */
+  private final Map<String, KeyMaterial> keyMaterials;
+
+  /**
+   * decodes all entries of the given keystore. Entries that cannot be decoded are skipped with a warning and
+   * will be reported as unknown if they are accessed
+   */
+  public KeystoreSnapshot(long version, Keystore keystore)
+  {
+    this.version = version;
+    this.lastModified = keystore.getLastModified();
+    this.keystorePassword = keystore.getKeystorePassword();
+    Map<String, KeyMaterial> decodedKeyMaterials = new HashMap<>();
+    for ( KeystoreEntry keystoreEntry : keystore.getKeystoreEntries() )
+    {
+      try
+      {
+        decodedKeyMaterials.put(keystoreEntry.getAlias(), new KeyMaterial(keystore, keystoreEntry));
+      }
+      catch (Exception ex)
+      {
+        log.warn("Could not decode the key material of alias '{}': {}", keystoreEntry.getAlias(), ex.getMessage());
+        log.debug(ex.getMessage(), ex);
+      }
+    }
+    this.keyMaterials = Collections.unmodifiableMap(decodedKeyMaterials);
+  }
+
+  /**
+   * @return the key material of the given alias
+   * @throws IllegalStateException if the keystore does not contain a decodable entry with the given alias
+   */
+  public KeyMaterial getKeyMaterial(String alias)
+  {
+    return findKeyMaterial(alias).orElseThrow(() -> {
+      return new IllegalStateException(String.format("Could not find key entry for alias: %s", alias));
+    });
+  }
+
+  /**
+   * @return the key material of the given alias or an empty if the keystore does not contain a decodable entry
+   *         with the given alias
+   */
+  public Optional<KeyMaterial> findKeyMaterial(String alias)
+  {
+    return Optional.ofNullable(alias).map(keyMaterials::get);
+  }
+
+  /**
+   * the decoded key material of a single keystore entry
+   */
+  @Getter
+  public static class KeyMaterial
+  {
+
+    /**
+     * the entry of the keystore with the alias and the key algorithm and length
+     */
+    private final KeystoreEntry keystoreEntry;
+
+    /**
+     * the certificate of the entry
+     */
+    private final X509Certificate certificate;
+
+    /**
+     * the public key of the certificate together with the unwrapped private key
+     */
+    private final KeyPair keyPair;
+
+    /**
+     * the JWK representation of the key pair including the private key. Is null if the key type is not supported
+     * by JWK
+     */
+    private final JWK jwk;
+
+    private KeyMaterial(Keystore keystore, KeystoreEntry keystoreEntry)
+    {
+      this.keystoreEntry = new KeystoreEntry(keystoreEntry.getAlias(), keystoreEntry.getPrivateKeyPassword());
+      this.keystoreEntry.setKeyAlgorithm(keystoreEntry.getKeyAlgorithm());
+      this.keystoreEntry.setKeyLength(keystoreEntry.getKeyLength());
+      this.certificate = keystore.getCertificate(keystoreEntry);
+      this.keyPair = new KeyPair(certificate.getPublicKey(), keystore.getPrivateKey(keystoreEntry));
+      this.jwk = toJwk(keyPair);
+    }
+
+    /**
+     * @return the alias of the entry
+     */
+    public String getAlias()
+    {
+      return keystoreEntry.getAlias();
+    }
+
+    /**
+     * @return the public key of the certificate
+     */
+    public PublicKey getPublicKey()
+    {
+      return keyPair.getPublic();
+    }
+
+    /**
+     * @return the unwrapped private key
+     */
+    public PrivateKey getPrivateKey()
+    {
+      return keyPair.getPrivate();
+    }
+
+    /**
+     * parses an RSA or EC key pair to its JWK representation
+     */
+    private static JWK toJwk(KeyPair keyPair)
+    {
+      switch (keyPair.getPublic().getAlgorithm())
+      {
+        case "RSA":
+          RSAKey.Builder rsaBuilder = new RSAKey.Builder((RSAPublicKey)keyPair.getPublic());
+          Optional.ofNullable(keyPair.getPrivate()).ifPresent(rsaBuilder::privateKey);
+          return rsaBuilder.build();
+        case "EC":
+          ECPublicKey ecPublicKey = (ECPublicKey)keyPair.getPublic();
+          Curve curve = Curve.forECParameterSpec(ecPublicKey.getParams());
+          ECKey.Builder ecBuilder = new ECKey.Builder(curve, ecPublicKey);
+          Optional.ofNullable(keyPair.getPrivate()).ifPresent(ecBuilder::privateKey);
+          return ecBuilder.build();
+        default:
+          return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import de.captaingoldfish.restclient.database.entities.Keystore;
+import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * provides the decoded key material of the application keystore. The current {@link KeystoreSnapshot} is kept
+ * in memory and is only rebuilt if the last modified timestamp of the keystore has changed or if the snapshot
+ * was invalidated. Reading the timestamp is a cheap query that is served by the query cache while building a
+ * snapshot loads the keystore, parses it and unwraps all private keys. The signers, verifiers, encrypters and
+ * decrypters that are built from the snapshots are kept in the {@link JwtCryptoCache}
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Slf4j
+@Component
+public class KeystoreSnapshotService
+{
+
+  /**
+   * used to read the application keystore
+   */
+  private final KeystoreDao keystoreDao;
+
+  /**
+   * the snapshot of the current version of the application keystore. Is null until the first access or after an
+   * invalidation
+   */
+  private volatile KeystoreSnapshot currentSnapshot;
+
+  /**
+   * the version of the last snapshot that was built
+   */
+  private long lastVersion;
+
+  /**
+   * the crypto objects that were built from the key material of the snapshots
+   */
+  @Getter
+  private final JwtCryptoCache jwtCryptoCache = new JwtCryptoCache();
+
+  public KeystoreSnapshotService(KeystoreDao keystoreDao)
+  {
+    this.keystoreDao = keystoreDao;
+  }
+
+  /**
+   * @return the snapshot of the current version of the application keystore
+   */
+  public KeystoreSnapshot getSnapshot()
+  {
+    Instant lastModified = keystoreDao.getKeystoreLastModified().orElse(null);
+    KeystoreSnapshot snapshot = currentSnapshot;
+    if (isCurrent(snapshot, lastModified))
+    {
+      return snapshot;
+    }
+    synchronized (this)
+    {
+      // another thread might have rebuilt the snapshot in the meantime
+      snapshot = currentSnapshot;
+      if (isCurrent(snapshot, lastModified))
+      {
+        return snapshot;
+      }
+      Keystore keystore = keystoreDao.getKeystore();
+      snapshot = new KeystoreSnapshot(++lastVersion, keystore);
+      log.debug("Built snapshot version {} of the application keystore last modified at {}",
+                snapshot.getVersion(),
+                snapshot.getLastModified());
+      currentSnapshot = snapshot;
+      // the objects of the previous versions will never be accessed again
+      jwtCryptoCache.invalidate();
+      return snapshot;
+    }
+  }
+
+  private static boolean isCurrent(KeystoreSnapshot snapshot, Instant lastModified)
+  {
+    return snapshot != null && lastModified != null && Objects.equals(snapshot.getLastModified(), lastModified);
+  }
+
+  /**
+   * discards the current snapshot. Must be called if the application keystore was modified because two
+   * modifications within the same millisecond would not change the last modified timestamp
+   */
+  public void invalidate()
+  {
+    log.trace("Invalidating the snapshot of the application keystore");
+    currentSnapshot = null;
+    jwtCryptoCache.invalidate();
+  }
+}
@@ -0,0 +1,245 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * an immutable snapshot of the signature keys of an OpenID Provider. The keys are indexed by their key id and
+ * the verifiers that were created for a key are kept so that the keys must only be converted once no matter
+ * how many tokens are verified with them.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+class ProviderKeySet
+{
+
+  /**
+   * creates the verifiers for the supported key types
+   */
+  private static final DefaultJWSVerifierFactory VERIFIER_FACTORY = new DefaultJWSVerifierFactory();
+
+  /**
+   * the location the keys were loaded from or null if the keys were not loaded from a JWKS endpoint
+   */
+  @Getter
+  private final String source;
+
+  /**
+   * the last modified timestamp of the provider definition the keys were loaded for
+   */
+  @Getter
+  private final Instant providerLastModified;
+
+  /**
+   * the moment the keys were loaded
+   */
+  @Getter
+  private final Instant loadedAt;
+
+  /**
+   * the signature keys of the provider
+   */
+  private final List<JWK> keys;
+
+  /**
+   * the indices of the keys within {@link #keys} mapped by their key ids
+   */
+  private final Map<String, Integer> keyIndexById;
+
+  /**
+   * the verifiers that were already created for the keys of this set
+   */
+  private final ConcurrentMap<VerifierKey, JWSVerifier> verifiers = new ConcurrentHashMap<>();
+
+  public ProviderKeySet(String source, Instant providerLastModified, List<JWK> keys, Instant loadedAt)
+  {
+    this.source = source;
+    this.providerLastModified = providerLastModified;
+    this.loadedAt = loadedAt;
+    this.keys = keys.stream().filter(ProviderKeySet::isSignatureKey).toList();
+    Map<String, Integer> keyIndexById = new HashMap<>();
+    for ( int i = 0 ; i < this.keys.size() ; i++ )
+    {
+      String keyId = this.keys.get(i).getKeyID();
+      if (keyId != null)
+      {
+        keyIndexById.putIfAbsent(keyId, i);
+      }
+    }
+    this.keyIndexById = Collections.unmodifiableMap(keyIndexById);
+  }
+
+  /**
+   * creates a copy of this set with a new load timestamp. The already created verifiers are kept
+   */
+  public ProviderKeySet withLoadedAt(Instant loadedAt)
+  {
+    ProviderKeySet providerKeySet = new ProviderKeySet(source, providerLastModified, keys, loadedAt);
+    providerKeySet.verifiers.putAll(verifiers);
+    return providerKeySet;
+  }
+
+  /**
+   * @return the number of signature keys in this set
+   */
+  public int size()
+  {
+    return keys.size();
+  }
+
+  /**
+   * tells if this set contains a key with the given key id
+   */
+  public boolean containsKeyId(String keyId)
+  {
+    return keyId != null && keyIndexById.containsKey(keyId);
+  }
+
+  /**
+   * tells if the keys of this set may be reloaded. A reload is only permitted once within the given interval to
+   * prevent that tokens with unknown key ids cause a request to the JWKS endpoint each
+   *
+   * @param now the current time
+   * @param minReloadInterval the minimum time between two loads of the keys
+   */
+  public boolean isReloadPermitted(Instant now, Duration minReloadInterval)
+  {
+    return !now.isBefore(loadedAt.plus(minReloadInterval));
+  }
+
+  /**
+   * gets the verifiers that might be able to verify a token with the given header. If the header contains a key
+   * id only the key with this id is used. Otherwise all keys that match the algorithm of the header are
+   * candidates
+   *
+   * @param header the header of the token to verify
+   * @return the matching verifiers or an empty list if this set does not contain a matching key
+   */
+  public List<JWSVerifier> getVerifiers(JWSHeader header)
+  {
+    JWSAlgorithm algorithm = header.getAlgorithm();
+    if (header.getKeyID() != null)
+    {
+      Integer keyIndex = keyIndexById.get(header.getKeyID());
+      if (keyIndex == null || !matchesAlgorithm(keys.get(keyIndex), algorithm))
+      {
+        return Collections.emptyList();
+      }
+      JWSVerifier verifier = getVerifier(keyIndex, header);
+      return verifier == null ? Collections.emptyList() : Collections.singletonList(verifier);
+    }
+
+    List<JWSVerifier> candidates = new ArrayList<>();
+    for ( int i = 0 ; i < keys.size() ; i++ )
+    {
+      if (matchesAlgorithm(keys.get(i), algorithm))
+      {
+        JWSVerifier verifier = getVerifier(i, header);
+        if (verifier != null)
+        {
+          candidates.add(verifier);
+        }
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * gets the verifier for the key at the given index or creates it if it does not exist yet
+   *
+   * @return the verifier or null if the key cannot be used for the algorithm of the header
+   */
+  private JWSVerifier getVerifier(int keyIndex, JWSHeader header)
+  {
+    VerifierKey verifierKey = new VerifierKey(keyIndex, header.getAlgorithm());
+    JWSVerifier verifier = verifiers.get(verifierKey);
+    if (verifier != null)
+    {
+      return verifier;
+    }
+    JWK jwk = keys.get(keyIndex);
+    try
+    {
+      verifier = VERIFIER_FACTORY.createJWSVerifier(header, toPublicKey(jwk));
+    }
+    catch (JOSEException ex)
+    {
+      log.debug("Cannot use key '{}' to verify a '{}' signature: {}",
+                jwk.getKeyID(),
+                header.getAlgorithm(),
+                ex.getMessage());
+      return null;
+    }
+    JWSVerifier existingVerifier = verifiers.putIfAbsent(verifierKey, verifier);
+    return existingVerifier == null ? verifier : existingVerifier;
+  }
+
+  /**
+   * converts the given key into a java public key
+   */
+  private static Key toPublicKey(JWK jwk) throws JOSEException
+  {
+    if (jwk instanceof RSAKey rsaKey)
+    {
+      return rsaKey.toRSAPublicKey();
+    }
+    if (jwk instanceof ECKey ecKey)
+    {
+      return ecKey.toECPublicKey();
+    }
+    throw new JOSEException(String.format("Unsupported key type '%s'", jwk.getKeyType()));
+  }
+
+  /**
+   * keys that are explicitly marked for encryption are never used for signature verification
+   */
+  private static boolean isSignatureKey(JWK jwk)
+  {
+    return jwk.getKeyUse() == null || KeyUse.SIGNATURE.equals(jwk.getKeyUse());
+  }
+
+  /**
+   * checks if the type and the optional algorithm of the key match the algorithm of a token
+   */
+  private static boolean matchesAlgorithm(JWK jwk, JWSAlgorithm algorithm)
+  {
+    if (jwk.getAlgorithm() != null && !jwk.getAlgorithm().equals(algorithm))
+    {
+      return false;
+    }
+    return jwk.getKeyType().equals(KeyType.forAlgorithm(algorithm));
+  }
+
+  /**
+   * identifies a verifier by the key it was created for and the algorithm it verifies
+   */
+  private record VerifierKey(int keyIndex, JWSAlgorithm algorithm)
+  {
+
+  }
+}
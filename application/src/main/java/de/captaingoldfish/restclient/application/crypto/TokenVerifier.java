@@ -0,0 +1,214 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import de.captaingoldfish.restclient.application.utils.OAuthConstants;
+import de.captaingoldfish.restclient.database.entities.OpenIdProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * verifies the signed tokens that were issued by an OpenID Provider. The signature is verified with the keys
+ * of the {@link JwksCache}. The expiration is checked if present and the issuer, the audience and the nonce
+ * are checked if they are expected.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVerifier
+{
+
+  /**
+   * the tolerated clock difference between this application and the OpenID Provider
+   */
+  static final Duration MAX_CLOCK_SKEW = Duration.ofSeconds(60);
+
+  /**
+   * provides the signature keys of the OpenID Providers
+   */
+  private final JwksCache jwksCache;
+
+  /**
+   * tells if the given token is a signed JWT in compact serialization. Opaque tokens and encrypted tokens
+   * cannot be verified
+   */
+  public static boolean isSignedJwt(String token)
+  {
+    return token != null && StringUtils.countMatches(token, '.') == 2;
+  }
+
+  /**
+   * verifies the given token
+   *
+   * @param openIdProvider the provider that issued the token
+   * @param tokenName the name of the token that is used in the verification result e.g. "id_token"
+   * @param token the signed JWT to verify
+   * @param expectedClaims the claim values that the token must contain
+   * @return the result of the verification
+   */
+  public TokenVerification verify(OpenIdProvider openIdProvider,
+                                  String tokenName,
+                                  String token,
+                                  ExpectedClaims expectedClaims)
+  {
+    SignedJWT signedJwt;
+    try
+    {
+      signedJwt = SignedJWT.parse(token);
+    }
+    catch (ParseException ex)
+    {
+      return new TokenVerification(tokenName, false, null, "Token is not a signed JWT: " + ex.getMessage());
+    }
+
+    String keyId = signedJwt.getHeader().getKeyID();
+    List<JWSVerifier> verifiers;
+    try
+    {
+      verifiers = jwksCache.getVerifiers(openIdProvider, signedJwt.getHeader());
+    }
+    catch (Exception ex)
+    {
+      log.debug(ex.getMessage(), ex);
+      return new TokenVerification(tokenName, false, keyId,
+                                   "Failed to load the keys of the provider: " + ex.getMessage());
+    }
+    if (verifiers.isEmpty())
+    {
+      return new TokenVerification(tokenName, false, keyId,
+                                   String.format("No key found for kid '%s' and algorithm '%s'",
+                                                 keyId,
+                                                 signedJwt.getHeader().getAlgorithm()));
+    }
+    if (!isSignatureValid(signedJwt, verifiers))
+    {
+      return new TokenVerification(tokenName, false, keyId, "Signature is invalid");
+    }
+    return verifyClaims(signedJwt, tokenName, keyId, expectedClaims);
+  }
+
+  /**
+   * checks if any of the given verifiers accepts the signature of the token
+   */
+  private static boolean isSignatureValid(SignedJWT signedJwt, List<JWSVerifier> verifiers)
+  {
+    for ( JWSVerifier verifier : verifiers )
+    {
+      try
+      {
+        if (signedJwt.verify(verifier))
+        {
+          return true;
+        }
+      }
+      catch (JOSEException ex)
+      {
+        log.debug("Signature verification failed: {}", ex.getMessage());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * checks the expiration and the expected claims of a token with a valid signature
+   */
+  private static TokenVerification verifyClaims(SignedJWT signedJwt,
+                                                String tokenName,
+                                                String keyId,
+                                                ExpectedClaims expectedClaims)
+  {
+    JWTClaimsSet claims;
+    try
+    {
+      claims = signedJwt.getJWTClaimsSet();
+    }
+    catch (ParseException ex)
+    {
+      // the signature is valid but the payload is not a claims set. This might happen for access tokens
+      return new TokenVerification(tokenName, true, keyId, "Signature is valid, payload is not a JWT claims set");
+    }
+
+    Date expirationTime = claims.getExpirationTime();
+    if (expirationTime != null && expirationTime.toInstant().plus(MAX_CLOCK_SKEW).isBefore(Instant.now()))
+    {
+      return new TokenVerification(tokenName, false, keyId, "Token expired at " + expirationTime.toInstant());
+    }
+    String expectedIssuer = expectedClaims.issuer();
+    if (expectedIssuer != null && !expectedIssuer.equals(claims.getIssuer()))
+    {
+      return new TokenVerification(tokenName, false, keyId,
+                                   String.format("Issuer '%s' does not match expected issuer '%s'",
+                                                 claims.getIssuer(),
+                                                 expectedIssuer));
+    }
+    String expectedAudience = expectedClaims.audience();
+    if (expectedAudience != null && !claims.getAudience().contains(expectedAudience))
+    {
+      return new TokenVerification(tokenName, false, keyId,
+                                   String.format("Audience %s does not contain '%s'",
+                                                 claims.getAudience(),
+                                                 expectedAudience));
+    }
+    String expectedNonce = expectedClaims.nonce();
+    if (expectedNonce != null && !expectedNonce.equals(getNonce(claims)))
+    {
+      return new TokenVerification(tokenName, false, keyId,
+                                   String.format("Nonce '%s' does not match the nonce '%s' of the authorization "
+                                                 + "request",
+                                                 getNonce(claims),
+                                                 expectedNonce));
+    }
+    return new TokenVerification(tokenName, true, keyId, "Signature is valid");
+  }
+
+  /**
+   * @return the nonce claim of the token or null if the claim is missing or not a string
+   */
+  private static String getNonce(JWTClaimsSet claims)
+  {
+    Object nonce = claims.getClaim(OAuthConstants.NONCE);
+    return nonce instanceof String ? (String)nonce : null;
+  }
+
+  /**
+   * the result of a token verification
+   *
+   * @param tokenName the name of the verified token e.g. "id_token"
+   * @param valid if the token was successfully verified
+   * @param keyId the key id from the header of the token
+   * @param message describes the result of the verification
+   */
+  public record TokenVerification(String tokenName, boolean valid, String keyId, String message)
+  {
+
+  }
+
+  /**
+   * the claim values that a token must contain. A value of null skips the check of the corresponding claim
+   *
+   * @param issuer the issuer from the metadata of the provider
+   * @param audience a value that must be contained within the audience of the token e.g. the client_id for
+   *          id_tokens
+   * @param nonce the nonce that was sent within the authorization request
+   */
+  public record ExpectedClaims(String issuer, String audience, String nonce)
+  {
+
+  }
+}
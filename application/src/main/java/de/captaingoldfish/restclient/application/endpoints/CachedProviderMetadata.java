@@ -0,0 +1,49 @@
+package de.captaingoldfish.restclient.application.endpoints;
+
+import java.time.Instant;
+
+import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * the OpenID Connect metadata of a provider together with the information that is necessary to revalidate it
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedProviderMetadata
+{
+
+  /**
+   * the discovery endpoint the metadata was loaded from
+   */
+  private final String discoveryUrl;
+
+  /**
+   * the last successfully loaded metadata
+   */
+  private final OIDCProviderMetadata metadata;
+
+  /**
+   * the entity tag of the discovery response. Used to revalidate the metadata. May be null
+   */
+  private final String eTag;
+
+  /**
+   * the moment after which the metadata should be revalidated
+   */
+  private final Instant expiresAt;
+
+  /**
+   * @return true if the metadata should be revalidated
+   */
+  public boolean isStale(Instant now)
+  {
+    return !now.isBefore(expiresAt);
+  }
+}
@@ -0,0 +1,283 @@
+package de.captaingoldfish.restclient.application.endpoints;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
+
+import de.captaingoldfish.restclient.application.utils.HttpClientBuilder;
+import de.captaingoldfish.restclient.application.utils.SingleFlightLoader;
+import de.captaingoldfish.restclient.application.utils.Utils;
+import de.captaingoldfish.restclient.database.entities.OpenIdProvider;
+import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * loads the OpenID Connect metadata of the providers and keeps it up to date. Expired metadata is still
+ * returned to the caller while it is revalidated in the background so that no request has to wait for the
+ * discovery endpoint once the metadata was loaded. The lifetime of the metadata is taken from the
+ * {@code Cache-Control} or {@code Expires} header of the discovery response and the revalidation is done with
+ * the {@code ETag} of the last response. If the discovery endpoint is not reachable the last known metadata
+ * is kept.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+public class OpenIdProviderMetadataRefresher implements DisposableBean
+{
+
+  /**
+   * the lifetime of the metadata if the discovery response does not contain any caching information
+   */
+  static final Duration DEFAULT_FRESHNESS_LIFETIME = Duration.ofMinutes(5);
+
+  /**
+   * the metadata is revalidated at least once within this time regardless of the caching headers
+   */
+  static final Duration MAX_FRESHNESS_LIFETIME = Duration.ofHours(24);
+
+  /**
+   * the time to wait before retrying to revalidate metadata if the discovery endpoint was not reachable
+   */
+  static final Duration RETRY_AFTER_FAILURE = Duration.ofSeconds(30);
+
+  /**
+   * holds the last known metadata of the providers
+   */
+  private final OpenIdProviderMetdatdataCache metadataCache;
+
+  /**
+   * makes sure that the metadata of a single provider is only requested once at the same time if it is not
+   * available yet
+   */
+  private final SingleFlightLoader<Long, CachedProviderMetadata> metadataLoader = new SingleFlightLoader<>();
+
+  /**
+   * the ids of the providers whose metadata is currently revalidated in the background
+   */
+  private final Set<Long> runningRefreshes = ConcurrentHashMap.newKeySet();
+
+  /**
+   * executes the background revalidations
+   */
+  private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public OpenIdProviderMetadataRefresher(OpenIdProviderMetdatdataCache metadataCache)
+  {
+    this.metadataCache = metadataCache;
+  }
+
+  /**
+   * gets the metadata of the given provider. The metadata is only loaded synchronously if it was not loaded
+   * yet. Expired metadata is returned immediately and revalidated in the background
+   *
+   * @param openIdProvider the OpenID Provider definition
+   * @return the metadata of the OpenID Provider
+   */
+  public OIDCProviderMetadata getProviderMetadata(OpenIdProvider openIdProvider)
+  {
+    CachedProviderMetadata cachedMetadata = getCachedMetadata(openIdProvider);
+    if (cachedMetadata == null)
+    {
+      return metadataLoader.load(openIdProvider.getId(), () -> {
+        // another thread might have finished loading the metadata in the meantime
+        return Optional.ofNullable(getCachedMetadata(openIdProvider))
+                       .orElseGet(() -> requestProviderMetadata(openIdProvider, null));
+      }).getMetadata();
+    }
+    if (cachedMetadata.isStale(Instant.now()))
+    {
+      refreshInBackground(openIdProvider, cachedMetadata);
+    }
+    return cachedMetadata.getMetadata();
+  }
+
+  /**
+   * gets the cached metadata if it was loaded from the current discovery endpoint of the provider
+   */
+  private CachedProviderMetadata getCachedMetadata(OpenIdProvider openIdProvider)
+  {
+    return Optional.ofNullable(metadataCache.getProviderMetadata(openIdProvider.getId()))
+                   .filter(cached -> StringUtils.equals(cached.getDiscoveryUrl(),
+                                                        openIdProvider.getDiscoveryEndpoint()))
+                   .orElse(null);
+  }
+
+  /**
+   * revalidates the metadata of the given provider in the background if no revalidation is running yet
+   */
+  private void refreshInBackground(OpenIdProvider openIdProvider, CachedProviderMetadata staleMetadata)
+  {
+    final Long openIdProviderId = openIdProvider.getId();
+    if (!runningRefreshes.add(openIdProviderId))
+    {
+      return;
+    }
+    try
+    {
+      refreshExecutor.execute(() -> {
+        try
+        {
+          requestProviderMetadata(openIdProvider, staleMetadata);
+        }
+        finally
+        {
+          runningRefreshes.remove(openIdProviderId);
+        }
+      });
+    }
+    catch (RejectedExecutionException ex)
+    {
+      log.debug("Background refresh of OIDC metadata was rejected: {}", ex.getMessage());
+      runningRefreshes.remove(openIdProviderId);
+    }
+  }
+
+  /**
+   * requests the metadata from the discovery endpoint and caches it
+   *
+   * @param openIdProvider the provider whose metadata should be loaded
+   * @param previousMetadata the last known metadata of the provider that is revalidated or null if the metadata
+   *          was not loaded yet
+   * @return the loaded metadata
+   */
+  private CachedProviderMetadata requestProviderMetadata(OpenIdProvider openIdProvider,
+                                                         CachedProviderMetadata previousMetadata)
+  {
+    String discoveryUrl = openIdProvider.getDiscoveryEndpoint();
+    log.info("Requesting OIDC metadata from: {}", discoveryUrl);
+
+    HttpGet httpGet = new HttpGet(discoveryUrl);
+    Optional.ofNullable(previousMetadata)
+            .map(CachedProviderMetadata::getETag)
+            .ifPresent(eTag -> httpGet.setHeader(HttpHeaders.IF_NONE_MATCH, eTag));
+    CachedProviderMetadata providerMetadata;
+    CloseableHttpClient httpClient = HttpClientBuilder.getDefaultHttpClient();
+    try (CloseableHttpResponse response = httpClient.execute(httpGet))
+    {
+      Instant expiresAt = Instant.now().plus(getFreshnessLifetime(response));
+      if (previousMetadata != null && response.getCode() == HttpStatus.SC_NOT_MODIFIED)
+      {
+        log.debug("OIDC metadata from '{}' was not modified", discoveryUrl);
+        providerMetadata = new CachedProviderMetadata(discoveryUrl, previousMetadata.getMetadata(),
+                                                      previousMetadata.getETag(), expiresAt);
+      }
+      else
+      {
+        String responseBody = Utils.getBody(response);
+        if (response.getCode() != HttpStatus.SC_OK)
+        {
+          throw new BadRequestException(String.format("Failed to load meta-data from OpenID Discovery endpoint: %s",
+                                                      responseBody));
+        }
+        String eTag = Optional.ofNullable(response.getFirstHeader(HttpHeaders.ETAG)).map(Header::getValue).orElse(null);
+        providerMetadata = new CachedProviderMetadata(discoveryUrl, OIDCProviderMetadata.parse(responseBody), eTag,
+                                                      expiresAt);
+      }
+    }
+    catch (Exception ex)
+    {
+      if (previousMetadata == null)
+      {
+        throw new BadRequestException(String.format("Failed to load meta-data from OpenID Discovery endpoint: %s",
+                                                    ex.getMessage()),
+                                      ex);
+      }
+      log.warn("Failed to revalidate OIDC metadata from '{}'. Keeping the last known metadata: {}",
+               discoveryUrl,
+               ex.getMessage());
+      log.debug(ex.getMessage(), ex);
+      providerMetadata = new CachedProviderMetadata(discoveryUrl, previousMetadata.getMetadata(),
+                                                    previousMetadata.getETag(),
+                                                    Instant.now().plus(RETRY_AFTER_FAILURE));
+    }
+    metadataCache.setProviderMetadata(openIdProvider.getId(), providerMetadata);
+    return providerMetadata;
+  }
+
+  /**
+   * determines how long the metadata of the given discovery response may be used without revalidation. The
+   * {@code Cache-Control} header takes precedence over the {@code Expires} header
+   *
+   * @param response the response of the discovery endpoint
+   * @return the freshness lifetime of the response
+   */
+  static Duration getFreshnessLifetime(HttpResponse response)
+  {
+    Header cacheControl = response.getFirstHeader(HttpHeaders.CACHE_CONTROL);
+    if (cacheControl != null && cacheControl.getValue() != null)
+    {
+      for ( String directive : cacheControl.getValue().split(",") )
+      {
+        String[] nameAndValue = directive.trim().split("=", 2);
+        String name = nameAndValue[0].trim().toLowerCase(Locale.ROOT);
+        if ("no-cache".equals(name) || "no-store".equals(name))
+        {
+          return Duration.ZERO;
+        }
+        if ("max-age".equals(name) && nameAndValue.length == 2)
+        {
+          try
+          {
+            long maxAge = Long.parseLong(StringUtils.strip(nameAndValue[1].trim(), "\""));
+            return limitFreshnessLifetime(Duration.ofSeconds(maxAge));
+          }
+          catch (NumberFormatException ex)
+          {
+            log.debug("Ignoring invalid max-age directive: {}", directive);
+          }
+        }
+      }
+    }
+
+    Instant expires = DateUtils.parseStandardDate(response, HttpHeaders.EXPIRES);
+    if (expires != null)
+    {
+      return limitFreshnessLifetime(Duration.between(Instant.now(), expires));
+    }
+    return DEFAULT_FRESHNESS_LIFETIME;
+  }
+
+  /**
+   * keeps the freshness lifetime between zero and {@link #MAX_FRESHNESS_LIFETIME}
+   */
+  private static Duration limitFreshnessLifetime(Duration freshnessLifetime)
+  {
+    if (freshnessLifetime.isNegative())
+    {
+      return Duration.ZERO;
+    }
+    return freshnessLifetime.compareTo(MAX_FRESHNESS_LIFETIME) > 0 ? MAX_FRESHNESS_LIFETIME : freshnessLifetime;
+  }
+
+  /**
+   * stops all running background revalidations
+   */
+  @Override
+  public void destroy()
+  {
+    refreshExecutor.shutdownNow();
+  }
+}
@@ -4,12 +4,14 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
-import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
-
 import de.captaingoldfish.restclient.application.projectconfig.CacheConfiguration;
 
 
 /**
+ * holds the OpenID Connect metadata of the providers. The entries of this cache do not expire. Instead the
+ * {@link OpenIdProviderMetadataRefresher} will revalidate them based on the caching headers of the discovery
+ * endpoint
+ *
  * @author Pascal Knueppel
  * @since 20.08.2021
  */
@@ -25,7 +27,7 @@ public class OpenIdProviderMetdatdataCache
    * @return the OpenID Provider metadata of an existing provider if already retrieved once
    */
   @Cacheable(value = CacheConfiguration.OIDC_PROVIDER_METADATA_CACHE, key = "#p0")
-  public OIDCProviderMetadata getProviderMetadata(Long openIdProviderId)
+  public CachedProviderMetadata getProviderMetadata(Long openIdProviderId)
   {
     return null;
   }
@@ -38,8 +40,8 @@ public class OpenIdProviderMetdatdataCache
    * @return the OpenID Provider metadata of an existing provider
    */
   @CachePut(value = CacheConfiguration.OIDC_PROVIDER_METADATA_CACHE, key = "#p0")
-  public OIDCProviderMetadata setProviderMetadata(Long openIdProviderId, OIDCProviderMetadata authorizationResponseUrl)
+  public CachedProviderMetadata setProviderMetadata(Long openIdProviderId, CachedProviderMetadata providerMetadata)
   {
-    return authorizationResponseUrl;
+    return providerMetadata;
   }
 }
@@ -6,7 +6,6 @@ import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.transaction.Transactional;
 
 import de.captaingoldfish.scim.sdk.common.utils.JsonHelper;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -41,13 +40,15 @@ public class ScimController
   private final ResourceEndpoint resourceEndpoint;
 
   /**
-   * the rest-endpoint for SCIM that is accessible under the path ${basepath}/scim/v2/**
+   * the rest-endpoint for SCIM that is accessible under the path ${basepath}/scim/v2/**. This method is
+   * intentionally not transactional because several handlers are sending http requests to remote servers.
+   * Instead each repository call runs within its own short transaction so that no database connection is held
+   * while waiting for a remote server
    *
    * @param request the request object created by the underlying tomcat
    * @param requestBody the request body
    * @return the scim response that will automatically be converted to json by spring
    */
-  @Transactional
   @RequestMapping(value = "/**", method = {RequestMethod.POST, RequestMethod.GET, RequestMethod.PUT,
                                            RequestMethod.PATCH,
                                            RequestMethod.DELETE}, produces = HttpHeader.SCIM_CONTENT_TYPE)
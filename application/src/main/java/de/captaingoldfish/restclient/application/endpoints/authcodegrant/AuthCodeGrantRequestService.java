@@ -1,6 +1,7 @@
 package de.captaingoldfish.restclient.application.endpoints.authcodegrant;
 
 import java.net.URI;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -65,6 +66,8 @@ public class AuthCodeGrantRequestService
 
   private final PkceCodeVerifierCache pkceCodeVerifierCache;
 
+  private final AuthRequestNonceCache authRequestNonceCache;
+
   /**
    * generates the authorization code grant request and caches it in {@link #authCodeGrantRequestCache} under
    * the state parameter as key
@@ -111,6 +114,9 @@ public class AuthCodeGrantRequestService
 
     UriComponents requestUrl = requestUrlBuilder.build();
     String authCodeRequestUrl;
+    String nonce = Optional.ofNullable(requestUrl.getQueryParams().getFirst(OAuthConstants.NONCE))
+                           .map(value -> URLDecoder.decode(value, StandardCharsets.UTF_8))
+                           .orElse(null);
 
     boolean useJwtSecuredAuthRequest = workflowSettings.getJar().map(ScimAuthCodeGrantRequest.Jar::isUse).orElse(false);
     if (useJwtSecuredAuthRequest)
@@ -119,11 +125,14 @@ public class AuthCodeGrantRequestService
                                                                                         requestUrl);
       authCodeRequestUrl = jarRequestBuilder.getAuthCodeRequestUrl();
       requestUrl = jarRequestBuilder.getRequestUrl();
+      nonce = jarRequestBuilder.getNonce();
     }
     else
     {
       authCodeRequestUrl = requestUrl.toUriString();
     }
+    // the nonce is compared with the nonce of the id_token that is returned by the access token request
+    Optional.ofNullable(nonce).ifPresent(value -> authRequestNonceCache.setNonce(state, value));
 
     if (AuthCodeGrantType.AUTHORIZATION_CODE.equals(authenticationType))
     {
@@ -177,8 +186,8 @@ public class AuthCodeGrantRequestService
     Authenticator authenticator = AuthenticatorFactory.getAuthenticator(openIdClient);
     authenticator.getRequestHeader().forEach(httpPost::setHeader);
     httpPost.setEntity(new StringEntity(authCodeRequestUrl.getQuery()));
-    try (CloseableHttpClient httpClient = HttpClientBuilder.getHttpClient(openIdClient);
-      CloseableHttpResponse response = httpClient.execute(httpPost))
+    CloseableHttpClient httpClient = HttpClientBuilder.getHttpClient(openIdClient);
+    try (CloseableHttpResponse response = httpClient.execute(httpPost))
     {
       return new HttpResponseDetails(response);
     }
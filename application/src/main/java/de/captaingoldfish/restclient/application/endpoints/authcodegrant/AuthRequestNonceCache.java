@@ -0,0 +1,42 @@
+package de.captaingoldfish.restclient.application.endpoints.authcodegrant;
+
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import de.captaingoldfish.restclient.application.projectconfig.CacheConfiguration;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Component
+public class AuthRequestNonceCache
+{
+
+  /**
+   * retrieves the nonce that was sent within the authorization request with the given state
+   *
+   * @param state The state-parameter from the OAuth2 request
+   * @return the nonce that must be returned within the id_token or null if no nonce was sent
+   */
+  @Cacheable(value = CacheConfiguration.AUTH_REQUEST_NONCE_CACHE, key = "#p0")
+  public String getNonce(String state)
+  {
+    return null;
+  }
+
+  /**
+   * stores the nonce of an authorization request so that it can be compared with the nonce of the id_token
+   *
+   * @param state The state-parameter from the OAuth2 request
+   * @param nonce the nonce that was sent within the authorization request
+   * @return the nonce
+   */
+  @CachePut(value = CacheConfiguration.AUTH_REQUEST_NONCE_CACHE, key = "#p0")
+  public String setNonce(String state, String nonce)
+  {
+    return nonce;
+  }
+}
@@ -0,0 +1,114 @@
+package de.captaingoldfish.restclient.application.endpoints.filtering;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import de.captaingoldfish.scim.sdk.common.schemas.SchemaAttribute;
+
+
+/**
+ * tells the handlers and converters which attributes of a resource were requested with the "attributes" and
+ * "excludedAttributes" parameters so that attributes that will not be returned are neither loaded from the
+ * database nor converted. The names of the main schema attributes are used like "name" or "meta.created",
+ * attributes of extensions are identified by their fully qualified names or the extension schema id
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class AttributeProjection
+{
+
+  /**
+   * the id of the main schema of the resource
+   */
+  private final String schemaId;
+
+  /**
+   * the fully qualified names of the requested attributes. If empty all attributes that are not excluded are
+   * requested
+   */
+  private final List<String> attributes;
+
+  /**
+   * the fully qualified names of the excluded attributes
+   */
+  private final List<String> excludedAttributes;
+
+  private AttributeProjection(String schemaId, List<String> attributes, List<String> excludedAttributes)
+  {
+    this.schemaId = schemaId;
+    this.attributes = attributes;
+    this.excludedAttributes = excludedAttributes;
+  }
+
+  /**
+   * a projection that requests all attributes
+   */
+  public static AttributeProjection all(String schemaId)
+  {
+    return new AttributeProjection(schemaId, List.of(), List.of());
+  }
+
+  /**
+   * creates the projection of the parameters that were passed to a get or list request
+   */
+  public static AttributeProjection of(String schemaId,
+                                       List<SchemaAttribute> attributes,
+                                       List<SchemaAttribute> excludedAttributes)
+  {
+    return new AttributeProjection(schemaId, toFullNames(attributes), toFullNames(excludedAttributes));
+  }
+
+  private static List<String> toFullNames(List<SchemaAttribute> schemaAttributes)
+  {
+    return Optional.ofNullable(schemaAttributes)
+                   .orElse(List.of())
+                   .stream()
+                   .map(SchemaAttribute::getFullResourceName)
+                   .collect(Collectors.toList());
+  }
+
+  /**
+   * checks if the given attribute is returned to the client. An attribute is also requested if one of its
+   * sub-attributes or its parent is requested
+   *
+   * @param attributeName the name of a main schema attribute, the fully qualified name of an extension
+   *          attribute or the id of an extension schema
+   */
+  public boolean isRequested(String attributeName)
+  {
+    String fullName = getFullName(attributeName);
+    if (excludedAttributes.stream().anyMatch(excluded -> isSameOrChild(fullName, excluded)))
+    {
+      return false;
+    }
+    return attributes.isEmpty() || attributes.stream()
+                                             .anyMatch(requested -> isSameOrChild(fullName, requested)
+                                                                    || isSameOrChild(requested, fullName));
+  }
+
+  /**
+   * checks if none of the given attributes is requested
+   */
+  public boolean isNoneRequested(Collection<String> attributeNames)
+  {
+    return attributeNames.stream().noneMatch(this::isRequested);
+  }
+
+  private String getFullName(String attributeName)
+  {
+    return attributeName.startsWith("urn:") ? attributeName : schemaId + ":" + attributeName;
+  }
+
+  /**
+   * @return true if the first attribute name is the second one or a sub-attribute of the second one
+   */
+  private static boolean isSameOrChild(String attributeName, String parentName)
+  {
+    return attributeName.equalsIgnoreCase(parentName)
+           || attributeName.regionMatches(true, 0, parentName + ".", 0, parentName.length() + 1)
+           || attributeName.regionMatches(true, 0, parentName + ":", 0, parentName.length() + 1);
+  }
+}
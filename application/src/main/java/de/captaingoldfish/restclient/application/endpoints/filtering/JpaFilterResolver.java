@@ -0,0 +1,436 @@
+package de.captaingoldfish.restclient.application.endpoints.filtering;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
+import de.captaingoldfish.scim.sdk.common.constants.enums.Comparator;
+import de.captaingoldfish.scim.sdk.common.constants.enums.SortOrder;
+import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
+import de.captaingoldfish.scim.sdk.common.resources.ResourceNode;
+import de.captaingoldfish.scim.sdk.common.schemas.SchemaAttribute;
+import de.captaingoldfish.scim.sdk.server.filter.AndExpressionNode;
+import de.captaingoldfish.scim.sdk.server.filter.AttributeExpressionLeaf;
+import de.captaingoldfish.scim.sdk.server.filter.FilterNode;
+import de.captaingoldfish.scim.sdk.server.filter.NotExpressionNode;
+import de.captaingoldfish.scim.sdk.server.filter.OrExpressionNode;
+import de.captaingoldfish.scim.sdk.server.response.PartialListResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+
+/**
+ * translates SCIM filter expressions into JPA criteria queries so that filtering, sorting and paging of the
+ * list endpoints is done by the database. The SCIM attributes that may be used within filter and sortBy
+ * expressions must be mapped to the attribute paths of the jpa entity. Paths into other entities like
+ * "tokenCategory.id" are resolved with left joins and must only follow single-valued associations
+ *
+ * @param <T> the type of the jpa entity
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class JpaFilterResolver<T>
+{
+
+  /**
+   * escapes the wildcards of like expressions within the filter values
+   */
+  private static final char LIKE_ESCAPE_CHARACTER = '\\';
+
+  /**
+   * the jpa entity that is queried
+   */
+  private final Class<T> entityClass;
+
+  /**
+   * maps the names of the SCIM attributes, e.g. "name" or "meta.created", to the attribute paths of the entity,
+   * e.g. "tokenCategory.id"
+   */
+  private final Map<String, String> attributePaths;
+
+  /**
+   * to build the criteria queries
+   */
+  private final EntityManager entityManager;
+
+  private final CriteriaBuilder criteriaBuilder;
+
+  /**
+   * @param entityClass the jpa entity that is queried. The entity must have the attributes "id", "created" and
+   *          "lastModified" which are mapped to the SCIM attributes "id", "meta.created" and
+   *          "meta.lastModified"
+   * @param attributePaths the additional SCIM attributes that can be used for filtering and sorting
+   */
+  public JpaFilterResolver(Class<T> entityClass, Map<String, String> attributePaths)
+  {
+    this.entityClass = entityClass;
+    this.attributePaths = new HashMap<>(attributePaths);
+    this.attributePaths.putIfAbsent("id", "id");
+    this.attributePaths.putIfAbsent("meta.created", "created");
+    this.attributePaths.putIfAbsent("meta.lastModified", "lastModified");
+    this.entityManager = WebAppConfig.getApplicationContext().getBean(EntityManager.class);
+    this.criteriaBuilder = entityManager.getCriteriaBuilder();
+  }
+
+  /**
+   * loads the requested page of the entities that match the given filter and converts them into SCIM resources
+   *
+   * @param startIndex the 1-based index of the first entity to return
+   * @param count the maximum number of entities to return
+   * @param sortBy the attribute to sort by. The ids are used if not present
+   * @param sortOrder the sort direction. Ascending if not present
+   * @param converter converts the entities into SCIM resources
+   */
+  public <R extends ResourceNode> PartialListResponse<R> listResources(FilterNode filterNode,
+                                                                       long startIndex,
+                                                                       int count,
+                                                                       SchemaAttribute sortBy,
+                                                                       SortOrder sortOrder,
+                                                                       Function<T, R> converter)
+  {
+    long totalResults = countMatches(filterNode);
+    List<R> resources;
+    if (totalResults == 0 || count <= 0)
+    {
+      resources = new ArrayList<>();
+    }
+    else
+    {
+      resources = resolveFilter(filterNode, startIndex, count, sortBy, sortOrder).stream()
+                                                                                 .map(converter)
+                                                                                 .collect(Collectors.toList());
+    }
+    return PartialListResponse.<R> builder().totalResults(totalResults).resources(resources).build();
+  }
+
+  /**
+   * loads the requested page of the entities that match the given filter but selects only the given mapped
+   * attributes instead of the complete entities. This prevents that large columns and associations are read if
+   * only a few attributes were requested
+   *
+   * @param attributeNames the SCIM attributes to select. The id is always selected
+   * @param converter converts the selected values into SCIM resources. The values are accessible by the names
+   *          of the SCIM attributes
+   */
+  public <R extends ResourceNode> PartialListResponse<R> listProjectedResources(FilterNode filterNode,
+                                                                                long startIndex,
+                                                                                int count,
+                                                                                SchemaAttribute sortBy,
+                                                                                SortOrder sortOrder,
+                                                                                Collection<String> attributeNames,
+                                                                                Function<Map<String, Object>, R> converter)
+  {
+    long totalResults = countMatches(filterNode);
+    List<R> resources = new ArrayList<>();
+    if (totalResults > 0 && count > 0)
+    {
+      List<String> selectedAttributes = new ArrayList<>();
+      selectedAttributes.add("id");
+      attributeNames.stream().filter(name -> !"id".equals(name)).forEach(selectedAttributes::add);
+
+      CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+      Root<T> root = criteriaQuery.from(entityClass);
+      criteriaQuery.multiselect(selectedAttributes.stream()
+                                                  .map(attributeName -> getPath(root, attributeName))
+                                                  .collect(Collectors.toList()));
+      if (filterNode != null)
+      {
+        criteriaQuery.where(getFilterPredicate(root, filterNode));
+      }
+      criteriaQuery.orderBy(getOrder(root, sortBy, sortOrder));
+      List<Tuple> tuples = entityManager.createQuery(criteriaQuery)
+                                        .setFirstResult((int)Math.max(0, startIndex - 1))
+                                        .setMaxResults(count)
+                                        .getResultList();
+      for ( Tuple tuple : tuples )
+      {
+        Map<String, Object> values = new HashMap<>();
+        for ( int i = 0 ; i < selectedAttributes.size() ; i++ )
+        {
+          values.put(selectedAttributes.get(i), tuple.get(i));
+        }
+        resources.add(converter.apply(values));
+      }
+    }
+    return PartialListResponse.<R> builder().totalResults(totalResults).resources(resources).build();
+  }
+
+  /**
+   * counts the entities that match the given filter or all entities if no filter is present
+   */
+  public long countMatches(FilterNode filterNode)
+  {
+    CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+    Root<T> root = countQuery.from(entityClass);
+    countQuery.select(criteriaBuilder.count(root));
+    if (filterNode != null)
+    {
+      countQuery.where(getFilterPredicate(root, filterNode));
+    }
+    return entityManager.createQuery(countQuery).getSingleResult();
+  }
+
+  /**
+   * will resolve the filter expression and returns a single page of either all entities or the ones matching
+   * the given filter
+   *
+   * @param startIndex the 1-based index of the first entity to return
+   * @param count the maximum number of entities to return
+   * @param sortBy the attribute to sort by. The ids are used if not present
+   * @param sortOrder the sort direction. Ascending if not present
+   */
+  public List<T> resolveFilter(FilterNode filterNode,
+                               long startIndex,
+                               int count,
+                               SchemaAttribute sortBy,
+                               SortOrder sortOrder)
+  {
+    CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+    Root<T> root = criteriaQuery.from(entityClass);
+    if (filterNode != null)
+    {
+      criteriaQuery.where(getFilterPredicate(root, filterNode));
+    }
+    criteriaQuery.orderBy(getOrder(root, sortBy, sortOrder));
+    return entityManager.createQuery(criteriaQuery)
+                        .setFirstResult((int)Math.max(0, startIndex - 1))
+                        .setMaxResults(Math.max(0, count))
+                        .getResultList();
+  }
+
+  /**
+   * translates the sort parameters into the order of the criteria query. The id is always added as last order
+   * so that the pages are stable if the sorted values are equal
+   */
+  private List<Order> getOrder(Root<T> root, SchemaAttribute sortBy, SortOrder sortOrder)
+  {
+    boolean descending = SortOrder.DESCENDING.equals(sortOrder);
+    List<Order> orderList = new ArrayList<>();
+    if (sortBy != null && !"id".equals(sortBy.getScimNodeName()))
+    {
+      Path<?> sortPath = getPath(root, sortBy);
+      orderList.add(descending ? criteriaBuilder.desc(sortPath) : criteriaBuilder.asc(sortPath));
+    }
+    orderList.add(descending ? criteriaBuilder.desc(root.get("id")) : criteriaBuilder.asc(root.get("id")));
+    return orderList;
+  }
+
+  /**
+   * resolves the filter node to a jpa predicate
+   */
+  private Predicate getFilterPredicate(Root<T> root, FilterNode filterNode)
+  {
+    if (filterNode instanceof AttributeExpressionLeaf)
+    {
+      return getComparisonPredicate(root, (AttributeExpressionLeaf)filterNode);
+    }
+    else if (filterNode instanceof AndExpressionNode)
+    {
+      AndExpressionNode andExpressionNode = (AndExpressionNode)filterNode;
+      Predicate leftNode = getFilterPredicate(root, andExpressionNode.getLeftNode());
+      Predicate rightNode = getFilterPredicate(root, andExpressionNode.getRightNode());
+      return criteriaBuilder.and(leftNode, rightNode);
+    }
+    else if (filterNode instanceof OrExpressionNode)
+    {
+      OrExpressionNode orExpressionNode = (OrExpressionNode)filterNode;
+      Predicate leftNode = getFilterPredicate(root, orExpressionNode.getLeftNode());
+      Predicate rightNode = getFilterPredicate(root, orExpressionNode.getRightNode());
+      return criteriaBuilder.or(leftNode, rightNode);
+    }
+    else if (filterNode instanceof NotExpressionNode)
+    {
+      NotExpressionNode notExpressionNode = (NotExpressionNode)filterNode;
+      return criteriaBuilder.not(getFilterPredicate(root, notExpressionNode.getRightNode()));
+    }
+    else
+    {
+      throw new BadRequestException(String.format("Found unsupported filter expression: %s", filterNode));
+    }
+  }
+
+  /**
+   * translates a simple comparison expression into a jpa predicate. String attributes that are not case exact
+   * are compared case-insensitive
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Predicate getComparisonPredicate(Root<T> root, AttributeExpressionLeaf attributeExpressionLeaf)
+  {
+    SchemaAttribute schemaAttribute = attributeExpressionLeaf.getSchemaAttribute();
+    Path<?> path = getPath(root, schemaAttribute);
+    boolean isString = String.class.equals(path.getJavaType());
+    Comparator comparator = attributeExpressionLeaf.getComparator();
+    if (Comparator.PR.equals(comparator))
+    {
+      return isString ? criteriaBuilder.and(criteriaBuilder.isNotNull(path), criteriaBuilder.notEqual(path, ""))
+        : criteriaBuilder.isNotNull(path);
+    }
+
+    boolean ignoreCase = isString && !schemaAttribute.isCaseExact();
+    Expression expression = ignoreCase ? criteriaBuilder.lower(path.as(String.class)) : path;
+    Comparable value = getValue(path.getJavaType(), attributeExpressionLeaf, ignoreCase);
+    switch (comparator)
+    {
+      case EQ:
+        return criteriaBuilder.equal(expression, value);
+      case NE:
+        return criteriaBuilder.or(criteriaBuilder.isNull(path), criteriaBuilder.notEqual(expression, value));
+      case CO:
+        return getLikePredicate(expression, isString, attributeExpressionLeaf, "%" + escapeLike(value) + "%");
+      case SW:
+        return getLikePredicate(expression, isString, attributeExpressionLeaf, escapeLike(value) + "%");
+      case EW:
+        return getLikePredicate(expression, isString, attributeExpressionLeaf, "%" + escapeLike(value));
+      case GT:
+        return criteriaBuilder.greaterThan(expression, value);
+      case GE:
+        return criteriaBuilder.greaterThanOrEqualTo(expression, value);
+      case LT:
+        return criteriaBuilder.lessThan(expression, value);
+      case LE:
+        return criteriaBuilder.lessThanOrEqualTo(expression, value);
+      default:
+        throw new BadRequestException(String.format("Found unsupported comparator '%s' in filter expression: %s",
+                                                    comparator,
+                                                    attributeExpressionLeaf));
+    }
+  }
+
+  /**
+   * builds the like predicate for the comparators "co", "sw" and "ew" which are only supported on strings
+   */
+  private Predicate getLikePredicate(Expression<String> expression,
+                                     boolean isString,
+                                     AttributeExpressionLeaf attributeExpressionLeaf,
+                                     String pattern)
+  {
+    if (!isString)
+    {
+      throw new BadRequestException(String.format("Comparator '%s' is only supported on string attributes: %s",
+                                                  attributeExpressionLeaf.getComparator(),
+                                                  attributeExpressionLeaf));
+    }
+    return criteriaBuilder.like(expression, pattern, LIKE_ESCAPE_CHARACTER);
+  }
+
+  /**
+   * resolves the path of the given SCIM attribute on the jpa entity. The associations on the way are joined
+   * only once per query
+   */
+  private Path<?> getPath(Root<T> root, SchemaAttribute schemaAttribute)
+  {
+    return getPath(root, schemaAttribute.getScimNodeName());
+  }
+
+  /**
+   * resolves the path of the SCIM attribute with the given name on the jpa entity
+   */
+  private Path<?> getPath(Root<T> root, String attributeName)
+  {
+    String attributePath = attributePaths.get(attributeName);
+    if (attributePath == null)
+    {
+      throw new BadRequestException(String.format("Attribute '%s' is not supported in filter and sortBy expressions",
+                                                  attributeName));
+    }
+    String[] pathElements = attributePath.split("\\.");
+    From<?, ?> from = root;
+    for ( int i = 0 ; i < pathElements.length - 1 ; i++ )
+    {
+      from = getJoin(from, pathElements[i]);
+    }
+    return from.get(pathElements[pathElements.length - 1]);
+  }
+
+  /**
+   * reuses an existing join of the given association or creates a new left join
+   */
+  private From<?, ?> getJoin(From<?, ?> from, String associationName)
+  {
+    for ( Join<?, ?> join : from.getJoins() )
+    {
+      if (join.getAttribute().getName().equals(associationName))
+      {
+        return join;
+      }
+    }
+    return from.join(associationName, JoinType.LEFT);
+  }
+
+  /**
+   * translates the value of the filter comparison node into the java type of the entity attribute
+   */
+  private Comparable<?> getValue(Class<?> javaType, AttributeExpressionLeaf attributeExpressionLeaf, boolean ignoreCase)
+  {
+    String value = attributeExpressionLeaf.getValue();
+    if (value == null)
+    {
+      throw new BadRequestException(String.format("Missing comparison value in filter expression: %s",
+                                                  attributeExpressionLeaf));
+    }
+    try
+    {
+      if (Long.class.equals(javaType) || long.class.equals(javaType))
+      {
+        return Long.parseLong(value);
+      }
+      if (Integer.class.equals(javaType) || int.class.equals(javaType))
+      {
+        return Integer.parseInt(value);
+      }
+      if (Boolean.class.equals(javaType) || boolean.class.equals(javaType))
+      {
+        return Boolean.parseBoolean(value);
+      }
+      if (Instant.class.equals(javaType))
+      {
+        return Instant.parse(value);
+      }
+    }
+    catch (NumberFormatException | DateTimeParseException ex)
+    {
+      throw new BadRequestException(String.format("Invalid value '%s' for attribute '%s'",
+                                                  value,
+                                                  attributeExpressionLeaf.getSchemaAttribute().getScimNodeName()),
+                                    ex);
+    }
+    return ignoreCase ? StringUtils.toRootLowerCase(value) : value;
+  }
+
+  /**
+   * escapes the wildcards of like expressions so that they are matched literally
+   */
+  private static String escapeLike(Object value)
+  {
+    String stringValue = String.valueOf(value);
+    StringBuilder escaped = new StringBuilder(stringValue.length());
+    for ( char character : stringValue.toCharArray() )
+    {
+      if (character == '%' || character == '_' || character == LIKE_ESCAPE_CHARACTER)
+      {
+        escaped.append(LIKE_ESCAPE_CHARACTER);
+      }
+      escaped.append(character);
+    }
+    return escaped.toString();
+  }
+}
@@ -47,6 +47,9 @@ public final class HttpClientSettingsConverter
                              .proxy(proxy)
                              .openIdClient(openIdClient)
                              .tlsClientAuthKeyRef(scimHttpClientSettings.getTlsClientAuthAliasReference().orElse(null))
+                             .executionEngine(scimHttpClientSettings.getExecutionEngine()
+                                                                    .map(HttpClientSettings.ExecutionEngine::valueOf)
+                                                                    .orElse(null))
                              .build();
   }
 
@@ -69,6 +72,9 @@ public final class HttpClientSettingsConverter
                                                                 .map(OpenIdClient::getId)
                                                                 .orElse(null))
                                  .tlsClientAuthAliasReference(httpClientSettings.getTlsClientAuthKeyRef())
+                                 .executionEngine(Optional.ofNullable(httpClientSettings.getExecutionEngine())
+                                                          .map(Enum::name)
+                                                          .orElse(null))
                                  .meta(Meta.builder()
                                            .created(httpClientSettings.getCreated())
                                            .lastModified(httpClientSettings.getLastModified())
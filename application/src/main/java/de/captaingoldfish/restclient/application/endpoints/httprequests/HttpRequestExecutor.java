@@ -1,32 +1,40 @@
 package de.captaingoldfish.restclient.application.endpoints.httprequests;
 
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPatch;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
-import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.springframework.stereotype.Component;
 
+import de.captaingoldfish.restclient.application.utils.AsyncHttpExchange;
 import de.captaingoldfish.restclient.application.utils.HttpClientBuilder;
+import de.captaingoldfish.restclient.application.utils.HttpExchangeTimer;
+import de.captaingoldfish.restclient.application.utils.ResponseBodyReader;
+import de.captaingoldfish.restclient.application.utils.SpooledResponseBody;
+import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
 import de.captaingoldfish.restclient.database.entities.HttpHeader;
 import de.captaingoldfish.restclient.database.entities.HttpRequest;
 import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.entities.HttpTimings;
 import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,6 +45,7 @@ import lombok.extern.slf4j.Slf4j;
  * <br>
  */
 @Slf4j
+@RequiredArgsConstructor
 @Component
 public class HttpRequestExecutor
 {
@@ -48,49 +57,112 @@ public class HttpRequestExecutor
   private static final int TIMEOUT_MILLIS = 1000;
 
   /**
-   * @param httpRequest
-   * @return
+   * reads the response bodies without holding large bodies in memory
+   */
+  private final ResponseBodyReader responseBodyReader;
+
+  /**
+   * sends the given request with the execution engine of its http client settings and blocks until the response
+   * was read
+   *
+   * @param httpRequest the request to send
+   * @return the response of the remote server
    */
-  @SneakyThrows
   public HttpResponse sendHttpRequest(HttpRequest httpRequest)
   {
-    HttpUriRequest uriRequest = toApacheHttpUriRequest(httpRequest);
-    log.info("sending '{}' request to url '{}'", httpRequest.getHttpMethod(), httpRequest.getUrl());
-    try (CloseableHttpClient httpClient = HttpClientBuilder.getHttpClient(httpRequest.getHttpClientSettings());
-      CloseableHttpResponse response = httpClient.execute(uriRequest))
+    if (isAsyncEngine(httpRequest))
     {
-
-      String requestDetailsString = toStringRepresentation(httpRequest);
-      String responseHeaderString = toStringRepresentation(response.getHeaders());
-      String responseBodyString = toResponseBody(response);
-      return HttpResponse.builder()
-                         .requestDetails(requestDetailsString)
-                         .responseStatus(response.getCode())
-                         .responseHeaders(responseHeaderString)
-                         .responseBody(responseBodyString)
-                         .created(Instant.now())
-                         .build();
+      return AsyncHttpExchange.await(sendHttpRequestAsync(httpRequest));
     }
+    return sendClassicHttpRequest(httpRequest);
   }
 
-  @SneakyThrows
-  private String toResponseBody(CloseableHttpResponse response)
+  /**
+   * sends the given request without blocking the calling thread. Requests of settings with the
+   * {@link HttpClientSettings.ExecutionEngine#ASYNC_HTTP2} engine are sent with the non-blocking http client,
+   * all other requests are sent with the blocking client on a virtual thread
+   *
+   * @param httpRequest the request to send
+   * @return a future that is completed with the response of the remote server or with the error that aborted
+   *         the exchange
+   */
+  public CompletableFuture<HttpResponse> sendHttpRequestAsync(HttpRequest httpRequest)
   {
-    HttpEntity httpEntity = response.getEntity();
-    if (httpEntity == null)
+    if (!isAsyncEngine(httpRequest))
     {
-      return null;
+      return CompletableFuture.supplyAsync(() -> sendClassicHttpRequest(httpRequest),
+                                           runnable -> Thread.ofVirtual().start(runnable));
     }
-    if (httpEntity.getContent() == null)
+    try
     {
-      return null;
+      SimpleHttpRequest simpleHttpRequest = toSimpleHttpRequest(httpRequest);
+      log.debug("sending asynchronous '{}' request to url '{}'", httpRequest.getHttpMethod(), httpRequest.getUrl());
+      CloseableHttpAsyncClient httpAsyncClient = HttpClientBuilder.getHttpAsyncClient(httpRequest.getHttpClientSettings());
+      String requestDetailsString = toStringRepresentation(httpRequest);
+      return AsyncHttpExchange.execute(httpAsyncClient, simpleHttpRequest, responseBodyReader)
+                              .thenApply(result -> toHttpResponse(requestDetailsString,
+                                                                  result.response().getCode(),
+                                                                  result.response().getHeaders(),
+                                                                  result.body(),
+                                                                  result.timings()));
     }
-    try (InputStream inputStream = httpEntity.getContent())
+    catch (Exception ex)
+    {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  /**
+   * @return true if the request must be sent with the non-blocking http client
+   */
+  private boolean isAsyncEngine(HttpRequest httpRequest)
+  {
+    HttpClientSettings httpClientSettings = httpRequest.getHttpClientSettings();
+    return httpClientSettings != null
+           && httpClientSettings.getExecutionEngine() == HttpClientSettings.ExecutionEngine.ASYNC_HTTP2;
+  }
+
+  /**
+   * sends the given request with the blocking http client
+   */
+  @SneakyThrows
+  private HttpResponse sendClassicHttpRequest(HttpRequest httpRequest)
+  {
+    HttpUriRequest uriRequest = toApacheHttpUriRequest(httpRequest);
+    log.debug("sending '{}' request to url '{}'", httpRequest.getHttpMethod(), httpRequest.getUrl());
+    CloseableHttpClient httpClient = HttpClientBuilder.getHttpClient(httpRequest.getHttpClientSettings());
+    try (HttpExchangeTimer timer = HttpExchangeTimer.start();
+      CloseableHttpResponse response = httpClient.execute(uriRequest))
     {
-      return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+
+      String requestDetailsString = toStringRepresentation(httpRequest);
+      SpooledResponseBody responseBody = responseBodyReader.read(response.getEntity());
+      HttpTimings timings = timer.stop();
+      return toHttpResponse(requestDetailsString, response.getCode(), response.getHeaders(), responseBody, timings);
     }
   }
 
+  /**
+   * creates the response entity. A spooled body that must be stored as raw content is handed over to the entity
+   * and must be released with {@link HttpResponse#closeResponseBodyContent()} by the receiver of the response
+   */
+  @SneakyThrows
+  private HttpResponse toHttpResponse(String requestDetails,
+                                      int responseStatus,
+                                      Header[] responseHeaders,
+                                      SpooledResponseBody responseBody,
+                                      HttpTimings timings)
+  {
+    HttpResponse.HttpResponseBuilder responseBuilder = HttpResponse.builder()
+                                                                   .requestDetails(requestDetails)
+                                                                   .responseStatus(responseStatus)
+                                                                   .responseHeaders(toStringRepresentation(responseHeaders))
+                                                                   .created(Instant.now())
+                                                                   .timings(timings);
+    responseBodyReader.setBody(responseBuilder, responseBody);
+    return responseBuilder.build();
+  }
+
   private String toStringRepresentation(Header[] allHeaders)
   {
 
@@ -113,6 +185,39 @@ public class HttpRequestExecutor
   }
 
 
+  /**
+   * translates the database request into a request object understood by the asynchronous apache http client
+   */
+  @SneakyThrows
+  private SimpleHttpRequest toSimpleHttpRequest(HttpRequest httpRequest)
+  {
+    SimpleRequestBuilder requestBuilder;
+    switch (httpRequest.getHttpMethod())
+    {
+      case "GET":
+      case "DELETE":
+        requestBuilder = SimpleRequestBuilder.create(httpRequest.getHttpMethod());
+        break;
+      case "POST":
+      case "PUT":
+      case "PATCH":
+        requestBuilder = SimpleRequestBuilder.create(httpRequest.getHttpMethod());
+        if (StringUtils.isNotBlank(httpRequest.getRequestBody()))
+        {
+          requestBuilder.setBody(httpRequest.getRequestBody(), ContentType.DEFAULT_TEXT);
+        }
+        break;
+      default:
+        throw new BadRequestException("Only the methods ['GET', 'POST', 'PUT', 'PATCH', 'DELETE'] are supported ");
+    }
+    requestBuilder.setUri(httpRequest.getUrl());
+    for ( HttpHeader httpHeader : httpRequest.getHttpHeaders() )
+    {
+      requestBuilder.setHeader(httpHeader.getName(), httpHeader.getValue());
+    }
+    return requestBuilder.build();
+  }
+
   /**
    * translates the database request into a resolvable request object understood by apache http client
    */
@@ -0,0 +1,137 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
+import de.captaingoldfish.restclient.database.repositories.HttpRequestCategoriesDao;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * sends all requests of a stored http request group. A run is an operation of its own and is not part of the
+ * SCIM representation of the group, which is only changed with updates
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor
+@Controller
+@RequestMapping(HttpRequestGroupRunController.ENDPOINT)
+public class HttpRequestGroupRunController
+{
+
+  /**
+   * the base path of the stored http request groups
+   */
+  public static final String ENDPOINT = "/http-request-groups";
+
+  private final HttpRequestCategoriesDao httpRequestCategoriesDao;
+
+  private final HttpRequestGroupRunner httpRequestGroupRunner;
+
+  /**
+   * sends all requests of the group concurrently and appends the responses to the history of the requests
+   *
+   * @param id the id of the http request group
+   * @param parallelism the maximum number of requests that are sent at the same time. Is capped by the server
+   *          configuration and defaults to it
+   * @return the results of the single requests in the order of the stored requests
+   */
+  @ResponseBody
+  @PostMapping(path = "/{id}/run", produces = MediaType.APPLICATION_JSON_VALUE)
+  public GroupRun runGroup(@PathVariable("id") long id,
+                           @RequestParam(value = "parallelism", required = false) Integer parallelism)
+  {
+    if (parallelism != null && parallelism < 1)
+    {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                        String.format("The parallelism must be at least 1 but was '%s'", parallelism));
+    }
+    HttpRequestGroup httpRequestGroup = httpRequestCategoriesDao.findById(id).orElseThrow(() -> {
+      return new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                         String.format("HTTP request group with id '%s' does not exist", id));
+    });
+    HttpRequestGroupRunner.GroupRunResult runResult = httpRequestGroupRunner.runGroup(httpRequestGroup, parallelism);
+    List<RequestRun> results = runResult.results().stream().map(result -> {
+      return RequestRun.builder()
+                       .requestId(result.requestId())
+                       .name(result.name())
+                       .statusCode(result.statusCode())
+                       .durationMillis(result.duration().toMillis())
+                       .error(result.error())
+                       .build();
+    }).toList();
+    return GroupRun.builder()
+                   .groupId(id)
+                   .parallelism(httpRequestGroupRunner.getEffectiveParallelism(parallelism))
+                   .durationMillis(runResult.duration().toMillis())
+                   .results(results)
+                   .build();
+  }
+
+  /**
+   * the result of a group run
+   */
+  @Getter
+  @Builder
+  public static class GroupRun
+  {
+
+    private final long groupId;
+
+    /**
+     * the maximum number of requests that were sent at the same time
+     */
+    private final int parallelism;
+
+    /**
+     * the time in milliseconds it took to send all requests of the group
+     */
+    private final long durationMillis;
+
+    /**
+     * the results of the single requests in the order of the stored requests
+     */
+    private final List<RequestRun> results;
+  }
+
+  /**
+   * the result of a single request of a group run
+   */
+  @Getter
+  @Builder
+  public static class RequestRun
+  {
+
+    private final long requestId;
+
+    private final String name;
+
+    /**
+     * the status code of the response or null if no response was received
+     */
+    private final Integer statusCode;
+
+    /**
+     * the time in milliseconds it took to send the request and to read the response
+     */
+    private final long durationMillis;
+
+    /**
+     * the reason why no response was received or null
+     */
+    private final String error;
+  }
+}
@@ -0,0 +1,189 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * sends all http requests of a {@link HttpRequestGroup} concurrently. The requests are sent without blocking
+ * a thread per request, either with the asynchronous http client or with the classic client on virtual
+ * threads, and the number of requests that are in flight at the same time is limited by a configurable
+ * parallelism.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+public class HttpRequestGroupRunner
+{
+
+  /**
+   * used to load the requests of the group
+   */
+  private final HttpRequestsDao httpRequestsDao;
+
+  /**
+   * stores the received responses in the history of the requests
+   */
+  private final HttpResponseHistory httpResponseHistory;
+
+  /**
+   * sends the single http requests
+   */
+  private final HttpRequestExecutor httpRequestExecutor;
+
+  /**
+   * the upper limit for the number of requests of a group that are sent at the same time. Also used if the
+   * caller does not request a specific parallelism
+   */
+  @Getter
+  private final int maxParallelism;
+
+  public HttpRequestGroupRunner(HttpRequestsDao httpRequestsDao,
+                                HttpResponseHistory httpResponseHistory,
+                                HttpRequestExecutor httpRequestExecutor,
+                                @Value("${http-requests.group-run.max-parallelism:16}") int maxParallelism)
+  {
+    this.httpRequestsDao = httpRequestsDao;
+    this.httpResponseHistory = httpResponseHistory;
+    this.httpRequestExecutor = httpRequestExecutor;
+    this.maxParallelism = Math.max(1, maxParallelism);
+  }
+
+  /**
+   * sends all requests of the given group, appends the responses to the history of the requests and returns the
+   * results in the order of the stored requests
+   *
+   * @param httpRequestGroup the group whose requests should be sent
+   * @param parallelism the wanted number of concurrently sent requests. Is capped by {@link #maxParallelism}
+   *          and defaults to it if null
+   * @return the aggregated result of the run
+   */
+  @SneakyThrows
+  public GroupRunResult runGroup(HttpRequestGroup httpRequestGroup, Integer parallelism)
+  {
+    List<HttpRequest> httpRequests = httpRequestsDao.findByHttpRequestGroup(httpRequestGroup);
+    int effectiveParallelism = getEffectiveParallelism(parallelism);
+    log.debug("sending {} requests of group '{}' with a parallelism of {}",
+              httpRequests.size(),
+              httpRequestGroup.getName(),
+              effectiveParallelism);
+
+    Semaphore permits = new Semaphore(effectiveParallelism);
+    long start = System.nanoTime();
+    List<CompletableFuture<RequestRunResult>> futures = new ArrayList<>();
+    for ( HttpRequest httpRequest : httpRequests )
+    {
+      permits.acquire();
+      futures.add(runRequest(httpRequest, permits));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    Duration runDuration = Duration.ofNanos(System.nanoTime() - start);
+
+    List<RequestRunResult> results = new ArrayList<>();
+    for ( CompletableFuture<RequestRunResult> future : futures )
+    {
+      results.add(future.join());
+    }
+    try
+    {
+      for ( int i = 0 ; i < httpRequests.size() ; i++ )
+      {
+        RequestRunResult result = results.get(i);
+        if (result.response() != null)
+        {
+          httpResponseHistory.addToHistory(httpRequests.get(i), result.response());
+        }
+      }
+    }
+    finally
+    {
+      // releases the raw bodies of the responses that were not stored because an earlier one failed
+      results.stream()
+             .map(RequestRunResult::response)
+             .filter(Objects::nonNull)
+             .forEach(HttpResponse::closeResponseBodyContent);
+    }
+    return new GroupRunResult(results, runDuration);
+  }
+
+  /**
+   * @return the parallelism that is used for the run
+   */
+  int getEffectiveParallelism(Integer parallelism)
+  {
+    if (parallelism == null)
+    {
+      return maxParallelism;
+    }
+    return Math.max(1, Math.min(parallelism, maxParallelism));
+  }
+
+  /**
+   * sends a single request and releases the given permit as soon as the exchange is finished. Failures are part
+   * of the result and do not abort the other requests of the group
+   */
+  private CompletableFuture<RequestRunResult> runRequest(HttpRequest httpRequest, Semaphore permits)
+  {
+    long start = System.nanoTime();
+    return httpRequestExecutor.sendHttpRequestAsync(httpRequest).handle((httpResponse, throwable) -> {
+      permits.release();
+      Duration duration = Duration.ofNanos(System.nanoTime() - start);
+      if (throwable == null)
+      {
+        return new RequestRunResult(httpRequest.getId(), httpRequest.getName(), httpResponse.getResponseStatus(),
+                                    duration, null, httpResponse);
+      }
+      Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+        : throwable;
+      log.debug("request '{}' of group run failed", httpRequest.getName(), cause);
+      String error = Optional.ofNullable(cause.getMessage()).orElseGet(() -> cause.getClass().getSimpleName());
+      return new RequestRunResult(httpRequest.getId(), httpRequest.getName(), null, duration, error, null);
+    });
+  }
+
+  /**
+   * the aggregated result of a group run
+   *
+   * @param results the results of the single requests in the order of the stored requests
+   * @param duration the time it took to send all requests of the group
+   */
+  public record GroupRunResult(List<RequestRunResult> results, Duration duration)
+  {}
+
+  /**
+   * the result of a single request within a group run
+   *
+   * @param requestId the id of the sent request
+   * @param name the name of the sent request
+   * @param statusCode the status code of the response or null if no response was received
+   * @param duration the time it took to send the request and to read the response
+   * @param error the reason why no response was received or null
+   * @param response the received response or null
+   */
+  public record RequestRunResult(long requestId,
+                                 String name,
+                                 Integer statusCode,
+                                 Duration duration,
+                                 String error,
+                                 HttpResponse response)
+  {}
+}
@@ -1,14 +1,14 @@
 package de.captaingoldfish.restclient.application.endpoints.httprequests;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
 import org.apache.commons.lang3.StringUtils;
 
+import de.captaingoldfish.restclient.application.endpoints.filtering.AttributeProjection;
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
 import de.captaingoldfish.restclient.application.utils.Utils;
 import de.captaingoldfish.restclient.database.entities.HttpRequest;
 import de.captaingoldfish.restclient.database.entities.HttpResponse;
@@ -34,12 +34,26 @@ import lombok.RequiredArgsConstructor;
 public class HttpRequestHandler extends ResourceHandler<ScimHttpRequest>
 {
 
+  /**
+   * the attributes that can be used within filter and sortBy expressions mapped to the HttpRequest entity
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimHttpRequest.FieldNames.NAME,
+                                                                      "name",
+                                                                      ScimHttpRequest.FieldNames.GROUP_NAME,
+                                                                      "httpRequestGroup.name",
+                                                                      ScimHttpRequest.FieldNames.HTTP_METHOD,
+                                                                      "httpMethod",
+                                                                      ScimHttpRequest.FieldNames.URL,
+                                                                      "url");
+
   private final HttpRequestCategoriesDao httpRequestCategoriesDao;
 
   private final HttpRequestsDao httpRequestsDao;
 
   private final HttpRequestExecutor httpRequestExecutor;
 
+  private final HttpResponseHistory httpResponseHistory;
+
   /**
    * {@inheritDoc}
    */
@@ -48,15 +62,21 @@ public class HttpRequestHandler extends ResourceHandler<ScimHttpRequest>
   {
     try
     {
-      HttpRequest httpRequest = HttpRequestsConverter.toHttpRequest(resource,
-                                                                    httpRequestsDao,
-                                                                    httpRequestCategoriesDao);
+      HttpRequest httpRequest = HttpRequestsConverter.toHttpRequest(resource, httpRequestCategoriesDao);
       HttpResponse httpResponse = sendHttpRequest(httpRequest);
-      addToHistory(httpRequest, httpResponse);
       boolean isSaveable = httpRequest.getHttpRequestGroup() != null && StringUtils.isNotBlank(httpRequest.getName());
-      if (isSaveable)
+      try
       {
-        httpRequest = httpRequestsDao.save(httpRequest);
+        if (isSaveable)
+        {
+          httpRequest = httpRequestsDao.save(httpRequest);
+          httpResponse = httpResponseHistory.addToHistory(httpRequest, httpResponse);
+        }
+      }
+      finally
+      {
+        // the raw body of a response that is not stored is not needed anymore
+        httpResponse.closeResponseBodyContent();
       }
       return HttpRequestsConverter.toScimHttpRequest(httpRequest, httpResponse);
     }
@@ -81,11 +101,18 @@ public class HttpRequestHandler extends ResourceHandler<ScimHttpRequest>
     {
       throw new ResourceNotFoundException(String.format("HTTP request with id '%s' does not exist", id));
     }
-    return HttpRequestsConverter.toScimHttpRequest(httpRequest, null);
+    AttributeProjection projection = AttributeProjection.of(ScimHttpRequest.FieldNames.SCHEMA,
+                                                            attributes,
+                                                            excludedAttributes);
+    HttpResponse latestResponse = projection.isNoneRequested(HttpRequestsConverter.RESPONSE_ATTRIBUTES) ? null
+      : httpResponseHistory.getLatestResponse(dbId);
+    return HttpRequestsConverter.toScimHttpRequest(httpRequest, latestResponse, projection);
   }
 
   /**
-   * {@inheritDoc}
+   * lists the requests without their responses. The response history of a single request can be read in pages
+   * with {@link HttpResponseHistoryController}. If only attributes are requested that are stored in single
+   * columns, the entities are not loaded at all and only these columns are selected
    */
   @Override
   public PartialListResponse<ScimHttpRequest> listResources(long startIndex,
@@ -97,15 +124,26 @@ public class HttpRequestHandler extends ResourceHandler<ScimHttpRequest>
                                                             List<SchemaAttribute> excludedAttributes,
                                                             Context context)
   {
-    List<HttpRequest> httpRequest = httpRequestsDao.findAll();
-    List<ScimHttpRequest> scimHttpRequest = httpRequest.stream().map(category -> {
-      return HttpRequestsConverter.toScimHttpRequest(category, null);
-    }).collect(Collectors.toList());
-    return PartialListResponse.<ScimHttpRequest> builder()
-                              .resources(new ArrayList<>())
-                              .totalResults(httpRequest.size())
-                              .resources(scimHttpRequest)
-                              .build();
+    AttributeProjection projection = AttributeProjection.of(ScimHttpRequest.FieldNames.SCHEMA,
+                                                            attributes,
+                                                            excludedAttributes);
+    JpaFilterResolver<HttpRequest> filterResolver = new JpaFilterResolver<>(HttpRequest.class, FILTER_ATTRIBUTES);
+    if (projection.isNoneRequested(HttpRequestsConverter.ENTITY_ATTRIBUTES))
+    {
+      List<String> selectedAttributes = HttpRequestsConverter.COLUMN_ATTRIBUTES.stream()
+                                                                               .filter(projection::isRequested)
+                                                                               .toList();
+      return filterResolver.listProjectedResources(filter,
+                                                   startIndex,
+                                                   count,
+                                                   sortBy,
+                                                   sortOrder,
+                                                   selectedAttributes,
+                                                   HttpRequestsConverter::toScimHttpRequest);
+    }
+    return filterResolver.listResources(filter, startIndex, count, sortBy, sortOrder, httpRequest -> {
+      return HttpRequestsConverter.toScimHttpRequest(httpRequest, null, projection);
+    });
   }
 
   /**
@@ -121,14 +159,19 @@ public class HttpRequestHandler extends ResourceHandler<ScimHttpRequest>
       throw new ResourceNotFoundException(String.format("HTTP request with id '%s' does not exist", dbId));
     }
 
-    HttpRequest updatedHttpRequest = HttpRequestsConverter.toHttpRequest(resource,
-                                                                         httpRequestsDao,
-                                                                         httpRequestCategoriesDao);
+    HttpRequest updatedHttpRequest = HttpRequestsConverter.toHttpRequest(resource, httpRequestCategoriesDao);
     updatedHttpRequest.setCreated(httpRequest.getCreated());
     updatedHttpRequest.setLastModified(Instant.now());
     HttpResponse httpResponse = sendHttpRequest(updatedHttpRequest);
-    addToHistory(updatedHttpRequest, httpResponse);
-    httpRequest = httpRequestsDao.save(httpRequest);
+    try
+    {
+      httpRequest = httpRequestsDao.save(httpRequest);
+      httpResponse = httpResponseHistory.addToHistory(httpRequest, httpResponse);
+    }
+    finally
+    {
+      httpResponse.closeResponseBodyContent();
+    }
 
     return HttpRequestsConverter.toScimHttpRequest(httpRequest, httpResponse);
   }
@@ -147,14 +190,6 @@ public class HttpRequestHandler extends ResourceHandler<ScimHttpRequest>
     httpRequestsDao.deleteById(dbId);
   }
 
-  private void addToHistory(HttpRequest httpRequest, HttpResponse httpResponse)
-  {
-    List<HttpResponse> history = new ArrayList<>(Optional.ofNullable(httpRequest.getHttpResponses())
-                                                         .orElseGet(ArrayList::new));
-    history.add(httpResponse);
-    httpRequest.setHttpResponses(history);
-  }
-
   /**
    * used for unit testing to mock this method
    */
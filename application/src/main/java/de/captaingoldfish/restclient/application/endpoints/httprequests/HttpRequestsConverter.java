@@ -4,12 +4,14 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
+import de.captaingoldfish.restclient.application.endpoints.filtering.AttributeProjection;
 import de.captaingoldfish.restclient.application.endpoints.httpclient.HttpClientSettingsConverter;
 import de.captaingoldfish.restclient.application.utils.Utils;
 import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
@@ -17,11 +19,12 @@ import de.captaingoldfish.restclient.database.entities.HttpHeader;
 import de.captaingoldfish.restclient.database.entities.HttpRequest;
 import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
 import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.entities.HttpTimings;
 import de.captaingoldfish.restclient.database.repositories.HttpRequestCategoriesDao;
-import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
 import de.captaingoldfish.restclient.scim.resources.ScimHttpClientSettings;
 import de.captaingoldfish.restclient.scim.resources.ScimHttpRequest;
 import de.captaingoldfish.restclient.scim.resources.ScimHttpRequest.HttpHeaders;
+import de.captaingoldfish.restclient.scim.resources.ScimHttpTimings;
 import de.captaingoldfish.scim.sdk.common.resources.complex.Meta;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -36,16 +39,68 @@ import lombok.NoArgsConstructor;
 public final class HttpRequestsConverter
 {
 
+  /**
+   * the attributes of the SCIM representation that are taken from the response of the request
+   */
+  public static final List<String> RESPONSE_ATTRIBUTES = List.of(ScimHttpRequest.FieldNames.RESPONSEID,
+                                                                 ScimHttpRequest.FieldNames.RESPONSESTATUS,
+                                                                 ScimHttpRequest.FieldNames.RESPONSEHEADERS,
+                                                                 ScimHttpRequest.FieldNames.RESPONSEBODY,
+                                                                 ScimHttpRequest.FieldNames.RESPONSE_CONTENT_TYPE,
+                                                                 ScimHttpRequest.FieldNames.RESPONSE_BODY_SIZE,
+                                                                 ScimHttpRequest.FieldNames.RESPONSE_BODY_BINARY,
+                                                                 ScimHttpRequest.FieldNames.RESPONSE_BODY_PREVIEW,
+                                                                 ScimHttpRequest.FieldNames.RESPONSE_BODY_TRUNCATED,
+                                                                 ScimHttpRequest.FieldNames.RESPONSE_BODY_LOCATION,
+                                                                 "timings");
+
+  /**
+   * the attributes of the SCIM representation that are mapped to single columns and can be selected without
+   * loading the complete entity
+   */
+  public static final List<String> COLUMN_ATTRIBUTES = List.of(ScimHttpRequest.FieldNames.NAME,
+                                                               ScimHttpRequest.FieldNames.GROUP_NAME,
+                                                               ScimHttpRequest.FieldNames.HTTP_METHOD,
+                                                               ScimHttpRequest.FieldNames.URL,
+                                                               "meta.created",
+                                                               "meta.lastModified");
+
+  /**
+   * the attributes of the SCIM representation that can only be built from the complete entity
+   */
+  public static final List<String> ENTITY_ATTRIBUTES = List.of(ScimHttpRequest.FieldNames.REQUESTHEADERS,
+                                                               ScimHttpRequest.FieldNames.REQUESTBODY,
+                                                               ScimHttpClientSettings.FieldNames.SCHEMA_ID);
+
   public static ScimHttpRequest toScimHttpRequest(HttpRequest httpRequest, HttpResponse httpResponse)
   {
+    return toScimHttpRequest(httpRequest, httpResponse, AttributeProjection.all(ScimHttpRequest.FieldNames.SCHEMA));
+  }
 
-    HttpClientSettings dbClientSettings = httpRequest.getHttpClientSettings();
-    ScimHttpClientSettings clientSettings = HttpClientSettingsConverter.toScimHttpClientSettings(dbClientSettings);
+  /**
+   * converts the request into its SCIM representation but builds only the attributes of the given projection.
+   * The response is ignored if none of its attributes were requested
+   */
+  public static ScimHttpRequest toScimHttpRequest(HttpRequest httpRequest,
+                                                  HttpResponse requestResponse,
+                                                  AttributeProjection projection)
+  {
+    ScimHttpClientSettings clientSettings = null;
+    if (projection.isRequested(ScimHttpClientSettings.FieldNames.SCHEMA_ID))
+    {
+      HttpClientSettings dbClientSettings = httpRequest.getHttpClientSettings();
+      clientSettings = HttpClientSettingsConverter.toScimHttpClientSettings(dbClientSettings);
+    }
 
-    List<HttpHeaders> headers = httpRequest.getHttpHeaders().stream().map(header -> {
-      return HttpHeaders.builder().name(header.getName()).value(header.getValue()).build();
-    }).collect(Collectors.toList());
+    List<HttpHeaders> headers = null;
+    if (projection.isRequested(ScimHttpRequest.FieldNames.REQUESTHEADERS))
+    {
+      headers = httpRequest.getHttpHeaders().stream().map(header -> {
+        return HttpHeaders.builder().name(header.getName()).value(header.getValue()).build();
+      }).collect(Collectors.toList());
+    }
 
+    HttpResponse httpResponse = projection.isNoneRequested(RESPONSE_ATTRIBUTES) ? null : requestResponse;
     List<HttpHeaders> httpHeaders = Collections.emptyList();
     boolean responseHeadersPresent = Optional.ofNullable(httpResponse)
                                              .map(HttpResponse::getResponseHeaders)
@@ -60,6 +115,10 @@ public final class HttpRequestsConverter
                           .collect(Collectors.toList());
     }
 
+    // the id is only assigned if the response was stored in the history of the request
+    Optional<Long> storedResponseId = Optional.ofNullable(httpResponse)
+                                              .map(HttpResponse::getId)
+                                              .filter(responseId -> responseId != 0);
     return ScimHttpRequest.builder()
                           .id(httpRequest.getId() == 0 ? UUID.randomUUID().toString()
                             : String.valueOf(httpRequest.getId()))
@@ -70,13 +129,39 @@ public final class HttpRequestsConverter
                           .httpMethod(httpRequest.getHttpMethod())
                           .url(httpRequest.getUrl())
                           .requestHeaders(headers)
-                          .requestBody(httpRequest.getRequestBody())
-                          .responseStatus(String.valueOf(httpResponse.getResponseStatus()))
+                          .requestBody(projection.isRequested(ScimHttpRequest.FieldNames.REQUESTBODY)
+                            ? httpRequest.getRequestBody() : null)
+                          .responseStatus(Optional.ofNullable(httpResponse)
+                                                  .map(HttpResponse::getResponseStatus)
+                                                  .map(String::valueOf)
+                                                  .orElse(null))
                           .responseHeaders(httpHeaders)
                           .responseBody(Optional.ofNullable(httpResponse)
                                                 .map(HttpResponse::getResponseBody)
                                                 .orElse(null))
                           .scimHttpClientSettings(clientSettings)
+                          .timings(Optional.ofNullable(httpResponse)
+                                           .map(HttpResponse::getTimings)
+                                           .map(HttpRequestsConverter::toScimHttpTimings)
+                                           .orElse(null))
+                          .responseId(storedResponseId.map(String::valueOf).orElse(null))
+                          .responseContentType(Optional.ofNullable(httpResponse)
+                                                       .map(HttpResponse::getResponseContentType)
+                                                       .orElse(null))
+                          .responseBodySize(Optional.ofNullable(httpResponse)
+                                                    .map(HttpResponse::getResponseBodySize)
+                                                    .orElse(null))
+                          .responseBodyBinary(Optional.ofNullable(httpResponse)
+                                                      .map(HttpResponse::isResponseBodyBinary)
+                                                      .orElse(null))
+                          .responseBodyPreview(Optional.ofNullable(httpResponse)
+                                                       .map(HttpResponse::isResponseBodyPreview)
+                                                       .orElse(null))
+                          .responseBodyTruncated(Optional.ofNullable(httpResponse)
+                                                         .map(HttpResponse::isResponseBodyTruncated)
+                                                         .orElse(null))
+                          .responseBodyLocation(storedResponseId.map(HttpResponseBodyController::getBodyPath)
+                                                                .orElse(null))
                           .meta(Meta.builder()
                                     .created(httpRequest.getCreated())
                                     .lastModified(httpRequest.getLastModified())
@@ -84,8 +169,49 @@ public final class HttpRequestsConverter
                           .build();
   }
 
+  /**
+   * converts the selected {@link #COLUMN_ATTRIBUTES} of a request into its SCIM representation
+   *
+   * @param values the selected values mapped to the names of the SCIM attributes
+   */
+  public static ScimHttpRequest toScimHttpRequest(Map<String, Object> values)
+  {
+    return ScimHttpRequest.builder()
+                          .id(String.valueOf(values.get("id")))
+                          .name((String)values.get(ScimHttpRequest.FieldNames.NAME))
+                          .groupName((String)values.get(ScimHttpRequest.FieldNames.GROUP_NAME))
+                          .httpMethod((String)values.get(ScimHttpRequest.FieldNames.HTTP_METHOD))
+                          .url((String)values.get(ScimHttpRequest.FieldNames.URL))
+                          .meta(Meta.builder()
+                                    .created((Instant)values.get("meta.created"))
+                                    .lastModified((Instant)values.get("meta.lastModified"))
+                                    .build())
+                          .build();
+  }
+
+  /**
+   * converts the timings of a http exchange into its SCIM representation
+   */
+  public static ScimHttpTimings toScimHttpTimings(HttpTimings timings)
+  {
+    if (timings == null)
+    {
+      return null;
+    }
+    return ScimHttpTimings.builder()
+                          .dnsLookupMicros(timings.getDnsLookupMicros())
+                          .connectMicros(timings.getConnectMicros())
+                          .tlsHandshakeMicros(timings.getTlsHandshakeMicros())
+                          .timeToFirstByteMicros(timings.getTimeToFirstByteMicros())
+                          .downloadMicros(timings.getDownloadMicros())
+                          .totalMicros(timings.getTotalMicros())
+                          .bytesSent(timings.getBytesSent())
+                          .bytesReceived(timings.getBytesReceived())
+                          .connectionReused(timings.getConnectionReused())
+                          .build();
+  }
+
   public static HttpRequest toHttpRequest(ScimHttpRequest scimHttpRequest,
-                                          HttpRequestsDao httpRequestsDao,
                                           HttpRequestCategoriesDao httpRequestCategoriesDao)
   {
     HttpRequestGroup group = httpRequestCategoriesDao.findByName(scimHttpRequest.getGroupName()).orElse(null);
@@ -94,9 +220,6 @@ public final class HttpRequestsConverter
     List<HttpHeader> headers = scimHttpRequest.getRequestHeaders().stream().map(header -> {
       return HttpHeader.builder().name(header.getName()).value(header.getValue()).build();
     }).collect(Collectors.toList());
-    Optional<HttpRequest> optionalHttpRequest = httpRequestsDao.findById(scimHttpRequest.getId()
-                                                                                        .map(Utils::parseId)
-                                                                                        .orElse(0L));
     return HttpRequest.builder()
                       .id(scimHttpRequest.getId().map(Utils::parseId).orElse(0L))
                       .name(scimHttpRequest.getName())
@@ -106,8 +229,6 @@ public final class HttpRequestsConverter
                       .url(scimHttpRequest.getUrl())
                       .httpHeaders(headers)
                       .requestBody(scimHttpRequest.getRequestBody().orElse(null))
-                      .httpResponses(optionalHttpRequest.map(HttpRequest::getHttpResponses)
-                                                        .orElseGet(Collections::emptyList))
                       .created(scimHttpRequest.getMeta().flatMap(Meta::getCreated).orElse(Instant.now()))
                       .lastModified(scimHttpRequest.getMeta().flatMap(Meta::getLastModified).orElse(Instant.now()))
                       .build();
@@ -1,11 +1,11 @@
 package de.captaingoldfish.restclient.application.endpoints.httprequests;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
 import de.captaingoldfish.restclient.application.utils.Utils;
 import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
 import de.captaingoldfish.restclient.database.repositories.HttpRequestCategoriesDao;
@@ -29,6 +29,11 @@ import lombok.RequiredArgsConstructor;
 public class HttpRequestsGroupHandler extends ResourceHandler<ScimHttpRequestGroup>
 {
 
+  /**
+   * the attributes that can be used within filter and sortBy expressions mapped to the HttpRequestGroup entity
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimHttpRequestGroup.FieldNames.NAME, "name");
+
   private final HttpRequestCategoriesDao httpRequestCategoriesDao;
 
   /**
@@ -73,15 +78,14 @@ public class HttpRequestsGroupHandler extends ResourceHandler<ScimHttpRequestGro
                                                                  List<SchemaAttribute> excludedAttributes,
                                                                  Context context)
   {
-    List<HttpRequestGroup> httpRequestCategories = httpRequestCategoriesDao.findAll();
-    List<ScimHttpRequestGroup> scimHttpRequestCategories = httpRequestCategories.stream().map(category -> {
-      return HttpRequestGroupConverter.toScimHttpRequestCategory(category);
-    }).collect(Collectors.toList());
-    return PartialListResponse.<ScimHttpRequestGroup> builder()
-                              .resources(new ArrayList<>())
-                              .totalResults(httpRequestCategories.size())
-                              .resources(scimHttpRequestCategories)
-                              .build();
+    JpaFilterResolver<HttpRequestGroup> filterResolver = new JpaFilterResolver<>(HttpRequestGroup.class,
+                                                                                 FILTER_ATTRIBUTES);
+    return filterResolver.listResources(filter,
+                                        startIndex,
+                                        count,
+                                        sortBy,
+                                        sortOrder,
+                                        HttpRequestGroupConverter::toScimHttpRequestCategory);
   }
 
   /**
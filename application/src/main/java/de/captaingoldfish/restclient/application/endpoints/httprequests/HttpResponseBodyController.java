@@ -0,0 +1,149 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ResponseStatusException;
+
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.repositories.HttpResponsesDao;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+
+/**
+ * gives access to the complete bodies of stored http responses. The SCIM representation of a http request
+ * only contains a preview of large textual bodies and no representation of binary bodies
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@RequiredArgsConstructor
+@Controller
+@RequestMapping(HttpResponseBodyController.ENDPOINT)
+public class HttpResponseBodyController
+{
+
+  /**
+   * the base path of the stored http responses
+   */
+  public static final String ENDPOINT = "/http-responses";
+
+  private final HttpResponsesDao httpResponsesDao;
+
+  /**
+   * @return the path under which the complete body of the given response can be downloaded
+   */
+  public static String getBodyPath(long responseId)
+  {
+    return ENDPOINT + "/" + responseId + "/body";
+  }
+
+  /**
+   * writes the complete body of a stored response. A single byte range can be requested with the "Range"
+   * header, requests with several ranges are answered with the complete body. The raw body is streamed from the
+   * database and is never loaded into memory as a whole
+   */
+  @SneakyThrows
+  @Transactional(readOnly = true)
+  @GetMapping("/{id}/body")
+  public void getResponseBody(@PathVariable("id") long id,
+                              @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                              HttpServletResponse servletResponse)
+  {
+    HttpResponse httpResponse = httpResponsesDao.findById(id).orElseThrow(() -> {
+      return new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                         String.format("HTTP response with id '%s' does not exist", id));
+    });
+    boolean hasRawBody = httpResponsesDao.hasResponseBody(id);
+    // bodies that fit completely into the preview are only stored as text
+    byte[] textBody = hasRawBody ? null : getTextBody(httpResponse);
+    long bodyLength = hasRawBody ? Optional.ofNullable(httpResponse.getResponseBodySize()).orElse(0L) : textBody.length;
+
+    servletResponse.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    servletResponse.setContentType(Optional.ofNullable(httpResponse.getResponseContentType())
+                                           .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE));
+    long start = 0;
+    long length = bodyLength;
+    List<HttpRange> ranges = parseRanges(range);
+    if (ranges.size() == 1)
+    {
+      HttpRange httpRange = ranges.get(0);
+      if (bodyLength == 0 || httpRange.getRangeStart(bodyLength) >= bodyLength)
+      {
+        servletResponse.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + bodyLength);
+        servletResponse.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        return;
+      }
+      start = httpRange.getRangeStart(bodyLength);
+      length = httpRange.getRangeEnd(bodyLength) - start + 1;
+      servletResponse.setHeader(HttpHeaders.CONTENT_RANGE,
+                                String.format("bytes %d-%d/%d", start, start + length - 1, bodyLength));
+      servletResponse.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+    }
+    servletResponse.setContentLengthLong(length);
+    if (length == 0)
+    {
+      return;
+    }
+
+    OutputStream outputStream = servletResponse.getOutputStream();
+    if (hasRawBody)
+    {
+      httpResponsesDao.copyResponseBody(id, start, length, outputStream);
+    }
+    else
+    {
+      outputStream.write(textBody, (int)start, (int)length);
+    }
+    outputStream.flush();
+  }
+
+  /**
+   * invalid range headers are ignored so that the complete body is returned
+   */
+  private List<HttpRange> parseRanges(String range)
+  {
+    try
+    {
+      return HttpRange.parseRanges(range);
+    }
+    catch (IllegalArgumentException ex)
+    {
+      return List.of();
+    }
+  }
+
+  /**
+   * bodies that fit completely into the preview are only stored as text and are encoded again with the charset
+   * of their content type. These bodies are small because they are limited by the preview length
+   */
+  private byte[] getTextBody(HttpResponse httpResponse)
+  {
+    if (httpResponse.getResponseBody() == null)
+    {
+      return new byte[0];
+    }
+    Charset charset = Optional.ofNullable(httpResponse.getResponseContentType())
+                              .map(ContentType::parseLenient)
+                              .map(ContentType::getCharset)
+                              .orElse(StandardCharsets.UTF_8);
+    return httpResponse.getResponseBody().getBytes(charset);
+  }
+}
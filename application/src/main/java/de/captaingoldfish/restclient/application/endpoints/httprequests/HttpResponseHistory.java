@@ -0,0 +1,213 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.repositories.HttpResponseSummary;
+import de.captaingoldfish.restclient.database.repositories.HttpResponsesDao;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * manages the response history of the stored http requests. Responses are appended without loading the
+ * existing history and the history is kept within a configurable number of entries per request and a
+ * configurable maximum age. Expired responses are purged periodically in batches so that a single purge does
+ * not hold a large transaction
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+public class HttpResponseHistory implements DisposableBean
+{
+
+  /**
+   * used to store, read and purge the responses
+   */
+  private final HttpResponsesDao httpResponsesDao;
+
+  /**
+   * the maximum number of responses that are kept per request. Values below 1 disable the limit
+   */
+  @Getter
+  private final int maxEntries;
+
+  /**
+   * responses that are older than this are purged. Zero or negative durations disable the limit
+   */
+  @Getter
+  private final Duration maxAge;
+
+  /**
+   * the maximum number of responses that are deleted with a single statement
+   */
+  private final int purgeBatchSize;
+
+  /**
+   * runs the periodic purge
+   */
+  private final ScheduledExecutorService purgeExecutor;
+
+  public HttpResponseHistory(HttpResponsesDao httpResponsesDao,
+                             @Value("${http-requests.history.max-entries:100}") int maxEntries,
+                             @Value("${http-requests.history.max-age:P30D}") Duration maxAge,
+                             @Value("${http-requests.history.purge-batch-size:500}") int purgeBatchSize,
+                             @Value("${http-requests.history.purge-interval:PT1H}") Duration purgeInterval)
+  {
+    this.httpResponsesDao = httpResponsesDao;
+    this.maxEntries = maxEntries;
+    this.maxAge = maxAge;
+    this.purgeBatchSize = Math.max(1, purgeBatchSize);
+    this.purgeExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                                                                          .name("http-response-history-purge")
+                                                                          .factory());
+    if (purgeInterval.isPositive())
+    {
+      purgeExecutor.scheduleWithFixedDelay(this::purgeSafely,
+                                           purgeInterval.toMillis(),
+                                           purgeInterval.toMillis(),
+                                           TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * appends the given response to the history of the given request and removes the oldest responses of the
+   * request if the history exceeds {@link #maxEntries}. The raw body of the response is streamed into the
+   * database and released afterwards
+   *
+   * @param httpRequest a request that was already stored
+   * @param httpResponse the response to append
+   * @return the stored response
+   */
+  public HttpResponse addToHistory(HttpRequest httpRequest, HttpResponse httpResponse)
+  {
+    httpResponse.setHttpRequest(httpRequest);
+    HttpResponse storedResponse;
+    try
+    {
+      storedResponse = httpResponsesDao.saveWithBody(httpResponse);
+    }
+    finally
+    {
+      httpResponse.closeResponseBodyContent();
+    }
+    if (maxEntries > 0)
+    {
+      trimHistory(httpRequest.getId());
+    }
+    return storedResponse;
+  }
+
+  /**
+   * @return the most recent response of the given request or null if the request has no history
+   */
+  public HttpResponse getLatestResponse(long httpRequestId)
+  {
+    return httpResponsesDao.findFirstByHttpRequestIdOrderByIdDesc(httpRequestId).orElse(null);
+  }
+
+  /**
+   * gets a single page of the history of the given request starting with the most recent response. Only the
+   * summaries of the responses are read
+   *
+   * @param page the zero-based index of the page
+   * @param size the number of responses per page
+   */
+  public Page<HttpResponseSummary> getHistory(long httpRequestId, int page, int size)
+  {
+    return httpResponsesDao.findSummariesByHttpRequestId(httpRequestId, PageRequest.of(page, size));
+  }
+
+  /**
+   * removes all responses that exceed the configured retention
+   *
+   * @return the number of removed responses
+   */
+  public long purge()
+  {
+    long removedResponses = 0;
+    if (maxAge.isPositive())
+    {
+      Instant createdBefore = Instant.now().minus(maxAge);
+      List<Long> expiredIds;
+      while (!(expiredIds = httpResponsesDao.findIdsCreatedBefore(createdBefore, Limit.of(purgeBatchSize))).isEmpty())
+      {
+        httpResponsesDao.deleteAllByIdInBatch(expiredIds);
+        removedResponses += expiredIds.size();
+      }
+    }
+    if (maxEntries > 0)
+    {
+      for ( Long httpRequestId : httpResponsesDao.findHttpRequestIdsWithMoreResponsesThan(maxEntries) )
+      {
+        removedResponses += trimHistory(httpRequestId);
+      }
+    }
+    return removedResponses;
+  }
+
+  /**
+   * removes the oldest responses of the given request that exceed {@link #maxEntries}. Only the most recent
+   * surplus id is read to find the surplus responses, which are then read and removed batch by batch
+   *
+   * @return the number of removed responses
+   */
+  private long trimHistory(long httpRequestId)
+  {
+    List<Long> newestSurplusId = httpResponsesDao.findIdsByHttpRequestId(httpRequestId, PageRequest.of(maxEntries, 1));
+    if (newestSurplusId.isEmpty())
+    {
+      return 0;
+    }
+    long removedResponses = 0;
+    List<Long> surplusIds;
+    while (!(surplusIds = httpResponsesDao.findIdsByHttpRequestIdUpTo(httpRequestId,
+                                                                      newestSurplusId.get(0),
+                                                                      Limit.of(purgeBatchSize))).isEmpty())
+    {
+      httpResponsesDao.deleteAllByIdInBatch(surplusIds);
+      removedResponses += surplusIds.size();
+    }
+    return removedResponses;
+  }
+
+  /**
+   * the periodic purge must not stop if a single run fails
+   */
+  private void purgeSafely()
+  {
+    try
+    {
+      long removedResponses = purge();
+      log.debug("Purged {} responses from the http response history", removedResponses);
+    }
+    catch (Exception ex)
+    {
+      log.warn("Failed to purge the http response history", ex);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void destroy()
+  {
+    purgeExecutor.shutdownNow();
+  }
+}
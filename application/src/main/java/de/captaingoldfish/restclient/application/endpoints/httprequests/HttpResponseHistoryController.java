@@ -0,0 +1,156 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
+import de.captaingoldfish.restclient.database.repositories.HttpResponseSummary;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * gives paged access to the response history of a stored http request. The SCIM representation of a http
+ * request only contains its most recent response
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@RequiredArgsConstructor
+@Controller
+@RequestMapping(HttpResponseHistoryController.ENDPOINT)
+public class HttpResponseHistoryController
+{
+
+  /**
+   * the base path of the stored http requests
+   */
+  public static final String ENDPOINT = "/http-requests";
+
+  /**
+   * the maximum number of responses that are returned on a single page
+   */
+  static final int MAX_PAGE_SIZE = 100;
+
+  private final HttpRequestsDao httpRequestsDao;
+
+  private final HttpResponseHistory httpResponseHistory;
+
+  /**
+   * returns a single page of the response history of a request starting with the most recent response. The
+   * entries do not contain the response bodies, which can be downloaded from the returned body location
+   *
+   * @param id the id of the http request
+   * @param page the zero-based index of the page
+   * @param size the number of responses per page, capped by {@link #MAX_PAGE_SIZE}
+   */
+  @ResponseBody
+  @GetMapping(path = "/{id}/responses", produces = MediaType.APPLICATION_JSON_VALUE)
+  public HistoryPage getResponseHistory(@PathVariable("id") long id,
+                                        @RequestParam(value = "page", defaultValue = "0") int page,
+                                        @RequestParam(value = "size", defaultValue = "20") int size)
+  {
+    if (httpRequestsDao.findById(id).isEmpty())
+    {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                        String.format("HTTP request with id '%s' does not exist", id));
+    }
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    Page<HttpResponseSummary> responses = httpResponseHistory.getHistory(id, Math.max(0, page), pageSize);
+    return HistoryPage.builder()
+                      .page(responses.getNumber())
+                      .size(responses.getSize())
+                      .totalResults(responses.getTotalElements())
+                      .responses(responses.map(HttpResponseHistoryController::toHistoryEntry).getContent())
+                      .build();
+  }
+
+  private static HistoryEntry toHistoryEntry(HttpResponseSummary httpResponse)
+  {
+    return HistoryEntry.builder()
+                       .id(httpResponse.getId())
+                       .responseStatus(httpResponse.getResponseStatus())
+                       .created(Optional.ofNullable(httpResponse.getCreated()).map(String::valueOf).orElse(null))
+                       .responseContentType(httpResponse.getResponseContentType())
+                       .responseBodySize(httpResponse.getResponseBodySize())
+                       .responseBodyBinary(httpResponse.isResponseBodyBinary())
+                       .responseBodyPreview(httpResponse.isResponseBodyPreview())
+                       .responseBodyTruncated(httpResponse.isResponseBodyTruncated())
+                       .timeToFirstByteMicros(httpResponse.getTimeToFirstByteMicros())
+                       .totalMicros(httpResponse.getTotalMicros())
+                       .responseBodyLocation(HttpResponseBodyController.getBodyPath(httpResponse.getId()))
+                       .build();
+  }
+
+  /**
+   * a single page of the response history
+   */
+  @Getter
+  @Builder
+  public static class HistoryPage
+  {
+
+    /**
+     * the zero-based index of the page
+     */
+    private final int page;
+
+    /**
+     * the number of responses per page
+     */
+    private final int size;
+
+    /**
+     * the number of responses in the complete history
+     */
+    private final long totalResults;
+
+    /**
+     * the responses of this page starting with the most recent one
+     */
+    private final List<HistoryEntry> responses;
+  }
+
+  /**
+   * the summary of a single response of the history
+   */
+  @Getter
+  @Builder
+  public static class HistoryEntry
+  {
+
+    private final long id;
+
+    private final int responseStatus;
+
+    private final String created;
+
+    private final String responseContentType;
+
+    private final Long responseBodySize;
+
+    private final boolean responseBodyBinary;
+
+    private final boolean responseBodyPreview;
+
+    private final boolean responseBodyTruncated;
+
+    private final Long timeToFirstByteMicros;
+
+    private final Long totalMicros;
+
+    private final String responseBodyLocation;
+  }
+}
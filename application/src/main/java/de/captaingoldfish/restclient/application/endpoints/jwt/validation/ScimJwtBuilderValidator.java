@@ -7,7 +7,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import de.captaingoldfish.restclient.application.crypto.JwtHandler;
-import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.scim.resources.ScimJwtBuilder;
 import de.captaingoldfish.scim.sdk.common.utils.JsonHelper;
 import de.captaingoldfish.scim.sdk.server.endpoints.Context;
@@ -29,7 +29,7 @@ public class ScimJwtBuilderValidator implements RequestValidator<ScimJwtBuilder>
   /**
    * used to build a {@link JwtHandler} that will test the operation that should be executed
    */
-  private final KeystoreDao keystoreDao;
+  private final KeystoreSnapshotService keystoreSnapshotService;
 
   /**
    * checks that the operation can be performed with the given data and extends the validation context by
@@ -51,7 +51,7 @@ public class ScimJwtBuilderValidator implements RequestValidator<ScimJwtBuilder>
       return;
     }
 
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    JwtHandler jwtHandler = new JwtHandler(keystoreSnapshotService);
     try
     {
       jwtHandler.createJwt(keyId, header, "test");
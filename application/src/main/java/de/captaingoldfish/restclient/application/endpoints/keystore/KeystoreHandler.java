@@ -19,7 +19,9 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.application.endpoints.keystore.validation.ScimKeystoreRequestValidator;
+import de.captaingoldfish.restclient.application.utils.SSLContextCache;
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
 import de.captaingoldfish.restclient.database.entities.Keystore;
 import de.captaingoldfish.restclient.database.entities.KeystoreEntry;
@@ -59,6 +61,16 @@ public class KeystoreHandler extends ResourceHandler<ScimKeystore>
    */
   private final KeystoreDao keystoreDao;
 
+  /**
+   * the cached TLS contexts that must be discarded if the application keystore is modified
+   */
+  private final SSLContextCache sslContextCache;
+
+  /**
+   * the decoded key material that must be discarded if the application keystore is modified
+   */
+  private final KeystoreSnapshotService keystoreSnapshotService;
+
   /**
    * the create part is separated into two steps. Uploading a keystore and selecting the entries that should be
    * added to the application keystore
@@ -151,6 +163,8 @@ public class KeystoreHandler extends ResourceHandler<ScimKeystore>
     KeystoreEntry keystoreEntry = applicationKeystore.addKeyEntry(aliasEntry);
     applicationKeystore.setLastModified(Instant.now());
     keystoreDao.save(applicationKeystore);
+    sslContextCache.invalidate();
+    keystoreSnapshotService.invalidate();
 
     X509Certificate x509Certificate = applicationKeystore.getCertificate(keystoreEntry);
     CertificateInfo certificateInfo = CertificateInfo.builder().alias(newAlias).certificate(x509Certificate).build();
@@ -270,6 +284,8 @@ public class KeystoreHandler extends ResourceHandler<ScimKeystore>
       throw new ResourceNotFoundException(String.format("No entry found with alias %s", alias));
     }
     keystoreDao.deleteKeystoreAlias(alias);
+    sslContextCache.invalidate();
+    keystoreSnapshotService.invalidate();
   }
 
   @Override
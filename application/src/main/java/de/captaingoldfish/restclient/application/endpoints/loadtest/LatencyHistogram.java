@@ -0,0 +1,142 @@
+package de.captaingoldfish.restclient.application.endpoints.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * a thread-safe log-linear histogram for latency values. Each power of two is split into 128 linear buckets
+ * so that a recorded value is reported with a relative error of less than 1/128 (0.79%) independent of its
+ * magnitude. The histogram has a fixed size and recording a value does not allocate memory, which makes it
+ * usable from many concurrent load generating threads.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class LatencyHistogram
+{
+
+  /**
+   * the number of bits that are used for the linear buckets of the lowest magnitude
+   */
+  private static final int SUB_BUCKET_BITS = 8;
+
+  /**
+   * values below this limit are counted exactly
+   */
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * the number of linear buckets for each power of two above {@link #SUB_BUCKET_COUNT}
+   */
+  private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+  /**
+   * the number of recorded values per bucket
+   */
+  private final AtomicLongArray counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF_COUNT);
+
+  private final AtomicLong totalCount = new AtomicLong();
+
+  private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+
+  private final AtomicLong maxValue = new AtomicLong();
+
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * records a single value. Negative values are recorded as 0
+   */
+  public void record(long value)
+  {
+    long recordedValue = Math.max(0, value);
+    counts.incrementAndGet(getBucketIndex(recordedValue));
+    sum.add(recordedValue);
+    minValue.accumulateAndGet(recordedValue, Math::min);
+    maxValue.accumulateAndGet(recordedValue, Math::max);
+    totalCount.incrementAndGet();
+  }
+
+  /**
+   * @return the number of recorded values
+   */
+  public long getTotalCount()
+  {
+    return totalCount.get();
+  }
+
+  /**
+   * @return the smallest recorded value or 0 if nothing was recorded
+   */
+  public long getMin()
+  {
+    return getTotalCount() == 0 ? 0 : minValue.get();
+  }
+
+  /**
+   * @return the largest recorded value or 0 if nothing was recorded
+   */
+  public long getMax()
+  {
+    return maxValue.get();
+  }
+
+  /**
+   * @return the exact mean of the recorded values or 0 if nothing was recorded
+   */
+  public double getMean()
+  {
+    long count = getTotalCount();
+    return count == 0 ? 0 : sum.doubleValue() / count;
+  }
+
+  /**
+   * @param percentile the percentile between 0 and 100 e.g. 99.9
+   * @return the value at or below which the given percentage of the recorded values lie. The result is never
+   *         smaller than the real value and never larger than the largest recorded value
+   */
+  public long getValueAtPercentile(double percentile)
+  {
+    long count = getTotalCount();
+    if (count == 0)
+    {
+      return 0;
+    }
+    double boundedPercentile = Math.min(100, Math.max(0, percentile));
+    long targetCount = Math.max(1, (long)Math.ceil(boundedPercentile / 100 * count));
+    long cumulativeCount = 0;
+    for ( int i = 0 ; i < counts.length() ; i++ )
+    {
+      cumulativeCount += counts.get(i);
+      if (cumulativeCount >= targetCount)
+      {
+        return Math.min(getHighestEquivalentValue(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * @return the index of the bucket that counts the given value
+   */
+  static int getBucketIndex(long value)
+  {
+    int magnitude = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+    return (magnitude * SUB_BUCKET_HALF_COUNT) + (int)(value >>> magnitude);
+  }
+
+  /**
+   * @return the largest value that is counted by the bucket with the given index
+   */
+  static long getHighestEquivalentValue(int bucketIndex)
+  {
+    if (bucketIndex < SUB_BUCKET_COUNT)
+    {
+      return bucketIndex;
+    }
+    int magnitude = (bucketIndex / SUB_BUCKET_HALF_COUNT) - 1;
+    long subBucket = bucketIndex - ((long)magnitude * SUB_BUCKET_HALF_COUNT);
+    return ((subBucket + 1) << magnitude) - 1;
+  }
+}
@@ -0,0 +1,335 @@
+package de.captaingoldfish.restclient.application.endpoints.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import de.captaingoldfish.restclient.application.endpoints.httprequests.HttpRequestExecutor;
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * replays a stored http request many times to measure how the remote server behaves under load. The requests
+ * are sent by a fixed number of virtual threads with the pooled http client of the request settings, either
+ * as fast as possible or paced to a target request rate. A load test can either be run blocking or be started
+ * in the background. The responses are not added to the response history of the request.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadGenerator
+{
+
+  /**
+   * the maximum number of concurrently sending threads of a single load test
+   */
+  public static final int MAX_CONCURRENCY = 256;
+
+  /**
+   * the maximum number of requests of a single load test
+   */
+  public static final long MAX_REQUESTS = 1_000_000;
+
+  /**
+   * the maximum duration of a single load test
+   */
+  public static final Duration MAX_DURATION = Duration.ofMinutes(10);
+
+  /**
+   * sends the single requests
+   */
+  private final HttpRequestExecutor httpRequestExecutor;
+
+  /**
+   * sends the given request according to the given load profile and blocks until the load test has finished
+   *
+   * @param httpRequest the request to replay
+   * @param loadProfile describes how many requests are sent and how fast
+   * @return the measured latencies and status codes
+   */
+  public LoadTestResult run(HttpRequest httpRequest, LoadProfile loadProfile)
+  {
+    LoadTestRun loadTestRun = new LoadTestRun(httpRequest, loadProfile);
+    execute(loadTestRun);
+    return loadTestRun.getResult();
+  }
+
+  /**
+   * starts a load test in the background and returns immediately
+   *
+   * @param httpRequest the request to replay
+   * @param loadProfile describes how many requests are sent and how fast
+   * @return the running load test whose intermediate and final result can be retrieved
+   */
+  public LoadTestRun start(HttpRequest httpRequest, LoadProfile loadProfile)
+  {
+    LoadTestRun loadTestRun = new LoadTestRun(httpRequest, loadProfile);
+    Thread.ofVirtual().name("load-test-" + httpRequest.getId()).start(() -> execute(loadTestRun));
+    return loadTestRun;
+  }
+
+  /**
+   * sends the requests of the given load test with the configured number of threads and blocks until all of
+   * them have finished
+   */
+  private void execute(LoadTestRun loadTestRun)
+  {
+    HttpRequest httpRequest = loadTestRun.httpRequest;
+    log.info("starting load test of '{} {}' with {}",
+             httpRequest.getHttpMethod(),
+             httpRequest.getUrl(),
+             loadTestRun.loadProfile);
+    try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor())
+    {
+      for ( int i = 0 ; i < loadTestRun.loadProfile.concurrency() ; i++ )
+      {
+        executorService.submit(loadTestRun::sendRequests);
+      }
+    }
+    finally
+    {
+      loadTestRun.finish();
+    }
+    LoadTestResult result = loadTestRun.getResult();
+    log.info("finished load test of '{} {}' after {} with {} requests and {} errors",
+             httpRequest.getHttpMethod(),
+             httpRequest.getUrl(),
+             result.duration(),
+             result.sentRequests(),
+             result.errorCount());
+  }
+
+  /**
+   * the state of a single load test that is shared between its sending threads. The result can be retrieved
+   * while the load test is still running
+   */
+  public class LoadTestRun
+  {
+
+    private final HttpRequest httpRequest;
+
+    private final LoadProfile loadProfile;
+
+    /**
+     * the moment at which the load test was started
+     */
+    @Getter
+    private final Instant started;
+
+    /**
+     * the number of requests that may be sent at most
+     */
+    private final long maxRequests;
+
+    /**
+     * the moment in nanos at which the load test was started
+     */
+    private final long startNanos;
+
+    /**
+     * the time in nanos after which no more requests are sent
+     */
+    private final long durationNanos;
+
+    /**
+     * the time between two requests if a request rate was set, 0 else
+     */
+    private final long intervalNanos;
+
+    /**
+     * the moment in nanos at which the last sending thread has finished
+     */
+    private long endNanos;
+
+    /**
+     * set after {@link #endNanos} was written so that a reader that sees true also sees the end time
+     */
+    private volatile boolean finished;
+
+    /**
+     * the number of requests that were claimed by the sending threads
+     */
+    private final AtomicLong claimedRequests = new AtomicLong();
+
+    /**
+     * the latencies in microseconds of all requests that got a response
+     */
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    /**
+     * the number of responses per status code
+     */
+    private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    /**
+     * the number of requests that did not get a response
+     */
+    private final LongAdder errorCount = new LongAdder();
+
+    private LoadTestRun(HttpRequest httpRequest, LoadProfile loadProfile)
+    {
+      this.httpRequest = httpRequest;
+      this.loadProfile = loadProfile;
+      this.started = Instant.now();
+      this.maxRequests = loadProfile.totalRequests() == null ? Long.MAX_VALUE : loadProfile.totalRequests();
+      this.startNanos = System.nanoTime();
+      this.durationNanos = loadProfile.duration() == null ? Long.MAX_VALUE : loadProfile.duration().toNanos();
+      this.intervalNanos = loadProfile.requestsPerSecond() == null ? 0
+        : TimeUnit.SECONDS.toNanos(1) / loadProfile.requestsPerSecond();
+    }
+
+    /**
+     * sends requests until the wanted number of requests was claimed or the duration has elapsed
+     */
+    private void sendRequests()
+    {
+      while (true)
+      {
+        long requestIndex = claimedRequests.getAndIncrement();
+        if (requestIndex >= maxRequests || !awaitSlot(requestIndex))
+        {
+          return;
+        }
+        sendRequest();
+      }
+    }
+
+    /**
+     * waits until the request with the given index may be sent if a request rate was set
+     *
+     * @return false if the load test is over before the request may be sent
+     */
+    private boolean awaitSlot(long requestIndex)
+    {
+      long slotOffsetNanos = requestIndex * intervalNanos;
+      long elapsedNanos = System.nanoTime() - startNanos;
+      if (slotOffsetNanos >= durationNanos || elapsedNanos >= durationNanos)
+      {
+        return false;
+      }
+      long waitNanos = slotOffsetNanos - elapsedNanos;
+      if (waitNanos > 0)
+      {
+        try
+        {
+          TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        catch (InterruptedException ex)
+        {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void sendRequest()
+    {
+      long requestStart = System.nanoTime();
+      try
+      {
+        HttpResponse httpResponse = httpRequestExecutor.sendHttpRequest(httpRequest);
+        latencyHistogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStart));
+        // the responses of a load test are not stored
+        httpResponse.closeResponseBodyContent();
+        statusCodes.computeIfAbsent(httpResponse.getResponseStatus(), statusCode -> new LongAdder()).increment();
+      }
+      catch (Exception ex)
+      {
+        log.debug("load test request to '{}' failed", httpRequest.getUrl(), ex);
+        errorCount.increment();
+      }
+    }
+
+    /**
+     * @return the id of the replayed request
+     */
+    public long getHttpRequestId()
+    {
+      return httpRequest.getId();
+    }
+
+    /**
+     * marks the load test as finished so that its duration does not grow anymore
+     */
+    private void finish()
+    {
+      endNanos = System.nanoTime();
+      finished = true;
+    }
+
+    /**
+     * @return true if all requests of the load test were sent
+     */
+    public boolean isFinished()
+    {
+      return finished;
+    }
+
+    /**
+     * @return the result of the load test. If the load test is still running the result contains the requests
+     *         that got a response or failed up to now
+     */
+    public LoadTestResult getResult()
+    {
+      long end = isFinished() ? endNanos : System.nanoTime();
+      Duration duration = Duration.ofNanos(end - startNanos);
+      Map<Integer, Long> statusCodeCounts = new TreeMap<>();
+      statusCodes.forEach((statusCode, count) -> statusCodeCounts.put(statusCode, count.sum()));
+      long sentRequests = latencyHistogram.getTotalCount() + errorCount.sum();
+      return new LoadTestResult(sentRequests, errorCount.sum(), duration, latencyHistogram, statusCodeCounts);
+    }
+  }
+
+  /**
+   * describes how many requests of a load test are sent and how fast. At least one of totalRequests and
+   * duration must be present. If both are present the load test ends with the first limit that is reached
+   *
+   * @param totalRequests the number of requests to send or null
+   * @param duration the time after which no more requests are sent or null
+   * @param concurrency the number of threads that send requests at the same time
+   * @param requestsPerSecond the target request rate or null to send the requests as fast as possible
+   */
+  public record LoadProfile(Long totalRequests, Duration duration, int concurrency, Integer requestsPerSecond)
+  {}
+
+  /**
+   * the result of a load test
+   *
+   * @param sentRequests the number of sent requests
+   * @param errorCount the number of requests that did not get a response
+   * @param duration the time the load test took
+   * @param latencyHistogram the latencies in microseconds of the requests that got a response
+   * @param statusCodes the number of responses per status code
+   */
+  public record LoadTestResult(long sentRequests, long errorCount, Duration duration,
+                               LatencyHistogram latencyHistogram, Map<Integer, Long> statusCodes)
+  {
+
+    /**
+     * @return the number of sent requests per second
+     */
+    public double getThroughput()
+    {
+      double seconds = duration.toNanos() / (double)TimeUnit.SECONDS.toNanos(1);
+      return seconds == 0 ? 0 : sentRequests / seconds;
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package de.captaingoldfish.restclient.application.endpoints.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import de.captaingoldfish.restclient.application.utils.Utils;
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
+import de.captaingoldfish.restclient.scim.resources.ScimLoadTest;
+import de.captaingoldfish.scim.sdk.common.constants.enums.SortOrder;
+import de.captaingoldfish.scim.sdk.common.exceptions.ResourceNotFoundException;
+import de.captaingoldfish.scim.sdk.common.resources.complex.Meta;
+import de.captaingoldfish.scim.sdk.common.schemas.SchemaAttribute;
+import de.captaingoldfish.scim.sdk.server.endpoints.Context;
+import de.captaingoldfish.scim.sdk.server.endpoints.ResourceHandler;
+import de.captaingoldfish.scim.sdk.server.endpoints.validation.RequestValidator;
+import de.captaingoldfish.scim.sdk.server.endpoints.validation.ValidationContext;
+import de.captaingoldfish.scim.sdk.server.filter.FilterNode;
+import de.captaingoldfish.scim.sdk.server.response.PartialListResponse;
+
+
+/**
+ * runs load tests against stored http requests. A load test is started in the background and its result can
+ * be polled by the id that is returned on creation
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class LoadTestHandler extends ResourceHandler<ScimLoadTest>
+{
+
+  /**
+   * the status of a load test that is still sending requests
+   */
+  static final String STATUS_RUNNING = "RUNNING";
+
+  /**
+   * the status of a load test that has sent all of its requests
+   */
+  static final String STATUS_FINISHED = "FINISHED";
+
+  /**
+   * the maximum number of load tests whose results are kept
+   */
+  private static final int MAX_LOAD_TESTS = 100;
+
+  /**
+   * the time after the last access of a load test at which its result is discarded
+   */
+  private static final Duration RESULT_LIFETIME = Duration.ofHours(1);
+
+  /**
+   * used to load the request that should be replayed
+   */
+  private final HttpRequestsDao httpRequestsDao;
+
+  /**
+   * sends the requests of the load test
+   */
+  private final LoadGenerator loadGenerator;
+
+  /**
+   * the started load tests mapped by their ids
+   */
+  private final Cache<String, LoadGenerator.LoadTestRun> loadTests;
+
+  public LoadTestHandler(HttpRequestsDao httpRequestsDao, LoadGenerator loadGenerator)
+  {
+    this.httpRequestsDao = httpRequestsDao;
+    this.loadGenerator = loadGenerator;
+    this.loadTests = Caffeine.newBuilder().maximumSize(MAX_LOAD_TESTS).expireAfterAccess(RESULT_LIFETIME).build();
+  }
+
+  /**
+   * starts the load test in the background and returns its current state
+   */
+  @Override
+  public ScimLoadTest createResource(ScimLoadTest resource, Context context)
+  {
+    long httpRequestId = Utils.parseId(resource.getHttpRequestId());
+    HttpRequest httpRequest = httpRequestsDao.findById(httpRequestId).orElseThrow(() -> {
+      return new ResourceNotFoundException(String.format("HTTP request with id '%s' does not exist",
+                                                         resource.getHttpRequestId()));
+    });
+    LoadGenerator.LoadProfile loadProfile = new LoadGenerator.LoadProfile(resource.getTotalRequests().orElse(null),
+                                                                          resource.getDurationSeconds()
+                                                                                  .map(Duration::ofSeconds)
+                                                                                  .orElse(null),
+                                                                          resource.getConcurrency().orElse(1),
+                                                                          resource.getRequestsPerSecond().orElse(null));
+    String id = UUID.randomUUID().toString();
+    LoadGenerator.LoadTestRun loadTestRun = loadGenerator.start(httpRequest, loadProfile);
+    loadTests.put(id, loadTestRun);
+    return toScimLoadTest(id, resource.getHttpRequestId(), loadTestRun);
+  }
+
+  /**
+   * returns the intermediate or final result of a started load test
+   */
+  @Override
+  public ScimLoadTest getResource(String id,
+                                  List<SchemaAttribute> attributes,
+                                  List<SchemaAttribute> excludedAttributes,
+                                  Context context)
+  {
+    LoadGenerator.LoadTestRun loadTestRun = loadTests.getIfPresent(id);
+    if (loadTestRun == null)
+    {
+      throw new ResourceNotFoundException(String.format("Load test with id '%s' does not exist", id));
+    }
+    return toScimLoadTest(id, String.valueOf(loadTestRun.getHttpRequestId()), loadTestRun);
+  }
+
+  /**
+   * converts the current state of a load test into its SCIM representation
+   */
+  private ScimLoadTest toScimLoadTest(String id, String httpRequestId, LoadGenerator.LoadTestRun loadTestRun)
+  {
+    // the status must be read before the result so that a finished load test is never reported with an
+    // incomplete result
+    String status = loadTestRun.isFinished() ? STATUS_FINISHED : STATUS_RUNNING;
+    LoadGenerator.LoadTestResult result = loadTestRun.getResult();
+    LatencyHistogram histogram = result.latencyHistogram();
+    ScimLoadTest.Latency latency = ScimLoadTest.Latency.builder()
+                                                       .minMillis(toMillis(histogram.getMin()))
+                                                       .meanMillis(histogram.getMean() / 1000)
+                                                       .p50Millis(toMillis(histogram.getValueAtPercentile(50)))
+                                                       .p90Millis(toMillis(histogram.getValueAtPercentile(90)))
+                                                       .p99Millis(toMillis(histogram.getValueAtPercentile(99)))
+                                                       .p999Millis(toMillis(histogram.getValueAtPercentile(99.9)))
+                                                       .maxMillis(toMillis(histogram.getMax()))
+                                                       .build();
+    List<ScimLoadTest.StatusCodes> statusCodes = result.statusCodes().entrySet().stream().map(entry -> {
+      return new ScimLoadTest.StatusCodes(entry.getKey(), entry.getValue());
+    }).toList();
+    return ScimLoadTest.builder()
+                       .id(id)
+                       .httpRequestId(httpRequestId)
+                       .status(status)
+                       .sentRequests(result.sentRequests())
+                       .errorCount(result.errorCount())
+                       .durationMillis(result.duration().toMillis())
+                       .throughput(result.getThroughput())
+                       .latency(latency)
+                       .statusCodesList(statusCodes)
+                       .meta(Meta.builder().created(loadTestRun.getStarted()).lastModified(Instant.now()).build())
+                       .build();
+  }
+
+  /**
+   * the histogram records microseconds
+   */
+  private static double toMillis(long micros)
+  {
+    return micros / 1000d;
+  }
+
+  /**
+   * disabled endpoint
+   */
+  @Override
+  public PartialListResponse<ScimLoadTest> listResources(long startIndex,
+                                                         int count,
+                                                         FilterNode filter,
+                                                         SchemaAttribute sortBy,
+                                                         SortOrder sortOrder,
+                                                         List<SchemaAttribute> attributes,
+                                                         List<SchemaAttribute> excludedAttributes,
+                                                         Context context)
+  {
+    return null;
+  }
+
+  /**
+   * disabled endpoint
+   */
+  @Override
+  public ScimLoadTest updateResource(ScimLoadTest resource, Context context)
+  {
+    return null;
+  }
+
+  /**
+   * disabled endpoint
+   */
+  @Override
+  public void deleteResource(String id, Context context)
+  {}
+
+  @Override
+  public RequestValidator<ScimLoadTest> getRequestValidator()
+  {
+    return new RequestValidator<>()
+    {
+
+      @Override
+      public void validateCreate(ScimLoadTest resource, ValidationContext validationContext, Context requestContext)
+      {
+        Long totalRequests = resource.getTotalRequests().orElse(null);
+        Long durationSeconds = resource.getDurationSeconds().orElse(null);
+        if (totalRequests == null && durationSeconds == null)
+        {
+          validationContext.addError(String.format("At least one of '%s' and '%s' must be present",
+                                                   ScimLoadTest.FieldNames.TOTAL_REQUESTS,
+                                                   ScimLoadTest.FieldNames.DURATION_SECONDS));
+        }
+        if (totalRequests != null && (totalRequests < 1 || totalRequests > LoadGenerator.MAX_REQUESTS))
+        {
+          validationContext.addError(ScimLoadTest.FieldNames.TOTAL_REQUESTS,
+                                     String.format("Must be between 1 and %s but was '%s'",
+                                                   LoadGenerator.MAX_REQUESTS,
+                                                   totalRequests));
+        }
+        long maxDurationSeconds = LoadGenerator.MAX_DURATION.toSeconds();
+        if (durationSeconds != null && (durationSeconds < 1 || durationSeconds > maxDurationSeconds))
+        {
+          validationContext.addError(ScimLoadTest.FieldNames.DURATION_SECONDS,
+                                     String.format("Must be between 1 and %s but was '%s'",
+                                                   maxDurationSeconds,
+                                                   durationSeconds));
+        }
+        Integer concurrency = resource.getConcurrency().orElse(null);
+        if (concurrency != null && (concurrency < 1 || concurrency > LoadGenerator.MAX_CONCURRENCY))
+        {
+          validationContext.addError(ScimLoadTest.FieldNames.CONCURRENCY,
+                                     String.format("Must be between 1 and %s but was '%s'",
+                                                   LoadGenerator.MAX_CONCURRENCY,
+                                                   concurrency));
+        }
+        Integer requestsPerSecond = resource.getRequestsPerSecond().orElse(null);
+        if (requestsPerSecond != null && requestsPerSecond < 1)
+        {
+          validationContext.addError(ScimLoadTest.FieldNames.REQUESTS_PER_SECOND,
+                                     String.format("Must be at least 1 but was '%s'", requestsPerSecond));
+        }
+      }
+
+      @Override
+      public void validateUpdate(Supplier<ScimLoadTest> oldResourceSupplier,
+                                 ScimLoadTest newResource,
+                                 ValidationContext validationContext,
+                                 Context requestContext)
+      {
+
+      }
+    };
+  }
+}
@@ -0,0 +1,102 @@
+package de.captaingoldfish.restclient.application.endpoints.metrics;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import de.captaingoldfish.restclient.database.config.CaffeineRegionFactory;
+import de.captaingoldfish.restclient.database.config.DatabasePoolMetrics;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * exposes the metrics of the database layer so that the state of the connection pool and of the second level
+ * cache can be checked without attaching a JMX client
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor
+@Controller
+@RequestMapping(DatabaseMetricsController.ENDPOINT)
+public class DatabaseMetricsController
+{
+
+  /**
+   * the base path of the database metrics
+   */
+  public static final String ENDPOINT = "/metrics/database";
+
+  private final DatabasePoolMetrics databasePoolMetrics;
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * @return the current metrics of the database connection pool and of the second level cache regions
+   */
+  @ResponseBody
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public Map<String, Object> getDatabaseMetrics()
+  {
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    metrics.put("pool", getPoolMetrics());
+    metrics.put("secondLevelCache", getSecondLevelCacheMetrics());
+    return metrics;
+  }
+
+  private Map<String, Object> getPoolMetrics()
+  {
+    Map<String, Object> poolMetrics = new LinkedHashMap<>();
+    poolMetrics.put("activeConnections", databasePoolMetrics.getActiveConnections());
+    poolMetrics.put("idleConnections", databasePoolMetrics.getIdleConnections());
+    poolMetrics.put("pendingThreads", databasePoolMetrics.getPendingThreads());
+    poolMetrics.put("totalConnections", databasePoolMetrics.getTotalConnections());
+    poolMetrics.put("maxConnections", databasePoolMetrics.getMaxConnections());
+    poolMetrics.put("acquireCount", databasePoolMetrics.getAcquireCount());
+    poolMetrics.put("averageAcquireTimeMillis", toMillis(databasePoolMetrics.getAverageAcquireTime()));
+    poolMetrics.put("maxAcquireTimeMillis", toMillis(databasePoolMetrics.getMaxAcquireTime()));
+    poolMetrics.put("timeoutCount", databasePoolMetrics.getTimeoutCount());
+    return poolMetrics;
+  }
+
+  /**
+   * @return the statistics of the second level cache mapped by the region names or an empty map if the cache is
+   *         disabled
+   */
+  private Map<String, Object> getSecondLevelCacheMetrics()
+  {
+    Map<String, Object> cacheMetrics = new TreeMap<>();
+    CaffeineRegionFactory.of(entityManagerFactory).ifPresent(regionFactory -> {
+      regionFactory.getCacheStatistics().forEach((regionName, cacheStats) -> {
+        cacheMetrics.put(regionName, getRegionMetrics(cacheStats));
+      });
+    });
+    return cacheMetrics;
+  }
+
+  private Map<String, Object> getRegionMetrics(CacheStats cacheStats)
+  {
+    Map<String, Object> regionMetrics = new LinkedHashMap<>();
+    regionMetrics.put("hitCount", cacheStats.hitCount());
+    regionMetrics.put("missCount", cacheStats.missCount());
+    regionMetrics.put("hitRate", cacheStats.hitRate());
+    regionMetrics.put("evictionCount", cacheStats.evictionCount());
+    return regionMetrics;
+  }
+
+  private static double toMillis(Duration duration)
+  {
+    return duration.toNanos() / 1_000_000d;
+  }
+}
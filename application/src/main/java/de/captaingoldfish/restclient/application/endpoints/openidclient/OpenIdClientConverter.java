@@ -3,6 +3,7 @@ package de.captaingoldfish.restclient.application.endpoints.openidclient;
 import java.util.List;
 import java.util.Optional;
 
+import de.captaingoldfish.restclient.application.endpoints.filtering.AttributeProjection;
 import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.database.entities.Keystore;
 import de.captaingoldfish.restclient.database.entities.OpenIdClient;
@@ -51,15 +52,30 @@ public final class OpenIdClientConverter
    */
   public static ScimOpenIdClient toScimOpenIdClient(OpenIdClient openIdClient)
   {
-    KeystoreDao keystoreDao = WebAppConfig.getApplicationContext().getBean(KeystoreDao.class);
-    Keystore applicationKeystore = keystoreDao.getKeystore();
-    List<String> appKeystoreAliases = applicationKeystore.getKeyStoreAliases();
-    String signingKeyReference = Optional.ofNullable(openIdClient.getSigningKeyRef())
-                                         .filter(appKeystoreAliases::contains)
-                                         .orElse(null);
-    String decryptionKeyReference = Optional.ofNullable(openIdClient.getDecryptionKeyRef())
-                                            .filter(appKeystoreAliases::contains)
-                                            .orElse(null);
+    return toScimOpenIdClient(openIdClient, AttributeProjection.all(ScimOpenIdClient.FieldNames.SCHEMA_ID));
+  }
+
+  /**
+   * converts a database representation of an OpenID Client to the SCIM representation. The application keystore
+   * is only read if one of the key references was requested
+   */
+  public static ScimOpenIdClient toScimOpenIdClient(OpenIdClient openIdClient, AttributeProjection projection)
+  {
+    String signingKeyReference = null;
+    String decryptionKeyReference = null;
+    if (projection.isRequested(ScimOpenIdClient.FieldNames.SIGNING_KEY_REF)
+        || projection.isRequested(ScimOpenIdClient.FieldNames.DECRYPTION_KEY_REF))
+    {
+      KeystoreDao keystoreDao = WebAppConfig.getApplicationContext().getBean(KeystoreDao.class);
+      Keystore applicationKeystore = keystoreDao.getKeystore();
+      List<String> appKeystoreAliases = applicationKeystore.getKeyStoreAliases();
+      signingKeyReference = Optional.ofNullable(openIdClient.getSigningKeyRef())
+                                    .filter(appKeystoreAliases::contains)
+                                    .orElse(null);
+      decryptionKeyReference = Optional.ofNullable(openIdClient.getDecryptionKeyRef())
+                                       .filter(appKeystoreAliases::contains)
+                                       .orElse(null);
+    }
 
     return ScimOpenIdClient.builder()
                            .id(String.valueOf(openIdClient.getId()))
@@ -2,9 +2,11 @@ package de.captaingoldfish.restclient.application.endpoints.openidclient;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
+import de.captaingoldfish.restclient.application.endpoints.filtering.AttributeProjection;
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
 import de.captaingoldfish.restclient.application.endpoints.httpclient.HttpClientSettingsConverter;
 import de.captaingoldfish.restclient.application.endpoints.openidclient.validation.OpenIdClientRequestValidator;
 import de.captaingoldfish.restclient.application.endpoints.workflowsettings.CurrentWorkflowSettingsConverter;
@@ -38,6 +40,18 @@ import lombok.RequiredArgsConstructor;
 public class OpenIdClientHandler extends ResourceHandler<ScimOpenIdClient>
 {
 
+  /**
+   * the attributes that can be used within filter and sortBy expressions mapped to the OpenIdClient entity
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimOpenIdClient.FieldNames.CLIENT_ID,
+                                                                      "clientId",
+                                                                      ScimOpenIdClient.FieldNames.OPEN_ID_PROVIDER_ID,
+                                                                      "openIdProvider.id",
+                                                                      ScimOpenIdClient.FieldNames.AUTHENTICATION_TYPE,
+                                                                      "authenticationType",
+                                                                      ScimOpenIdClient.FieldNames.AUDIENCE,
+                                                                      "audience");
+
   /**
    * to peform CRUD operations on OpenID Clients
    */
@@ -67,11 +81,20 @@ public class OpenIdClientHandler extends ResourceHandler<ScimOpenIdClient>
     OpenIdClient openIdClient = openIdClientDao.findById(openIdClientId).orElseThrow(() -> {
       return new ResourceNotFoundException(String.format("OpenID Client with id '%s' does not exist", id));
     });
-    ScimOpenIdClient scimOpenIdClient = OpenIdClientConverter.toScimOpenIdClient(openIdClient);
-    ScimHttpClientSettings httpClientSettings = getHttpClientSettings(openIdClient);
-    scimOpenIdClient.setHttpClientSettings(httpClientSettings);
-    ScimCurrentWorkflowSettings currentWorkflowSettings = getCurrentWorkflowSettings(openIdClient);
-    scimOpenIdClient.setCurrentWorkflowSettings(currentWorkflowSettings);
+    AttributeProjection projection = AttributeProjection.of(ScimOpenIdClient.FieldNames.SCHEMA_ID,
+                                                            attributes,
+                                                            excludedAttributes);
+    ScimOpenIdClient scimOpenIdClient = OpenIdClientConverter.toScimOpenIdClient(openIdClient, projection);
+    if (projection.isRequested(ScimHttpClientSettings.FieldNames.SCHEMA_ID))
+    {
+      ScimHttpClientSettings httpClientSettings = getHttpClientSettings(openIdClient);
+      scimOpenIdClient.setHttpClientSettings(httpClientSettings);
+    }
+    if (projection.isRequested(ScimCurrentWorkflowSettings.FieldNames.SCHEMA_ID))
+    {
+      ScimCurrentWorkflowSettings currentWorkflowSettings = getCurrentWorkflowSettings(openIdClient);
+      scimOpenIdClient.setCurrentWorkflowSettings(currentWorkflowSettings);
+    }
     return scimOpenIdClient;
   }
 
@@ -125,14 +148,13 @@ public class OpenIdClientHandler extends ResourceHandler<ScimOpenIdClient>
                                                              List<SchemaAttribute> excludedAttributes,
                                                              Context context)
   {
-    List<OpenIdClient> openIdClientList = openIdClientDao.findAll();
-    List<ScimOpenIdClient> scimOpenIdClientList = openIdClientList.stream()
-                                                                  .map(OpenIdClientConverter::toScimOpenIdClient)
-                                                                  .collect(Collectors.toList());
-    return PartialListResponse.<ScimOpenIdClient> builder()
-                              .totalResults(scimOpenIdClientList.size())
-                              .resources(scimOpenIdClientList)
-                              .build();
+    AttributeProjection projection = AttributeProjection.of(ScimOpenIdClient.FieldNames.SCHEMA_ID,
+                                                            attributes,
+                                                            excludedAttributes);
+    JpaFilterResolver<OpenIdClient> filterResolver = new JpaFilterResolver<>(OpenIdClient.class, FILTER_ATTRIBUTES);
+    return filterResolver.listResources(filter, startIndex, count, sortBy, sortOrder, openIdClient -> {
+      return OpenIdClientConverter.toScimOpenIdClient(openIdClient, projection);
+    });
   }
 
   /**
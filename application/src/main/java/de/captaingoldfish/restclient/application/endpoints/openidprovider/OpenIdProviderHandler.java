@@ -2,10 +2,12 @@ package de.captaingoldfish.restclient.application.endpoints.openidprovider;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.springframework.cache.CacheManager;
 
+import de.captaingoldfish.restclient.application.crypto.JwksCache;
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
 import de.captaingoldfish.restclient.application.endpoints.openidprovider.validation.OpenIdProviderRequestValidator;
 import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.application.utils.Utils;
@@ -31,6 +33,18 @@ import lombok.RequiredArgsConstructor;
 public class OpenIdProviderHandler extends ResourceHandler<ScimOpenIdProvider>
 {
 
+  /**
+   * the attributes that can be used within filter and sortBy expressions mapped to the OpenIdProvider entity
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimOpenIdProvider.FieldNames.NAME,
+                                                                      "name",
+                                                                      ScimOpenIdProvider.FieldNames.DISCOVERY_ENDPOINT,
+                                                                      "discoveryEndpoint",
+                                                                      ScimOpenIdProvider.FieldNames.AUTHORIZATION_ENDPOINT,
+                                                                      "authorizationEndpoint",
+                                                                      ScimOpenIdProvider.FieldNames.TOKEN_ENDPOINT,
+                                                                      "tokenEndpoint");
+
   /**
    * to execute CRUD operations on the {@link OpenIdProvider}
    */
@@ -77,14 +91,13 @@ public class OpenIdProviderHandler extends ResourceHandler<ScimOpenIdProvider>
                                                                List<SchemaAttribute> excludedAttributes,
                                                                Context context)
   {
-    List<OpenIdProvider> openIdProviderList = openIdProviderDao.findAll();
-    List<ScimOpenIdProvider> scimOpenIdProviderList = openIdProviderList.stream()
-                                                                        .map(OpenIdProviderConverter::toScimOpenIdProvider)
-                                                                        .collect(Collectors.toList());
-    return PartialListResponse.<ScimOpenIdProvider> builder()
-                              .resources(scimOpenIdProviderList)
-                              .totalResults(openIdProviderList.size())
-                              .build();
+    JpaFilterResolver<OpenIdProvider> filterResolver = new JpaFilterResolver<>(OpenIdProvider.class, FILTER_ATTRIBUTES);
+    return filterResolver.listResources(filter,
+                                        startIndex,
+                                        count,
+                                        sortBy,
+                                        sortOrder,
+                                        OpenIdProviderConverter::toScimOpenIdProvider);
   }
 
   /**
@@ -107,6 +120,7 @@ public class OpenIdProviderHandler extends ResourceHandler<ScimOpenIdProvider>
       // if such a provider is updated we need to remove the cache-entries
       CacheManager cacheManager = WebAppConfig.getApplicationContext().getBean(CacheManager.class);
       cacheManager.getCacheNames().parallelStream().forEach(name -> cacheManager.getCache(name).clear());
+      WebAppConfig.getApplicationContext().getBean(JwksCache.class).invalidate(dbId);
     }
 
     return OpenIdProviderConverter.toScimOpenIdProvider(openIdProvider);
@@ -123,6 +137,7 @@ public class OpenIdProviderHandler extends ResourceHandler<ScimOpenIdProvider>
       return new ResourceNotFoundException(String.format("Resource with ID '%s' does not exist", dbId));
     });
     openIdProviderDao.deleteById(dbId);
+    WebAppConfig.getApplicationContext().getBean(JwksCache.class).invalidate(dbId);
   }
 
   /**
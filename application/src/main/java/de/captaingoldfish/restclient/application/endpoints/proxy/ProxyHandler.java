@@ -2,8 +2,9 @@ package de.captaingoldfish.restclient.application.endpoints.proxy;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
 import de.captaingoldfish.restclient.application.utils.Utils;
 import de.captaingoldfish.restclient.database.entities.Proxy;
 import de.captaingoldfish.restclient.database.repositories.ProxyDao;
@@ -26,6 +27,16 @@ import lombok.RequiredArgsConstructor;
 public class ProxyHandler extends ResourceHandler<ScimProxy>
 {
 
+  /**
+   * the attributes that can be used within filter and sortBy expressions mapped to the Proxy entity
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimProxy.FieldNames.HOSTNAME,
+                                                                      "host",
+                                                                      ScimProxy.FieldNames.PORT,
+                                                                      "port",
+                                                                      ScimProxy.FieldNames.USERNAME,
+                                                                      "username");
+
   /**
    * for CRUD operations on the proxy settings within the database
    */
@@ -71,12 +82,8 @@ public class ProxyHandler extends ResourceHandler<ScimProxy>
                                                       List<SchemaAttribute> excludedAttributes,
                                                       Context context)
   {
-    List<Proxy> proxyList = proxyDao.findAll();
-    List<ScimProxy> scimProxyList = proxyList.stream().map(ProxyConverter::toScimProxy).collect(Collectors.toList());
-    return PartialListResponse.<ScimProxy> builder()
-                              .totalResults(scimProxyList.size())
-                              .resources(scimProxyList)
-                              .build();
+    JpaFilterResolver<Proxy> filterResolver = new JpaFilterResolver<>(Proxy.class, FILTER_ATTRIBUTES);
+    return filterResolver.listResources(filter, startIndex, count, sortBy, sortOrder, ProxyConverter::toScimProxy);
   }
 
   /**
@@ -2,8 +2,9 @@ package de.captaingoldfish.restclient.application.endpoints.tokencategory;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
 import de.captaingoldfish.restclient.application.endpoints.tokencategory.validation.TokenCategoryValidator;
 import de.captaingoldfish.restclient.application.utils.Utils;
 import de.captaingoldfish.restclient.database.entities.TokenCategory;
@@ -31,6 +32,11 @@ import lombok.RequiredArgsConstructor;
 public class TokenCategoryHandler extends ResourceHandler<ScimTokenCategory>
 {
 
+  /**
+   * the attributes that can be used within filter and sortBy expressions mapped to the TokenCategory entity
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimTokenCategory.FieldNames.NAME, "name");
+
   private final TokenCategoryDao tokenCategoryDao;
 
   @Override
@@ -61,14 +67,13 @@ public class TokenCategoryHandler extends ResourceHandler<ScimTokenCategory>
                                                               List<SchemaAttribute> excludedAttributes,
                                                               Context context)
   {
-    List<ScimTokenCategory> tokenCategoryList = tokenCategoryDao.findAll()
-                                                                .stream()
-                                                                .map(TokenCategoryConverter::toScimTokenCategory)
-                                                                .collect(Collectors.toList());
-    return PartialListResponse.<ScimTokenCategory> builder()
-                              .totalResults(tokenCategoryList.size())
-                              .resources(tokenCategoryList)
-                              .build();
+    JpaFilterResolver<TokenCategory> filterResolver = new JpaFilterResolver<>(TokenCategory.class, FILTER_ATTRIBUTES);
+    return filterResolver.listResources(filter,
+                                        startIndex,
+                                        count,
+                                        sortBy,
+                                        sortOrder,
+                                        TokenCategoryConverter::toScimTokenCategory);
   }
 
   @Override
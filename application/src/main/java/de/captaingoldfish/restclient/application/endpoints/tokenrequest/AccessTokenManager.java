@@ -0,0 +1,380 @@
+package de.captaingoldfish.restclient.application.endpoints.tokenrequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import de.captaingoldfish.restclient.application.endpoints.tokenrequest.request.AccessTokenExchange;
+import de.captaingoldfish.restclient.application.utils.HttpResponseDetails;
+import de.captaingoldfish.restclient.application.utils.OAuthConstants;
+import de.captaingoldfish.restclient.application.utils.SingleFlightLoader;
+import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest;
+import de.captaingoldfish.restclient.scim.resources.ScimCurrentWorkflowSettings;
+import de.captaingoldfish.scim.sdk.common.utils.JsonHelper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * caches the responses of client-credentials access token requests until shortly before the AccessToken
+ * expires. Concurrent requests for the same token are sent only once to the token endpoint and tokens that
+ * are still in use are refreshed in the background before they expire so that callers do not have to wait for
+ * the identity provider. A refresh builds a new request from the current state of the client so that
+ * short-living client assertions are not replayed. The cache is bypassed if the request explicitly demands a
+ * fresh token e.g. if the token workflow is debugged in the frontend.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+public class AccessTokenManager implements DisposableBean
+{
+
+  /**
+   * a token is refreshed at least this time before it expires
+   */
+  static final Duration MIN_REFRESH_MARGIN = Duration.ofSeconds(30);
+
+  /**
+   * a cached token is only handed out if it is valid for at least this time
+   */
+  static final Duration MIN_REMAINING_LIFETIME = Duration.ofSeconds(10);
+
+  /**
+   * the cached token responses
+   */
+  private final ConcurrentMap<TokenCacheKey, CachedAccessToken> accessTokens = new ConcurrentHashMap<>();
+
+  /**
+   * makes sure that only a single request for the same token is sent at the same time
+   */
+  private final SingleFlightLoader<TokenCacheKey, AccessTokenExchange> tokenLoader = new SingleFlightLoader<>();
+
+  /**
+   * triggers the refreshes of the cached tokens
+   */
+  private final ScheduledExecutorService refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "access-token-refresh-scheduler");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * executes the refreshes of the cached tokens
+   */
+  private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * gets the AccessToken for the given request from the cache or requests it from the token endpoint if the
+   * token is not cacheable or not cached yet
+   *
+   * @param accessTokenRequest the request of the client
+   * @param clientLastModified the last modification of the client. Tokens are not shared between different
+   *          versions of the same client
+   * @param tokenRequest sends the request to the token endpoint
+   * @param refreshRequest builds a new request from the current state of the client and sends it to the token
+   *          endpoint. This operation is used to refresh the token in the background
+   * @return the sent request and the response of the token endpoint
+   */
+  public AccessTokenExchange getAccessToken(ScimAccessTokenRequest accessTokenRequest,
+                                            Instant clientLastModified,
+                                            Supplier<AccessTokenExchange> tokenRequest,
+                                            Supplier<AccessTokenExchange> refreshRequest)
+  {
+    Optional<TokenCacheKey> cacheKey = TokenCacheKey.of(accessTokenRequest, clientLastModified);
+    if (cacheKey.isEmpty())
+    {
+      return tokenRequest.get();
+    }
+    TokenCacheKey tokenCacheKey = cacheKey.get();
+    CachedAccessToken cachedToken = getUsableToken(tokenCacheKey);
+    if (cachedToken != null)
+    {
+      cachedToken.markUsed();
+      return cachedToken.getExchange();
+    }
+    return tokenLoader.load(tokenCacheKey, () -> {
+      // another thread might have received the token in the meantime
+      CachedAccessToken loadedToken = getUsableToken(tokenCacheKey);
+      if (loadedToken != null)
+      {
+        loadedToken.markUsed();
+        return loadedToken.getExchange();
+      }
+      AccessTokenExchange exchange = tokenRequest.get();
+      Optional<CachedAccessToken> newToken = toCachedToken(exchange, refreshRequest, Instant.now());
+      if (newToken.isPresent())
+      {
+        accessTokens.put(tokenCacheKey, newToken.get());
+        scheduleRefresh(tokenCacheKey, newToken.get());
+      }
+      else
+      {
+        accessTokens.remove(tokenCacheKey);
+      }
+      return exchange;
+    });
+  }
+
+  /**
+   * @return the number of currently cached tokens
+   */
+  public int getCachedTokenCount()
+  {
+    return accessTokens.size();
+  }
+
+  /**
+   * gets the cached token if it is still valid long enough to be used by the caller
+   */
+  private CachedAccessToken getUsableToken(TokenCacheKey tokenCacheKey)
+  {
+    CachedAccessToken cachedToken = accessTokens.get(tokenCacheKey);
+    if (cachedToken == null)
+    {
+      return null;
+    }
+    if (Instant.now().plus(MIN_REMAINING_LIFETIME).isBefore(cachedToken.getExpiresAt()))
+    {
+      return cachedToken;
+    }
+    accessTokens.remove(tokenCacheKey, cachedToken);
+    return null;
+  }
+
+  /**
+   * schedules the refresh of the given token
+   */
+  private void scheduleRefresh(TokenCacheKey tokenCacheKey, CachedAccessToken cachedToken)
+  {
+    long delay = Math.max(0, Duration.between(Instant.now(), cachedToken.getRefreshAt()).toMillis());
+    try
+    {
+      refreshScheduler.schedule(() -> refreshExecutor.execute(() -> refresh(tokenCacheKey, cachedToken)),
+                                delay,
+                                TimeUnit.MILLISECONDS);
+    }
+    catch (RejectedExecutionException ex)
+    {
+      log.debug("Refresh of access token was rejected: {}", ex.getMessage());
+    }
+  }
+
+  /**
+   * refreshes the given token if it is still cached and was used since it was received. Tokens that are no
+   * longer used are removed from the cache instead. If the refresh fails the current token is kept until it
+   * expires
+   */
+  private void refresh(TokenCacheKey tokenCacheKey, CachedAccessToken cachedToken)
+  {
+    if (accessTokens.get(tokenCacheKey) != cachedToken)
+    {
+      // the token was replaced or removed in the meantime
+      return;
+    }
+    if (!cachedToken.isUsed())
+    {
+      log.debug("Removing unused access token of client '{}' from cache", tokenCacheKey.openIdClientId());
+      accessTokens.remove(tokenCacheKey, cachedToken);
+      return;
+    }
+    try
+    {
+      tokenLoader.load(tokenCacheKey, () -> {
+        AccessTokenExchange exchange = cachedToken.getRefreshRequest().get();
+        Optional<CachedAccessToken> newToken = toCachedToken(exchange, cachedToken.getRefreshRequest(), Instant.now());
+        if (newToken.isEmpty())
+        {
+          log.warn("Failed to refresh access token of client '{}'. Keeping the current token: {}",
+                   tokenCacheKey.openIdClientId(),
+                   exchange.getResponse().getBody());
+          return exchange;
+        }
+        if (accessTokens.replace(tokenCacheKey, cachedToken, newToken.get()))
+        {
+          scheduleRefresh(tokenCacheKey, newToken.get());
+        }
+        return exchange;
+      });
+    }
+    catch (Exception ex)
+    {
+      log.warn("Failed to refresh access token of client '{}'. Keeping the current token: {}",
+               tokenCacheKey.openIdClientId(),
+               ex.getMessage());
+      log.debug(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * creates a cache entry for the given token response if the response contains an AccessToken whose lifetime
+   * is long enough to be cached
+   */
+  private static Optional<CachedAccessToken> toCachedToken(AccessTokenExchange exchange,
+                                                           Supplier<AccessTokenExchange> refreshRequest,
+                                                           Instant receivedAt)
+  {
+    return getTokenLifetime(exchange.getResponse()).flatMap(lifetime -> {
+      Instant refreshAt = getRefreshTime(receivedAt, lifetime);
+      if (!refreshAt.isAfter(receivedAt))
+      {
+        return Optional.empty();
+      }
+      return Optional.of(new CachedAccessToken(exchange, refreshRequest, receivedAt.plus(lifetime), refreshAt));
+    });
+  }
+
+  /**
+   * reads the lifetime of the AccessToken from the {@code expires_in} parameter of a successful token response
+   *
+   * @param response the response of the token endpoint
+   * @return the lifetime of the AccessToken or an empty if the response does not contain a lifetime
+   */
+  static Optional<Duration> getTokenLifetime(HttpResponseDetails response)
+  {
+    if (response.getStatusCode() != HttpStatus.SC_OK || !JsonHelper.isValidJson(response.getBody()))
+    {
+      return Optional.empty();
+    }
+    ObjectNode tokenResponse = JsonHelper.readJsonDocument(response.getBody(), ObjectNode.class);
+    if (tokenResponse.get(OAuthConstants.ACCESS_TOKEN) == null)
+    {
+      return Optional.empty();
+    }
+    long expiresIn = Optional.ofNullable(tokenResponse.get(OAuthConstants.EXPIRES_IN)).map(JsonNode::asLong).orElse(0L);
+    return expiresIn > 0 ? Optional.of(Duration.ofSeconds(expiresIn)) : Optional.empty();
+  }
+
+  /**
+   * calculates the moment a token should be refreshed. A token is refreshed when a fifth of its lifetime is
+   * left but at least {@link #MIN_REFRESH_MARGIN} before it expires
+   *
+   * @param receivedAt the moment the token was received
+   * @param lifetime the lifetime of the token
+   * @return the moment the token should be refreshed
+   */
+  static Instant getRefreshTime(Instant receivedAt, Duration lifetime)
+  {
+    Duration refreshMargin = lifetime.dividedBy(5);
+    if (refreshMargin.compareTo(MIN_REFRESH_MARGIN) < 0)
+    {
+      refreshMargin = MIN_REFRESH_MARGIN;
+    }
+    return receivedAt.plus(lifetime).minus(refreshMargin);
+  }
+
+  /**
+   * stops all scheduled refreshes
+   */
+  @Override
+  public void destroy()
+  {
+    refreshScheduler.shutdownNow();
+    refreshExecutor.shutdownNow();
+  }
+
+  /**
+   * identifies the tokens that can be used interchangeably
+   *
+   * @param openIdClientId the id of the client that requested the token
+   * @param clientLastModified the last modification of the client that requested the token
+   * @param grantType the grant type that was used to request the token
+   * @param scope the requested scope
+   * @param dpopKey the key and algorithm the token is bound to if DPoP is used
+   */
+  record TokenCacheKey(Long openIdClientId,
+                       Instant clientLastModified,
+                       String grantType,
+                       String scope,
+                       String dpopKey)
+  {
+
+    /**
+     * creates the cache key of the given request
+     *
+     * @return the cache key or an empty if the token of the request must not be cached
+     */
+    static Optional<TokenCacheKey> of(ScimAccessTokenRequest accessTokenRequest, Instant clientLastModified)
+    {
+      if (accessTokenRequest.isBypassTokenCache()
+          || !OAuthConstants.CLIENT_CREDENTIALS_GRANT_TYPE.equals(accessTokenRequest.getGrantType()))
+      {
+        return Optional.empty();
+      }
+      String dpopKey = accessTokenRequest.getCurrentWorkflowSettings()
+                                         .flatMap(ScimCurrentWorkflowSettings::getDpop)
+                                         .filter(ScimCurrentWorkflowSettings.Dpop::isUseDpop)
+                                         .map(dpop -> dpop.getKeyId().orElse(null) + ":"
+                                                      + dpop.getSignatureAlgorithm().orElse(null))
+                                         .orElse(null);
+      String scope = StringUtils.stripToNull(accessTokenRequest.getScope().orElse(null));
+      return Optional.of(new TokenCacheKey(accessTokenRequest.getOpenIdClientId(), clientLastModified,
+                                           accessTokenRequest.getGrantType(), scope, dpopKey));
+    }
+  }
+
+  /**
+   * a cached token response
+   */
+  @Getter
+  @RequiredArgsConstructor
+  private static class CachedAccessToken
+  {
+
+    /**
+     * the request and the response of the token endpoint
+     */
+    private final AccessTokenExchange exchange;
+
+    /**
+     * builds and sends a new request to the token endpoint when the token is refreshed
+     */
+    private final Supplier<AccessTokenExchange> refreshRequest;
+
+    /**
+     * the moment the AccessToken expires
+     */
+    private final Instant expiresAt;
+
+    /**
+     * the moment the token should be refreshed
+     */
+    private final Instant refreshAt;
+
+    /**
+     * tells if the token was handed out from the cache since it was received
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean used = new AtomicBoolean(false);
+
+    public void markUsed()
+    {
+      used.set(true);
+    }
+
+    public boolean isUsed()
+    {
+      return used.get();
+    }
+  }
+}
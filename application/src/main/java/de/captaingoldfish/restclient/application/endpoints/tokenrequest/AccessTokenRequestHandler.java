@@ -4,8 +4,11 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import de.captaingoldfish.restclient.application.endpoints.httprequests.HttpRequestsConverter;
+import de.captaingoldfish.restclient.application.endpoints.tokenrequest.request.AccessTokenExchange;
 import de.captaingoldfish.restclient.application.endpoints.tokenrequest.request.AccessTokenRequestBuilder;
 import de.captaingoldfish.restclient.application.endpoints.tokenrequest.request.AccessTokenRequestBuilderFactory;
 import de.captaingoldfish.restclient.application.endpoints.tokenrequest.validation.AccessTokenRequestValidator;
@@ -14,6 +17,7 @@ import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest;
 import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest.HttpHeaders;
 import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest.RequestHeaders;
 import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest.RequestParams;
+import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest.TokenVerifications;
 import de.captaingoldfish.scim.sdk.common.constants.enums.SortOrder;
 import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
 import de.captaingoldfish.scim.sdk.common.resources.complex.Meta;
@@ -23,15 +27,21 @@ import de.captaingoldfish.scim.sdk.server.endpoints.ResourceHandler;
 import de.captaingoldfish.scim.sdk.server.endpoints.validation.RequestValidator;
 import de.captaingoldfish.scim.sdk.server.filter.FilterNode;
 import de.captaingoldfish.scim.sdk.server.response.PartialListResponse;
+import lombok.RequiredArgsConstructor;
 
 
 /**
  * @author Pascal Knueppel
  * @since 21.08.2021
  */
+@RequiredArgsConstructor
 public class AccessTokenRequestHandler extends ResourceHandler<ScimAccessTokenRequest>
 {
 
+  /**
+   * caches the tokens of client-credentials requests and refreshes them before they expire
+   */
+  private final AccessTokenManager accessTokenManager;
 
   /**
    * used to initiate an access token request, to gather all information about the request and response and to
@@ -44,15 +54,26 @@ public class AccessTokenRequestHandler extends ResourceHandler<ScimAccessTokenRe
     {
       AccessTokenRequestBuilder requestBuilder = AccessTokenRequestBuilderFactory.getBuilder(resource);
 
-      Map<String, String> requestHeaders = requestBuilder.getRequestHeaders();
-      Map<String, String> requestParameters = requestBuilder.getRequestParameters();
-
-      HttpResponseDetails accessTokenResponse = requestBuilder.sendAccessTokenRequest();
+      // a refresh must not replay this builder because client assertions must not be reused and the client might
+      // have been changed in the meantime
+      Supplier<AccessTokenExchange> refreshRequest = () -> {
+        return AccessTokenRequestBuilderFactory.getBuilder(resource).exchangeAccessToken();
+      };
+      Instant clientLastModified = requestBuilder.getOpenIdClient().getLastModified();
+      AccessTokenExchange accessTokenExchange = accessTokenManager.getAccessToken(resource,
+                                                                                  clientLastModified,
+                                                                                  requestBuilder::exchangeAccessToken,
+                                                                                  refreshRequest);
+      Map<String, String> requestHeaders = accessTokenExchange.getRequestHeaders();
+      Map<String, String> requestParameters = accessTokenExchange.getRequestParameters();
+      HttpResponseDetails accessTokenResponse = accessTokenExchange.getResponse();
 
       String metadata = requestBuilder.getMetaDataString();
 
       List<HttpHeaders> resourceEndpointHeaders = requestBuilder.getResourceEndpointHeaders(accessTokenResponse);
 
+      List<TokenVerifications> tokenVerifications = requestBuilder.getTokenVerifications(accessTokenResponse);
+
       return ScimAccessTokenRequest.builder()
                                    .id(UUID.randomUUID().toString())
                                    .requestHeadersList(requestHeaders.entrySet().stream().map(entry -> {
@@ -74,6 +95,8 @@ public class AccessTokenRequestHandler extends ResourceHandler<ScimAccessTokenRe
                                    .resourceEndpointHeaders(resourceEndpointHeaders)
                                    .plainResponse(accessTokenResponse.getBody())
                                    .metaDataJson(metadata)
+                                   .tokenVerificationsList(tokenVerifications)
+                                   .timings(HttpRequestsConverter.toScimHttpTimings(accessTokenResponse.getTimings()))
                                    .meta(Meta.builder().created(Instant.now()).build())
                                    .build();
     }
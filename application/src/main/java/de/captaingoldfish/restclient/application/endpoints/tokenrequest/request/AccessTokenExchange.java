@@ -0,0 +1,35 @@
+package de.captaingoldfish.restclient.application.endpoints.tokenrequest.request;
+
+import java.util.Map;
+
+import de.captaingoldfish.restclient.application.utils.HttpResponseDetails;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * a request that was sent to the token endpoint together with the response of the identity provider
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccessTokenExchange
+{
+
+  /**
+   * the request headers that were sent to the token endpoint
+   */
+  private final Map<String, String> requestHeaders;
+
+  /**
+   * the request parameters that were sent to the token endpoint
+   */
+  private final Map<String, String> requestParameters;
+
+  /**
+   * the response of the token endpoint
+   */
+  private final HttpResponseDetails response;
+}
@@ -1,28 +1,40 @@
 package de.captaingoldfish.restclient.application.endpoints.tokenrequest.request;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
 
 import de.captaingoldfish.restclient.application.crypto.DpopBuilder;
+import de.captaingoldfish.restclient.application.crypto.TokenVerifier;
+import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
+import de.captaingoldfish.restclient.application.utils.AsyncHttpExchange;
 import de.captaingoldfish.restclient.application.utils.HttpClientBuilder;
+import de.captaingoldfish.restclient.application.utils.HttpExchangeTimer;
 import de.captaingoldfish.restclient.application.utils.HttpResponseDetails;
 import de.captaingoldfish.restclient.application.utils.OAuthConstants;
 import de.captaingoldfish.restclient.application.utils.Utils;
+import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
 import de.captaingoldfish.restclient.database.entities.OpenIdClient;
+import de.captaingoldfish.restclient.database.entities.OpenIdProvider;
 import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest;
 import de.captaingoldfish.restclient.scim.resources.ScimCurrentWorkflowSettings;
 import de.captaingoldfish.scim.sdk.common.utils.JsonHelper;
@@ -40,6 +52,7 @@ public abstract class AccessTokenRequestBuilder
   /**
    * used to get the client parameters
    */
+  @Getter
   protected final OpenIdClient openIdClient;
 
   /**
@@ -92,6 +105,16 @@ public abstract class AccessTokenRequestBuilder
    */
   protected abstract void addRequestParameters(Map<String, String> requestParameters);
 
+  /**
+   * sends the request to the access token endpoint and returns the response together with a copy of the sent
+   * request headers and parameters. The copies are not affected by further requests of this builder
+   */
+  public AccessTokenExchange exchangeAccessToken()
+  {
+    HttpResponseDetails response = sendAccessTokenRequest();
+    return new AccessTokenExchange(new HashMap<>(getRequestHeaders()), new HashMap<>(getRequestParameters()), response);
+  }
+
   /**
    * sends the request to the access token endpoint and returns the response from the identity provider
    */
@@ -114,17 +137,30 @@ public abstract class AccessTokenRequestBuilder
               requestHeaders.put(OAuthConstants.DPOP_HEADER, dpopString);
             });
 
-    HttpPost httpPost = new HttpPost(tokenEndpoint);
-    requestHeaders.forEach(httpPost::setHeader);
     UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromHttpUrl("http://not-needed");
     requestParameters.forEach(uriComponentsBuilder::queryParam);
     final String requestQuery = uriComponentsBuilder.build().getQuery();
+
+    HttpClientSettings httpClientSettings = HttpClientBuilder.getHttpClientSettings(openIdClient);
+    if (httpClientSettings.getExecutionEngine() == HttpClientSettings.ExecutionEngine.ASYNC_HTTP2)
+    {
+      SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.post(tokenEndpoint);
+      requestHeaders.forEach(requestBuilder::setHeader);
+      requestBuilder.setBody(requestQuery, ContentType.APPLICATION_FORM_URLENCODED);
+      CloseableHttpAsyncClient asyncClient = HttpClientBuilder.getHttpAsyncClient(httpClientSettings);
+      AsyncHttpExchange.Result result = AsyncHttpExchange.await(AsyncHttpExchange.execute(asyncClient,
+                                                                                          requestBuilder.build()));
+      return new HttpResponseDetails(result.response(), result.timings());
+    }
+
+    HttpPost httpPost = new HttpPost(tokenEndpoint);
+    requestHeaders.forEach(httpPost::setHeader);
     httpPost.setEntity(new StringEntity(requestQuery));
 
-    try (CloseableHttpClient client = HttpClientBuilder.getHttpClient(openIdClient);
-      CloseableHttpResponse response = client.execute(httpPost))
+    CloseableHttpClient client = HttpClientBuilder.getHttpClient(httpClientSettings);
+    try (HttpExchangeTimer timer = HttpExchangeTimer.start(); CloseableHttpResponse response = client.execute(httpPost))
     {
-      return new HttpResponseDetails(response);
+      return new HttpResponseDetails(response, timer);
     }
   }
 
@@ -171,4 +207,59 @@ public abstract class AccessTokenRequestBuilder
     }
     return resourceEndpointHeaders;
   }
+
+  /**
+   * @return the nonce that must be contained within the id_token or null if no nonce was sent
+   */
+  protected String getExpectedNonce()
+  {
+    return null;
+  }
+
+  /**
+   * verifies the signed tokens of the accessToken response with the keys of the OpenID Provider. Opaque tokens
+   * are not verified
+   *
+   * @param accessTokenResponse the accessToken response of the token-endpoint of the authorization-server
+   * @return the verification results of the signed tokens within the response
+   */
+  public List<ScimAccessTokenRequest.TokenVerifications> getTokenVerifications(HttpResponseDetails accessTokenResponse)
+  {
+    List<ScimAccessTokenRequest.TokenVerifications> tokenVerifications = new ArrayList<>();
+    if (HttpStatus.SC_OK != accessTokenResponse.getStatusCode()
+        || !JsonHelper.isValidJson(accessTokenResponse.getBody()))
+    {
+      return tokenVerifications;
+    }
+    ObjectNode accessTokenResponseNode = JsonHelper.readJsonDocument(accessTokenResponse.getBody(), ObjectNode.class);
+    TokenVerifier tokenVerifier = WebAppConfig.getApplicationContext().getBean(TokenVerifier.class);
+    OpenIdProvider openIdProvider = openIdClient.getOpenIdProvider();
+    String issuer = null;
+    for ( String tokenName : List.of(OAuthConstants.ID_TOKEN, OAuthConstants.ACCESS_TOKEN) )
+    {
+      String token = Optional.ofNullable(accessTokenResponseNode.get(tokenName)).map(JsonNode::textValue).orElse(null);
+      if (!TokenVerifier.isSignedJwt(token))
+      {
+        continue;
+      }
+      if (issuer == null && StringUtils.isNotBlank(openIdProvider.getDiscoveryEndpoint()))
+      {
+        issuer = Utils.loadDiscoveryEndpointInfos(openIdProvider).getIssuer().getValue();
+      }
+      // the audience of an access token is the resource server so only the id_token is bound to this client
+      TokenVerifier.ExpectedClaims expectedClaims = new TokenVerifier.ExpectedClaims(issuer, null, null);
+      if (OAuthConstants.ID_TOKEN.equals(tokenName))
+      {
+        expectedClaims = new TokenVerifier.ExpectedClaims(issuer, openIdClient.getClientId(), getExpectedNonce());
+      }
+      TokenVerifier.TokenVerification verification = tokenVerifier.verify(openIdProvider,
+                                                                          tokenName,
+                                                                          token,
+                                                                          expectedClaims);
+      tokenVerifications.add(new ScimAccessTokenRequest.TokenVerifications(verification.tokenName(),
+                                                                           verification.valid(), verification.keyId(),
+                                                                           verification.message()));
+    }
+    return tokenVerifications;
+  }
 }
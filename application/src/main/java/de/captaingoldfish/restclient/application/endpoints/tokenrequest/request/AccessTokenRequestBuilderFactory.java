@@ -2,11 +2,11 @@ package de.captaingoldfish.restclient.application.endpoints.tokenrequest.request
 
 import de.captaingoldfish.restclient.application.crypto.DpopBuilder;
 import de.captaingoldfish.restclient.application.crypto.JwtHandler;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.application.endpoints.authcodegrant.PkceCodeVerifierCache;
 import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.application.utils.OAuthConstants;
 import de.captaingoldfish.restclient.database.entities.OpenIdClient;
-import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
 import de.captaingoldfish.restclient.database.repositories.OpenIdClientDao;
 import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest;
 import lombok.AccessLevel;
@@ -32,8 +32,9 @@ public class AccessTokenRequestBuilderFactory
     OpenIdClientDao openIdClientDao = WebAppConfig.getApplicationContext().getBean(OpenIdClientDao.class);
     PkceCodeVerifierCache pkceCodeVerifierCache = WebAppConfig.getApplicationContext()
                                                               .getBean(PkceCodeVerifierCache.class);
-    KeystoreDao keystoreDao = WebAppConfig.getApplicationContext().getBean(KeystoreDao.class);
-    DpopBuilder dpopBuilder = new DpopBuilder(new JwtHandler(keystoreDao));
+    KeystoreSnapshotService keystoreSnapshotService = WebAppConfig.getApplicationContext()
+                                                                  .getBean(KeystoreSnapshotService.class);
+    DpopBuilder dpopBuilder = new DpopBuilder(new JwtHandler(keystoreSnapshotService));
     OpenIdClient openIdClient = openIdClientDao.findById(accessTokenRequest.getOpenIdClientId()).orElseThrow();
     if (OAuthConstants.AUTH_CODE_GRANT_TYPE.equals(accessTokenRequest.getGrantType()))
     {
@@ -4,7 +4,9 @@ import java.util.Map;
 import java.util.Optional;
 
 import de.captaingoldfish.restclient.application.crypto.DpopBuilder;
+import de.captaingoldfish.restclient.application.endpoints.authcodegrant.AuthRequestNonceCache;
 import de.captaingoldfish.restclient.application.endpoints.authcodegrant.PkceCodeVerifierCache;
+import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.application.utils.OAuthConstants;
 import de.captaingoldfish.restclient.database.entities.OpenIdClient;
 import de.captaingoldfish.restclient.scim.resources.ScimCurrentWorkflowSettings;
@@ -91,4 +93,14 @@ public class AuthCodeTokenRequestBuilder extends AccessTokenRequestBuilder
     });
     Optional.ofNullable(redirectUri).ifPresent(uri -> requestParameters.put(OAuthConstants.REDIRECT_URI, uri));
   }
+
+  /**
+   * @return the nonce that was sent within the authorization request with the {@link #state} of this request
+   */
+  @Override
+  protected String getExpectedNonce()
+  {
+    AuthRequestNonceCache nonceCache = WebAppConfig.getApplicationContext().getBean(AuthRequestNonceCache.class);
+    return Optional.ofNullable(state).map(nonceCache::getNonce).orElse(null);
+  }
 }
@@ -14,12 +14,11 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
 
 import de.captaingoldfish.restclient.application.crypto.JwtHandler;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.application.utils.Utils;
-import de.captaingoldfish.restclient.database.entities.Keystore;
 import de.captaingoldfish.restclient.database.entities.KeystoreEntry;
 import de.captaingoldfish.restclient.database.entities.OpenIdClient;
-import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
 import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
 import lombok.RequiredArgsConstructor;
 
@@ -70,8 +69,9 @@ public class JwtAuthenticator implements Authenticator
     KeystoreEntry signatureKeyEntry = determineSignatureKey();
     String jwsHeader = generateClientAssertionHeader(signatureKeyEntry);
     String jwsBody = generateClientAssertionBody();
-    KeystoreDao keystoreDao = WebAppConfig.getApplicationContext().getBean(KeystoreDao.class);
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    KeystoreSnapshotService keystoreSnapshotService = WebAppConfig.getApplicationContext()
+                                                                  .getBean(KeystoreSnapshotService.class);
+    JwtHandler jwtHandler = new JwtHandler(keystoreSnapshotService);
     return jwtHandler.createJwt(openIdClient.getSigningKeyRef(), jwsHeader, jwsBody);
   }
 
@@ -80,10 +80,10 @@ public class JwtAuthenticator implements Authenticator
    */
   private KeystoreEntry determineSignatureKey()
   {
-    KeystoreDao keystoreDao = WebAppConfig.getApplicationContext().getBean(KeystoreDao.class);
+    KeystoreSnapshotService keystoreSnapshotService = WebAppConfig.getApplicationContext()
+                                                                  .getBean(KeystoreSnapshotService.class);
     String keyId = openIdClient.getSigningKeyRef();
-    Keystore applicationKeystore = keystoreDao.getKeystore();
-    return applicationKeystore.getKeystoreEntry(keyId);
+    return keystoreSnapshotService.getSnapshot().getKeyMaterial(keyId).getKeystoreEntry();
   }
 
   /**
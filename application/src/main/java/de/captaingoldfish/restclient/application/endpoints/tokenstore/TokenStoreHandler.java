@@ -2,10 +2,10 @@ package de.captaingoldfish.restclient.application.endpoints.tokenstore;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import de.captaingoldfish.restclient.application.endpoints.tokenstore.filtering.TokenStoreFilterResolver;
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
 import de.captaingoldfish.restclient.application.endpoints.tokenstore.validation.TokenStoreValidator;
 import de.captaingoldfish.restclient.application.utils.Utils;
 import de.captaingoldfish.restclient.database.entities.TokenStore;
@@ -33,6 +33,16 @@ import lombok.RequiredArgsConstructor;
 public class TokenStoreHandler extends ResourceHandler<ScimTokenStore>
 {
 
+  /**
+   * the attributes that can be used within filter and sortBy expressions mapped to the TokenStore entity
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimTokenStore.FieldNames.CATEGORY_ID,
+                                                                      "tokenCategory.id",
+                                                                      ScimTokenStore.FieldNames.NAME,
+                                                                      "name",
+                                                                      ScimTokenStore.FieldNames.TOKEN,
+                                                                      "token");
+
   /**
    * to perform CRUD operations on the tokenstore table
    */
@@ -75,14 +85,13 @@ public class TokenStoreHandler extends ResourceHandler<ScimTokenStore>
                                                            List<SchemaAttribute> excludedAttributes,
                                                            Context context)
   {
-    List<ScimTokenStore> tokenStoreList = new TokenStoreFilterResolver().resolveFilter(filter)
-                                                                        .stream()
-                                                                        .map(TokenStoreConverter::toScimTokenStore)
-                                                                        .collect(Collectors.toList());
-    return PartialListResponse.<ScimTokenStore> builder()
-                              .totalResults(tokenStoreList.size())
-                              .resources(tokenStoreList)
-                              .build();
+    JpaFilterResolver<TokenStore> filterResolver = new JpaFilterResolver<>(TokenStore.class, FILTER_ATTRIBUTES);
+    return filterResolver.listResources(filter,
+                                        startIndex,
+                                        count,
+                                        sortBy,
+                                        sortOrder,
+                                        TokenStoreConverter::toScimTokenStore);
   }
 
   /**
@@ -4,19 +4,26 @@ import java.io.ByteArrayOutputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
+import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
-import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import de.captaingoldfish.restclient.application.endpoints.truststore.validation.ScimTruststoreRequestValidator;
+import de.captaingoldfish.restclient.application.utils.SSLContextCache;
 import de.captaingoldfish.restclient.commons.keyhelper.KeyReader;
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
 import de.captaingoldfish.restclient.database.entities.Truststore;
+import de.captaingoldfish.restclient.database.entities.TruststoreCertificate;
 import de.captaingoldfish.restclient.database.repositories.TruststoreDao;
 import de.captaingoldfish.restclient.scim.resources.CertificateInfo;
 import de.captaingoldfish.restclient.scim.resources.ScimTruststore;
@@ -48,6 +55,11 @@ public class TruststoreHandler extends ResourceHandler<ScimTruststore>
 
   private final TruststoreDao truststoreDao;
 
+  /**
+   * the cached TLS contexts that must be discarded if the application truststore is modified
+   */
+  private final SSLContextCache sslContextCache;
+
   /**
    * merges all entries of a truststore into the application keystore or a single certificate entry
    */
@@ -68,8 +80,10 @@ public class TruststoreHandler extends ResourceHandler<ScimTruststore>
   }
 
   /**
-   * merges a truststore into the application truststore
+   * merges a truststore into the application truststore. Only the certificates that are not yet present are
+   * inserted
    */
+  @SneakyThrows
   private ScimTruststore handleTruststoreUpload(TruststoreUpload truststoreUpload)
   {
     Truststore truststore = truststoreDao.getTruststore();
@@ -79,54 +93,37 @@ public class TruststoreHandler extends ResourceHandler<ScimTruststore>
     final byte[] truststoreBytes = Base64.getDecoder().decode(truststoreUpload.getTruststoreFile());
     final String truststorePassword = truststoreUpload.getTruststorePassword().orElse(null);
     KeyStore keyStore = KeyStoreSupporter.readTruststore(truststoreBytes, type, truststorePassword);
-    KeyStore mergedKeystore = KeyStoreSupporter.mergeTruststores(truststore.getTruststore(),
-                                                                 truststore.getTruststorePassword(),
-                                                                 keyStore,
-                                                                 truststorePassword,
-                                                                 truststore.getTruststoreType(),
-                                                                 truststore.getTruststorePassword());
-    byte[] mergeKeystoreBytes = KeyStoreSupporter.getBytes(mergedKeystore, truststore.getTruststorePassword());
-    truststore.setTruststoreBytes(mergeKeystoreBytes);
-    truststore.setLastModified(Instant.now());
-    truststoreDao.save(truststore);
-    return getTruststoreUploadResponse(truststore.getTruststore(), keyStore);
-  }
 
-  /**
-   * retrieves the aliases from the uploaded keystore that have not been added to the application truststore
-   * because of a duplicate alias
-   */
-  @SneakyThrows
-  private ScimTruststore getTruststoreUploadResponse(KeyStore keystoreToMergeIn, KeyStore keystoreToMergeFrom)
-  {
-    List<String> addedAliases = new ArrayList<>();
+    KeyStore applicationTruststore = truststore.getTruststore();
+    Map<String, X509Certificate> addedCertificates = new LinkedHashMap<>();
+    Set<String> addedFingerprints = new HashSet<>();
+    // the aliases are stored in lowercase so aliases that differ in case only are duplicates
+    Set<String> addedAliases = new HashSet<>();
     List<String> duplicateAliases = new ArrayList<>();
     List<String> duplicateCertificateAliases = new ArrayList<>();
-    Enumeration<String> aliasesToMerge = KeyStoreSupporter.getAliases(keystoreToMergeFrom);
-
-    while (aliasesToMerge.hasMoreElements())
+    for ( CertificateEntry entry : getCertificateEntries(keyStore) )
     {
-      String aliasToMerge = aliasesToMerge.nextElement();
-      if (keystoreToMergeIn.containsAlias(aliasToMerge))
+      if (applicationTruststore.containsAlias(entry.alias())
+          || addedAliases.contains(entry.alias().toLowerCase(Locale.ENGLISH)))
       {
-        duplicateAliases.add(aliasToMerge);
+        duplicateAliases.add(entry.alias());
+      }
+      else if (truststore.getCertificateAlias(entry.sha256Fingerprint()).isPresent()
+               || !addedFingerprints.add(entry.sha256Fingerprint()))
+      {
+        duplicateCertificateAliases.add(entry.alias());
       }
       else
       {
-        X509Certificate certificate = (X509Certificate)keystoreToMergeFrom.getCertificate(aliasToMerge);
-        if (keystoreToMergeIn.getCertificateAlias(certificate) != null)
-        {
-          duplicateCertificateAliases.add(aliasToMerge);
-        }
-        else
-        {
-          addedAliases.add(aliasToMerge);
-        }
+        addedAliases.add(entry.alias().toLowerCase(Locale.ENGLISH));
+        addedCertificates.put(entry.alias(), entry.certificate());
       }
     }
+    truststoreDao.addCertificates(addedCertificates);
+    sslContextCache.invalidate();
 
     TruststoreUploadResponse uploadResponse = TruststoreUploadResponse.builder()
-                                                                      .aliasesList(addedAliases)
+                                                                      .aliasesList(new ArrayList<>(addedCertificates.keySet()))
                                                                       .duplicateAliasesList(duplicateAliases)
                                                                       .duplicateCertificateAliasesList(duplicateCertificateAliases)
                                                                       .build();
@@ -136,21 +133,37 @@ public class TruststoreHandler extends ResourceHandler<ScimTruststore>
                          .build();
   }
 
+  /**
+   * reads the certificate entries of the uploaded truststore and calculates their fingerprints in parallel.
+   * Entries without a certificate are skipped and the order of the truststore aliases is preserved
+   */
+  private List<CertificateEntry> getCertificateEntries(KeyStore keyStore)
+  {
+    return Collections.list(KeyStoreSupporter.getAliases(keyStore)).parallelStream().map(alias -> {
+      return KeyStoreSupporter.getCertificate(keyStore, alias).map(certificate -> {
+        return new CertificateEntry(alias, (X509Certificate)certificate,
+                                    TruststoreCertificate.getSha256Fingerprint(getEncoded(certificate)));
+      });
+    }).flatMap(Optional::stream).toList();
+  }
+
+  @SneakyThrows
+  private static byte[] getEncoded(Certificate certificate)
+  {
+    return certificate.getEncoded();
+  }
+
   /**
    * merges a single certificate into the application truststore
    */
   @SneakyThrows
   private ScimTruststore handleCertificateUpload(CertificateUpload certificateUpload)
   {
-    Truststore truststore = truststoreDao.getTruststore();
     final byte[] certFile = Base64.getDecoder().decode(certificateUpload.getCertificateFile());
     X509Certificate certificate = KeyReader.readX509Certificate(certFile);
     final String alias = certificateUpload.getAlias();
-    KeyStoreSupporter.addCertificateEntry(truststore.getTruststore(), alias, certificate);
-    byte[] truststoreBytes = KeyStoreSupporter.getBytes(truststore.getTruststore(), truststore.getTruststorePassword());
-    truststore.setTruststoreBytes(truststoreBytes);
-    truststore.setLastModified(Instant.now());
-    truststoreDao.save(truststore);
+    truststoreDao.addCertificates(Map.of(alias, certificate));
+    sslContextCache.invalidate();
     CertificateUploadResponse uploadResponse = new CertificateUploadResponse(alias);
     return ScimTruststore.builder()
                          .certificateUploadResponse(uploadResponse)
@@ -269,11 +282,8 @@ public class TruststoreHandler extends ResourceHandler<ScimTruststore>
       log.trace(ex.getMessage(), ex);
       alias = id;
     }
-    Truststore truststore = truststoreDao.getTruststore();
-    truststore.getTruststore().deleteEntry(alias);
-    byte[] truststoreBytes = KeyStoreSupporter.getBytes(truststore.getTruststore(), truststore.getTruststorePassword());
-    truststore.setTruststoreBytes(truststoreBytes);
-    truststoreDao.save(truststore);
+    truststoreDao.deleteCertificate(alias);
+    sslContextCache.invalidate();
   }
 
   @Override
@@ -281,4 +291,10 @@ public class TruststoreHandler extends ResourceHandler<ScimTruststore>
   {
     return new ScimTruststoreRequestValidator();
   }
+
+  /**
+   * a certificate entry of an uploaded truststore together with its SHA-256 fingerprint
+   */
+  private record CertificateEntry(String alias, X509Certificate certificate, String sha256Fingerprint)
+  {}
 }
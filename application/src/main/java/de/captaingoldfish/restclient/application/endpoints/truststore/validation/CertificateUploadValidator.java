@@ -91,19 +91,22 @@ public final class CertificateUploadValidator
       return;
     }
 
-    String existingCertEntryAlias = truststore.getTruststore().getCertificateAlias(certificate);
-    if (existingCertEntryAlias != null)
+    Optional<String> existingCertEntryAlias = truststore.getCertificateAlias(certificate);
+    if (existingCertEntryAlias.isPresent())
     {
       String errormessage = String.format("Cannot add certificate for certificate is already present under alias '%s'",
-                                          existingCertEntryAlias);
+                                          existingCertEntryAlias.get());
       log.debug(errormessage);
       validationContext.addError("certificateUpload.certificateFile", errormessage);
     }
 
-    // check if certificate is a valid entry for truststore by adding it and trying to read it
+    // check if certificate is a valid entry for truststore by adding it to an empty truststore of the same type
+    // and trying to read it. The application truststore itself must not be modified here
     try
     {
-      KeyStore keyStore = KeyStoreSupporter.addCertificateEntry(truststore.getTruststore(),
+      KeyStore emptyTruststore = KeyStoreSupporter.createEmptyKeyStore(truststore.getTruststoreType(),
+                                                                       truststore.getTruststorePassword());
+      KeyStore keyStore = KeyStoreSupporter.addCertificateEntry(emptyTruststore,
                                                                 certificateUpload.getAlias(),
                                                                 certificate);
       keyStore.getCertificate(certificateUpload.getAlias());
@@ -50,6 +50,16 @@ public class CacheConfiguration
    */
   public static final String PKCE_CODE_VERIFIER_CACHE = "pkce-code-verifier-cache";
 
+  /**
+   * the name of the cache that contains the nonces of the authorization requests
+   */
+  public static final String AUTH_REQUEST_NONCE_CACHE = "auth-request-nonce-cache";
+
+  /**
+   * the maximum number of providers whose metadata is cached
+   */
+  private static final int MAX_CACHED_PROVIDER_METADATA = 1000;
+
   /**
    * creates a cache with a short lifetime
    */
@@ -67,6 +77,9 @@ public class CacheConfiguration
   {
     CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
     caffeineCacheManager.setCaffeine(caffeine);
+    // the metadata is revalidated by the OpenIdProviderMetadataRefresher so it must not expire
+    caffeineCacheManager.registerCustomCache(OIDC_PROVIDER_METADATA_CACHE,
+                                             Caffeine.newBuilder().maximumSize(MAX_CACHED_PROVIDER_METADATA).build());
     return caffeineCacheManager;
   }
 }
@@ -6,27 +6,33 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import de.captaingoldfish.restclient.application.crypto.JwtHandler;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.application.endpoints.appinfo.AppInfoHandler;
 import de.captaingoldfish.restclient.application.endpoints.authcodegrant.AuthCodeGrantRequestHandler;
 import de.captaingoldfish.restclient.application.endpoints.authcodegrant.AuthCodeGrantRequestService;
 import de.captaingoldfish.restclient.application.endpoints.httpclient.HttpClientSettingsHandler;
 import de.captaingoldfish.restclient.application.endpoints.httprequests.HttpRequestExecutor;
 import de.captaingoldfish.restclient.application.endpoints.httprequests.HttpRequestHandler;
+import de.captaingoldfish.restclient.application.endpoints.httprequests.HttpResponseHistory;
 import de.captaingoldfish.restclient.application.endpoints.httprequests.HttpRequestsGroupHandler;
 import de.captaingoldfish.restclient.application.endpoints.jwt.JwtBuilderHandler;
 import de.captaingoldfish.restclient.application.endpoints.jwt.validation.ScimJwtBuilderValidator;
 import de.captaingoldfish.restclient.application.endpoints.keystore.KeystoreFileCache;
 import de.captaingoldfish.restclient.application.endpoints.keystore.KeystoreHandler;
+import de.captaingoldfish.restclient.application.endpoints.loadtest.LoadGenerator;
+import de.captaingoldfish.restclient.application.endpoints.loadtest.LoadTestHandler;
 import de.captaingoldfish.restclient.application.endpoints.metadata.ProviderMetadataResourceHandler;
 import de.captaingoldfish.restclient.application.endpoints.openidclient.OpenIdClientHandler;
 import de.captaingoldfish.restclient.application.endpoints.openidprovider.OpenIdProviderHandler;
 import de.captaingoldfish.restclient.application.endpoints.proxy.ProxyHandler;
 import de.captaingoldfish.restclient.application.endpoints.tokencategory.TokenCategoryHandler;
+import de.captaingoldfish.restclient.application.endpoints.tokenrequest.AccessTokenManager;
 import de.captaingoldfish.restclient.application.endpoints.tokenrequest.AccessTokenRequestHandler;
 import de.captaingoldfish.restclient.application.endpoints.tokenstore.TokenStoreHandler;
 import de.captaingoldfish.restclient.application.endpoints.truststore.TruststoreHandler;
 import de.captaingoldfish.restclient.application.endpoints.workflowsettings.CurrentWorkflowSettingsHandler;
 import de.captaingoldfish.restclient.application.endpoints.workflowsettings.CurrentWorkflowSettingsService;
+import de.captaingoldfish.restclient.application.utils.SSLContextCache;
 import de.captaingoldfish.restclient.database.repositories.HttpClientSettingsDao;
 import de.captaingoldfish.restclient.database.repositories.HttpRequestCategoriesDao;
 import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
@@ -46,6 +52,7 @@ import de.captaingoldfish.restclient.scim.endpoints.HttpRequestEndpointDefinitio
 import de.captaingoldfish.restclient.scim.endpoints.HttpRequestGroupEndpointDefinition;
 import de.captaingoldfish.restclient.scim.endpoints.JwtBuilderEndpoint;
 import de.captaingoldfish.restclient.scim.endpoints.KeystoreEndpoint;
+import de.captaingoldfish.restclient.scim.endpoints.LoadTestEndpoint;
 import de.captaingoldfish.restclient.scim.endpoints.OpenIdClientEndpoint;
 import de.captaingoldfish.restclient.scim.endpoints.OpenIdProviderEndpoint;
 import de.captaingoldfish.restclient.scim.endpoints.ProviderMetadataEndpointDefinition;
@@ -116,9 +123,13 @@ public class ScimConfig
   @Bean
   public ResourceType keystoreResourceType(ResourceEndpoint resourceEndpoint,
                                            KeystoreFileCache keystoreFileCache,
-                                           KeystoreDao keystoreDao)
+                                           KeystoreDao keystoreDao,
+                                           SSLContextCache sslContextCache,
+                                           KeystoreSnapshotService keystoreSnapshotService)
   {
-    KeystoreEndpoint keystoreEndpoint = new KeystoreEndpoint(new KeystoreHandler(keystoreFileCache, keystoreDao));
+    KeystoreHandler keystoreHandler = new KeystoreHandler(keystoreFileCache, keystoreDao, sslContextCache,
+                                                          keystoreSnapshotService);
+    KeystoreEndpoint keystoreEndpoint = new KeystoreEndpoint(keystoreHandler);
     return resourceEndpoint.registerEndpoint(keystoreEndpoint);
   }
 
@@ -129,9 +140,12 @@ public class ScimConfig
    * @return the truststore resource type
    */
   @Bean
-  public ResourceType truststoreResourceType(ResourceEndpoint resourceEndpoint, TruststoreDao truststoreDao)
+  public ResourceType truststoreResourceType(ResourceEndpoint resourceEndpoint,
+                                             TruststoreDao truststoreDao,
+                                             SSLContextCache sslContextCache)
   {
-    TruststoreEndpoint truststoreEndpoint = new TruststoreEndpoint(new TruststoreHandler(truststoreDao));
+    TruststoreHandler truststoreHandler = new TruststoreHandler(truststoreDao, sslContextCache);
+    TruststoreEndpoint truststoreEndpoint = new TruststoreEndpoint(truststoreHandler);
     return resourceEndpoint.registerEndpoint(truststoreEndpoint);
   }
 
@@ -158,10 +172,7 @@ public class ScimConfig
   public ResourceType openIdProviderResourceType(ResourceEndpoint resourceEndpoint, OpenIdProviderDao openIdProviderDao)
   {
     OpenIdProviderEndpoint openIdEndpoint = new OpenIdProviderEndpoint(new OpenIdProviderHandler(openIdProviderDao));
-    ResourceType openIdProviderResourceType = resourceEndpoint.registerEndpoint(openIdEndpoint);
-    openIdProviderResourceType.getFeatures().setAutoFiltering(true);
-    openIdProviderResourceType.getFeatures().setAutoSorting(true);
-    return openIdProviderResourceType;
+    return resourceEndpoint.registerEndpoint(openIdEndpoint);
   }
 
   /**
@@ -174,10 +185,7 @@ public class ScimConfig
   public ResourceType openIdClientResourceType(ResourceEndpoint resourceEndpoint, OpenIdClientDao openIdClientDao)
   {
     OpenIdClientEndpoint openIdClientEndpoint = new OpenIdClientEndpoint(new OpenIdClientHandler(openIdClientDao));
-    ResourceType openIdProviderResourceType = resourceEndpoint.registerEndpoint(openIdClientEndpoint);
-    openIdProviderResourceType.getFeatures().setAutoFiltering(true);
-    openIdProviderResourceType.getFeatures().setAutoSorting(true);
-    return openIdProviderResourceType;
+    return resourceEndpoint.registerEndpoint(openIdClientEndpoint);
   }
 
   /**
@@ -205,10 +213,12 @@ public class ScimConfig
    * @return the JWT builder resource type
    */
   @Bean
-  public ResourceType jwtBuilderResourceType(ResourceEndpoint resourceEndpoint, KeystoreDao keystoreDao)
+  public ResourceType jwtBuilderResourceType(ResourceEndpoint resourceEndpoint,
+                                             KeystoreSnapshotService keystoreSnapshotService)
   {
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
-    JwtBuilderHandler jwtBuilderHandler = new JwtBuilderHandler(jwtHandler, new ScimJwtBuilderValidator(keystoreDao));
+    JwtHandler jwtHandler = new JwtHandler(keystoreSnapshotService);
+    JwtBuilderHandler jwtBuilderHandler = new JwtBuilderHandler(jwtHandler,
+                                                                new ScimJwtBuilderValidator(keystoreSnapshotService));
     JwtBuilderEndpoint jwtBuilderEndpoint = new JwtBuilderEndpoint(jwtBuilderHandler);
     ResourceType jwtBuilderResourceType = resourceEndpoint.registerEndpoint(jwtBuilderEndpoint);
     jwtBuilderResourceType.getFeatures().setAutoFiltering(true);
@@ -251,9 +261,10 @@ public class ScimConfig
    * @return the auth code grant request resource type
    */
   @Bean
-  public ResourceType accessTokenRequestResourceType(ResourceEndpoint resourceEndpoint)
+  public ResourceType accessTokenRequestResourceType(ResourceEndpoint resourceEndpoint,
+                                                     AccessTokenManager accessTokenManager)
   {
-    AccessTokenRequestHandler handler = new AccessTokenRequestHandler();
+    AccessTokenRequestHandler handler = new AccessTokenRequestHandler(accessTokenManager);
     AccessTokenRequestEndpoint accessTokenRequestEndpoint = new AccessTokenRequestEndpoint(handler);
     return resourceEndpoint.registerEndpoint(accessTokenRequestEndpoint);
   }
@@ -284,10 +295,7 @@ public class ScimConfig
   {
     TokenCategoryHandler handler = new TokenCategoryHandler(tokenStoreDao);
     TokenCategoryEndpoint endpoint = new TokenCategoryEndpoint(handler);
-    ResourceType resourceType = resourceEndpoint.registerEndpoint(endpoint);
-    resourceType.getFeatures().setAutoFiltering(true);
-    resourceType.getFeatures().setAutoSorting(true);
-    return resourceType;
+    return resourceEndpoint.registerEndpoint(endpoint);
   }
 
   /**
@@ -329,13 +337,31 @@ public class ScimConfig
   public ResourceType httpRequestResourceType(ResourceEndpoint resourceEndpoint,
                                               HttpRequestCategoriesDao httpRequestCategoriesDao,
                                               HttpRequestsDao httpRequestsDao,
-                                              HttpRequestExecutor httpRequestExecutor)
+                                              HttpRequestExecutor httpRequestExecutor,
+                                              HttpResponseHistory httpResponseHistory)
   {
-    HttpRequestHandler handler = new HttpRequestHandler(httpRequestCategoriesDao, httpRequestsDao, httpRequestExecutor);
+    HttpRequestHandler handler = new HttpRequestHandler(httpRequestCategoriesDao, httpRequestsDao, httpRequestExecutor,
+                                                        httpResponseHistory);
     HttpRequestEndpointDefinition endpoint = new HttpRequestEndpointDefinition(handler);
     return resourceEndpoint.registerEndpoint(endpoint);
   }
 
+  /**
+   * registers the load test resourceType under the endpoint /LoadTest.
+   *
+   * @param resourceEndpoint the resource endpoint that was previously defined
+   * @return the load test resource type
+   */
+  @Bean
+  public ResourceType loadTestResourceType(ResourceEndpoint resourceEndpoint,
+                                           HttpRequestsDao httpRequestsDao,
+                                           LoadGenerator loadGenerator)
+  {
+    LoadTestHandler handler = new LoadTestHandler(httpRequestsDao, loadGenerator);
+    LoadTestEndpoint endpoint = new LoadTestEndpoint(handler);
+    return resourceEndpoint.registerEndpoint(endpoint);
+  }
+
   /**
    * registers the http-request resourceType under the endpoint /HttpRequests.
    *
@@ -0,0 +1,428 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import de.captaingoldfish.restclient.database.entities.HttpTimings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * sends requests with an asynchronous http client and measures the phases of the exchange that are visible to
+ * a non-blocking client. Since the connections of the asynchronous client are shared between concurrent
+ * requests the dns lookup, the connect and the tls handshake cannot be attributed to a single exchange and
+ * are therefore part of the time to first byte
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AsyncHttpExchange
+{
+
+  /**
+   * the number of received but not yet spooled body bytes plus the granted but not yet received capacity of a
+   * single exchange. The server is not allowed to send more until the spooled bytes were written
+   */
+  private static final int SPOOL_CAPACITY = 1024 * 1024;
+
+  /**
+   * writes the spooled bodies so that the file I/O does not block the threads of the I/O reactor
+   */
+  private static final ExecutorService SPOOL_EXECUTOR = //
+    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("spooled-response-body-", 0).factory());
+
+  /**
+   * sends the given request without blocking the calling thread
+   *
+   * @param httpAsyncClient the started client that is used to send the request
+   * @param httpRequest the request to send
+   * @return a future that is completed with the fully read response or with the error that aborted the exchange
+   */
+  public static CompletableFuture<Result> execute(CloseableHttpAsyncClient httpAsyncClient,
+                                                  SimpleHttpRequest httpRequest)
+  {
+    return execute(httpAsyncClient, httpRequest, null);
+  }
+
+  /**
+   * sends the given request without blocking the calling thread
+   *
+   * @param httpAsyncClient the started client that is used to send the request
+   * @param httpRequest the request to send
+   * @param responseBodyReader if present the response body is spooled into a {@link SpooledResponseBody}
+   *          instead of being buffered in the response
+   * @return a future that is completed with the fully read response or with the error that aborted the exchange
+   */
+  public static CompletableFuture<Result> execute(CloseableHttpAsyncClient httpAsyncClient,
+                                                  SimpleHttpRequest httpRequest,
+                                                  ResponseBodyReader responseBodyReader)
+  {
+    CompletableFuture<Result> resultFuture = new CompletableFuture<>();
+    TimingResponseConsumer responseConsumer = new TimingResponseConsumer(responseBodyReader);
+    httpAsyncClient.execute(SimpleRequestProducer.create(httpRequest), responseConsumer, new FutureCallback<>()
+    {
+
+      @Override
+      public void completed(SimpleHttpResponse response)
+      {
+        resultFuture.complete(new Result(response, responseConsumer.getTimings(), responseConsumer.body));
+      }
+
+      @Override
+      public void failed(Exception ex)
+      {
+        responseConsumer.closeBody();
+        resultFuture.completeExceptionally(ex);
+      }
+
+      @Override
+      public void cancelled()
+      {
+        responseConsumer.closeBody();
+        resultFuture.cancel(false);
+      }
+    });
+    return resultFuture;
+  }
+
+  /**
+   * blocks until the given future is completed and rethrows the original error if the future failed
+   */
+  @SneakyThrows
+  public static <T> T await(CompletableFuture<T> future)
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (ExecutionException ex)
+    {
+      throw ex.getCause();
+    }
+  }
+
+  /**
+   * the result of an asynchronous exchange
+   *
+   * @param response the response with the completely read body or without body if the body was spooled
+   * @param timings the measured phases of the exchange
+   * @param body the spooled response body or null if the body was buffered in the response or if the response
+   *          has no body. The caller must close the body
+   */
+  public record Result(SimpleHttpResponse response, HttpTimings timings, SpooledResponseBody body)
+  {}
+
+  /**
+   * buffers the response like the {@link SimpleResponseConsumer} or spools its body into a
+   * {@link SpooledResponseBody} and records the arrival of the response head, the end of the response body and
+   * the number of received body bytes. Spooled chunks are written in their order on a virtual thread and the
+   * capacity that is granted to the server is limited to {@link #SPOOL_CAPACITY} minus the bytes that still
+   * wait to be written, so the I/O reactor never blocks on the file system and a slow disk throttles the server
+   * instead of filling the heap. The exchange is completed after the last chunk was written
+   */
+  private static class TimingResponseConsumer implements AsyncResponseConsumer<SimpleHttpResponse>
+  {
+
+    private final AsyncResponseConsumer<SimpleHttpResponse> delegate = SimpleResponseConsumer.create();
+
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    private volatile long headNanos;
+
+    private volatile long endNanos;
+
+    /**
+     * creates the spooled body if the body should not be buffered in the response
+     */
+    private final ResponseBodyReader responseBodyReader;
+
+    /**
+     * the spooled body of the response
+     */
+    private volatile SpooledResponseBody body;
+
+    /**
+     * guards the chain of writes and the capacity accounting
+     */
+    private final Object lock = new Object();
+
+    /**
+     * completes after the last chunk that was handed to the {@link #SPOOL_EXECUTOR} was written. Fails with the
+     * first error of a write, after which the remaining chunks are discarded
+     */
+    private CompletableFuture<Void> pendingWrites = CompletableFuture.completedFuture(null);
+
+    /**
+     * the channel that is used to grant the server further capacity
+     */
+    private CapacityChannel capacityChannel;
+
+    /**
+     * the capacity that was granted to the server but was not yet received
+     */
+    private long grantedBytes;
+
+    /**
+     * the bytes that were received but not yet written into the {@link #body}
+     */
+    private long unwrittenBytes;
+
+    public TimingResponseConsumer(ResponseBodyReader responseBodyReader)
+    {
+      this.responseBodyReader = responseBodyReader;
+    }
+
+    @Override
+    public void consumeResponse(HttpResponse response,
+                                EntityDetails entityDetails,
+                                HttpContext context,
+                                FutureCallback<SimpleHttpResponse> resultCallback)
+      throws HttpException, IOException
+    {
+      headNanos = System.nanoTime();
+      if (responseBodyReader != null && entityDetails != null)
+      {
+        body = responseBodyReader.newBody(entityDetails.getContentType());
+      }
+      delegate.consumeResponse(response, entityDetails, context, new FutureCallback<>()
+      {
+
+        @Override
+        public void completed(SimpleHttpResponse result)
+        {
+          endNanos = System.nanoTime();
+          if (body == null)
+          {
+            resultCallback.completed(result);
+            return;
+          }
+          afterPendingWrites(SpooledResponseBody::finish).whenComplete((unused, ex) -> {
+            if (ex == null)
+            {
+              resultCallback.completed(result);
+            }
+            else
+            {
+              resultCallback.failed(unwrap(ex));
+            }
+          });
+        }
+
+        @Override
+        public void failed(Exception ex)
+        {
+          resultCallback.failed(ex);
+        }
+
+        @Override
+        public void cancelled()
+        {
+          resultCallback.cancelled();
+        }
+      });
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) throws HttpException, IOException
+    {
+      delegate.informationResponse(response, context);
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException
+    {
+      if (responseBodyReader == null)
+      {
+        delegate.updateCapacity(capacityChannel);
+        return;
+      }
+      synchronized (lock)
+      {
+        this.capacityChannel = capacityChannel;
+      }
+      grantCapacity();
+    }
+
+    @Override
+    public void consume(ByteBuffer src) throws IOException
+    {
+      int length = src.remaining();
+      bytesReceived.addAndGet(length);
+      if (body == null)
+      {
+        delegate.consume(src);
+        return;
+      }
+      // the buffer is reused by the reactor after this method returns
+      byte[] chunk = new byte[length];
+      src.get(chunk);
+      synchronized (lock)
+      {
+        grantedBytes = Math.max(0, grantedBytes - length);
+        unwrittenBytes += length;
+        pendingWrites = pendingWrites.thenRunAsync(() -> write(chunk), SPOOL_EXECUTOR);
+        pendingWrites.whenComplete((unused, ex) -> {
+          synchronized (lock)
+          {
+            unwrittenBytes -= length;
+          }
+          grantCapacity();
+        });
+      }
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException
+    {
+      delegate.streamEnd(trailers);
+    }
+
+    @Override
+    public void failed(Exception cause)
+    {
+      closeBody();
+      delegate.failed(cause);
+    }
+
+    @Override
+    public void releaseResources()
+    {
+      delegate.releaseResources();
+    }
+
+    /**
+     * grants the server the part of the {@link #SPOOL_CAPACITY} that is neither granted already nor occupied by
+     * unwritten bytes
+     */
+    @SneakyThrows
+    private void grantCapacity()
+    {
+      CapacityChannel channel;
+      int increment;
+      synchronized (lock)
+      {
+        channel = capacityChannel;
+        increment = (int)(SPOOL_CAPACITY - grantedBytes - unwrittenBytes);
+        if (channel == null || increment <= 0)
+        {
+          return;
+        }
+        grantedBytes += increment;
+      }
+      channel.update(increment);
+    }
+
+    @SneakyThrows
+    private void write(byte[] chunk)
+    {
+      body.write(chunk, 0, chunk.length);
+    }
+
+    /**
+     * runs the given action on the {@link #body} after all pending writes succeeded
+     */
+    private CompletableFuture<Void> afterPendingWrites(BodyAction action)
+    {
+      synchronized (lock)
+      {
+        return pendingWrites.thenRunAsync(() -> action.runUnchecked(body), SPOOL_EXECUTOR);
+      }
+    }
+
+    /**
+     * deletes the spooled body of an exchange that failed or was cancelled and whose body is therefore never
+     * handed out. The body is deleted after the pending writes are done
+     */
+    private void closeBody()
+    {
+      if (body == null)
+      {
+        return;
+      }
+      synchronized (lock)
+      {
+        pendingWrites.whenCompleteAsync((unused, writeError) -> {
+          try
+          {
+            body.close();
+          }
+          catch (IOException ex)
+          {
+            log.warn("Failed to delete spooled response body: {}", ex.getMessage());
+          }
+        }, SPOOL_EXECUTOR);
+      }
+    }
+
+    private static Exception unwrap(Throwable throwable)
+    {
+      Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+        : throwable;
+      return cause instanceof Exception exception ? exception : new CompletionException(cause);
+    }
+
+    /**
+     * @return the timings of the completed exchange. The body bytes are counted after the transfer encoding was
+     *         removed
+     */
+    public HttpTimings getTimings()
+    {
+      return HttpTimings.builder()
+                        .timeToFirstByteMicros(toMicros(headNanos - startNanos))
+                        .downloadMicros(toMicros(endNanos - headNanos))
+                        .totalMicros(toMicros(endNanos - startNanos))
+                        .bytesReceived(bytesReceived.get())
+                        .build();
+    }
+
+    private static long toMicros(long nanos)
+    {
+      return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+  }
+
+  /**
+   * an I/O operation on a spooled body
+   */
+  @FunctionalInterface
+  private interface BodyAction
+  {
+
+    void run(SpooledResponseBody body) throws IOException;
+
+    @SneakyThrows
+    default void runUnchecked(SpooledResponseBody body)
+    {
+      run(body);
+    }
+  }
+}
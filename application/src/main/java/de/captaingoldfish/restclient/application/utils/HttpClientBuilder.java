@@ -2,19 +2,35 @@ package de.captaingoldfish.restclient.application.utils;
 
 import java.util.concurrent.TimeUnit;
 
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.HttpsSupport;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.Registry;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
 
 import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
@@ -34,40 +50,98 @@ public class HttpClientBuilder
 {
 
   /**
-   * this method generates a http-client instance and will set the ssl-context
+   * the maximum number of connections that are pooled by a single http client
+   */
+  private static final int MAX_CONNECTIONS_TOTAL = 200;
+
+  /**
+   * the maximum number of connections that are pooled by a single http client for the same route
+   */
+  private static final int MAX_CONNECTIONS_PER_ROUTE = 50;
+
+  /**
+   * pooled connections that were not used for this time are closed
+   */
+  private static final TimeValue IDLE_CONNECTION_TIMEOUT = TimeValue.ofSeconds(30);
+
+  /**
+   * pooled connections that were not used for this time are checked for staleness before they are reused
+   */
+  private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+  /**
+   * the settings of the default http client. The same instance is used for each call so that the pooled client
+   * can be reused
+   */
+  private static final HttpClientSettings DEFAULT_HTTP_CLIENT_SETTINGS = HttpClientSettings.builder()
+                                                                                           .connectionTimeout(60)
+                                                                                           .socketTimeout(60)
+                                                                                           .requestTimeout(60)
+                                                                                           .useHostnameVerifier(false)
+                                                                                           .build();
+
+  /**
+   * this method returns the pooled default http-client instance. The client must not be closed by the caller
    *
    * @return a http-client instance
    */
   public static CloseableHttpClient getDefaultHttpClient()
   {
-    HttpClientSettings httpSettings = HttpClientSettings.builder()
-                                                        .connectionTimeout(60)
-                                                        .socketTimeout(60)
-                                                        .requestTimeout(60)
-                                                        .useHostnameVerifier(false)
-                                                        .build();
-    return getHttpClient(httpSettings);
+    return getHttpClient(DEFAULT_HTTP_CLIENT_SETTINGS);
   }
 
   /**
-   * this method generates a http-client instance and will set the ssl-context
+   * this method returns the pooled http-client instance of the given client. The client must not be closed by
+   * the caller
    *
    * @return a http-client instance
    */
   public static CloseableHttpClient getHttpClient(OpenIdClient openIdClient)
+  {
+    return getHttpClient(getHttpClientSettings(openIdClient));
+  }
+
+  /**
+   * @return the http client settings of the given client
+   */
+  public static HttpClientSettings getHttpClientSettings(OpenIdClient openIdClient)
   {
     HttpClientSettingsDao httpSettingsDao = WebAppConfig.getApplicationContext().getBean(HttpClientSettingsDao.class);
-    HttpClientSettings httpSettings = httpSettingsDao.findByOpenIdClient(openIdClient).orElseThrow();
-    return getHttpClient(httpSettings);
+    return httpSettingsDao.findByOpenIdClient(openIdClient).orElseThrow();
   }
 
   /**
-   * this method generates a http-client instance and will set the ssl-context
+   * this method returns the pooled http-client instance for the given settings. The returned client is shared
+   * between all requests with the same settings and must not be closed by the caller
    *
    * @return a http-client instance
    */
-  @SneakyThrows
   public static CloseableHttpClient getHttpClient(HttpClientSettings clientSettings)
+  {
+    HttpClientRegistry httpClientRegistry = WebAppConfig.getApplicationContext().getBean(HttpClientRegistry.class);
+    return httpClientRegistry.getHttpClient(clientSettings);
+  }
+
+  /**
+   * this method returns the pooled and already started asynchronous http-client instance for the given
+   * settings. The returned client is shared between all requests with the same settings and must not be closed
+   * by the caller
+   *
+   * @return an asynchronous http-client instance
+   */
+  public static CloseableHttpAsyncClient getHttpAsyncClient(HttpClientSettings clientSettings)
+  {
+    HttpClientRegistry httpClientRegistry = WebAppConfig.getApplicationContext().getBean(HttpClientRegistry.class);
+    return httpClientRegistry.getHttpAsyncClient(clientSettings);
+  }
+
+  /**
+   * this method generates a new http-client instance and will set the ssl-context
+   *
+   * @return a http-client instance
+   */
+  @SneakyThrows
+  static CloseableHttpClient createHttpClient(HttpClientSettings clientSettings)
   {
     org.apache.hc.client5.http.impl.classic.HttpClientBuilder clientBuilder = org.apache.hc.client5.http.impl.classic.HttpClientBuilder.create();
     CredentialsProvider credentialsProvider = null;
@@ -78,18 +152,88 @@ public class HttpClientBuilder
     clientBuilder.setDefaultCredentialsProvider(credentialsProvider);
 
     SSLConnectionSocketFactory sslCnSockFactory = //
-      new SSLConnectionSocketFactory(SSLContextHelper.getSslContext(clientSettings),
-                                     clientSettings.isUseHostnameVerifier() ? HttpsSupport.getDefaultHostnameVerifier()
-                                       : (s, sslSession) -> true);
-    var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
-                                                                     .setSSLSocketFactory(sslCnSockFactory)
-                                                                     .build();
+      new HttpExchangeTimerHooks.TimingSslSocketFactory(SSLContextHelper.getSslContext(clientSettings),
+                                                        getHostnameVerifier(clientSettings));
+    Registry<ConnectionSocketFactory> socketFactoryRegistry = //
+      RegistryBuilder.<ConnectionSocketFactory> create()
+                     .register(URIScheme.HTTP.id, new HttpExchangeTimerHooks.TimingPlainSocketFactory())
+                     .register(URIScheme.HTTPS.id, sslCnSockFactory)
+                     .build();
+    // the socket factories and the dns resolver report the phases of each exchange to the HttpExchangeTimer
+    var connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, PoolConcurrencyPolicy.STRICT,
+                                                                   PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND,
+                                                                   null, new HttpExchangeTimerHooks.TimingDnsResolver(),
+                                                                   null);
+    connectionManager.setDefaultConnectionConfig(getConnectionConfig(clientSettings));
+    connectionManager.setMaxTotal(MAX_CONNECTIONS_TOTAL);
+    connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
     clientBuilder.setConnectionManager(connectionManager);
     clientBuilder.setDefaultRequestConfig(getRequestConfig(clientSettings));
+    clientBuilder.evictExpiredConnections();
+    clientBuilder.evictIdleConnections(IDLE_CONNECTION_TIMEOUT);
+    clientBuilder.addResponseInterceptorFirst((response, entityDetails, context) -> {
+      HttpExchangeTimer.markResponseHead();
+    });
 
     return clientBuilder.build();
   }
 
+  /**
+   * this method generates and starts a new asynchronous http-client instance with the ssl-context of the given
+   * settings
+   *
+   * @return a started asynchronous http-client instance
+   */
+  static CloseableHttpAsyncClient createHttpAsyncClient(HttpClientSettings clientSettings)
+  {
+    return createHttpAsyncClient(clientSettings, SSLContextHelper.getSslContext(clientSettings));
+  }
+
+  /**
+   * this method generates and starts a new asynchronous http-client instance that negotiates the protocol with
+   * ALPN. HTTP/2 is used if the server supports it and HTTP/1.1 otherwise. Plain http connections and
+   * connections that are tunneled through a proxy fall back to HTTP/1.1 in the same way
+   *
+   * @param sslContext the ssl-context that is used for tls connections
+   * @return a started asynchronous http-client instance
+   */
+  @SneakyThrows
+  static CloseableHttpAsyncClient createHttpAsyncClient(HttpClientSettings clientSettings, SSLContext sslContext)
+  {
+    TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                                                      .setSslContext(sslContext)
+                                                      .setHostnameVerifier(getHostnameVerifier(clientSettings))
+                                                      .build();
+    PoolingAsyncClientConnectionManager connectionManager = //
+      PoolingAsyncClientConnectionManagerBuilder.create()
+                                                .setTlsStrategy(tlsStrategy)
+                                                .setDefaultConnectionConfig(getConnectionConfig(clientSettings))
+                                                .setMaxConnTotal(MAX_CONNECTIONS_TOTAL)
+                                                .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+                                                .build();
+    HttpAsyncClientBuilder clientBuilder = HttpAsyncClientBuilder.create()
+                                                                 .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                                                                 .setConnectionManager(connectionManager)
+                                                                 .setDefaultRequestConfig(getRequestConfig(clientSettings))
+                                                                 .evictExpiredConnections()
+                                                                 .evictIdleConnections(IDLE_CONNECTION_TIMEOUT);
+    if (clientSettings.getProxy() != null)
+    {
+      clientBuilder.setDefaultCredentialsProvider(getProxyCredentials(clientSettings.getProxy()));
+    }
+    CloseableHttpAsyncClient httpAsyncClient = clientBuilder.build();
+    httpAsyncClient.start();
+    return httpAsyncClient;
+  }
+
+  /**
+   * @return the hostname verifier that is used for tls connections of the given settings
+   */
+  private static HostnameVerifier getHostnameVerifier(HttpClientSettings clientSettings)
+  {
+    return clientSettings.isUseHostnameVerifier() ? HttpsSupport.getDefaultHostnameVerifier() : (s, sslSession) -> true;
+  }
+
   /**
    * @return a basic credentials provider that will be used for proxy authentication.
    */
@@ -131,8 +275,24 @@ public class HttpClientBuilder
       configBuilder = RequestConfig.copy(proxyConfig);
     }
 
-    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    if (clientSettings.getRequestTimeout() > 0)
+    {
+      // since the connections are pooled the request timeout is the maximum time to wait for a free connection
+      configBuilder.setConnectionRequestTimeout(clientSettings.getRequestTimeout(), TimeUnit.SECONDS);
+      log.trace("Request timeout '{}' seconds", clientSettings.getRequestTimeout());
+    }
+    return configBuilder.build();
+  }
+
+  /**
+   * will configure the connections of the connection pool
+   *
+   * @return the connection configuration with the configured timeouts
+   */
+  private static ConnectionConfig getConnectionConfig(HttpClientSettings clientSettings)
+  {
     ConnectionConfig.Builder connectionConfigBuilder = ConnectionConfig.custom();
+    connectionConfigBuilder.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
 
     if (clientSettings.getConnectionTimeout() > 0)
     {
@@ -144,9 +304,7 @@ public class HttpClientBuilder
       connectionConfigBuilder.setSocketTimeout(clientSettings.getSocketTimeout(), TimeUnit.SECONDS);
       log.trace("Socket timeout '{}' seconds", clientSettings.getSocketTimeout());
     }
-    connectionManager.setDefaultConnectionConfig(connectionConfigBuilder.build());
-
-    return configBuilder.build();
+    return connectionConfigBuilder.build();
   }
 
   /**
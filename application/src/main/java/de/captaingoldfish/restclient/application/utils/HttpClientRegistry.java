@@ -0,0 +1,199 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.io.ModalCloseable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
+import de.captaingoldfish.restclient.database.entities.Proxy;
+import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
+import de.captaingoldfish.restclient.database.repositories.TruststoreDao;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * keeps long living http clients with pooled connections so that subsequent requests that are using the same
+ * {@link HttpClientSettings} are able to reuse already established TCP connections and TLS sessions. A client
+ * is identified by the id and the last modified timestamp of its settings, its proxy and the application key-
+ * and truststore. So a new client is built as soon as one of these configurations changes and the outdated
+ * client is closed once it was not used anymore for {@link #IDLE_CLIENT_TIMEOUT}.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+public class HttpClientRegistry implements DisposableBean
+{
+
+  /**
+   * the time after which a http client that was not used anymore is closed together with its connection pool
+   */
+  private static final Duration IDLE_CLIENT_TIMEOUT = Duration.ofMinutes(10);
+
+  /**
+   * the maximum number of http clients that are kept at the same time
+   */
+  private static final int MAX_CLIENTS = 100;
+
+  /**
+   * used to detect modifications on the application truststore
+   */
+  private final TruststoreDao truststoreDao;
+
+  /**
+   * used to detect modifications on the application keystore if a TLS client authentication key is used
+   */
+  private final KeystoreDao keystoreDao;
+
+  /**
+   * the currently active http clients
+   */
+  private final Cache<HttpClientKey, CloseableHttpClient> httpClients;
+
+  /**
+   * the currently active asynchronous http clients of settings that use the
+   * {@link HttpClientSettings.ExecutionEngine#ASYNC_HTTP2} engine
+   */
+  private final Cache<HttpClientKey, CloseableHttpAsyncClient> httpAsyncClients;
+
+  public HttpClientRegistry(TruststoreDao truststoreDao, KeystoreDao keystoreDao)
+  {
+    this.truststoreDao = truststoreDao;
+    this.keystoreDao = keystoreDao;
+    this.httpClients = Caffeine.newBuilder()
+                               .expireAfterAccess(IDLE_CLIENT_TIMEOUT)
+                               .maximumSize(MAX_CLIENTS)
+                               .scheduler(Scheduler.systemScheduler())
+                               .removalListener(this::closeHttpClient)
+                               .build();
+    this.httpAsyncClients = Caffeine.newBuilder()
+                                    .expireAfterAccess(IDLE_CLIENT_TIMEOUT)
+                                    .maximumSize(MAX_CLIENTS)
+                                    .scheduler(Scheduler.systemScheduler())
+                                    .removalListener(this::closeHttpClient)
+                                    .build();
+  }
+
+  /**
+   * gets the http client that matches the given settings or builds a new one if no matching client exists yet
+   * or if the settings were modified in the meantime. <br>
+   * <b>The returned client must not be closed by the caller.</b>
+   *
+   * @param clientSettings the settings that describe the http client
+   * @return a pooled http client that is shared between all requests using the same settings
+   */
+  public CloseableHttpClient getHttpClient(HttpClientSettings clientSettings)
+  {
+    HttpClientKey httpClientKey = toHttpClientKey(clientSettings);
+    return httpClients.get(httpClientKey, key -> {
+      log.debug("Building new http client for settings with id '{}'", key.settingsId());
+      return HttpClientBuilder.createHttpClient(clientSettings);
+    });
+  }
+
+  /**
+   * gets the started asynchronous http client that matches the given settings or builds a new one if no
+   * matching client exists yet or if the settings were modified in the meantime. <br>
+   * <b>The returned client must not be closed by the caller.</b>
+   *
+   * @param clientSettings the settings that describe the http client
+   * @return an asynchronous http client that is shared between all requests using the same settings
+   */
+  public CloseableHttpAsyncClient getHttpAsyncClient(HttpClientSettings clientSettings)
+  {
+    HttpClientKey httpClientKey = toHttpClientKey(clientSettings);
+    return httpAsyncClients.get(httpClientKey, key -> {
+      log.debug("Building new asynchronous http client for settings with id '{}'", key.settingsId());
+      return HttpClientBuilder.createHttpAsyncClient(clientSettings);
+    });
+  }
+
+  /**
+   * closes all http clients. This will be done automatically anyway as soon as a client is no longer used or if
+   * the configuration of a client was changed
+   */
+  public void clear()
+  {
+    httpClients.invalidateAll();
+    httpAsyncClients.invalidateAll();
+  }
+
+  /**
+   * closes all pooled connections on application shutdown
+   */
+  @Override
+  public void destroy()
+  {
+    clear();
+    httpClients.cleanUp();
+    httpAsyncClients.cleanUp();
+  }
+
+  /**
+   * closes a http client that was evicted from the registry
+   */
+  private void closeHttpClient(HttpClientKey key, ModalCloseable httpClient, RemovalCause removalCause)
+  {
+    if (httpClient == null)
+    {
+      return;
+    }
+    log.debug("Closing http client for settings with id '{}' due to '{}'", key.settingsId(), removalCause);
+    httpClient.close(CloseMode.GRACEFUL);
+  }
+
+  /**
+   * builds the key that identifies a http client. Settings that have not been persisted yet do not have a
+   * stable identity so their effective values are used to identify them instead
+   */
+  private HttpClientKey toHttpClientKey(HttpClientSettings clientSettings)
+  {
+    boolean isPersisted = clientSettings.getId() != 0;
+    Proxy proxy = clientSettings.getProxy();
+    Instant keystoreLastModified = Optional.ofNullable(clientSettings.getTlsClientAuthKeyRef())
+                                           .flatMap(keyRef -> keystoreDao.getKeystoreLastModified())
+                                           .orElse(null);
+    return new HttpClientKey(clientSettings.getId(), isPersisted ? clientSettings.getLastModified() : null,
+                             clientSettings.getConnectionTimeout(), clientSettings.getSocketTimeout(),
+                             clientSettings.getRequestTimeout(), clientSettings.isUseHostnameVerifier(),
+                             clientSettings.getTlsClientAuthKeyRef(),
+                             Optional.ofNullable(proxy).map(Proxy::getId).orElse(null),
+                             Optional.ofNullable(proxy).map(Proxy::getLastModified).orElse(null),
+                             Optional.ofNullable(proxy).map(Proxy::getHost).orElse(null),
+                             Optional.ofNullable(proxy).map(Proxy::getPort).orElse(null),
+                             Optional.ofNullable(proxy).map(Proxy::getUsername).orElse(null), keystoreLastModified,
+                             truststoreDao.getTruststoreLastModified().orElse(null));
+  }
+
+  /**
+   * identifies a http client by all values that are used to build it
+   */
+  private record HttpClientKey(long settingsId,
+                               Instant settingsLastModified,
+                               int connectionTimeout,
+                               int socketTimeout,
+                               int requestTimeout,
+                               boolean useHostnameVerifier,
+                               String tlsClientAuthKeyRef,
+                               Long proxyId,
+                               Instant proxyLastModified,
+                               String proxyHost,
+                               Integer proxyPort,
+                               String proxyUsername,
+                               Instant keystoreLastModified,
+                               Instant truststoreLastModified)
+  {}
+}
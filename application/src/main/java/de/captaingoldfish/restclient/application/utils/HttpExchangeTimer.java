@@ -0,0 +1,187 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import de.captaingoldfish.restclient.database.entities.HttpTimings;
+
+
+/**
+ * records the time that is spent in the single phases of a http exchange. The timer is bound to the current
+ * thread while it is running and gets notified by the socket factories, the dns resolver and the response
+ * interceptor of the http clients that are created by the {@link HttpClientBuilder}. This works because the
+ * classic apache http client executes the whole exchange on the calling thread. <br>
+ * <br>
+ * usage:
+ *
+ * <pre>
+ * try (HttpExchangeTimer timer = HttpExchangeTimer.start();
+ *   CloseableHttpResponse response = httpClient.execute(request))
+ * {
+ *   String body = readBody(response);
+ *   HttpTimings timings = timer.stop();
+ * }
+ * </pre>
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public final class HttpExchangeTimer implements AutoCloseable
+{
+
+  /**
+   * the timer of the exchange that is currently executed by this thread
+   */
+  private static final ThreadLocal<HttpExchangeTimer> CURRENT_TIMER = new ThreadLocal<>();
+
+  /**
+   * the timer that was bound to the thread before this timer was started
+   */
+  private final HttpExchangeTimer previousTimer;
+
+  /**
+   * the moment in nanos at which the exchange was started
+   */
+  private final long startNanos;
+
+  private long dnsLookupNanos;
+
+  private long connectNanos;
+
+  private long tlsHandshakeNanos;
+
+  /**
+   * the moment in nanos at which the last response head was received or -1
+   */
+  private long responseHeadNanos = -1;
+
+  private long bytesSent;
+
+  private long bytesReceived;
+
+  /**
+   * if a new connection was established for this exchange
+   */
+  private boolean connected;
+
+  private HttpExchangeTimer(HttpExchangeTimer previousTimer)
+  {
+    this.previousTimer = previousTimer;
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * starts a new timer and binds it to the current thread until it is closed
+   */
+  public static HttpExchangeTimer start()
+  {
+    HttpExchangeTimer timer = new HttpExchangeTimer(CURRENT_TIMER.get());
+    CURRENT_TIMER.set(timer);
+    return timer;
+  }
+
+  static void addDnsLookup(long nanos)
+  {
+    HttpExchangeTimer timer = CURRENT_TIMER.get();
+    if (timer != null)
+    {
+      timer.dnsLookupNanos += nanos;
+    }
+  }
+
+  static void addConnect(long nanos)
+  {
+    HttpExchangeTimer timer = CURRENT_TIMER.get();
+    if (timer != null)
+    {
+      timer.connectNanos += nanos;
+      timer.connected = true;
+    }
+  }
+
+  static void addTlsHandshake(long nanos)
+  {
+    HttpExchangeTimer timer = CURRENT_TIMER.get();
+    if (timer != null)
+    {
+      timer.tlsHandshakeNanos += nanos;
+    }
+  }
+
+  static void addBytesSent(long bytes)
+  {
+    HttpExchangeTimer timer = CURRENT_TIMER.get();
+    if (timer != null)
+    {
+      timer.bytesSent += bytes;
+    }
+  }
+
+  static void addBytesReceived(long bytes)
+  {
+    HttpExchangeTimer timer = CURRENT_TIMER.get();
+    if (timer != null)
+    {
+      timer.bytesReceived += bytes;
+    }
+  }
+
+  /**
+   * called when a response head was received. If the request was redirected the head of the last response is
+   * used
+   */
+  static void markResponseHead()
+  {
+    HttpExchangeTimer timer = CURRENT_TIMER.get();
+    if (timer != null)
+    {
+      timer.responseHeadNanos = System.nanoTime();
+    }
+  }
+
+  /**
+   * calculates the timings of the exchange up to now. Should be called after the response body was read
+   */
+  public HttpTimings stop()
+  {
+    long stopNanos = System.nanoTime();
+    boolean headReceived = responseHeadNanos >= 0;
+    long setupNanos = dnsLookupNanos + connectNanos + tlsHandshakeNanos;
+    return HttpTimings.builder()
+                      .dnsLookupMicros(toMicros(dnsLookupNanos))
+                      .connectMicros(toMicros(connectNanos))
+                      .tlsHandshakeMicros(toMicros(tlsHandshakeNanos))
+                      .timeToFirstByteMicros(headReceived
+                        ? toMicros(Math.max(0, responseHeadNanos - startNanos - setupNanos)) : null)
+                      .downloadMicros(headReceived ? toMicros(stopNanos - responseHeadNanos) : null)
+                      .totalMicros(toMicros(stopNanos - startNanos))
+                      .bytesSent(bytesSent)
+                      .bytesReceived(bytesReceived)
+                      .connectionReused(!connected)
+                      .build();
+  }
+
+  private static long toMicros(long nanos)
+  {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+
+  /**
+   * unbinds this timer from the current thread
+   */
+  @Override
+  public void close()
+  {
+    if (CURRENT_TIMER.get() != this)
+    {
+      return;
+    }
+    if (previousTimer == null)
+    {
+      CURRENT_TIMER.remove();
+    }
+    else
+    {
+      CURRENT_TIMER.set(previousTimer);
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.Socket;
+import java.net.UnknownHostException;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * the extension points of the apache http client that report the phases of an exchange to the
+ * {@link HttpExchangeTimer} of the current thread
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class HttpExchangeTimerHooks
+{
+
+  /**
+   * measures the dns lookups of the system default resolver
+   */
+  static class TimingDnsResolver implements DnsResolver
+  {
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException
+    {
+      long start = System.nanoTime();
+      try
+      {
+        return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+      }
+      finally
+      {
+        HttpExchangeTimer.addDnsLookup(System.nanoTime() - start);
+      }
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException
+    {
+      return SystemDefaultDnsResolver.INSTANCE.resolveCanonicalHostname(host);
+    }
+  }
+
+  /**
+   * measures the tcp connect of plain http connections and of connections to a proxy
+   */
+  static class TimingPlainSocketFactory extends PlainConnectionSocketFactory
+  {
+
+    @Override
+    public Socket createSocket(HttpContext context)
+    {
+      return new CountingSocket();
+    }
+
+    @Override
+    public Socket createSocket(Proxy proxy, HttpContext context)
+    {
+      return proxy == null ? new CountingSocket() : new CountingSocket(proxy);
+    }
+
+    @Override
+    public Socket connectSocket(TimeValue connectTimeout,
+                                Socket socket,
+                                HttpHost host,
+                                InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress,
+                                HttpContext context)
+      throws IOException
+    {
+      long start = System.nanoTime();
+      try
+      {
+        return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+      }
+      finally
+      {
+        HttpExchangeTimer.addConnect(System.nanoTime() - start);
+      }
+    }
+  }
+
+  /**
+   * measures the tcp connect and the tls handshake of https connections separately
+   */
+  static class TimingSslSocketFactory extends SSLConnectionSocketFactory
+  {
+
+    public TimingSslSocketFactory(SSLContext sslContext, HostnameVerifier hostnameVerifier)
+    {
+      super(sslContext, hostnameVerifier);
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context)
+    {
+      return new CountingSocket();
+    }
+
+    @Override
+    public Socket createSocket(Proxy proxy, HttpContext context)
+    {
+      return proxy == null ? new CountingSocket() : new CountingSocket(proxy);
+    }
+
+    @Override
+    protected void connectSocket(Socket socket,
+                                 InetSocketAddress remoteAddress,
+                                 Timeout connectTimeout,
+                                 HttpContext context)
+      throws IOException
+    {
+      long start = System.nanoTime();
+      try
+      {
+        super.connectSocket(socket, remoteAddress, connectTimeout, context);
+      }
+      finally
+      {
+        HttpExchangeTimer.addConnect(System.nanoTime() - start);
+      }
+    }
+
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, Object attachment, HttpContext context)
+      throws IOException
+    {
+      long start = System.nanoTime();
+      try
+      {
+        return super.createLayeredSocket(socket, target, port, attachment, context);
+      }
+      finally
+      {
+        HttpExchangeTimer.addTlsHandshake(System.nanoTime() - start);
+      }
+    }
+  }
+
+  /**
+   * counts the bytes that are written to and read from the network. Tls sockets are layered on top of this
+   * socket so that the tls overhead is counted as well
+   */
+  static class CountingSocket extends Socket
+  {
+
+    public CountingSocket()
+    {
+      super();
+    }
+
+    public CountingSocket(Proxy proxy)
+    {
+      super(proxy);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException
+    {
+      return new FilterInputStream(super.getInputStream())
+      {
+
+        @Override
+        public int read() throws IOException
+        {
+          int value = super.read();
+          if (value >= 0)
+          {
+            HttpExchangeTimer.addBytesReceived(1);
+          }
+          return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException
+        {
+          int readBytes = super.read(buffer, offset, length);
+          if (readBytes > 0)
+          {
+            HttpExchangeTimer.addBytesReceived(readBytes);
+          }
+          return readBytes;
+        }
+      };
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException
+    {
+      return new FilterOutputStream(super.getOutputStream())
+      {
+
+        @Override
+        public void write(int value) throws IOException
+        {
+          out.write(value);
+          HttpExchangeTimer.addBytesSent(1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException
+        {
+          out.write(buffer, offset, length);
+          HttpExchangeTimer.addBytesSent(length);
+        }
+      };
+    }
+  }
+}
@@ -1,12 +1,19 @@
 package de.captaingoldfish.restclient.application.utils;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.NameValuePair;
 
+import de.captaingoldfish.restclient.database.entities.HttpTimings;
+
 import lombok.Getter;
 
 
@@ -24,11 +31,41 @@ public class HttpResponseDetails
 
   private final Map<String, String> headers;
 
+  /**
+   * the time that was spent in the single phases of the exchange or null if the exchange was not timed
+   */
+  private final HttpTimings timings;
+
   public HttpResponseDetails(CloseableHttpResponse response)
+  {
+    this(response, null);
+  }
+
+  /**
+   * reads the given response and stops the given timer after the response body was read
+   */
+  public HttpResponseDetails(CloseableHttpResponse response, HttpExchangeTimer timer)
   {
     this.statusCode = response.getCode();
     this.body = Utils.getBody(response);
     this.headers = Arrays.stream(response.getHeaders())
                          .collect(Collectors.toMap(NameValuePair::getName, NameValuePair::getValue));
+    this.timings = timer == null ? null : timer.stop();
+  }
+
+  /**
+   * takes over the completely read response of the asynchronous http client
+   */
+  public HttpResponseDetails(SimpleHttpResponse response, HttpTimings timings)
+  {
+    this.statusCode = response.getCode();
+    byte[] bodyBytes = response.getBodyBytes();
+    Charset charset = Optional.ofNullable(response.getContentType())
+                              .map(ContentType::getCharset)
+                              .orElse(StandardCharsets.UTF_8);
+    this.body = bodyBytes == null ? null : new String(bodyBytes, charset);
+    this.headers = Arrays.stream(response.getHeaders())
+                         .collect(Collectors.toMap(NameValuePair::getName, NameValuePair::getValue));
+    this.timings = timings;
   }
 }
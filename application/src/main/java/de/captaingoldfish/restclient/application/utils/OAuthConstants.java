@@ -85,6 +85,16 @@ public final class OAuthConstants
    */
   public static final String ACCESS_TOKEN = "access_token";
 
+  /**
+   * the IdToken constant to get the IdToken-value of an OpenID Connect token response
+   */
+  public static final String ID_TOKEN = "id_token";
+
+  /**
+   * the lifetime in seconds of the AccessToken within an AccessToken response
+   */
+  public static final String EXPIRES_IN = "expires_in";
+
   /**
    * the code-verifier parameter of the Proof Key for Code Exchange specification: RFC7636
    */
@@ -0,0 +1,173 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import lombok.Getter;
+
+
+/**
+ * reads response bodies in chunks into {@link SpooledResponseBody}s so that large or binary responses do not
+ * have to be held in memory as a whole and are not corrupted by decoding them as text
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Component
+public class ResponseBodyReader
+{
+
+  /**
+   * media types outside of "text/*" whose bodies are text
+   */
+  private static final Set<String> TEXT_MEDIA_TYPES = Set.of("application/json",
+                                                             "application/xml",
+                                                             "application/javascript",
+                                                             "application/x-www-form-urlencoded",
+                                                             "application/jwt",
+                                                             "application/yaml");
+
+  /**
+   * response bodies with more bytes than this are spooled to a temporary file
+   */
+  private final int memoryThreshold;
+
+  /**
+   * bytes beyond this limit are discarded
+   */
+  private final long maxSize;
+
+  /**
+   * the maximum number of characters of a textual body that are stored for display
+   */
+  @Getter
+  private final int previewLength;
+
+  public ResponseBodyReader(@Value("${http-responses.body.memory-threshold:262144}") int memoryThreshold,
+                            @Value("${http-responses.body.max-size:104857600}") long maxSize,
+                            @Value("${http-responses.body.preview-length:65536}") int previewLength)
+  {
+    this.memoryThreshold = Math.max(0, memoryThreshold);
+    this.maxSize = Math.max(0, maxSize);
+    this.previewLength = Math.max(0, previewLength);
+  }
+
+  /**
+   * creates an empty body that is filled by the caller
+   *
+   * @param contentType the content type of the body as it was sent by the server or null
+   */
+  public SpooledResponseBody newBody(String contentType)
+  {
+    ContentType parsedContentType = contentType == null ? null : ContentType.parseLenient(contentType);
+    return new SpooledResponseBody(contentType, getCharset(parsedContentType), isBinary(parsedContentType),
+                                   memoryThreshold, maxSize);
+  }
+
+  /**
+   * reads the content of the given entity
+   *
+   * @return the read body or null if the response has no body
+   */
+  public SpooledResponseBody read(HttpEntity httpEntity) throws IOException
+  {
+    if (httpEntity == null)
+    {
+      return null;
+    }
+    SpooledResponseBody body = newBody(httpEntity.getContentType());
+    try (InputStream inputStream = httpEntity.getContent())
+    {
+      if (inputStream == null)
+      {
+        return null;
+      }
+      byte[] buffer = new byte[8192];
+      int readBytes;
+      while ((readBytes = inputStream.read(buffer)) != -1)
+      {
+        body.write(buffer, 0, readBytes);
+      }
+      body.finish();
+      return body;
+    }
+    catch (IOException | RuntimeException ex)
+    {
+      body.close();
+      throw ex;
+    }
+  }
+
+  /**
+   * stores the given body in the given response. Textual bodies are stored as a preview and the raw bytes are
+   * only stored in addition if the body is binary or did not fit into the preview. In this case the body is
+   * handed over to the response as its {@link HttpResponse#getResponseBodyContent()} so that it can be streamed
+   * into the database and the response becomes responsible for closing it. Otherwise the body is closed by this
+   * method
+   */
+  public void setBody(HttpResponse.HttpResponseBuilder responseBuilder, SpooledResponseBody body) throws IOException
+  {
+    if (body == null)
+    {
+      return;
+    }
+    boolean handedOver = false;
+    try
+    {
+      SpooledResponseBody.Preview preview = body.getPreview(previewLength);
+      boolean previewComplete = preview != null && preview.complete() && !body.isTruncated();
+      responseBuilder.responseContentType(body.getContentType())
+                     .responseBodySize(body.getSize())
+                     .responseBodyBinary(body.isBinary())
+                     .responseBody(Optional.ofNullable(preview).map(SpooledResponseBody.Preview::text).orElse(null))
+                     .responseBodyPreview(preview != null && !preview.complete())
+                     .responseBodyTruncated(body.isTruncated());
+      if (!previewComplete)
+      {
+        responseBuilder.responseBodyContent(body);
+        handedOver = true;
+      }
+    }
+    finally
+    {
+      if (!handedOver)
+      {
+        body.close();
+      }
+    }
+  }
+
+  /**
+   * @return the charset of the content type or UTF-8 if the content type does not declare a charset
+   */
+  private static Charset getCharset(ContentType contentType)
+  {
+    return Optional.ofNullable(contentType).map(ContentType::getCharset).orElse(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * a body is considered to be text if the content type is missing, declares a charset or has a textual media
+   * type
+   */
+  static boolean isBinary(ContentType contentType)
+  {
+    if (contentType == null || contentType.getCharset() != null)
+    {
+      return false;
+    }
+    String mimeType = contentType.getMimeType().toLowerCase(Locale.ROOT);
+    return !(mimeType.startsWith("text/") || mimeType.endsWith("+json") || mimeType.endsWith("+xml")
+             || TEXT_MEDIA_TYPES.contains(mimeType));
+  }
+}
@@ -0,0 +1,111 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
+import de.captaingoldfish.restclient.database.repositories.TruststoreDao;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * caches the {@link SSLContext}s that were built from the application truststore and keystore. A context is
+ * identified by the last modified timestamp of the truststore, the alias of the TLS client authentication key
+ * and the last modified timestamp of the keystore so that a modified truststore or keystore will always lead
+ * to a new context. Since all http clients with the same TLS configuration share the same context they also
+ * share its client-side TLS session cache and are therefore able to resume sessions with the same remote
+ * server.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@Component
+public class SSLContextCache
+{
+
+  /**
+   * the maximum number of contexts that are cached at the same time
+   */
+  private static final int MAX_CONTEXTS = 50;
+
+  /**
+   * the maximum number of TLS sessions that are cached by a single context
+   */
+  private static final int SESSION_CACHE_SIZE = 1000;
+
+  /**
+   * the time in seconds that a cached TLS session may be resumed
+   */
+  private static final int SESSION_TIMEOUT_SECONDS = 60 * 60;
+
+  /**
+   * used to get the current version of the application truststore
+   */
+  private final TruststoreDao truststoreDao;
+
+  /**
+   * used to get the current version of the application keystore
+   */
+  private final KeystoreDao keystoreDao;
+
+  /**
+   * the cached contexts
+   */
+  private final Cache<SSLContextKey, SSLContext> sslContexts;
+
+  public SSLContextCache(TruststoreDao truststoreDao, KeystoreDao keystoreDao)
+  {
+    this.truststoreDao = truststoreDao;
+    this.keystoreDao = keystoreDao;
+    this.sslContexts = Caffeine.newBuilder().maximumSize(MAX_CONTEXTS).build();
+  }
+
+  /**
+   * gets the cached context for the current versions of the application truststore and keystore or builds a new
+   * one if the truststore or keystore was modified
+   *
+   * @param tlsClientAuthKeyRef the alias of the key within the application keystore that is used for TLS client
+   *          authentication. May be null if no client authentication should be done
+   * @return the TLS context to use
+   */
+  public SSLContext getSslContext(String tlsClientAuthKeyRef)
+  {
+    Instant keystoreLastModified = Optional.ofNullable(tlsClientAuthKeyRef)
+                                           .flatMap(keyRef -> keystoreDao.getKeystoreLastModified())
+                                           .orElse(null);
+    SSLContextKey sslContextKey = new SSLContextKey(truststoreDao.getTruststoreLastModified().orElse(null),
+                                                    tlsClientAuthKeyRef, keystoreLastModified);
+    return sslContexts.get(sslContextKey, key -> {
+      log.debug("Building new SSL context for TLS client authentication key '{}'", key.tlsClientAuthKeyRef());
+      SSLContext sslContext = SSLContextHelper.createSslContext(key.tlsClientAuthKeyRef());
+      SSLSessionContext clientSessionContext = sslContext.getClientSessionContext();
+      clientSessionContext.setSessionCacheSize(SESSION_CACHE_SIZE);
+      clientSessionContext.setSessionTimeout(SESSION_TIMEOUT_SECONDS);
+      return sslContext;
+    });
+  }
+
+  /**
+   * removes all cached contexts. Must be called if the application truststore or keystore was modified
+   */
+  public void invalidate()
+  {
+    log.trace("Invalidating cached SSL contexts");
+    sslContexts.invalidateAll();
+  }
+
+  /**
+   * identifies a context by the versions of the key material that was used to build it
+   */
+  private record SSLContextKey(Instant truststoreLastModified, String tlsClientAuthKeyRef, Instant keystoreLastModified)
+  {}
+}
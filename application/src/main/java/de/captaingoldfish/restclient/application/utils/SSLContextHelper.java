@@ -14,12 +14,12 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshot;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshot.KeyMaterial;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
-import de.captaingoldfish.restclient.database.entities.Keystore;
-import de.captaingoldfish.restclient.database.entities.KeystoreEntry;
 import de.captaingoldfish.restclient.database.entities.Truststore;
-import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
 import de.captaingoldfish.restclient.database.repositories.TruststoreDao;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -35,12 +35,26 @@ public final class SSLContextHelper
 {
 
   /**
-   * this method will build the {@link SSLContext} that will be used to access the identity provider based on
-   * the key within the http client settings
+   * this method will return the {@link SSLContext} that will be used to access the identity provider based on
+   * the key within the http client settings. The context is only rebuilt if the application truststore or
+   * keystore was modified
    *
    * @return the {@link SSLContext} that configured the TLS connection
    */
   public static SSLContext getSslContext(HttpClientSettings httpClientSettings)
+  {
+    SSLContextCache sslContextCache = WebAppConfig.getApplicationContext().getBean(SSLContextCache.class);
+    return sslContextCache.getSslContext(httpClientSettings.getTlsClientAuthKeyRef());
+  }
+
+  /**
+   * this method will build a new {@link SSLContext} from the application truststore and the given key of the
+   * application keystore
+   *
+   * @param tlsClientAuthKeyRef the alias of the key for TLS client authentication. May be null
+   * @return the {@link SSLContext} that configured the TLS connection
+   */
+  static SSLContext createSslContext(String tlsClientAuthKeyRef)
   {
     SSLContext sslContext;
     try
@@ -53,7 +67,7 @@ public final class SSLContextHelper
     }
     try
     {
-      sslContext.init(getKeyManagers(httpClientSettings.getTlsClientAuthKeyRef()), getTrustmanager(), null);
+      sslContext.init(getKeyManagers(tlsClientAuthKeyRef), getTrustmanager(), null);
     }
     catch (KeyManagementException e)
     {
@@ -101,8 +115,9 @@ public final class SSLContextHelper
     {
       return null;
     }
-    KeystoreDao keystoreDao = WebAppConfig.getApplicationContext().getBean(KeystoreDao.class);
-    Keystore applicationKeystore = keystoreDao.getKeystore();
+    KeystoreSnapshotService keystoreSnapshotService = WebAppConfig.getApplicationContext()
+                                                                  .getBean(KeystoreSnapshotService.class);
+    KeystoreSnapshot keystoreSnapshot = keystoreSnapshotService.getSnapshot();
     KeyManagerFactory keyManagerFactory;
     try
     {
@@ -114,11 +129,10 @@ public final class SSLContextHelper
     }
     try
     {
-      KeystoreEntry keystoreEntry = applicationKeystore.getKeystoreEntry(tlsClientKeyReference);
-      KeyPair keyPair = applicationKeystore.getKeyPair(keystoreEntry);
-      Certificate certificate = applicationKeystore.getCertificate(tlsClientKeyReference);
-      KeyStore tlsKeystore = buildTlsKeystore(keyPair, certificate, applicationKeystore.getKeystorePassword());
-      keyManagerFactory.init(tlsKeystore, applicationKeystore.getKeystorePassword().toCharArray());
+      KeyMaterial keyMaterial = keystoreSnapshot.getKeyMaterial(tlsClientKeyReference);
+      String keystorePassword = keystoreSnapshot.getKeystorePassword();
+      KeyStore tlsKeystore = buildTlsKeystore(keyMaterial.getKeyPair(), keyMaterial.getCertificate(), keystorePassword);
+      keyManagerFactory.init(tlsKeystore, keystorePassword.toCharArray());
     }
     catch (KeyStoreException | NoSuchAlgorithmException | UnrecoverableKeyException e)
     {
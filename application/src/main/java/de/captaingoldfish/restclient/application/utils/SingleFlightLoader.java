@@ -0,0 +1,71 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import lombok.SneakyThrows;
+
+
+/**
+ * makes sure that only a single load operation is running for the same key at the same time. Concurrent
+ * callers for the same key will wait for the result of the already running operation instead of starting
+ * their own while callers for other keys are never blocked.
+ *
+ * @param <K> the type of the key that identifies a load operation
+ * @param <V> the type of the loaded value
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class SingleFlightLoader<K, V>
+{
+
+  /**
+   * the load operations that are currently running
+   */
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * executes the given loader or waits for the result of an operation that is already running for the same key
+   *
+   * @param key identifies the load operation
+   * @param loader the operation that loads the value. Exceptions thrown by the loader are rethrown to all
+   *          callers that were waiting for the operation
+   * @return the loaded value
+   */
+  @SneakyThrows
+  public V load(K key, Supplier<V> loader)
+  {
+    CompletableFuture<V> newFlight = new CompletableFuture<>();
+    CompletableFuture<V> runningFlight = inFlight.putIfAbsent(key, newFlight);
+    if (runningFlight != null)
+    {
+      try
+      {
+        return runningFlight.join();
+      }
+      catch (CompletionException ex)
+      {
+        throw ex.getCause();
+      }
+    }
+
+    try
+    {
+      V value = loader.get();
+      newFlight.complete(value);
+      return value;
+    }
+    catch (Throwable ex)
+    {
+      newFlight.completeExceptionally(ex);
+      throw ex;
+    }
+    finally
+    {
+      inFlight.remove(key, newFlight);
+    }
+  }
+}
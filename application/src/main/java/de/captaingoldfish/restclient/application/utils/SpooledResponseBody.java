@@ -0,0 +1,245 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import de.captaingoldfish.restclient.database.entities.ResponseBodyContent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * a response body that is kept in memory up to a configurable threshold and spooled to a temporary file
+ * beyond it. Bytes beyond the maximum size are discarded. The temporary file is deleted when the body is
+ * closed, which must happen as soon as its content was streamed into the database or if it is not stored at
+ * all
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+public class SpooledResponseBody implements ResponseBodyContent
+{
+
+  /**
+   * the content type of the body as it was sent by the server or null if the server did not send it
+   */
+  @Getter
+  private final String contentType;
+
+  /**
+   * the charset that is used to decode textual bodies
+   */
+  @Getter
+  private final Charset charset;
+
+  /**
+   * if the body is not text
+   */
+  @Getter
+  private final boolean binary;
+
+  /**
+   * bodies that exceed this number of bytes are written to a temporary file
+   */
+  private final int memoryThreshold;
+
+  /**
+   * bytes beyond this limit are discarded
+   */
+  private final long maxSize;
+
+  /**
+   * holds the body as long as it does not exceed the {@link #memoryThreshold}
+   */
+  private ByteArrayOutputStream memoryBuffer = new ByteArrayOutputStream();
+
+  /**
+   * the temporary file that holds the body if it exceeded the {@link #memoryThreshold}
+   */
+  @Getter(AccessLevel.PACKAGE)
+  private Path spoolFile;
+
+  /**
+   * the open stream to the {@link #spoolFile} until the body was completely written
+   */
+  private OutputStream spoolOutputStream;
+
+  /**
+   * the number of stored bytes
+   */
+  @Getter
+  private long size;
+
+  /**
+   * if the body exceeded the {@link #maxSize} and the remaining bytes were discarded
+   */
+  @Getter
+  private boolean truncated;
+
+  SpooledResponseBody(String contentType, Charset charset, boolean binary, int memoryThreshold, long maxSize)
+  {
+    this.contentType = contentType;
+    this.charset = charset;
+    this.binary = binary;
+    this.memoryThreshold = memoryThreshold;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * appends the given bytes to the body
+   */
+  public void write(byte[] buffer, int offset, int length) throws IOException
+  {
+    int storableLength = (int)Math.min(length, maxSize - size);
+    if (storableLength < length)
+    {
+      truncated = true;
+    }
+    if (storableLength <= 0)
+    {
+      return;
+    }
+    if (spoolFile == null && size + storableLength > memoryThreshold)
+    {
+      spoolToFile();
+    }
+    if (spoolFile == null)
+    {
+      memoryBuffer.write(buffer, offset, storableLength);
+    }
+    else
+    {
+      spoolOutputStream.write(buffer, offset, storableLength);
+    }
+    size += storableLength;
+  }
+
+  /**
+   * appends the remaining bytes of the given buffer to the body
+   */
+  public void write(ByteBuffer byteBuffer) throws IOException
+  {
+    if (byteBuffer.hasArray())
+    {
+      write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+      byteBuffer.position(byteBuffer.limit());
+      return;
+    }
+    byte[] buffer = new byte[byteBuffer.remaining()];
+    byteBuffer.get(buffer);
+    write(buffer, 0, buffer.length);
+  }
+
+  /**
+   * must be called after the body was written completely
+   */
+  public void finish() throws IOException
+  {
+    if (spoolOutputStream != null)
+    {
+      spoolOutputStream.close();
+      spoolOutputStream = null;
+    }
+  }
+
+  /**
+   * @return a new stream that reads the body from its beginning
+   */
+  @Override
+  public InputStream openInputStream() throws IOException
+  {
+    if (spoolFile == null)
+    {
+      return new ByteArrayInputStream(memoryBuffer.toByteArray());
+    }
+    return Files.newInputStream(spoolFile);
+  }
+
+  /**
+   * decodes the beginning of a textual body
+   *
+   * @param maxLength the maximum number of characters of the preview
+   * @return the preview or null if the body is binary
+   */
+  public Preview getPreview(int maxLength) throws IOException
+  {
+    if (binary)
+    {
+      return null;
+    }
+    if (spoolFile == null && size <= maxLength)
+    {
+      return new Preview(memoryBuffer.toString(charset), true);
+    }
+    try (Reader reader = new InputStreamReader(openInputStream(),
+                                               charset.newDecoder()
+                                                      .onMalformedInput(CodingErrorAction.REPLACE)
+                                                      .onUnmappableCharacter(CodingErrorAction.REPLACE)))
+    {
+      char[] buffer = new char[maxLength + 1];
+      int length = 0;
+      int readChars;
+      while (length < buffer.length && (readChars = reader.read(buffer, length, buffer.length - length)) != -1)
+      {
+        length += readChars;
+      }
+      boolean complete = length <= maxLength;
+      return new Preview(new String(buffer, 0, Math.min(length, maxLength)), complete);
+    }
+  }
+
+  /**
+   * deletes the temporary file of the body. The body cannot be read anymore afterwards. Calling it more than
+   * once has no effect
+   */
+  @Override
+  public void close() throws IOException
+  {
+    if (spoolFile == null)
+    {
+      return;
+    }
+    try
+    {
+      finish();
+    }
+    finally
+    {
+      Files.deleteIfExists(spoolFile);
+      log.trace("Deleted spooled response body '{}'", spoolFile);
+    }
+  }
+
+  /**
+   * moves the already received bytes into a new temporary file
+   */
+  private void spoolToFile() throws IOException
+  {
+    spoolFile = Files.createTempFile("http-response-", ".body");
+    log.trace("Spooling response body with more than {} bytes to '{}'", memoryThreshold, spoolFile);
+    spoolOutputStream = Files.newOutputStream(spoolFile);
+    memoryBuffer.writeTo(spoolOutputStream);
+    memoryBuffer = null;
+  }
+
+  /**
+   * the beginning of a textual body
+   *
+   * @param text the decoded text
+   * @param complete if the text represents the complete body
+   */
+  public record Preview(String text, boolean complete)
+  {}
+}
@@ -5,17 +5,17 @@ import java.security.MessageDigest;
 import java.util.Base64;
 import java.util.Optional;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
 
 import de.captaingoldfish.restclient.application.endpoints.CredentialIssuerMetdatdataCache;
-import de.captaingoldfish.restclient.application.endpoints.OpenIdProviderMetdatdataCache;
+import de.captaingoldfish.restclient.application.endpoints.OpenIdProviderMetadataRefresher;
 import de.captaingoldfish.restclient.application.projectconfig.WebAppConfig;
 import de.captaingoldfish.restclient.database.entities.OpenIdProvider;
 import de.captaingoldfish.scim.sdk.common.exceptions.BadRequestException;
@@ -35,6 +35,17 @@ import lombok.extern.slf4j.Slf4j;
 public final class Utils
 {
 
+  /**
+   * makes sure that the OpenId4VCI metadata of a single provider is only requested once at the same time
+   */
+  private static final SingleFlightLoader<Long, Optional<ObjectNode>> OID4VCI_METADATA_LOADER = new SingleFlightLoader<>();
+
+  /**
+   * the maximum number of characters that are read from responses that are expected to be small documents like
+   * metadata, JWKS or token responses. Anything beyond is cut off
+   */
+  private static final int MAX_DOCUMENT_LENGTH = 10 * 1024 * 1024;
+
   /**
    * tries to parse a given id for a SCIM [get, update, delete] to a long value
    */
@@ -51,76 +62,58 @@ public final class Utils
   }
 
   /**
-   * loads the OpenID Connect metadata from the identity provider
+   * loads the OpenID Connect metadata from the identity provider. Once loaded the metadata is returned without
+   * waiting for the discovery endpoint and is revalidated in the background after it has expired
    *
    * @param openIdProvider the OpenID Provider definition
    * @return the metadata of the OpenID Provider
+   * @see OpenIdProviderMetadataRefresher
    */
-  @SneakyThrows
-  public synchronized static OIDCProviderMetadata loadDiscoveryEndpointInfos(OpenIdProvider openIdProvider)
+  public static OIDCProviderMetadata loadDiscoveryEndpointInfos(OpenIdProvider openIdProvider)
   {
-    OpenIdProviderMetdatdataCache metadataCache = WebAppConfig.getApplicationContext()
-                                                              .getBean(OpenIdProviderMetdatdataCache.class);
-    {
-      OIDCProviderMetadata metadata = metadataCache.getProviderMetadata(openIdProvider.getId());
-      if (metadata != null)
-      {
-        return metadata;
-      }
-    }
-    String discoveryUrl = openIdProvider.getDiscoveryEndpoint();
-    log.info("Requesting OIDC metadata from: {}", discoveryUrl);
-    final String responseBody;
-
-    HttpGet httpGet = new HttpGet(discoveryUrl);
-    try (CloseableHttpClient httpClient = HttpClientBuilder.getDefaultHttpClient();
-      CloseableHttpResponse response = httpClient.execute(httpGet))
-    {
-      responseBody = Utils.getBody(response);
-      if (response.getCode() != 200)
-      {
-        throw new BadRequestException(String.format("Failed to load meta-data from OpenID Discovery endpoint: %s",
-                                                    responseBody));
-      }
-    }
-    catch (Exception ex)
-    {
-      throw new BadRequestException(String.format("Failed to load meta-data from OpenID Discovery endpoint: %s",
-                                                  ex.getMessage()),
-                                    ex);
-    }
-    OIDCProviderMetadata metadata = OIDCProviderMetadata.parse(responseBody);
-    metadataCache.setProviderMetadata(openIdProvider.getId(), metadata);
-    return metadata;
+    OpenIdProviderMetadataRefresher metadataRefresher = WebAppConfig.getApplicationContext()
+                                                                    .getBean(OpenIdProviderMetadataRefresher.class);
+    return metadataRefresher.getProviderMetadata(openIdProvider);
   }
 
   /**
    * retrieves the metadata from the OpenId4VCI discovery endpoint ".well-known/openid-credential-issuer" if the
-   * authorization server has such an endpoint
+   * authorization server has such an endpoint. Cached metadata is returned without any locking and concurrent
+   * requests for the same provider will share a single request to the discovery endpoint
    */
-  public synchronized static Optional<ObjectNode> loadOidc4vciDiscoveryEndpointInfos(OpenIdProvider openIdProvider)
+  public static Optional<ObjectNode> loadOidc4vciDiscoveryEndpointInfos(OpenIdProvider openIdProvider)
   {
     CredentialIssuerMetdatdataCache metadataCache = WebAppConfig.getApplicationContext()
                                                                 .getBean(CredentialIssuerMetdatdataCache.class);
+    ObjectNode cachedMetadata = metadataCache.getProviderMetadata(openIdProvider.getId());
+    if (cachedMetadata != null)
     {
-      ObjectNode metadata = metadataCache.getProviderMetadata(openIdProvider.getId());
-      if (metadata != null)
-      {
-        return Optional.of(metadata);
-      }
+      return Optional.of(cachedMetadata);
     }
-
-    String discoveryUrl = openIdProvider.getOid4vciDiscoveryEndpoint();
-    if (StringUtils.isBlank(discoveryUrl))
+    if (StringUtils.isBlank(openIdProvider.getOid4vciDiscoveryEndpoint()))
     {
       return Optional.empty();
     }
+    return OID4VCI_METADATA_LOADER.load(openIdProvider.getId(), () -> {
+      // another thread might have finished loading the metadata in the meantime
+      return Optional.ofNullable(metadataCache.getProviderMetadata(openIdProvider.getId()))
+                     .or(() -> requestOidc4vciDiscoveryEndpointInfos(openIdProvider, metadataCache));
+    });
+  }
+
+  /**
+   * requests the metadata from the OpenId4VCI discovery endpoint and caches it
+   */
+  private static Optional<ObjectNode> requestOidc4vciDiscoveryEndpointInfos(OpenIdProvider openIdProvider,
+                                                                            CredentialIssuerMetdatdataCache metadataCache)
+  {
+    String discoveryUrl = openIdProvider.getOid4vciDiscoveryEndpoint();
     log.info("Requesting OID4VCI metadata from: {}", discoveryUrl);
     final String responseBody;
 
     HttpGet httpGet = new HttpGet(discoveryUrl);
-    try (CloseableHttpClient httpClient = HttpClientBuilder.getDefaultHttpClient();
-      CloseableHttpResponse response = httpClient.execute(httpGet))
+    CloseableHttpClient httpClient = HttpClientBuilder.getDefaultHttpClient();
+    try (CloseableHttpResponse response = httpClient.execute(httpGet))
     {
       responseBody = Utils.getBody(response);
       if (response.getCode() != 200)
@@ -140,10 +133,14 @@ public final class Utils
     return Optional.of(metadata);
   }
 
+  /**
+   * reads the body of a response that is expected to be a small document. The body is decoded with the charset
+   * of its content type or with UTF-8 if the content type does not declare one
+   */
   @SneakyThrows
   public static String getBody(CloseableHttpResponse response)
   {
-    return IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+    return EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8, MAX_DOCUMENT_LENGTH);
   }
 
   /**
@@ -0,0 +1,91 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+
+import de.captaingoldfish.restclient.application.setup.FileReferences;
+import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
+import de.captaingoldfish.restclient.database.entities.Keystore;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public class JwtCryptoCacheTest implements FileReferences
+{
+
+  private Keystore applicationKeystore;
+
+  private JwtCryptoCache jwtCryptoCache;
+
+  @SneakyThrows
+  @BeforeEach
+  public void initialize()
+  {
+    try (InputStream inputStream = readAsInputStream(UNIT_TEST_KEYSTORE_JKS_EXTENDED))
+    {
+      applicationKeystore = new Keystore(inputStream, KeyStoreSupporter.KeyStoreType.JKS, UNIT_TEST_KEYSTORE_PASSWORD);
+      applicationKeystore.setKeystoreType(KeyStoreSupporter.KeyStoreType.JKS);
+      applicationKeystore.setKeystorePassword(UNIT_TEST_KEYSTORE_PASSWORD);
+      getExtendedUnitTestKeystoreEntryAccess().forEach(applicationKeystore::addKeyEntry);
+    }
+    jwtCryptoCache = new JwtCryptoCache();
+  }
+
+  /**
+   * verifies that the crypto objects are only built once for the same key, algorithm and keystore version
+   */
+  @Test
+  public void testCryptoObjectsAreReused()
+  {
+    KeystoreSnapshot snapshot = new KeystoreSnapshot(1, applicationKeystore);
+
+    JWSSigner signer = jwtCryptoCache.getSigner(snapshot, "unit-test-rsa", JWSAlgorithm.RS256);
+
+    Assertions.assertSame(signer, jwtCryptoCache.getSigner(snapshot, "unit-test-rsa", JWSAlgorithm.RS256));
+    Assertions.assertNotSame(signer, jwtCryptoCache.getSigner(snapshot, "unit-test-rsa", JWSAlgorithm.PS256));
+    Assertions.assertNotSame(signer, jwtCryptoCache.getSigner(snapshot, "goldfish-rsa", JWSAlgorithm.RS256));
+    Assertions.assertSame(jwtCryptoCache.getDecrypter(snapshot, "unit-test-ec", JWEAlgorithm.ECDH_ES_A128KW),
+                          jwtCryptoCache.getDecrypter(snapshot, "unit-test-ec", JWEAlgorithm.ECDH_ES_A128KW));
+    Assertions.assertSame(jwtCryptoCache.getSha256Thumbprint(snapshot, "unit-test-ec"),
+                          jwtCryptoCache.getSha256Thumbprint(snapshot, "unit-test-ec"));
+    Assertions.assertFalse(jwtCryptoCache.getPublicJwk(snapshot, "unit-test-ec").isPrivate());
+  }
+
+  /**
+   * verifies that new crypto objects are built for a new version of the keystore
+   */
+  @Test
+  public void testCryptoObjectsAreRebuiltForNewKeystoreVersion()
+  {
+    KeystoreSnapshot snapshot = new KeystoreSnapshot(1, applicationKeystore);
+    KeystoreSnapshot newSnapshot = new KeystoreSnapshot(2, applicationKeystore);
+
+    JWSSigner signer = jwtCryptoCache.getSigner(snapshot, "unit-test-rsa", JWSAlgorithm.RS256);
+
+    Assertions.assertNotSame(signer, jwtCryptoCache.getSigner(newSnapshot, "unit-test-rsa", JWSAlgorithm.RS256));
+  }
+
+  /**
+   * verifies that the cache does not return any objects that were built before the invalidation
+   */
+  @Test
+  public void testInvalidate()
+  {
+    KeystoreSnapshot snapshot = new KeystoreSnapshot(1, applicationKeystore);
+    JWSSigner signer = jwtCryptoCache.getSigner(snapshot, "unit-test-rsa", JWSAlgorithm.RS256);
+
+    jwtCryptoCache.invalidate();
+
+    Assertions.assertNotSame(signer, jwtCryptoCache.getSigner(snapshot, "unit-test-rsa", JWSAlgorithm.RS256));
+  }
+}
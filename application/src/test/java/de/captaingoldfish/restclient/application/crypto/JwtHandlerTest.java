@@ -99,7 +99,7 @@ public class JwtHandlerTest implements FileReferences
   @MethodSource("signatureAlgorithmParameters")
   public void testJwtSignerTest(String keyId, JWSAlgorithm algorithm)
   {
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    JwtHandler jwtHandler = new JwtHandler(new KeystoreSnapshotService(keystoreDao));
 
     String header = String.format("{\"kid\": \"%s\", \"alg\": \"%s\"}", keyId, algorithm);
     String body = "{\"iss\": \"goldfish-ec\"}";
@@ -113,7 +113,7 @@ public class JwtHandlerTest implements FileReferences
   @MethodSource("signatureAlgorithmParameters")
   public void testJwtSignerTestWithDirectKeyId(String keyId, JWSAlgorithm algorithm)
   {
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    JwtHandler jwtHandler = new JwtHandler(new KeystoreSnapshotService(keystoreDao));
 
     String header = String.format("{ \"alg\": \"%s\"}", algorithm);
     String body = "{\"iss\": \"goldfish-ec\"}";
@@ -127,7 +127,7 @@ public class JwtHandlerTest implements FileReferences
   @MethodSource("encryptionAlgorithmParameters")
   public void testJwtEncryptionTest(String keyId, JWEAlgorithm algorithm, EncryptionMethod contentAlgorithm)
   {
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    JwtHandler jwtHandler = new JwtHandler(new KeystoreSnapshotService(keystoreDao));
 
     String header = String.format("{\"kid\": \"%s\", \"alg\": \"%s\", \"enc\": \"%s\"}",
                                   keyId,
@@ -146,7 +146,7 @@ public class JwtHandlerTest implements FileReferences
                                                    JWEAlgorithm algorithm,
                                                    EncryptionMethod contentAlgorithm)
   {
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    JwtHandler jwtHandler = new JwtHandler(new KeystoreSnapshotService(keystoreDao));
 
     String header = String.format("{ \"alg\": \"%s\", \"enc\": \"%s\"}", algorithm, contentAlgorithm);
     String body = "{\"iss\": \"goldfish-ec\"}";
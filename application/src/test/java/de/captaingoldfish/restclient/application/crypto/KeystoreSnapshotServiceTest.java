@@ -0,0 +1,113 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.captaingoldfish.restclient.application.setup.FileReferences;
+import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
+import de.captaingoldfish.restclient.database.entities.Keystore;
+import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public class KeystoreSnapshotServiceTest implements FileReferences
+{
+
+  private Keystore applicationKeystore;
+
+  private KeystoreDao keystoreDao;
+
+  private KeystoreSnapshotService keystoreSnapshotService;
+
+  @SneakyThrows
+  @BeforeEach
+  public void initialize()
+  {
+    try (InputStream inputStream = readAsInputStream(UNIT_TEST_KEYSTORE_JKS_EXTENDED))
+    {
+      applicationKeystore = new Keystore(inputStream, KeyStoreSupporter.KeyStoreType.JKS, UNIT_TEST_KEYSTORE_PASSWORD);
+      applicationKeystore.setKeystoreType(KeyStoreSupporter.KeyStoreType.JKS);
+      applicationKeystore.setKeystorePassword(UNIT_TEST_KEYSTORE_PASSWORD);
+      applicationKeystore.setLastModified(Instant.now());
+      getExtendedUnitTestKeystoreEntryAccess().forEach(applicationKeystore::addKeyEntry);
+    }
+    keystoreDao = Mockito.mock(KeystoreDao.class);
+    Mockito.doReturn(applicationKeystore).when(keystoreDao).getKeystore();
+    Mockito.doAnswer(invocation -> Optional.ofNullable(applicationKeystore.getLastModified()))
+           .when(keystoreDao)
+           .getKeystoreLastModified();
+    keystoreSnapshotService = new KeystoreSnapshotService(keystoreDao);
+  }
+
+  /**
+   * verifies that the keys of the snapshot are decoded and accessible by their aliases
+   */
+  @Test
+  public void testKeyMaterialIsDecoded()
+  {
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+
+    KeystoreSnapshot.KeyMaterial keyMaterial = snapshot.getKeyMaterial("unit-test-rsa");
+    Assertions.assertEquals("unit-test-rsa", keyMaterial.getAlias());
+    Assertions.assertNotNull(keyMaterial.getPrivateKey());
+    Assertions.assertEquals(keyMaterial.getCertificate().getPublicKey(), keyMaterial.getPublicKey());
+    Assertions.assertTrue(keyMaterial.getJwk().isPrivate());
+    Assertions.assertEquals(UNIT_TEST_KEYSTORE_PASSWORD, snapshot.getKeystorePassword());
+    Assertions.assertTrue(snapshot.findKeyMaterial("unknown").isEmpty());
+    Assertions.assertThrows(IllegalStateException.class, () -> snapshot.getKeyMaterial("unknown"));
+  }
+
+  /**
+   * verifies that the keystore is loaded and decoded only once as long as it was not modified
+   */
+  @Test
+  public void testSnapshotIsReusedIfKeystoreWasNotModified()
+  {
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+
+    Assertions.assertSame(snapshot, keystoreSnapshotService.getSnapshot());
+    Assertions.assertSame(snapshot, keystoreSnapshotService.getSnapshot());
+    Mockito.verify(keystoreDao, Mockito.times(1)).getKeystore();
+  }
+
+  /**
+   * verifies that a new snapshot with a higher version is built if the keystore was modified
+   */
+  @Test
+  public void testSnapshotIsRebuiltIfKeystoreWasModified()
+  {
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+
+    applicationKeystore.setLastModified(applicationKeystore.getLastModified().plusSeconds(1));
+
+    KeystoreSnapshot newSnapshot = keystoreSnapshotService.getSnapshot();
+    Assertions.assertNotSame(snapshot, newSnapshot);
+    Assertions.assertEquals(snapshot.getVersion() + 1, newSnapshot.getVersion());
+    Mockito.verify(keystoreDao, Mockito.times(2)).getKeystore();
+  }
+
+  /**
+   * verifies that a new snapshot is built after the current snapshot was invalidated
+   */
+  @Test
+  public void testSnapshotIsRebuiltAfterInvalidation()
+  {
+    KeystoreSnapshot snapshot = keystoreSnapshotService.getSnapshot();
+
+    keystoreSnapshotService.invalidate();
+
+    KeystoreSnapshot newSnapshot = keystoreSnapshotService.getSnapshot();
+    Assertions.assertNotSame(snapshot, newSnapshot);
+    Assertions.assertEquals(snapshot.getVersion() + 1, newSnapshot.getVersion());
+  }
+}
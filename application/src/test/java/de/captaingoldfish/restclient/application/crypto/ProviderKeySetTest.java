@@ -0,0 +1,113 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class ProviderKeySetTest
+{
+
+  /**
+   * verifies that the key with the key id of the header is used and that its verifier is reused
+   */
+  @SneakyThrows
+  @Test
+  public void testVerifierIsSelectedByKeyIdAndReused()
+  {
+    RSAKey firstKey = new RSAKeyGenerator(2048).keyID("first").generate();
+    RSAKey secondKey = new RSAKeyGenerator(2048).keyID("second").generate();
+    ProviderKeySet keySet = newKeySet(firstKey.toPublicJWK(), secondKey.toPublicJWK());
+
+    JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("second").build();
+    List<JWSVerifier> verifiers = keySet.getVerifiers(header);
+    Assertions.assertEquals(1, verifiers.size());
+
+    SignedJWT signedJwt = new SignedJWT(header, new JWTClaimsSet.Builder().subject("goldfish").build());
+    signedJwt.sign(new RSASSASigner(secondKey));
+    Assertions.assertTrue(signedJwt.verify(verifiers.get(0)));
+    Assertions.assertSame(verifiers.get(0), keySet.getVerifiers(header).get(0));
+    Assertions.assertSame(verifiers.get(0), keySet.withLoadedAt(Instant.now()).getVerifiers(header).get(0));
+  }
+
+  /**
+   * verifies that no verifier is returned for an unknown key id or a key of another type
+   */
+  @SneakyThrows
+  @Test
+  public void testNoVerifierForUnknownKey()
+  {
+    RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("rsa").generate();
+    ECKey ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+    ProviderKeySet keySet = newKeySet(rsaKey.toPublicJWK(), ecKey.toPublicJWK());
+
+    Assertions.assertFalse(keySet.containsKeyId("unknown"));
+    Assertions.assertTrue(keySet.getVerifiers(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("unknown").build())
+                                .isEmpty());
+    Assertions.assertTrue(keySet.getVerifiers(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID("rsa").build())
+                                .isEmpty());
+  }
+
+  /**
+   * verifies that all keys of the matching type are candidates if the header does not contain a key id and that
+   * encryption keys are ignored
+   */
+  @SneakyThrows
+  @Test
+  public void testCandidatesWithoutKeyId()
+  {
+    RSAKey firstKey = new RSAKeyGenerator(2048).keyUse(KeyUse.SIGNATURE).generate();
+    RSAKey secondKey = new RSAKeyGenerator(2048).generate();
+    RSAKey encryptionKey = new RSAKeyGenerator(2048).keyUse(KeyUse.ENCRYPTION).generate();
+    ECKey ecKey = new ECKeyGenerator(Curve.P_256).generate();
+    ProviderKeySet keySet = newKeySet(firstKey.toPublicJWK(),
+                                      secondKey.toPublicJWK(),
+                                      encryptionKey.toPublicJWK(),
+                                      ecKey.toPublicJWK());
+
+    Assertions.assertEquals(3, keySet.size());
+    Assertions.assertEquals(2, keySet.getVerifiers(new JWSHeader(JWSAlgorithm.PS256)).size());
+    Assertions.assertEquals(1, keySet.getVerifiers(new JWSHeader(JWSAlgorithm.ES256)).size());
+  }
+
+  /**
+   * verifies that a reload is only permitted after the minimum interval has passed
+   */
+  @Test
+  public void testReloadIsRateLimited()
+  {
+    Instant loadedAt = Instant.now();
+    ProviderKeySet keySet = new ProviderKeySet("https://localhost/jwks", null, List.of(), loadedAt);
+    Duration minReloadInterval = Duration.ofSeconds(30);
+    Assertions.assertFalse(keySet.isReloadPermitted(loadedAt.plusSeconds(29), minReloadInterval));
+    Assertions.assertTrue(keySet.isReloadPermitted(loadedAt.plusSeconds(30), minReloadInterval));
+  }
+
+  private static ProviderKeySet newKeySet(JWK... keys)
+  {
+    return new ProviderKeySet("https://localhost/jwks", null, List.of(keys), Instant.now());
+  }
+}
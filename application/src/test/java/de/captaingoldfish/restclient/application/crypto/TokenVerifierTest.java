@@ -0,0 +1,166 @@
+package de.captaingoldfish.restclient.application.crypto;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import de.captaingoldfish.restclient.database.entities.OpenIdProvider;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class TokenVerifierTest
+{
+
+  private static final String ISSUER = "https://localhost/realms/goldfish";
+
+  private static final String CLIENT_ID = "goldfish-client";
+
+  private static final String NONCE = "goldfish-nonce";
+
+  private static final TokenVerifier.ExpectedClaims EXPECTED_CLAIMS = new TokenVerifier.ExpectedClaims(ISSUER,
+                                                                                                       CLIENT_ID,
+                                                                                                       NONCE);
+
+  private RSAKey signingKey;
+
+  private TokenVerifier tokenVerifier;
+
+  private OpenIdProvider openIdProvider;
+
+  @SneakyThrows
+  @BeforeEach
+  public void initialize()
+  {
+    signingKey = new RSAKeyGenerator(2048).keyID("goldfish").generate();
+    JwksCache jwksCache = Mockito.mock(JwksCache.class);
+    Mockito.doReturn(List.of(new RSASSAVerifier(signingKey.toRSAPublicKey())))
+           .when(jwksCache)
+           .getVerifiers(ArgumentMatchers.any(), ArgumentMatchers.any());
+    tokenVerifier = new TokenVerifier(jwksCache);
+    openIdProvider = OpenIdProvider.builder().name("goldfish").build();
+  }
+
+  /**
+   * verifies that a token with a valid signature and valid claims is accepted
+   */
+  @Test
+  public void testValidToken()
+  {
+    String token = createToken(signingKey, ISSUER, Instant.now().plusSeconds(300));
+    TokenVerifier.TokenVerification verification = tokenVerifier.verify(openIdProvider,
+                                                                        "id_token",
+                                                                        token,
+                                                                        EXPECTED_CLAIMS);
+    Assertions.assertTrue(verification.valid(), verification.message());
+    Assertions.assertEquals("id_token", verification.tokenName());
+    Assertions.assertEquals("goldfish", verification.keyId());
+  }
+
+  /**
+   * verifies that a token signed with another key is rejected
+   */
+  @SneakyThrows
+  @Test
+  public void testInvalidSignature()
+  {
+    RSAKey otherKey = new RSAKeyGenerator(2048).keyID("goldfish").generate();
+    String token = createToken(otherKey, ISSUER, Instant.now().plusSeconds(300));
+    TokenVerifier.TokenVerification verification = tokenVerifier.verify(openIdProvider,
+                                                                        "id_token",
+                                                                        token,
+                                                                        EXPECTED_CLAIMS);
+    Assertions.assertFalse(verification.valid());
+    Assertions.assertEquals("Signature is invalid", verification.message());
+  }
+
+  /**
+   * verifies that expired tokens and tokens of another issuer are rejected
+   */
+  @Test
+  public void testInvalidClaims()
+  {
+    String expiredToken = createToken(signingKey, ISSUER, Instant.now().minusSeconds(3600));
+    Assertions.assertFalse(tokenVerifier.verify(openIdProvider, "id_token", expiredToken, EXPECTED_CLAIMS).valid());
+
+    String foreignToken = createToken(signingKey, "https://localhost/other", Instant.now().plusSeconds(300));
+    Assertions.assertFalse(tokenVerifier.verify(openIdProvider, "id_token", foreignToken, EXPECTED_CLAIMS).valid());
+  }
+
+  /**
+   * verifies that the issuer, the audience and the nonce are required if they are expected
+   */
+  @Test
+  public void testMissingOrWrongExpectedClaims()
+  {
+    Instant expiresAt = Instant.now().plusSeconds(300);
+    String tokenWithoutIssuer = createToken(signingKey, null, CLIENT_ID, NONCE, expiresAt);
+    Assertions.assertFalse(tokenVerifier.verify(openIdProvider, "id_token", tokenWithoutIssuer, EXPECTED_CLAIMS)
+                                        .valid());
+
+    String foreignAudienceToken = createToken(signingKey, ISSUER, "other-client", NONCE, expiresAt);
+    Assertions.assertFalse(tokenVerifier.verify(openIdProvider, "id_token", foreignAudienceToken, EXPECTED_CLAIMS)
+                                        .valid());
+
+    String tokenWithoutNonce = createToken(signingKey, ISSUER, CLIENT_ID, null, expiresAt);
+    Assertions.assertFalse(tokenVerifier.verify(openIdProvider, "id_token", tokenWithoutNonce, EXPECTED_CLAIMS)
+                                        .valid());
+
+    String wrongNonceToken = createToken(signingKey, ISSUER, CLIENT_ID, "other-nonce", expiresAt);
+    Assertions.assertFalse(tokenVerifier.verify(openIdProvider, "id_token", wrongNonceToken, EXPECTED_CLAIMS).valid());
+
+    // claims that are not expected are not checked e.g. the audience and the nonce of access tokens
+    TokenVerifier.ExpectedClaims issuerOnly = new TokenVerifier.ExpectedClaims(ISSUER, null, null);
+    Assertions.assertTrue(tokenVerifier.verify(openIdProvider, "access_token", tokenWithoutNonce, issuerOnly).valid());
+  }
+
+  /**
+   * verifies that only tokens in JWS compact serialization are recognized as signed tokens
+   */
+  @Test
+  public void testIsSignedJwt()
+  {
+    Assertions.assertTrue(TokenVerifier.isSignedJwt("a.b.c"));
+    Assertions.assertFalse(TokenVerifier.isSignedJwt("opaque-token"));
+    Assertions.assertFalse(TokenVerifier.isSignedJwt("a.b.c.d.e"));
+    Assertions.assertFalse(TokenVerifier.isSignedJwt(null));
+  }
+
+  private static String createToken(RSAKey key, String issuer, Instant expiresAt)
+  {
+    return createToken(key, issuer, CLIENT_ID, NONCE, expiresAt);
+  }
+
+  @SneakyThrows
+  private static String createToken(RSAKey key, String issuer, String audience, String nonce, Instant expiresAt)
+  {
+    JWTClaimsSet claims = new JWTClaimsSet.Builder().issuer(issuer)
+                                                    .subject("goldfish")
+                                                    .audience(audience)
+                                                    .claim("nonce", nonce)
+                                                    .expirationTime(Date.from(expiresAt))
+                                                    .build();
+    SignedJWT signedJwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                                        claims);
+    signedJwt.sign(new RSASSASigner(key));
+    return signedJwt.serialize();
+  }
+}
@@ -0,0 +1,451 @@
+package de.captaingoldfish.restclient.application.endpoints;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nimbusds.openid.connect.sdk.op.OIDCProviderMetadata;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.captaingoldfish.restclient.application.setup.AbstractOAuthRestClientTest;
+import de.captaingoldfish.restclient.application.setup.OAuthRestClientTest;
+import de.captaingoldfish.restclient.database.entities.OpenIdProvider;
+import lombok.SneakyThrows;
+
+
+/**
+ * the metadata is requested with the pooled http clients of the application, so the revalidation tests need
+ * the application context. The discovery endpoint is a local stand-in server whose responses are set by the
+ * single tests
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@OAuthRestClientTest
+public class OpenIdProviderMetadataRefresherTest extends AbstractOAuthRestClientTest
+{
+
+  /**
+   * the path of the discovery document on the stand-in server
+   */
+  private static final String DISCOVERY_PATH = "/.well-known/openid-configuration";
+
+  /**
+   * the stand-in for the discovery endpoint of the provider
+   */
+  private DiscoveryEndpoint discoveryEndpoint;
+
+  private HttpServer discoveryServer;
+
+  private InMemoryMetadataCache metadataCache;
+
+  private OpenIdProviderMetadataRefresher metadataRefresher;
+
+  private OpenIdProvider openIdProvider;
+
+  @SneakyThrows
+  @BeforeEach
+  public void startDiscoveryServer()
+  {
+    discoveryEndpoint = new DiscoveryEndpoint();
+    discoveryServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    discoveryServer.createContext("/", discoveryEndpoint::handle);
+    discoveryServer.start();
+
+    metadataCache = new InMemoryMetadataCache();
+    metadataRefresher = new OpenIdProviderMetadataRefresher(metadataCache);
+    openIdProvider = OpenIdProvider.builder().name("stand-in").discoveryEndpoint(getDiscoveryUrl()).build();
+    openIdProvider.setId(1L);
+  }
+
+  @AfterEach
+  public void stopDiscoveryServer()
+  {
+    discoveryEndpoint.release();
+    metadataRefresher.destroy();
+    discoveryServer.stop(0);
+  }
+
+  /**
+   * verifies that expired metadata is returned at once while it is revalidated in the background and that only
+   * a single revalidation runs at the same time
+   */
+  @SneakyThrows
+  @Test
+  public void testServeStaleMetadataWhileRefreshing()
+  {
+    OIDCProviderMetadata staleMetadata = parseMetadata("http://old-issuer");
+    metadataCache.setProviderMetadata(1L,
+                                      new CachedProviderMetadata(getDiscoveryUrl(), staleMetadata, null,
+                                                                 Instant.now().minusSeconds(1)));
+    discoveryEndpoint.respond(HttpStatus.SC_OK, "http://new-issuer", null, null);
+    discoveryEndpoint.block();
+
+    Assertions.assertSame(staleMetadata, metadataRefresher.getProviderMetadata(openIdProvider));
+    Assertions.assertTrue(discoveryEndpoint.awaitRequest());
+    Assertions.assertSame(staleMetadata, metadataRefresher.getProviderMetadata(openIdProvider));
+    discoveryEndpoint.release();
+
+    awaitCondition(() -> isIssuer(metadataCache.getProviderMetadata(1L), "http://new-issuer"));
+    Assertions.assertEquals("http://new-issuer",
+                            metadataRefresher.getProviderMetadata(openIdProvider).getIssuer().getValue());
+    Assertions.assertEquals(1, discoveryEndpoint.getRequestCount());
+  }
+
+  /**
+   * verifies that the metadata is revalidated with its entity tag and that a "304 Not Modified" response only
+   * extends the lifetime of the cached metadata without parsing it again
+   */
+  @Test
+  public void testNotModifiedExtendsLifetime()
+  {
+    discoveryEndpoint.respond(HttpStatus.SC_OK, "http://issuer", "\"v1\"", "max-age=0");
+    OIDCProviderMetadata loadedMetadata = metadataRefresher.getProviderMetadata(openIdProvider);
+    Assertions.assertTrue(metadataCache.getProviderMetadata(1L).isStale(Instant.now()));
+
+    discoveryEndpoint.respond(HttpStatus.SC_NOT_MODIFIED, null, "\"v1\"", "max-age=3600");
+    Assertions.assertSame(loadedMetadata, metadataRefresher.getProviderMetadata(openIdProvider));
+
+    awaitCondition(() -> !metadataCache.getProviderMetadata(1L).isStale(Instant.now().plusSeconds(1800)));
+    CachedProviderMetadata revalidatedMetadata = metadataCache.getProviderMetadata(1L);
+    Assertions.assertSame(loadedMetadata, revalidatedMetadata.getMetadata());
+    Assertions.assertEquals("\"v1\"", revalidatedMetadata.getETag());
+    Assertions.assertEquals("\"v1\"", discoveryEndpoint.getLastIfNoneMatch());
+    Assertions.assertEquals(2, discoveryEndpoint.getRequestCount());
+  }
+
+  /**
+   * verifies that the last known metadata is kept if the discovery endpoint answers with a server error and
+   * that it is revalidated again after the back-off
+   */
+  @Test
+  public void testKeepLastGoodMetadataOnServerError()
+  {
+    OIDCProviderMetadata lastGoodMetadata = parseMetadata("http://issuer");
+    metadataCache.setProviderMetadata(1L,
+                                      new CachedProviderMetadata(getDiscoveryUrl(), lastGoodMetadata, null,
+                                                                 Instant.now().minusSeconds(1)));
+    discoveryEndpoint.respond(HttpStatus.SC_BAD_GATEWAY, null, null, null);
+
+    Assertions.assertSame(lastGoodMetadata, metadataRefresher.getProviderMetadata(openIdProvider));
+    awaitCondition(() -> !metadataCache.getProviderMetadata(1L).isStale(Instant.now()));
+    CachedProviderMetadata keptMetadata = metadataCache.getProviderMetadata(1L);
+    Assertions.assertSame(lastGoodMetadata, keptMetadata.getMetadata());
+    Assertions.assertTrue(keptMetadata.isStale(Instant.now()
+                                                      .plus(OpenIdProviderMetadataRefresher.RETRY_AFTER_FAILURE)
+                                                      .plusSeconds(1)));
+
+    // no further request is sent within the back-off
+    Assertions.assertSame(lastGoodMetadata, metadataRefresher.getProviderMetadata(openIdProvider));
+    Assertions.assertEquals(1, discoveryEndpoint.getRequestCount());
+  }
+
+  /**
+   * verifies that the last known metadata is kept if the discovery endpoint is not reachable
+   */
+  @SneakyThrows
+  @Test
+  public void testKeepLastGoodMetadataIfUnreachable()
+  {
+    String unreachableUrl;
+    try (ServerSocket serverSocket = new ServerSocket(0))
+    {
+      unreachableUrl = "http://localhost:" + serverSocket.getLocalPort() + DISCOVERY_PATH;
+    }
+    openIdProvider.setDiscoveryEndpoint(unreachableUrl);
+    OIDCProviderMetadata lastGoodMetadata = parseMetadata("http://issuer");
+    metadataCache.setProviderMetadata(1L,
+                                      new CachedProviderMetadata(unreachableUrl, lastGoodMetadata, null,
+                                                                 Instant.now().minusSeconds(1)));
+
+    Assertions.assertSame(lastGoodMetadata, metadataRefresher.getProviderMetadata(openIdProvider));
+    awaitCondition(() -> !metadataCache.getProviderMetadata(1L).isStale(Instant.now()));
+    Assertions.assertSame(lastGoodMetadata, metadataCache.getProviderMetadata(1L).getMetadata());
+    Assertions.assertEquals(unreachableUrl, metadataCache.getProviderMetadata(1L).getDiscoveryUrl());
+  }
+
+  /**
+   * verifies that the metadata is requested again once the back-off after a failed revalidation is over
+   */
+  @Test
+  public void testRetryAfterFailureBackOff()
+  {
+    OIDCProviderMetadata lastGoodMetadata = parseMetadata("http://issuer");
+    metadataCache.setProviderMetadata(1L,
+                                      new CachedProviderMetadata(getDiscoveryUrl(), lastGoodMetadata, null,
+                                                                 Instant.now().minusSeconds(1)));
+    discoveryEndpoint.respond(HttpStatus.SC_INTERNAL_SERVER_ERROR, null, null, null);
+    metadataRefresher.getProviderMetadata(openIdProvider);
+    awaitCondition(() -> !metadataCache.getProviderMetadata(1L).isStale(Instant.now()));
+
+    // the clock of the refresher cannot be moved, so the end of the back-off is simulated with the cache entry
+    CachedProviderMetadata backedOffMetadata = metadataCache.getProviderMetadata(1L);
+    metadataCache.setProviderMetadata(1L,
+                                      new CachedProviderMetadata(backedOffMetadata.getDiscoveryUrl(),
+                                                                 backedOffMetadata.getMetadata(),
+                                                                 backedOffMetadata.getETag(),
+                                                                 Instant.now().minusSeconds(1)));
+    discoveryEndpoint.respond(HttpStatus.SC_OK, "http://recovered-issuer", null, null);
+
+    Assertions.assertSame(lastGoodMetadata, metadataRefresher.getProviderMetadata(openIdProvider));
+    awaitCondition(() -> isIssuer(metadataCache.getProviderMetadata(1L), "http://recovered-issuer"));
+    Assertions.assertEquals(2, discoveryEndpoint.getRequestCount());
+  }
+
+  /**
+   * verifies that metadata that was loaded from another discovery endpoint is replaced at once even if it is
+   * not expired yet
+   */
+  @Test
+  public void testChangedDiscoveryUrlReplacesEntry()
+  {
+    OIDCProviderMetadata previousMetadata = parseMetadata("http://previous-issuer");
+    String previousUrl = getDiscoveryUrl() + "/previous";
+    metadataCache.setProviderMetadata(1L,
+                                      new CachedProviderMetadata(previousUrl, previousMetadata, null,
+                                                                 Instant.now().plus(Duration.ofHours(1))));
+    discoveryEndpoint.respond(HttpStatus.SC_OK, "http://current-issuer", null, null);
+
+    OIDCProviderMetadata currentMetadata = metadataRefresher.getProviderMetadata(openIdProvider);
+
+    Assertions.assertEquals("http://current-issuer", currentMetadata.getIssuer().getValue());
+    Assertions.assertEquals(getDiscoveryUrl(), metadataCache.getProviderMetadata(1L).getDiscoveryUrl());
+    Assertions.assertEquals(1, discoveryEndpoint.getRequestCount());
+  }
+
+  /**
+   * verifies that the max-age directive of the Cache-Control header is used as freshness lifetime
+   */
+  @Test
+  public void testFreshnessLifetimeFromMaxAge()
+  {
+    BasicClassicHttpResponse response = new BasicClassicHttpResponse(HttpStatus.SC_OK);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=3600");
+    response.setHeader(HttpHeaders.EXPIRES, DateUtils.formatStandardDate(Instant.now().plusSeconds(60)));
+    Assertions.assertEquals(Duration.ofHours(1), OpenIdProviderMetadataRefresher.getFreshnessLifetime(response));
+  }
+
+  /**
+   * verifies that metadata must always be revalidated if the response must not be cached
+   */
+  @Test
+  public void testFreshnessLifetimeWithNoCache()
+  {
+    BasicClassicHttpResponse response = new BasicClassicHttpResponse(HttpStatus.SC_OK);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    Assertions.assertEquals(Duration.ZERO, OpenIdProviderMetadataRefresher.getFreshnessLifetime(response));
+  }
+
+  /**
+   * verifies that the Expires header is used if no max-age directive is present
+   */
+  @Test
+  public void testFreshnessLifetimeFromExpires()
+  {
+    BasicClassicHttpResponse response = new BasicClassicHttpResponse(HttpStatus.SC_OK);
+    response.setHeader(HttpHeaders.EXPIRES, DateUtils.formatStandardDate(Instant.now().plusSeconds(600)));
+    Duration freshnessLifetime = OpenIdProviderMetadataRefresher.getFreshnessLifetime(response);
+    Assertions.assertTrue(freshnessLifetime.compareTo(Duration.ofSeconds(590)) > 0, freshnessLifetime.toString());
+    Assertions.assertTrue(freshnessLifetime.compareTo(Duration.ofSeconds(600)) <= 0, freshnessLifetime.toString());
+  }
+
+  /**
+   * verifies the limits of the freshness lifetime and the default if no caching headers are present
+   */
+  @Test
+  public void testFreshnessLifetimeLimitsAndDefault()
+  {
+    BasicClassicHttpResponse response = new BasicClassicHttpResponse(HttpStatus.SC_OK);
+    Assertions.assertEquals(OpenIdProviderMetadataRefresher.DEFAULT_FRESHNESS_LIFETIME,
+                            OpenIdProviderMetadataRefresher.getFreshnessLifetime(response));
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "max-age=31536000");
+    Assertions.assertEquals(OpenIdProviderMetadataRefresher.MAX_FRESHNESS_LIFETIME,
+                            OpenIdProviderMetadataRefresher.getFreshnessLifetime(response));
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "max-age=invalid");
+    response.setHeader(HttpHeaders.EXPIRES, DateUtils.formatStandardDate(Instant.now().minusSeconds(60)));
+    Assertions.assertEquals(Duration.ZERO, OpenIdProviderMetadataRefresher.getFreshnessLifetime(response));
+  }
+
+  private String getDiscoveryUrl()
+  {
+    return "http://localhost:" + discoveryServer.getAddress().getPort() + DISCOVERY_PATH;
+  }
+
+  private static boolean isIssuer(CachedProviderMetadata cachedMetadata, String issuer)
+  {
+    return cachedMetadata != null && issuer.equals(cachedMetadata.getMetadata().getIssuer().getValue());
+  }
+
+  @SneakyThrows
+  private static OIDCProviderMetadata parseMetadata(String issuer)
+  {
+    return OIDCProviderMetadata.parse(getDiscoveryDocument(issuer));
+  }
+
+  private static String getDiscoveryDocument(String issuer)
+  {
+    return String.format("""
+      {
+        "issuer": "%1$s",
+        "authorization_endpoint": "%1$s/authorize",
+        "token_endpoint": "%1$s/token",
+        "jwks_uri": "%1$s/jwks",
+        "response_types_supported": ["code"],
+        "subject_types_supported": ["public"],
+        "id_token_signing_alg_values_supported": ["RS256"]
+      }
+      """, issuer);
+  }
+
+  /**
+   * waits until the background revalidation produced the expected state
+   */
+  @SneakyThrows
+  private static void awaitCondition(BooleanSupplier condition)
+  {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean())
+    {
+      Assertions.assertTrue(System.nanoTime() < deadline, "condition was not met within 10 seconds");
+      Thread.sleep(20);
+    }
+  }
+
+  /**
+   * keeps the metadata like the application cache without the caching proxy of spring
+   */
+  private static class InMemoryMetadataCache extends OpenIdProviderMetdatdataCache
+  {
+
+    private final Map<Long, CachedProviderMetadata> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public CachedProviderMetadata getProviderMetadata(Long openIdProviderId)
+    {
+      return entries.get(openIdProviderId);
+    }
+
+    @Override
+    public CachedProviderMetadata setProviderMetadata(Long openIdProviderId, CachedProviderMetadata providerMetadata)
+    {
+      entries.put(openIdProviderId, providerMetadata);
+      return providerMetadata;
+    }
+  }
+
+  /**
+   * answers the discovery requests with the configured response and records the received requests
+   */
+  private static class DiscoveryEndpoint
+  {
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private final CountDownLatch requestReceived = new CountDownLatch(1);
+
+    private volatile CountDownLatch responseBlocker = new CountDownLatch(0);
+
+    private volatile String lastIfNoneMatch;
+
+    private volatile int status = HttpStatus.SC_OK;
+
+    private volatile String issuer;
+
+    private volatile String eTag;
+
+    private volatile String cacheControl;
+
+    /**
+     * sets the response of the following requests
+     *
+     * @param issuer the issuer of the returned discovery document or null to respond without body
+     */
+    public void respond(int status, String issuer, String eTag, String cacheControl)
+    {
+      this.status = status;
+      this.issuer = issuer;
+      this.eTag = eTag;
+      this.cacheControl = cacheControl;
+    }
+
+    /**
+     * holds back the responses until {@link #release()} is called
+     */
+    public void block()
+    {
+      responseBlocker = new CountDownLatch(1);
+    }
+
+    public void release()
+    {
+      responseBlocker.countDown();
+    }
+
+    @SneakyThrows
+    public boolean awaitRequest()
+    {
+      return requestReceived.await(10, TimeUnit.SECONDS);
+    }
+
+    public int getRequestCount()
+    {
+      return requestCount.get();
+    }
+
+    public String getLastIfNoneMatch()
+    {
+      return lastIfNoneMatch;
+    }
+
+    @SneakyThrows
+    public void handle(HttpExchange exchange)
+    {
+      requestCount.incrementAndGet();
+      lastIfNoneMatch = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+      requestReceived.countDown();
+      responseBlocker.await(10, TimeUnit.SECONDS);
+      if (eTag != null)
+      {
+        exchange.getResponseHeaders().set(HttpHeaders.ETAG, eTag);
+      }
+      if (cacheControl != null)
+      {
+        exchange.getResponseHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+      }
+      if (issuer == null)
+      {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+        return;
+      }
+      byte[] body = getDiscoveryDocument(issuer).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+      exchange.sendResponseHeaders(status, body.length);
+      try (OutputStream outputStream = exchange.getResponseBody())
+      {
+        outputStream.write(body);
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package de.captaingoldfish.restclient.application.endpoints.filtering;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.captaingoldfish.scim.sdk.common.schemas.SchemaAttribute;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class AttributeProjectionTest
+{
+
+  private static final String SCHEMA_ID = "urn:ietf:params:scim:schemas:captaingoldfish:2.0:HttpRequest";
+
+  private static final String EXTENSION_ID = "urn:ietf:params:scim:schemas:captaingoldfish:2.0:HttpClientSettings";
+
+  /**
+   * verifies that all attributes are requested if neither attributes nor excluded attributes are given
+   */
+  @Test
+  public void testAllAttributesRequested()
+  {
+    AttributeProjection projection = AttributeProjection.of(SCHEMA_ID, null, List.of());
+    Assertions.assertTrue(projection.isRequested("name"));
+    Assertions.assertTrue(projection.isRequested("meta.created"));
+    Assertions.assertTrue(projection.isRequested(EXTENSION_ID));
+  }
+
+  /**
+   * verifies that only the given attributes, their parents and their sub-attributes are requested
+   */
+  @Test
+  public void testRequestedAttributes()
+  {
+    AttributeProjection projection = AttributeProjection.of(SCHEMA_ID,
+                                                            List.of(getAttribute(SCHEMA_ID + ":name"),
+                                                                    getAttribute(SCHEMA_ID + ":meta"),
+                                                                    getAttribute(SCHEMA_ID + ":requestHeaders.name"),
+                                                                    getAttribute(EXTENSION_ID + ":proxyReference")),
+                                                            List.of());
+    Assertions.assertTrue(projection.isRequested("name"));
+    Assertions.assertTrue(projection.isRequested("meta.lastModified"));
+    Assertions.assertTrue(projection.isRequested("requestHeaders"));
+    Assertions.assertTrue(projection.isRequested(EXTENSION_ID));
+    Assertions.assertFalse(projection.isRequested("requestBody"));
+    Assertions.assertFalse(projection.isRequested("url"));
+    Assertions.assertTrue(projection.isNoneRequested(List.of("requestBody", "responseBody")));
+  }
+
+  /**
+   * verifies that excluded attributes and their sub-attributes are not requested
+   */
+  @Test
+  public void testExcludedAttributes()
+  {
+    AttributeProjection projection = AttributeProjection.of(SCHEMA_ID,
+                                                            List.of(),
+                                                            List.of(getAttribute(SCHEMA_ID + ":requestBody"),
+                                                                    getAttribute(SCHEMA_ID + ":requestHeaders")));
+    Assertions.assertFalse(projection.isRequested("requestBody"));
+    Assertions.assertFalse(projection.isRequested("requestHeaders.value"));
+    Assertions.assertTrue(projection.isRequested("name"));
+    Assertions.assertFalse(projection.isNoneRequested(List.of("requestBody", "url")));
+  }
+
+  private SchemaAttribute getAttribute(String fullResourceName)
+  {
+    SchemaAttribute schemaAttribute = Mockito.mock(SchemaAttribute.class);
+    Mockito.doReturn(fullResourceName).when(schemaAttribute).getFullResourceName();
+    return schemaAttribute;
+  }
+}
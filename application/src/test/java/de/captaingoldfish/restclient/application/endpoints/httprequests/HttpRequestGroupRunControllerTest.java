@@ -0,0 +1,76 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
+import de.captaingoldfish.restclient.database.repositories.HttpRequestCategoriesDao;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public class HttpRequestGroupRunControllerTest
+{
+
+  private final HttpRequestCategoriesDao httpRequestCategoriesDao = Mockito.mock(HttpRequestCategoriesDao.class);
+
+  private final HttpRequestGroupRunner httpRequestGroupRunner = Mockito.mock(HttpRequestGroupRunner.class);
+
+  private final HttpRequestGroupRunController controller = new HttpRequestGroupRunController(httpRequestCategoriesDao,
+                                                                                             httpRequestGroupRunner);
+
+  /**
+   * verifies that the group is run with the requested parallelism and that the results are returned in order
+   */
+  @Test
+  public void testRunGroup()
+  {
+    HttpRequestGroup httpRequestGroup = HttpRequestGroup.builder().id(1L).name("group").build();
+    Mockito.doReturn(Optional.of(httpRequestGroup)).when(httpRequestCategoriesDao).findById(1L);
+    List<HttpRequestGroupRunner.RequestRunResult> results = //
+      List.of(new HttpRequestGroupRunner.RequestRunResult(3L, "first", 200, Duration.ofMillis(5), null, null),
+              new HttpRequestGroupRunner.RequestRunResult(4L, "second", null, Duration.ofMillis(7), "refused", null));
+    Mockito.doReturn(new HttpRequestGroupRunner.GroupRunResult(results, Duration.ofMillis(9)))
+           .when(httpRequestGroupRunner)
+           .runGroup(httpRequestGroup, 2);
+    Mockito.doReturn(2).when(httpRequestGroupRunner).getEffectiveParallelism(2);
+
+    HttpRequestGroupRunController.GroupRun groupRun = controller.runGroup(1L, 2);
+
+    Assertions.assertEquals(1L, groupRun.getGroupId());
+    Assertions.assertEquals(2, groupRun.getParallelism());
+    Assertions.assertEquals(9, groupRun.getDurationMillis());
+    Assertions.assertEquals(2, groupRun.getResults().size());
+    Assertions.assertEquals(3L, groupRun.getResults().get(0).getRequestId());
+    Assertions.assertEquals(200, groupRun.getResults().get(0).getStatusCode());
+    Assertions.assertEquals("refused", groupRun.getResults().get(1).getError());
+    Assertions.assertNull(groupRun.getResults().get(1).getStatusCode());
+  }
+
+  /**
+   * verifies that unknown groups and invalid parallelism values are rejected without a run
+   */
+  @Test
+  public void testRejectInvalidRun()
+  {
+    Mockito.doReturn(Optional.empty()).when(httpRequestCategoriesDao).findById(5L);
+
+    ResponseStatusException notFound = Assertions.assertThrows(ResponseStatusException.class,
+                                                               () -> controller.runGroup(5L, null));
+    Assertions.assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+    ResponseStatusException badRequest = Assertions.assertThrows(ResponseStatusException.class,
+                                                                 () -> controller.runGroup(5L, 0));
+    Assertions.assertEquals(HttpStatus.BAD_REQUEST, badRequest.getStatusCode());
+    Mockito.verify(httpRequestGroupRunner, Mockito.never()).runGroup(ArgumentMatchers.any(), ArgumentMatchers.any());
+  }
+}
@@ -0,0 +1,141 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class HttpRequestGroupRunnerTest
+{
+
+  private final HttpRequestGroup httpRequestGroup = HttpRequestGroup.builder().id(1L).name("group").build();
+
+  /**
+   * verifies that the requested parallelism is capped by the configured maximum
+   */
+  @Test
+  public void testEffectiveParallelism()
+  {
+    HttpRequestGroupRunner runner = new HttpRequestGroupRunner(Mockito.mock(HttpRequestsDao.class),
+                                                               Mockito.mock(HttpResponseHistory.class),
+                                                               Mockito.mock(HttpRequestExecutor.class), 4);
+    Assertions.assertEquals(4, runner.getEffectiveParallelism(null));
+    Assertions.assertEquals(2, runner.getEffectiveParallelism(2));
+    Assertions.assertEquals(4, runner.getEffectiveParallelism(100));
+    Assertions.assertEquals(1, runner.getEffectiveParallelism(0));
+  }
+
+  /**
+   * verifies that all requests of a group are sent, that no more requests than allowed are in flight at the
+   * same time and that the responses are added to the history of the requests
+   */
+  @SneakyThrows
+  @Test
+  public void testRunGroupWithParallelismLimit()
+  {
+    List<HttpRequest> httpRequests = IntStream.range(0, 20).mapToObj(this::newRequest).toList();
+    HttpRequestsDao httpRequestsDao = Mockito.mock(HttpRequestsDao.class);
+    Mockito.doReturn(httpRequests).when(httpRequestsDao).findByHttpRequestGroup(httpRequestGroup);
+
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    HttpRequestExecutor httpRequestExecutor = Mockito.mock(HttpRequestExecutor.class);
+    Mockito.doAnswer(invocation -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      return CompletableFuture.supplyAsync(() -> {
+        sleep(20);
+        inFlight.decrementAndGet();
+        return HttpResponse.builder().responseStatus(200).created(Instant.now()).build();
+      });
+    }).when(httpRequestExecutor).sendHttpRequestAsync(ArgumentMatchers.any());
+
+    HttpResponseHistory httpResponseHistory = Mockito.mock(HttpResponseHistory.class);
+    HttpRequestGroupRunner runner = new HttpRequestGroupRunner(httpRequestsDao, httpResponseHistory,
+                                                               httpRequestExecutor, 16);
+    HttpRequestGroupRunner.GroupRunResult runResult = runner.runGroup(httpRequestGroup, 3);
+
+    Assertions.assertEquals(20, runResult.results().size());
+    Assertions.assertTrue(maxInFlight.get() <= 3, String.valueOf(maxInFlight.get()));
+    Assertions.assertTrue(maxInFlight.get() > 1, String.valueOf(maxInFlight.get()));
+    for ( int i = 0 ; i < httpRequests.size() ; i++ )
+    {
+      HttpRequestGroupRunner.RequestRunResult result = runResult.results().get(i);
+      Assertions.assertEquals(httpRequests.get(i).getId(), result.requestId());
+      Assertions.assertEquals(200, result.statusCode());
+      Assertions.assertNull(result.error());
+      Mockito.verify(httpResponseHistory)
+             .addToHistory(ArgumentMatchers.same(httpRequests.get(i)), ArgumentMatchers.any());
+    }
+    Mockito.verify(httpResponseHistory, Mockito.times(20)).addToHistory(ArgumentMatchers.any(), ArgumentMatchers.any());
+  }
+
+  /**
+   * verifies that a failing request is part of the result and does not abort the other requests
+   */
+  @Test
+  public void testFailingRequestDoesNotAbortRun()
+  {
+    List<HttpRequest> httpRequests = List.of(newRequest(0), newRequest(1));
+    HttpRequestsDao httpRequestsDao = Mockito.mock(HttpRequestsDao.class);
+    Mockito.doReturn(httpRequests).when(httpRequestsDao).findByHttpRequestGroup(httpRequestGroup);
+
+    HttpRequestExecutor httpRequestExecutor = Mockito.mock(HttpRequestExecutor.class);
+    Mockito.doReturn(CompletableFuture.failedFuture(new IllegalStateException("connection refused")))
+           .when(httpRequestExecutor)
+           .sendHttpRequestAsync(httpRequests.get(0));
+    Mockito.doReturn(CompletableFuture.completedFuture(HttpResponse.builder()
+                                                                   .responseStatus(404)
+                                                                   .created(Instant.now())
+                                                                   .build()))
+           .when(httpRequestExecutor)
+           .sendHttpRequestAsync(httpRequests.get(1));
+
+    HttpResponseHistory httpResponseHistory = Mockito.mock(HttpResponseHistory.class);
+    HttpRequestGroupRunner runner = new HttpRequestGroupRunner(httpRequestsDao, httpResponseHistory,
+                                                               httpRequestExecutor, 16);
+    HttpRequestGroupRunner.GroupRunResult runResult = runner.runGroup(httpRequestGroup, null);
+
+    HttpRequestGroupRunner.RequestRunResult failedResult = runResult.results().get(0);
+    Assertions.assertNull(failedResult.statusCode());
+    Assertions.assertEquals("connection refused", failedResult.error());
+    Mockito.verify(httpResponseHistory, Mockito.never())
+           .addToHistory(ArgumentMatchers.same(httpRequests.get(0)), ArgumentMatchers.any());
+    Assertions.assertEquals(404, runResult.results().get(1).statusCode());
+    Mockito.verify(httpResponseHistory)
+           .addToHistory(ArgumentMatchers.same(httpRequests.get(1)), ArgumentMatchers.any());
+  }
+
+  @SneakyThrows
+  private static void sleep(long millis)
+  {
+    Thread.sleep(millis);
+  }
+
+  private HttpRequest newRequest(int index)
+  {
+    return HttpRequest.builder()
+                      .id(index + 1)
+                      .name("request-" + index)
+                      .httpRequestGroup(httpRequestGroup)
+                      .httpMethod("GET")
+                      .url("http://localhost/" + index)
+                      .build();
+  }
+}
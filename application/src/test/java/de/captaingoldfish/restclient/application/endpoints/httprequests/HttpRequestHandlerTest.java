@@ -17,12 +17,14 @@ import de.captaingoldfish.restclient.application.setup.OAuthRestClientTest;
 import de.captaingoldfish.restclient.application.utils.Utils;
 import de.captaingoldfish.restclient.database.entities.HttpRequest;
 import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
 import de.captaingoldfish.restclient.scim.resources.ScimHttpClientSettings;
 import de.captaingoldfish.restclient.scim.resources.ScimHttpRequest;
 import de.captaingoldfish.restclient.scim.resources.ScimProxy;
 import de.captaingoldfish.scim.sdk.client.response.ServerResponse;
 import de.captaingoldfish.scim.sdk.common.constants.HttpHeader;
 import de.captaingoldfish.scim.sdk.common.constants.HttpStatus;
+import de.captaingoldfish.scim.sdk.common.response.ListResponse;
 import de.captaingoldfish.scim.sdk.server.endpoints.ResourceEndpoint;
 import de.captaingoldfish.scim.sdk.server.schemas.ResourceType;
 import lombok.extern.slf4j.Slf4j;
@@ -172,11 +174,52 @@ public class HttpRequestHandlerTest extends AbstractScimClientConfig
     Assertions.assertEquals(scimProxy.toString(), httpRequest.getRequestBody());
     Assertions.assertEquals(proxyEndpoint, httpRequest.getUrl());
     Assertions.assertEquals(1, httpRequest.getHttpHeaders().size());
-    Assertions.assertEquals(1, httpRequest.getHttpResponses().size());
-    Assertions.assertTrue(StringUtils.isNotBlank(httpRequest.getHttpResponses().get(0).getRequestDetails()));
-    Assertions.assertTrue(StringUtils.isNotBlank(httpRequest.getHttpResponses().get(0).getResponseHeaders()));
-    Assertions.assertTrue(StringUtils.isNotBlank(httpRequest.getHttpResponses().get(0).getResponseBody()));
-    Assertions.assertNotNull(httpRequest.getHttpResponses().get(0).getCreated());
+    Assertions.assertEquals(1, httpResponsesDao.countByHttpRequestId(httpRequest.getId()));
+    HttpResponse httpResponse = httpResponsesDao.findFirstByHttpRequestIdOrderByIdDesc(httpRequest.getId()).get();
+    Assertions.assertEquals(String.valueOf(httpResponse.getId()), createdRequest.getHttpResponseId());
+    Assertions.assertTrue(StringUtils.isNotBlank(httpResponse.getRequestDetails()));
+    Assertions.assertTrue(StringUtils.isNotBlank(httpResponse.getResponseHeaders()));
+    Assertions.assertTrue(StringUtils.isNotBlank(httpResponse.getResponseBody()));
+    Assertions.assertNotNull(httpResponse.getCreated());
+  }
+
+  /**
+   * verifies that a listing that requests only column attributes returns these attributes without the request
+   * bodies and headers
+   */
+  @Test
+  public void testListRequestsWithProjection()
+  {
+    for ( String name : List.of("first", "second") )
+    {
+      httpRequestsDao.save(HttpRequest.builder()
+                                      .httpRequestGroup(group)
+                                      .name(name)
+                                      .httpMethod("POST")
+                                      .url("http://localhost:8080")
+                                      .httpHeaders(List.of())
+                                      .requestBody("a body that must not be returned")
+                                      .created(Instant.now())
+                                      .lastModified(Instant.now())
+                                      .build());
+    }
+
+    ServerResponse<ListResponse<ScimHttpRequest>> response = scimRequestBuilder.list(ScimHttpRequest.class,
+                                                                                     HTTP_REQUESTS_ENDPOINT)
+                                                                               .filter("groupName eq \"keycloak\"")
+                                                                               .attributes(ScimHttpRequest.FieldNames.NAME)
+                                                                               .get()
+                                                                               .sendRequest();
+    Assertions.assertEquals(HttpStatus.OK, response.getHttpStatus());
+    ListResponse<ScimHttpRequest> listResponse = response.getResource();
+    Assertions.assertEquals(2, listResponse.getTotalResults());
+    for ( ScimHttpRequest scimHttpRequest : listResponse.getListedResources() )
+    {
+      Assertions.assertTrue(scimHttpRequest.getId().isPresent());
+      Assertions.assertNotNull(scimHttpRequest.getName());
+      Assertions.assertTrue(scimHttpRequest.getRequestBody().isEmpty());
+      Assertions.assertTrue(scimHttpRequest.getRequestHeaders().isEmpty());
+    }
   }
 
   private List<ScimHttpRequest.HttpHeaders> getRequestHeaders()
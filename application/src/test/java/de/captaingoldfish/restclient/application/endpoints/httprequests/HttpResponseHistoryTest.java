@@ -0,0 +1,144 @@
+package de.captaingoldfish.restclient.application.endpoints.httprequests;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.entities.ResponseBodyContent;
+import de.captaingoldfish.restclient.database.repositories.HttpResponsesDao;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class HttpResponseHistoryTest
+{
+
+  private final HttpResponsesDao httpResponsesDao = Mockito.mock(HttpResponsesDao.class);
+
+  private HttpResponseHistory httpResponseHistory;
+
+  @AfterEach
+  public void destroyHistory()
+  {
+    httpResponseHistory.destroy();
+  }
+
+  /**
+   * verifies that an appended response is linked to its request and that the oldest responses that exceed the
+   * maximum number of entries are removed in batches
+   */
+  @Test
+  public void testAddToHistoryRemovesSurplusResponses()
+  {
+    httpResponseHistory = new HttpResponseHistory(httpResponsesDao, 3, Duration.ZERO, 2, Duration.ZERO);
+    HttpRequest httpRequest = HttpRequest.builder().id(1L).build();
+    HttpResponse httpResponse = HttpResponse.builder().responseStatus(200).created(Instant.now()).build();
+    Mockito.doAnswer(invocation -> invocation.getArgument(0))
+           .when(httpResponsesDao)
+           .saveWithBody(ArgumentMatchers.any());
+    Mockito.doReturn(List.of(7L)).when(httpResponsesDao).findIdsByHttpRequestId(1L, PageRequest.of(3, 1));
+    Mockito.when(httpResponsesDao.findIdsByHttpRequestIdUpTo(1L, 7L, Limit.of(2)))
+           .thenReturn(List.of(3L, 4L))
+           .thenReturn(List.of(5L, 6L))
+           .thenReturn(List.of(7L))
+           .thenReturn(List.of());
+
+    HttpResponse storedResponse = httpResponseHistory.addToHistory(httpRequest, httpResponse);
+
+    Assertions.assertSame(httpRequest, storedResponse.getHttpRequest());
+    Mockito.verify(httpResponsesDao).deleteAllByIdInBatch(List.of(3L, 4L));
+    Mockito.verify(httpResponsesDao).deleteAllByIdInBatch(List.of(5L, 6L));
+    Mockito.verify(httpResponsesDao).deleteAllByIdInBatch(List.of(7L));
+    Mockito.verify(httpResponsesDao, Mockito.times(3)).deleteAllByIdInBatch(ArgumentMatchers.any());
+  }
+
+  /**
+   * verifies that nothing is removed if the history does not exceed the maximum number of entries
+   */
+  @Test
+  public void testAddToHistoryWithoutSurplusResponses()
+  {
+    httpResponseHistory = new HttpResponseHistory(httpResponsesDao, 3, Duration.ZERO, 2, Duration.ZERO);
+    Mockito.doReturn(List.of()).when(httpResponsesDao).findIdsByHttpRequestId(1L, PageRequest.of(3, 1));
+
+    httpResponseHistory.addToHistory(HttpRequest.builder().id(1L).build(), HttpResponse.builder().build());
+
+    Mockito.verify(httpResponsesDao, Mockito.never())
+           .findIdsByHttpRequestIdUpTo(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+    Mockito.verify(httpResponsesDao, Mockito.never()).deleteAllByIdInBatch(ArgumentMatchers.any());
+  }
+
+
+  /**
+   * verifies that the raw body of an appended response is released even if the response could not be stored
+   */
+  @SneakyThrows
+  @Test
+  public void testAddToHistoryClosesResponseBodyContent()
+  {
+    httpResponseHistory = new HttpResponseHistory(httpResponsesDao, 0, Duration.ZERO, 2, Duration.ZERO);
+    ResponseBodyContent responseBodyContent = Mockito.mock(ResponseBodyContent.class);
+    HttpResponse httpResponse = HttpResponse.builder().responseBodyContent(responseBodyContent).build();
+    Mockito.doThrow(new IllegalStateException("database is down"))
+           .when(httpResponsesDao)
+           .saveWithBody(ArgumentMatchers.any());
+
+    Assertions.assertThrows(IllegalStateException.class,
+                            () -> httpResponseHistory.addToHistory(HttpRequest.builder().id(1L).build(), httpResponse));
+    Mockito.verify(responseBodyContent).close();
+  }
+
+  /**
+   * verifies that the purge removes expired responses batch by batch and trims the histories that exceed the
+   * maximum number of entries
+   */
+  @Test
+  public void testPurge()
+  {
+    httpResponseHistory = new HttpResponseHistory(httpResponsesDao, 2, Duration.ofDays(1), 2, Duration.ZERO);
+    Mockito.when(httpResponsesDao.findIdsCreatedBefore(ArgumentMatchers.any(), ArgumentMatchers.eq(Limit.of(2))))
+           .thenReturn(List.of(1L, 2L))
+           .thenReturn(List.of(3L))
+           .thenReturn(List.of());
+    Mockito.doReturn(List.of(5L)).when(httpResponsesDao).findHttpRequestIdsWithMoreResponsesThan(2);
+    Mockito.doReturn(List.of(10L)).when(httpResponsesDao).findIdsByHttpRequestId(5L, PageRequest.of(2, 1));
+    Mockito.when(httpResponsesDao.findIdsByHttpRequestIdUpTo(5L, 10L, Limit.of(2)))
+           .thenReturn(List.of(10L))
+           .thenReturn(List.of());
+
+    Assertions.assertEquals(4, httpResponseHistory.purge());
+    Mockito.verify(httpResponsesDao).deleteAllByIdInBatch(List.of(1L, 2L));
+    Mockito.verify(httpResponsesDao).deleteAllByIdInBatch(List.of(3L));
+    Mockito.verify(httpResponsesDao).deleteAllByIdInBatch(List.of(10L));
+  }
+
+  /**
+   * verifies that nothing is removed if the retention limits are disabled
+   */
+  @Test
+  public void testDisabledRetention()
+  {
+    httpResponseHistory = new HttpResponseHistory(httpResponsesDao, 0, Duration.ZERO, 2, Duration.ZERO);
+    httpResponseHistory.addToHistory(HttpRequest.builder().id(1L).build(), HttpResponse.builder().build());
+
+    Assertions.assertEquals(0, httpResponseHistory.purge());
+    Mockito.verify(httpResponsesDao, Mockito.never())
+           .findIdsByHttpRequestId(ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+    Mockito.verify(httpResponsesDao, Mockito.never())
+           .findIdsCreatedBefore(ArgumentMatchers.any(), ArgumentMatchers.any());
+    Mockito.verify(httpResponsesDao, Mockito.never()).deleteAllByIdInBatch(ArgumentMatchers.any());
+  }
+}
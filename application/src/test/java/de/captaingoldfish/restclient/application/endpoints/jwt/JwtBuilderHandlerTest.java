@@ -12,6 +12,7 @@ import com.nimbusds.jose.JWEAlgorithm;
 import com.nimbusds.jose.JWSAlgorithm;
 
 import de.captaingoldfish.restclient.application.crypto.JwtHandler;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.application.setup.AbstractScimClientConfig;
 import de.captaingoldfish.restclient.application.setup.OAuthRestClientTest;
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
@@ -40,6 +41,9 @@ public class JwtBuilderHandlerTest extends AbstractScimClientConfig
   @Autowired
   private KeystoreDao keystoreDao;
 
+  @Autowired
+  private KeystoreSnapshotService keystoreSnapshotService;
+
   @SneakyThrows
   @BeforeEach
   public void initialize()
@@ -72,7 +76,7 @@ public class JwtBuilderHandlerTest extends AbstractScimClientConfig
     Assertions.assertTrue(response.isSuccess(), response.getResponseBody());
     ScimJwtBuilder returnedResource = response.getResource();
 
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    JwtHandler jwtHandler = new JwtHandler(keystoreSnapshotService);
     final String jws = returnedResource.getJwt();
     String plainBody = jwtHandler.handleJwt(null, jws).getBody();
     Assertions.assertEquals(body, plainBody);
@@ -98,7 +102,7 @@ public class JwtBuilderHandlerTest extends AbstractScimClientConfig
     Assertions.assertTrue(response.isSuccess(), response.getResponseBody());
     ScimJwtBuilder returnedResource = response.getResource();
 
-    JwtHandler jwtHandler = new JwtHandler(keystoreDao);
+    JwtHandler jwtHandler = new JwtHandler(keystoreSnapshotService);
     final String jwe = returnedResource.getJwt();
     String plainBody = jwtHandler.handleJwt(null, jwe).getBody();
     Assertions.assertEquals(body, plainBody);
@@ -10,6 +10,7 @@ import org.mockito.Mockito;
 
 import com.nimbusds.jose.JWSAlgorithm;
 
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
 import de.captaingoldfish.restclient.application.endpoints.jwt.JwtBuilderHandler;
 import de.captaingoldfish.restclient.application.setup.FileReferences;
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
@@ -63,7 +64,7 @@ public class ScimJwtBuilderValidatorTest implements FileReferences
     final String body = "{\"iss\": \"goldfish\"}";
 
     ScimJwtBuilder scimJwtBuilder = ScimJwtBuilder.builder().header(header).body(body).build();
-    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(keystoreDao);
+    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(new KeystoreSnapshotService(keystoreDao));
 
     ValidationContext validationContext = getValidationContext();
     validator.validateCreate(scimJwtBuilder, validationContext, null);
@@ -88,7 +89,7 @@ public class ScimJwtBuilderValidatorTest implements FileReferences
     final String body = "{\"iss\": \"goldfish\"}";
 
     ScimJwtBuilder scimJwtBuilder = ScimJwtBuilder.builder().header(header).body(body).build();
-    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(keystoreDao);
+    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(new KeystoreSnapshotService(keystoreDao));
 
     ValidationContext validationContext = getValidationContext();
     validator.validateCreate(scimJwtBuilder, validationContext, null);
@@ -113,7 +114,7 @@ public class ScimJwtBuilderValidatorTest implements FileReferences
     final String body = "{\"iss\": \"goldfish\"}";
 
     ScimJwtBuilder scimJwtBuilder = ScimJwtBuilder.builder().header(header).body(body).build();
-    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(keystoreDao);
+    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(new KeystoreSnapshotService(keystoreDao));
 
     ValidationContext validationContext = getValidationContext();
     validator.validateCreate(scimJwtBuilder, validationContext, null);
@@ -140,7 +141,7 @@ public class ScimJwtBuilderValidatorTest implements FileReferences
     final String body = "{\"iss\": \"goldfish\"}";
 
     ScimJwtBuilder scimJwtBuilder = ScimJwtBuilder.builder().header(header).body(body).build();
-    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(keystoreDao);
+    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(new KeystoreSnapshotService(keystoreDao));
 
     ValidationContext validationContext = getValidationContext();
     validator.validateCreate(scimJwtBuilder, validationContext, null);
@@ -167,7 +168,7 @@ public class ScimJwtBuilderValidatorTest implements FileReferences
     final String body = "{\"iss\": \"goldfish\"}";
 
     ScimJwtBuilder scimJwtBuilder = ScimJwtBuilder.builder().header(header).body(body).build();
-    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(keystoreDao);
+    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(new KeystoreSnapshotService(keystoreDao));
 
     ValidationContext validationContext = getValidationContext();
     validator.validateCreate(scimJwtBuilder, validationContext, null);
@@ -194,7 +195,7 @@ public class ScimJwtBuilderValidatorTest implements FileReferences
     final String body = "{\"iss\": \"goldfish\"}";
 
     ScimJwtBuilder scimJwtBuilder = ScimJwtBuilder.builder().header(header).body(body).build();
-    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(keystoreDao);
+    ScimJwtBuilderValidator validator = new ScimJwtBuilderValidator(new KeystoreSnapshotService(keystoreDao));
 
     ValidationContext validationContext = getValidationContext();
     validator.validateCreate(scimJwtBuilder, validationContext, null);
@@ -0,0 +1,97 @@
+package de.captaingoldfish.restclient.application.endpoints.loadtest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class LatencyHistogramTest
+{
+
+  /**
+   * verifies that each value is counted by a bucket whose highest equivalent value differs by less than 1% from
+   * the value itself
+   */
+  @ParameterizedTest
+  @ValueSource(longs = {0, 1, 127, 128, 129, 255, 256, 257, 1000, 65_537, 1_000_000, 3_600_000_000L, Long.MAX_VALUE})
+  public void testBucketPrecision(long value)
+  {
+    int bucketIndex = LatencyHistogram.getBucketIndex(value);
+    long highestEquivalentValue = LatencyHistogram.getHighestEquivalentValue(bucketIndex);
+    Assertions.assertTrue(highestEquivalentValue >= value);
+    Assertions.assertTrue(highestEquivalentValue - value <= value / 128, String.valueOf(highestEquivalentValue));
+    Assertions.assertTrue(LatencyHistogram.getBucketIndex(highestEquivalentValue) == bucketIndex);
+  }
+
+  /**
+   * verifies the reported percentiles for a uniform distribution
+   */
+  @Test
+  public void testPercentiles()
+  {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for ( long i = 1 ; i <= 10_000 ; i++ )
+    {
+      histogram.record(i);
+    }
+    Assertions.assertEquals(10_000, histogram.getTotalCount());
+    Assertions.assertEquals(1, histogram.getMin());
+    Assertions.assertEquals(10_000, histogram.getMax());
+    Assertions.assertEquals(5000.5, histogram.getMean(), 0.001);
+    assertWithinPrecision(5_000, histogram.getValueAtPercentile(50));
+    assertWithinPrecision(9_000, histogram.getValueAtPercentile(90));
+    assertWithinPrecision(9_900, histogram.getValueAtPercentile(99));
+    assertWithinPrecision(9_990, histogram.getValueAtPercentile(99.9));
+    Assertions.assertEquals(10_000, histogram.getValueAtPercentile(100));
+  }
+
+  /**
+   * verifies that an empty histogram reports zeros
+   */
+  @Test
+  public void testEmptyHistogram()
+  {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Assertions.assertEquals(0, histogram.getMin());
+    Assertions.assertEquals(0, histogram.getMax());
+    Assertions.assertEquals(0, histogram.getMean());
+    Assertions.assertEquals(0, histogram.getValueAtPercentile(99));
+  }
+
+  /**
+   * verifies that no value is lost if the histogram is filled concurrently
+   */
+  @Test
+  public void testConcurrentRecording()
+  {
+    LatencyHistogram histogram = new LatencyHistogram();
+    try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor())
+    {
+      for ( int i = 0 ; i < 10 ; i++ )
+      {
+        executorService.submit(() -> {
+          for ( int j = 0 ; j < 10_000 ; j++ )
+          {
+            histogram.record(j);
+          }
+        });
+      }
+    }
+    Assertions.assertEquals(100_000, histogram.getTotalCount());
+    Assertions.assertEquals(9_999, histogram.getValueAtPercentile(100));
+  }
+
+  private static void assertWithinPrecision(long expected, long actual)
+  {
+    Assertions.assertTrue(actual >= expected && actual - expected <= expected / 128,
+                          String.format("expected %s but was %s", expected, actual));
+  }
+}
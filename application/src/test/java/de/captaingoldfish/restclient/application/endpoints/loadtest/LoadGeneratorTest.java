@@ -0,0 +1,111 @@
+package de.captaingoldfish.restclient.application.endpoints.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import de.captaingoldfish.restclient.application.endpoints.httprequests.HttpRequestExecutor;
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class LoadGeneratorTest
+{
+
+  private final HttpRequest httpRequest = HttpRequest.builder().httpMethod("GET").url("http://localhost").build();
+
+  /**
+   * verifies that exactly the requested number of requests is sent and that failed requests are counted as
+   * errors
+   */
+  @Test
+  public void testTotalRequestsWithErrors()
+  {
+    AtomicInteger counter = new AtomicInteger();
+    HttpRequestExecutor httpRequestExecutor = Mockito.mock(HttpRequestExecutor.class);
+    Mockito.doAnswer(invocation -> {
+      int requestNumber = counter.incrementAndGet();
+      if (requestNumber % 10 == 0)
+      {
+        throw new IllegalStateException("connection reset");
+      }
+      int statusCode = requestNumber % 2 == 0 ? 200 : 503;
+      return HttpResponse.builder().responseStatus(statusCode).created(Instant.now()).build();
+    }).when(httpRequestExecutor).sendHttpRequest(ArgumentMatchers.any());
+
+    LoadGenerator loadGenerator = new LoadGenerator(httpRequestExecutor);
+    LoadGenerator.LoadTestResult result = loadGenerator.run(httpRequest,
+                                                            new LoadGenerator.LoadProfile(100L, null, 8, null));
+
+    Assertions.assertEquals(100, counter.get());
+    Assertions.assertEquals(100, result.sentRequests());
+    Assertions.assertEquals(10, result.errorCount());
+    Assertions.assertEquals(90, result.latencyHistogram().getTotalCount());
+    Assertions.assertEquals(40L, result.statusCodes().get(200));
+    Assertions.assertEquals(50L, result.statusCodes().get(503));
+  }
+
+  /**
+   * verifies that the requests are paced to the target rate and that no more requests are sent after the
+   * duration has elapsed
+   */
+  @Test
+  public void testRequestRateAndDuration()
+  {
+    HttpRequestExecutor httpRequestExecutor = Mockito.mock(HttpRequestExecutor.class);
+    Mockito.doReturn(HttpResponse.builder().responseStatus(200).created(Instant.now()).build())
+           .when(httpRequestExecutor)
+           .sendHttpRequest(ArgumentMatchers.any());
+
+    LoadGenerator loadGenerator = new LoadGenerator(httpRequestExecutor);
+    LoadGenerator.LoadProfile loadProfile = new LoadGenerator.LoadProfile(null, Duration.ofMillis(500), 4, 40);
+    LoadGenerator.LoadTestResult result = loadGenerator.run(httpRequest, loadProfile);
+
+    Assertions.assertEquals(20, result.sentRequests());
+    Assertions.assertTrue(result.duration().toMillis() >= 450, result.duration().toString());
+    Mockito.verify(httpRequestExecutor, Mockito.times(20)).sendHttpRequest(httpRequest);
+  }
+
+  /**
+   * verifies that a started load test returns immediately and reports its intermediate result until all
+   * requests were sent
+   */
+  @Test
+  public void testStartLoadTestInBackground() throws InterruptedException
+  {
+    CountDownLatch releaseRequests = new CountDownLatch(1);
+    HttpRequestExecutor httpRequestExecutor = Mockito.mock(HttpRequestExecutor.class);
+    Mockito.doAnswer(invocation -> {
+      releaseRequests.await();
+      return HttpResponse.builder().responseStatus(200).created(Instant.now()).build();
+    }).when(httpRequestExecutor).sendHttpRequest(ArgumentMatchers.any());
+
+    LoadGenerator loadGenerator = new LoadGenerator(httpRequestExecutor);
+    LoadGenerator.LoadTestRun loadTestRun = loadGenerator.start(httpRequest,
+                                                                new LoadGenerator.LoadProfile(10L, null, 2, null));
+
+    Assertions.assertFalse(loadTestRun.isFinished());
+    Assertions.assertEquals(0, loadTestRun.getResult().sentRequests());
+    releaseRequests.countDown();
+
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!loadTestRun.isFinished() && System.currentTimeMillis() < deadline)
+    {
+      Thread.sleep(10);
+    }
+    Assertions.assertTrue(loadTestRun.isFinished());
+    LoadGenerator.LoadTestResult result = loadTestRun.getResult();
+    Assertions.assertEquals(10, result.sentRequests());
+    Assertions.assertEquals(result.duration(), loadTestRun.getResult().duration());
+  }
+}
@@ -0,0 +1,217 @@
+package de.captaingoldfish.restclient.application.endpoints.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.captaingoldfish.restclient.application.setup.AbstractScimClientConfig;
+import de.captaingoldfish.restclient.application.setup.OAuthRestClientTest;
+import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
+import de.captaingoldfish.restclient.scim.resources.ScimHttpClientSettings;
+import de.captaingoldfish.restclient.scim.resources.ScimHttpRequest;
+import de.captaingoldfish.restclient.scim.resources.ScimLoadTest;
+import de.captaingoldfish.scim.sdk.client.response.ServerResponse;
+import de.captaingoldfish.scim.sdk.common.constants.EndpointPaths;
+import de.captaingoldfish.scim.sdk.common.constants.HttpStatus;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+@OAuthRestClientTest
+public class LoadTestHandlerTest extends AbstractScimClientConfig
+{
+
+  /**
+   * the scim endpoint for running load tests
+   */
+  private static final String LOAD_TEST_ENDPOINT = "/LoadTest";
+
+  /**
+   * the id of the stored request that is replayed by the load tests. The request is sent to the
+   * ServiceProviderConfig endpoint of this application, which serves as local stand-in server
+   */
+  private String httpRequestId;
+
+  @BeforeEach
+  public void initialize()
+  {
+    HttpRequestGroup group = HttpRequestGroup.builder()
+                                             .name("load-test")
+                                             .created(Instant.now())
+                                             .lastModified(Instant.now())
+                                             .build();
+    httpRequestCategoriesDao.save(group);
+
+    ScimHttpRequest scimHttpRequest = ScimHttpRequest.builder()
+                                                     .groupName(group.getName())
+                                                     .name("service-provider-config")
+                                                     .url(getApplicationUrl("/scim/v2"
+                                                                            + EndpointPaths.SERVICE_PROVIDER_CONFIG))
+                                                     .requestHeaders(List.of())
+                                                     .httpMethod("GET")
+                                                     .scimHttpClientSettings(ScimHttpClientSettings.builder()
+                                                                                                   .requestTimeout(5L)
+                                                                                                   .socketTimeout(5L)
+                                                                                                   .connectionTimeout(5L)
+                                                                                                   .useHostnameVerifier(true)
+                                                                                                   .build())
+                                                     .build();
+    ServerResponse<ScimHttpRequest> response = scimRequestBuilder.create(ScimHttpRequest.class, "/HttpRequests")
+                                                                 .setResource(scimHttpRequest)
+                                                                 .sendRequest();
+    Assertions.assertEquals(HttpStatus.CREATED, response.getHttpStatus());
+    httpRequestId = response.getResource().getId().get();
+  }
+
+  /**
+   * verifies that a stored request is replayed the requested number of times and that the latencies and status
+   * codes are reported. The replayed responses must not be added to the response history of the request
+   */
+  @Test
+  public void testRunLoadTestWithTotalRequests()
+  {
+    ScimLoadTest loadTest = ScimLoadTest.builder()
+                                        .httpRequestId(httpRequestId)
+                                        .totalRequests(50L)
+                                        .concurrency(5)
+                                        .build();
+
+    ServerResponse<ScimLoadTest> response = scimRequestBuilder.create(ScimLoadTest.class, LOAD_TEST_ENDPOINT)
+                                                              .setResource(loadTest)
+                                                              .sendRequest();
+
+    Assertions.assertEquals(HttpStatus.CREATED, response.getHttpStatus(), response.getResponseBody());
+    ScimLoadTest result = awaitLoadTest(response.getResource().getId().get());
+    Assertions.assertEquals(httpRequestId, result.getHttpRequestId());
+    Assertions.assertEquals(50L, result.getSentRequests());
+    Assertions.assertEquals(0L, result.getErrorCount());
+    Assertions.assertEquals(1, result.getStatusCodes().size());
+    Assertions.assertEquals(HttpStatus.OK, result.getStatusCodes().get(0).getStatusCode());
+    Assertions.assertEquals(50L, result.getStatusCodes().get(0).getCount());
+    Assertions.assertTrue(result.getThroughput() > 0);
+    ScimLoadTest.Latency latency = result.getLatency().get();
+    Assertions.assertTrue(latency.getMinMillis() <= latency.getP50Millis());
+    Assertions.assertTrue(latency.getP50Millis() <= latency.getP99Millis());
+    Assertions.assertTrue(latency.getP999Millis() <= latency.getMaxMillis());
+
+    long historySize = httpResponsesDao.countByHttpRequestId(Long.parseLong(httpRequestId));
+    Assertions.assertEquals(1, historySize);
+  }
+
+  /**
+   * verifies that a load test that is limited by a duration and a request rate sends the requests paced
+   */
+  @Test
+  public void testRunLoadTestWithDurationAndRate()
+  {
+    ScimLoadTest loadTest = ScimLoadTest.builder()
+                                        .httpRequestId(httpRequestId)
+                                        .durationSeconds(1L)
+                                        .concurrency(2)
+                                        .requestsPerSecond(20)
+                                        .build();
+
+    ServerResponse<ScimLoadTest> response = scimRequestBuilder.create(ScimLoadTest.class, LOAD_TEST_ENDPOINT)
+                                                              .setResource(loadTest)
+                                                              .sendRequest();
+
+    Assertions.assertEquals(HttpStatus.CREATED, response.getHttpStatus(), response.getResponseBody());
+    ScimLoadTest result = awaitLoadTest(response.getResource().getId().get());
+    Assertions.assertEquals(20L, result.getSentRequests());
+    Assertions.assertTrue(result.getDurationMillis() >= 950, String.valueOf(result.getDurationMillis()));
+  }
+
+  /**
+   * verifies that the creation of a load test returns before the load test has finished and that its
+   * intermediate result can be retrieved while it is running
+   */
+  @Test
+  public void testLoadTestIsRunInBackground()
+  {
+    ScimLoadTest loadTest = ScimLoadTest.builder()
+                                        .httpRequestId(httpRequestId)
+                                        .durationSeconds(2L)
+                                        .requestsPerSecond(10)
+                                        .build();
+
+    ServerResponse<ScimLoadTest> response = scimRequestBuilder.create(ScimLoadTest.class, LOAD_TEST_ENDPOINT)
+                                                              .setResource(loadTest)
+                                                              .sendRequest();
+
+    Assertions.assertEquals(HttpStatus.CREATED, response.getHttpStatus(), response.getResponseBody());
+    Assertions.assertEquals(LoadTestHandler.STATUS_RUNNING, response.getResource().getStatus());
+    String loadTestId = response.getResource().getId().get();
+
+    ServerResponse<ScimLoadTest> getResponse = scimRequestBuilder.get(ScimLoadTest.class,
+                                                                      LOAD_TEST_ENDPOINT,
+                                                                      loadTestId)
+                                                                 .sendRequest();
+    Assertions.assertEquals(HttpStatus.OK, getResponse.getHttpStatus(), getResponse.getResponseBody());
+    Assertions.assertEquals(LoadTestHandler.STATUS_RUNNING, getResponse.getResource().getStatus());
+    Assertions.assertTrue(getResponse.getResource().getSentRequests() < 20);
+
+    ScimLoadTest result = awaitLoadTest(loadTestId);
+    Assertions.assertEquals(20L, result.getSentRequests());
+  }
+
+  /**
+   * verifies that an unknown load test is reported as not found
+   */
+  @Test
+  public void testGetUnknownLoadTest()
+  {
+    ServerResponse<ScimLoadTest> response = scimRequestBuilder.get(ScimLoadTest.class,
+                                                                   LOAD_TEST_ENDPOINT,
+                                                                   UUID.randomUUID().toString())
+                                                              .sendRequest();
+    Assertions.assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+  }
+
+  /**
+   * verifies that a load test without any limit is rejected
+   */
+  @Test
+  public void testLoadTestWithoutLimitIsRejected()
+  {
+    ScimLoadTest loadTest = ScimLoadTest.builder().httpRequestId(httpRequestId).concurrency(2).build();
+
+    ServerResponse<ScimLoadTest> response = scimRequestBuilder.create(ScimLoadTest.class, LOAD_TEST_ENDPOINT)
+                                                              .setResource(loadTest)
+                                                              .sendRequest();
+
+    Assertions.assertEquals(HttpStatus.BAD_REQUEST, response.getHttpStatus());
+  }
+
+  /**
+   * polls the load test with the given id until it has finished
+   *
+   * @return the final result of the load test
+   */
+  @SneakyThrows
+  private ScimLoadTest awaitLoadTest(String loadTestId)
+  {
+    long deadline = System.currentTimeMillis() + 30_000;
+    while (true)
+    {
+      ServerResponse<ScimLoadTest> response = scimRequestBuilder.get(ScimLoadTest.class, LOAD_TEST_ENDPOINT, loadTestId)
+                                                                .sendRequest();
+      Assertions.assertEquals(HttpStatus.OK, response.getHttpStatus(), response.getResponseBody());
+      ScimLoadTest loadTest = response.getResource();
+      if (LoadTestHandler.STATUS_FINISHED.equals(loadTest.getStatus()))
+      {
+        return loadTest;
+      }
+      Assertions.assertTrue(System.currentTimeMillis() < deadline, "load test did not finish in time");
+      Thread.sleep(50);
+    }
+  }
+}
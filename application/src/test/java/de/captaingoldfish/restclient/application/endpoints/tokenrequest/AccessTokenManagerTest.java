@@ -0,0 +1,213 @@
+package de.captaingoldfish.restclient.application.endpoints.tokenrequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.captaingoldfish.restclient.application.endpoints.tokenrequest.request.AccessTokenExchange;
+import de.captaingoldfish.restclient.application.utils.HttpResponseDetails;
+import de.captaingoldfish.restclient.application.utils.OAuthConstants;
+import de.captaingoldfish.restclient.scim.resources.ScimAccessTokenRequest;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class AccessTokenManagerTest
+{
+
+  private static final Instant CLIENT_LAST_MODIFIED = Instant.parse("2026-10-18T10:00:00Z");
+
+  private AccessTokenManager accessTokenManager;
+
+  @BeforeEach
+  public void initialize()
+  {
+    accessTokenManager = new AccessTokenManager();
+  }
+
+  @AfterEach
+  public void destroy()
+  {
+    accessTokenManager.destroy();
+  }
+
+  /**
+   * verifies that a token is refreshed when a fifth of its lifetime is left but not later than the minimum
+   * refresh margin before it expires
+   */
+  @Test
+  public void testRefreshTime()
+  {
+    Instant receivedAt = Instant.now();
+    Assertions.assertEquals(receivedAt.plusSeconds(2880),
+                            AccessTokenManager.getRefreshTime(receivedAt, Duration.ofHours(1)));
+    Assertions.assertEquals(receivedAt.plusSeconds(30),
+                            AccessTokenManager.getRefreshTime(receivedAt, Duration.ofSeconds(60)));
+  }
+
+  /**
+   * verifies that the token lifetime is only read from successful token responses
+   */
+  @Test
+  public void testTokenLifetime()
+  {
+    Assertions.assertEquals(Duration.ofSeconds(300),
+                            AccessTokenManager.getTokenLifetime(newResponse(200, tokenResponse(300))).orElseThrow());
+    Assertions.assertEquals(Duration.ofSeconds(300),
+                            AccessTokenManager.getTokenLifetime(newResponse(200,
+                                                                            "{\"access_token\": \"abc\", "
+                                                                                 + "\"expires_in\": \"300\"}"))
+                                              .orElseThrow());
+    Assertions.assertTrue(AccessTokenManager.getTokenLifetime(newResponse(200, "{\"access_token\": \"abc\"}"))
+                                            .isEmpty());
+    Assertions.assertTrue(AccessTokenManager.getTokenLifetime(newResponse(400, "{\"error\": \"invalid_client\"}"))
+                                            .isEmpty());
+  }
+
+  /**
+   * verifies that concurrent requests for the same client-credentials token are sent only once and that the
+   * token is taken from the cache afterwards
+   */
+  @SneakyThrows
+  @Test
+  public void testTokenIsCachedAndRequestedOnce()
+  {
+    AtomicInteger requestCounter = new AtomicInteger();
+    CountDownLatch requestStarted = new CountDownLatch(1);
+    CountDownLatch releaseRequest = new CountDownLatch(1);
+    Supplier<AccessTokenExchange> tokenRequest = () -> {
+      requestCounter.incrementAndGet();
+      requestStarted.countDown();
+      awaitLatch(releaseRequest);
+      return newExchange(tokenResponse(3600));
+    };
+
+    ScimAccessTokenRequest request = newRequest("read", false);
+    CompletableFuture<AccessTokenExchange> firstCaller = CompletableFuture.supplyAsync(() -> {
+      return accessTokenManager.getAccessToken(request, CLIENT_LAST_MODIFIED, tokenRequest, tokenRequest);
+    });
+    Assertions.assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+    CompletableFuture<AccessTokenExchange> secondCaller = CompletableFuture.supplyAsync(() -> {
+      return accessTokenManager.getAccessToken(request, CLIENT_LAST_MODIFIED, tokenRequest, tokenRequest);
+    });
+    // give the second caller the chance to join the running request
+    Thread.sleep(100);
+    releaseRequest.countDown();
+
+    AccessTokenExchange exchange = firstCaller.get(5, TimeUnit.SECONDS);
+    Assertions.assertSame(exchange, secondCaller.get(5, TimeUnit.SECONDS));
+    Assertions.assertSame(exchange,
+                          accessTokenManager.getAccessToken(request, CLIENT_LAST_MODIFIED, tokenRequest, tokenRequest));
+    Assertions.assertEquals(1, requestCounter.get());
+    Assertions.assertEquals(1, accessTokenManager.getCachedTokenCount());
+  }
+
+  /**
+   * verifies that the cache is not used if it is bypassed, for other scopes, for modified clients or for
+   * responses without lifetime
+   */
+  @Test
+  public void testTokenIsNotTakenFromCache()
+  {
+    AtomicInteger requestCounter = new AtomicInteger();
+    Supplier<AccessTokenExchange> tokenRequest = () -> {
+      requestCounter.incrementAndGet();
+      return newExchange(tokenResponse(3600));
+    };
+    accessTokenManager.getAccessToken(newRequest("read", false), CLIENT_LAST_MODIFIED, tokenRequest, tokenRequest);
+    accessTokenManager.getAccessToken(newRequest("read", true), CLIENT_LAST_MODIFIED, tokenRequest, tokenRequest);
+    accessTokenManager.getAccessToken(newRequest("write", false), CLIENT_LAST_MODIFIED, tokenRequest, tokenRequest);
+    accessTokenManager.getAccessToken(newRequest("read", false),
+                                      CLIENT_LAST_MODIFIED.plusSeconds(1),
+                                      tokenRequest,
+                                      tokenRequest);
+    Assertions.assertEquals(4, requestCounter.get());
+
+    Supplier<AccessTokenExchange> failingRequest = () -> {
+      requestCounter.incrementAndGet();
+      return new AccessTokenExchange(Collections.emptyMap(), Collections.emptyMap(),
+                                     newResponse(400, "{\"error\": \"invalid_client\"}"));
+    };
+    accessTokenManager.getAccessToken(newRequest("other", false), CLIENT_LAST_MODIFIED, failingRequest, failingRequest);
+    accessTokenManager.getAccessToken(newRequest("other", false), CLIENT_LAST_MODIFIED, failingRequest, failingRequest);
+    Assertions.assertEquals(6, requestCounter.get());
+  }
+
+  /**
+   * verifies that a used token is refreshed with a newly built request instead of replaying the first request
+   */
+  @SneakyThrows
+  @Test
+  public void testTokenIsRefreshedWithNewRequest()
+  {
+    AtomicInteger requestCounter = new AtomicInteger();
+    CountDownLatch refreshed = new CountDownLatch(1);
+    Supplier<AccessTokenExchange> tokenRequest = () -> {
+      requestCounter.incrementAndGet();
+      // refreshed after a second
+      return newExchange(tokenResponse(31));
+    };
+    Supplier<AccessTokenExchange> refreshRequest = () -> {
+      refreshed.countDown();
+      return newExchange(tokenResponse(3600));
+    };
+    ScimAccessTokenRequest request = newRequest("read", false);
+    accessTokenManager.getAccessToken(request, CLIENT_LAST_MODIFIED, tokenRequest, refreshRequest);
+    accessTokenManager.getAccessToken(request, CLIENT_LAST_MODIFIED, tokenRequest, refreshRequest);
+
+    Assertions.assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, requestCounter.get());
+  }
+
+  private static ScimAccessTokenRequest newRequest(String scope, boolean bypassTokenCache)
+  {
+    return ScimAccessTokenRequest.builder()
+                                 .openIdClientId(1L)
+                                 .grantType(OAuthConstants.CLIENT_CREDENTIALS_GRANT_TYPE)
+                                 .scope(scope)
+                                 .bypassTokenCache(bypassTokenCache)
+                                 .build();
+  }
+
+  private static String tokenResponse(long expiresIn)
+  {
+    return String.format("{\"access_token\": \"abc\", \"token_type\": \"Bearer\", \"expires_in\": %d}", expiresIn);
+  }
+
+  private static AccessTokenExchange newExchange(String body)
+  {
+    return new AccessTokenExchange(Collections.emptyMap(), Collections.emptyMap(), newResponse(200, body));
+  }
+
+  private static HttpResponseDetails newResponse(int statusCode, String body)
+  {
+    CloseableHttpResponse response = Mockito.mock(CloseableHttpResponse.class);
+    Mockito.doReturn(statusCode).when(response).getCode();
+    Mockito.doReturn(new StringEntity(body)).when(response).getEntity();
+    Mockito.doReturn(new Header[0]).when(response).getHeaders();
+    return new HttpResponseDetails(response);
+  }
+
+  @SneakyThrows
+  private static void awaitLatch(CountDownLatch latch)
+  {
+    Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+  }
+}
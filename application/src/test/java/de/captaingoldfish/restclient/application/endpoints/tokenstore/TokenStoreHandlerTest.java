@@ -14,6 +14,7 @@ import de.captaingoldfish.restclient.database.entities.TokenStore;
 import de.captaingoldfish.restclient.scim.resources.ScimTokenStore;
 import de.captaingoldfish.scim.sdk.client.response.ServerResponse;
 import de.captaingoldfish.scim.sdk.common.constants.HttpStatus;
+import de.captaingoldfish.scim.sdk.common.constants.enums.SortOrder;
 import de.captaingoldfish.scim.sdk.common.response.ErrorResponse;
 import de.captaingoldfish.scim.sdk.common.response.ListResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -152,6 +153,65 @@ public class TokenStoreHandlerTest extends AbstractScimClientConfig
     Assertions.assertEquals(tokenStoreDao.count(), listResponse.getListedResources().size());
   }
 
+  /**
+   * verifies that the token stores are paged and sorted on database level and that the total number of results
+   * is independent of the requested page
+   */
+  @Test
+  public void testListTokenStoresPagedAndSorted()
+  {
+    for ( int i = 0 ; i < 5 ; i++ )
+    {
+      tokenStoreDao.save(TokenStore.builder().tokenCategory(tokenCategory).name("name-" + i).token("token").build());
+    }
+
+    ServerResponse<ListResponse<ScimTokenStore>> response = scimRequestBuilder.list(ScimTokenStore.class,
+                                                                                    TOKEN_STORE_ENDPOINT)
+                                                                              .startIndex(2)
+                                                                              .count(2)
+                                                                              .sortBy(ScimTokenStore.FieldNames.NAME)
+                                                                              .sortOrder(SortOrder.DESCENDING)
+                                                                              .get()
+                                                                              .sendRequest();
+    Assertions.assertEquals(HttpStatus.OK, response.getHttpStatus());
+    ListResponse<ScimTokenStore> listResponse = response.getResource();
+    Assertions.assertEquals(5, listResponse.getTotalResults());
+    Assertions.assertEquals(List.of("name-3", "name-2"),
+                            listResponse.getListedResources().stream().map(ScimTokenStore::getName).toList());
+  }
+
+  /**
+   * verifies that logical expressions and the string comparators of a filter are translated into the database
+   * query and that string attributes that are not case exact are compared case-insensitive
+   */
+  @Test
+  public void testListTokenStoresWithFilter()
+  {
+    TokenCategory otherCategory = tokenCategoryDao.save(TokenCategory.builder().name("other").build());
+    tokenStoreDao.save(TokenStore.builder().tokenCategory(tokenCategory).name("access-1").token("abc").build());
+    tokenStoreDao.save(TokenStore.builder().tokenCategory(tokenCategory).name("Access-2").token("50%_").build());
+    tokenStoreDao.save(TokenStore.builder().tokenCategory(tokenCategory).name("refresh").token("xyz").build());
+    tokenStoreDao.save(TokenStore.builder().tokenCategory(otherCategory).name("access-3").token("abc").build());
+
+    String filter = String.format("categoryId eq %s and (name sw \"ACCESS\" or not (token ew \"z\"))",
+                                  tokenCategory.getId());
+    Assertions.assertEquals(List.of("access-1", "Access-2"), listTokenStoreNames(filter));
+    Assertions.assertEquals(List.of("Access-2"), listTokenStoreNames("token co \"%_\""));
+    Assertions.assertEquals(List.of("refresh"), listTokenStoreNames("token ew \"Z\" and name pr"));
+  }
+
+  private List<String> listTokenStoreNames(String filter)
+  {
+    ServerResponse<ListResponse<ScimTokenStore>> response = scimRequestBuilder.list(ScimTokenStore.class,
+                                                                                    TOKEN_STORE_ENDPOINT)
+                                                                              .filter(filter)
+                                                                              .sortBy(ScimTokenStore.FieldNames.ID)
+                                                                              .get()
+                                                                              .sendRequest();
+    Assertions.assertEquals(HttpStatus.OK, response.getHttpStatus());
+    return response.getResource().getListedResources().stream().map(ScimTokenStore::getName).toList();
+  }
+
   @Test
   public void testUpdateTokenStore()
   {
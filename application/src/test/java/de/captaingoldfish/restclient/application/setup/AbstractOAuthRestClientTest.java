@@ -14,6 +14,7 @@ import de.captaingoldfish.restclient.database.repositories.CurrentWorkflowSettin
 import de.captaingoldfish.restclient.database.repositories.HttpClientSettingsDao;
 import de.captaingoldfish.restclient.database.repositories.HttpRequestCategoriesDao;
 import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
+import de.captaingoldfish.restclient.database.repositories.HttpResponsesDao;
 import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
 import de.captaingoldfish.restclient.database.repositories.OpenIdClientDao;
 import de.captaingoldfish.restclient.database.repositories.OpenIdProviderDao;
@@ -67,6 +68,9 @@ public abstract class AbstractOAuthRestClientTest implements FileReferences
   @Autowired
   protected HttpRequestsDao httpRequestsDao;
 
+  @Autowired
+  protected HttpResponsesDao httpResponsesDao;
+
   @LocalServerPort
   protected int port;
 
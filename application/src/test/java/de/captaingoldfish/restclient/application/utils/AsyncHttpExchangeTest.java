@@ -0,0 +1,297 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AsyncResponseBuilder;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.http2.ssl.H2ServerTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import de.captaingoldfish.restclient.application.setup.FileReferences;
+import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
+import de.captaingoldfish.restclient.database.entities.HttpTimings;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class AsyncHttpExchangeTest implements FileReferences
+{
+
+  private static final String RESPONSE_BODY = "hello world ".repeat(100);
+
+  /**
+   * the size of a body that exceeds the capacity that is granted to the server while the body is spooled
+   */
+  private static final int LARGE_BODY_SIZE = 5 * 1024 * 1024;
+
+  /**
+   * the alias of the 2048 bit RSA key within the extended unit test keystore that is used by the TLS server
+   */
+  private static final String SERVER_KEY_ALIAS = "localhost-rsa";
+
+  /**
+   * a plain HTTP/1.1 server
+   */
+  private HttpServer httpServer;
+
+  /**
+   * a TLS server that supports HTTP/2 and HTTP/1.1 and selects the protocol with ALPN
+   */
+  private HttpAsyncServer h2Server;
+
+  private KeyStore unitTestKeystore;
+
+  private CloseableHttpAsyncClient httpAsyncClient;
+
+  @SneakyThrows
+  @BeforeEach
+  public void startServer()
+  {
+    httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    httpServer.createContext("/", exchange -> {
+      byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream outputStream = exchange.getResponseBody())
+      {
+        outputStream.write(body);
+      }
+    });
+    httpServer.createContext("/large", exchange -> {
+      exchange.sendResponseHeaders(200, LARGE_BODY_SIZE);
+      try (OutputStream outputStream = exchange.getResponseBody())
+      {
+        for ( int i = 0 ; i < LARGE_BODY_SIZE ; i++ )
+        {
+          outputStream.write(i % 251);
+        }
+      }
+    });
+    httpServer.start();
+
+    unitTestKeystore = KeyStore.getInstance("JKS");
+    try (InputStream inputStream = readAsInputStream(UNIT_TEST_KEYSTORE_JKS_EXTENDED))
+    {
+      unitTestKeystore.load(inputStream, UNIT_TEST_KEYSTORE_PASSWORD.toCharArray());
+    }
+    SSLContext clientSslContext = SSLContexts.custom().loadTrustMaterial(unitTestKeystore, null).build();
+    // the client is created exactly like the clients of the asynchronous execution engine
+    httpAsyncClient = HttpClientBuilder.createHttpAsyncClient(HttpClientSettings.builder()
+                                                                                .useHostnameVerifier(false)
+                                                                                .executionEngine(HttpClientSettings.ExecutionEngine.ASYNC_HTTP2)
+                                                                                .build(),
+                                                              clientSslContext);
+  }
+
+  @AfterEach
+  public void stopServer()
+  {
+    httpAsyncClient.close(CloseMode.IMMEDIATE);
+    httpServer.stop(0);
+    if (h2Server != null)
+    {
+      h2Server.close(CloseMode.IMMEDIATE);
+    }
+  }
+
+  /**
+   * verifies that concurrently sent requests are completed with the read response body and the measured phases
+   */
+  @Test
+  public void testExecuteConcurrentRequests()
+  {
+    String url = "http://localhost:" + httpServer.getAddress().getPort() + "/";
+    List<CompletableFuture<AsyncHttpExchange.Result>> futures = //
+      IntStream.range(0, 5)
+               .mapToObj(i -> AsyncHttpExchange.execute(httpAsyncClient, SimpleRequestBuilder.get(url).build()))
+               .toList();
+    for ( CompletableFuture<AsyncHttpExchange.Result> future : futures )
+    {
+      AsyncHttpExchange.Result result = AsyncHttpExchange.await(future);
+      Assertions.assertEquals(200, result.response().getCode());
+      Assertions.assertEquals(HttpVersion.HTTP_1_1, result.response().getVersion());
+      Assertions.assertEquals(RESPONSE_BODY, result.response().getBodyText());
+
+      HttpTimings timings = result.timings();
+      Assertions.assertEquals(RESPONSE_BODY.length(), timings.getBytesReceived());
+      Assertions.assertNotNull(timings.getTimeToFirstByteMicros());
+      Assertions.assertNotNull(timings.getDownloadMicros());
+      long phasesMicros = timings.getTimeToFirstByteMicros() + timings.getDownloadMicros();
+      Assertions.assertTrue(Math.abs(timings.getTotalMicros() - phasesMicros) <= 1,
+                            phasesMicros + " != " + timings.getTotalMicros());
+      Assertions.assertNull(timings.getConnectMicros());
+    }
+  }
+
+  /**
+   * verifies that the client negotiates HTTP/2 with ALPN if the server supports it
+   */
+  @SneakyThrows
+  @Test
+  public void testExecuteOverHttp2()
+  {
+    int port = startH2Server();
+    SimpleHttpRequest request = SimpleRequestBuilder.get("https://localhost:" + port + "/").build();
+    List<CompletableFuture<AsyncHttpExchange.Result>> futures = //
+      IntStream.range(0, 5).mapToObj(i -> AsyncHttpExchange.execute(httpAsyncClient, request)).toList();
+    for ( CompletableFuture<AsyncHttpExchange.Result> future : futures )
+    {
+      AsyncHttpExchange.Result result = AsyncHttpExchange.await(future);
+      Assertions.assertEquals(200, result.response().getCode());
+      Assertions.assertEquals(HttpVersion.HTTP_2, result.response().getVersion());
+      Assertions.assertEquals(RESPONSE_BODY, result.response().getBodyText());
+      Assertions.assertEquals(RESPONSE_BODY.length(), result.timings().getBytesReceived());
+    }
+  }
+
+  /**
+   * verifies that the response body is spooled instead of being buffered in the response if a reader is given
+   */
+  @SneakyThrows
+  @Test
+  public void testExecuteWithSpooledBody()
+  {
+    String url = "http://localhost:" + httpServer.getAddress().getPort() + "/";
+    ResponseBodyReader responseBodyReader = new ResponseBodyReader(100, 1024 * 1024, 100);
+    AsyncHttpExchange.Result result = AsyncHttpExchange.await(AsyncHttpExchange.execute(httpAsyncClient,
+                                                                                        SimpleRequestBuilder.get(url)
+                                                                                                            .build(),
+                                                                                        responseBodyReader));
+    Assertions.assertEquals(200, result.response().getCode());
+    try (SpooledResponseBody body = result.body(); InputStream inputStream = body.openInputStream())
+    {
+      Assertions.assertEquals(RESPONSE_BODY.length(), body.getSize());
+      Assertions.assertEquals(RESPONSE_BODY, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * verifies that a body that is larger than the granted capacity is spooled completely and in order
+   */
+  @SneakyThrows
+  @Test
+  public void testExecuteWithLargeSpooledBody()
+  {
+    String url = "http://localhost:" + httpServer.getAddress().getPort() + "/large";
+    ResponseBodyReader responseBodyReader = new ResponseBodyReader(1024, 10 * 1024 * 1024, 100);
+    AsyncHttpExchange.Result result = AsyncHttpExchange.await(AsyncHttpExchange.execute(httpAsyncClient,
+                                                                                        SimpleRequestBuilder.get(url)
+                                                                                                            .build(),
+                                                                                        responseBodyReader));
+    Assertions.assertEquals(200, result.response().getCode());
+    Assertions.assertEquals(LARGE_BODY_SIZE, result.timings().getBytesReceived());
+    try (SpooledResponseBody body = result.body(); InputStream inputStream = body.openInputStream())
+    {
+      Assertions.assertEquals(LARGE_BODY_SIZE, body.getSize());
+      byte[] expectedContent = new byte[LARGE_BODY_SIZE];
+      for ( int i = 0 ; i < LARGE_BODY_SIZE ; i++ )
+      {
+        expectedContent[i] = (byte)(i % 251);
+      }
+      Assertions.assertArrayEquals(expectedContent, inputStream.readAllBytes());
+    }
+  }
+
+  /**
+   * verifies that the original error is thrown if the exchange could not be completed
+   */
+  @Test
+  public void testAwaitRethrowsOriginalError()
+  {
+    int port = httpServer.getAddress().getPort();
+    httpServer.stop(0);
+    CompletableFuture<AsyncHttpExchange.Result> future = //
+      AsyncHttpExchange.execute(httpAsyncClient, SimpleRequestBuilder.get("http://localhost:" + port + "/").build());
+    Assertions.assertThrows(IOException.class, () -> AsyncHttpExchange.await(future));
+  }
+
+  /**
+   * starts a TLS server that offers HTTP/2 and HTTP/1.1 with ALPN
+   *
+   * @return the port of the server
+   */
+  @SneakyThrows
+  private int startH2Server()
+  {
+    // the keys of the unit test keystore are protected with different passwords, so the server key is moved
+    // into its own keystore
+    char[] password = UNIT_TEST_KEYSTORE_PASSWORD.toCharArray();
+    KeyStore serverKeystore = KeyStore.getInstance("PKCS12");
+    serverKeystore.load(null, null);
+    serverKeystore.setKeyEntry(SERVER_KEY_ALIAS,
+                               unitTestKeystore.getKey(SERVER_KEY_ALIAS, password),
+                               password,
+                               unitTestKeystore.getCertificateChain(SERVER_KEY_ALIAS));
+    SSLContext serverSslContext = SSLContexts.custom().loadKeyMaterial(serverKeystore, password).build();
+    h2Server = H2ServerBootstrap.bootstrap()
+                                .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                                .setTlsStrategy(new H2ServerTlsStrategy(serverSslContext))
+                                .register("*", new StaticResponseHandler())
+                                .create();
+    h2Server.start();
+    ListenerEndpoint listenerEndpoint = h2Server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTPS).get();
+    return ((InetSocketAddress)listenerEndpoint.getAddress()).getPort();
+  }
+
+  /**
+   * answers each request with the {@link #RESPONSE_BODY}
+   */
+  private static class StaticResponseHandler implements AsyncServerRequestHandler<Message<HttpRequest, Void>>
+  {
+
+    @Override
+    public AsyncRequestConsumer<Message<HttpRequest, Void>> prepare(HttpRequest request,
+                                                                    EntityDetails entityDetails,
+                                                                    HttpContext context)
+    {
+      return new BasicRequestConsumer<>(entityDetails == null ? null : new DiscardingEntityConsumer<>());
+    }
+
+    @Override
+    public void handle(Message<HttpRequest, Void> requestObject, ResponseTrigger responseTrigger, HttpContext context)
+      throws IOException, HttpException
+    {
+      responseTrigger.submitResponse(AsyncResponseBuilder.create(200)
+                                                         .setEntity(RESPONSE_BODY, ContentType.TEXT_PLAIN)
+                                                         .build(),
+                                     context);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.time.Instant;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import de.captaingoldfish.restclient.application.setup.AbstractOAuthRestClientTest;
+import de.captaingoldfish.restclient.application.setup.OAuthRestClientTest;
+import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
+import de.captaingoldfish.restclient.database.entities.Proxy;
+import de.captaingoldfish.restclient.database.entities.Truststore;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@OAuthRestClientTest
+public class HttpClientRegistryTest extends AbstractOAuthRestClientTest
+{
+
+  @Autowired
+  private HttpClientRegistry httpClientRegistry;
+
+  @AfterEach
+  public void clearRegistry()
+  {
+    httpClientRegistry.clear();
+  }
+
+  /**
+   * verifies that the same http client is returned for unchanged settings
+   */
+  @Test
+  public void testHttpClientIsReused()
+  {
+    HttpClientSettings httpClientSettings = httpClientSettingsDao.save(HttpClientSettings.builder().build());
+
+    CloseableHttpClient httpClient = httpClientRegistry.getHttpClient(httpClientSettings);
+    HttpClientSettings reloadedSettings = httpClientSettingsDao.findById(httpClientSettings.getId()).get();
+    Assertions.assertSame(httpClient, httpClientRegistry.getHttpClient(reloadedSettings));
+  }
+
+  /**
+   * verifies that a new http client is built if the settings were modified
+   */
+  @Test
+  public void testHttpClientIsRebuiltOnSettingsChange()
+  {
+    HttpClientSettings httpClientSettings = httpClientSettingsDao.save(HttpClientSettings.builder().build());
+    CloseableHttpClient httpClient = httpClientRegistry.getHttpClient(httpClientSettings);
+
+    httpClientSettings.setSocketTimeout(5);
+    httpClientSettings.setLastModified(Instant.now().plusSeconds(1));
+    httpClientSettings = httpClientSettingsDao.save(httpClientSettings);
+    Assertions.assertNotSame(httpClient, httpClientRegistry.getHttpClient(httpClientSettings));
+  }
+
+  /**
+   * verifies that a new http client is built if the proxy of the settings was modified
+   */
+  @Test
+  public void testHttpClientIsRebuiltOnProxyChange()
+  {
+    Proxy proxy = proxyDao.save(Proxy.builder().host("localhost").port(8888).build());
+    HttpClientSettings httpClientSettings = httpClientSettingsDao.save(HttpClientSettings.builder()
+                                                                                         .proxy(proxy)
+                                                                                         .build());
+    CloseableHttpClient httpClient = httpClientRegistry.getHttpClient(httpClientSettings);
+
+    proxy.setPort(9999);
+    proxy.setLastModified(Instant.now().plusSeconds(1));
+    proxyDao.save(proxy);
+    HttpClientSettings reloadedSettings = httpClientSettingsDao.findById(httpClientSettings.getId()).get();
+    Assertions.assertNotSame(httpClient, httpClientRegistry.getHttpClient(reloadedSettings));
+  }
+
+  /**
+   * verifies that a new http client is built if the application truststore was modified
+   */
+  @Test
+  public void testHttpClientIsRebuiltOnTruststoreChange()
+  {
+    HttpClientSettings httpClientSettings = httpClientSettingsDao.save(HttpClientSettings.builder().build());
+    truststoreDao.getTruststore();
+    CloseableHttpClient httpClient = httpClientRegistry.getHttpClient(httpClientSettings);
+
+    Truststore truststore = truststoreDao.getTruststore();
+    truststore.setLastModified(Instant.now().plusSeconds(1));
+    truststoreDao.save(truststore);
+    Assertions.assertNotSame(httpClient, httpClientRegistry.getHttpClient(httpClientSettings));
+  }
+}
@@ -0,0 +1,149 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import de.captaingoldfish.restclient.database.entities.HttpTimings;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class HttpExchangeTimerTest
+{
+
+  private static final String RESPONSE_BODY = "hello world ".repeat(100);
+
+  private HttpServer httpServer;
+
+  private CloseableHttpClient httpClient;
+
+  @SneakyThrows
+  @BeforeEach
+  public void startServer()
+  {
+    httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    httpServer.createContext("/", exchange -> {
+      byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream outputStream = exchange.getResponseBody())
+      {
+        outputStream.write(body);
+      }
+    });
+    httpServer.start();
+
+    var socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create()
+                                               .register(URIScheme.HTTP.id,
+                                                         new HttpExchangeTimerHooks.TimingPlainSocketFactory())
+                                               .build();
+    var connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, PoolConcurrencyPolicy.STRICT,
+                                                                   PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND,
+                                                                   null, new HttpExchangeTimerHooks.TimingDnsResolver(),
+                                                                   null);
+    httpClient = HttpClients.custom()
+                            .setConnectionManager(connectionManager)
+                            .addResponseInterceptorFirst((response, entityDetails, context) -> {
+                              HttpExchangeTimer.markResponseHead();
+                            })
+                            .build();
+  }
+
+  @SneakyThrows
+  @AfterEach
+  public void stopServer()
+  {
+    httpClient.close();
+    httpServer.stop(0);
+  }
+
+  /**
+   * verifies that the first exchange establishes a new connection and that the second exchange reuses it
+   */
+  @Test
+  public void testTimingsOfNewAndReusedConnection()
+  {
+    HttpTimings firstTimings = sendRequest();
+    Assertions.assertFalse(firstTimings.getConnectionReused());
+    Assertions.assertEquals(0, firstTimings.getTlsHandshakeMicros());
+    Assertions.assertNotNull(firstTimings.getTimeToFirstByteMicros());
+    Assertions.assertNotNull(firstTimings.getDownloadMicros());
+    Assertions.assertTrue(firstTimings.getBytesSent() > 0);
+    Assertions.assertTrue(firstTimings.getBytesReceived() > RESPONSE_BODY.length());
+    long phasesMicros = firstTimings.getDnsLookupMicros() + firstTimings.getConnectMicros()
+                        + firstTimings.getTimeToFirstByteMicros() + firstTimings.getDownloadMicros();
+    Assertions.assertTrue(phasesMicros <= firstTimings.getTotalMicros() + 1,
+                          phasesMicros + " > " + firstTimings.getTotalMicros());
+
+    HttpTimings secondTimings = sendRequest();
+    Assertions.assertTrue(secondTimings.getConnectionReused());
+    Assertions.assertEquals(0, secondTimings.getDnsLookupMicros());
+    Assertions.assertEquals(0, secondTimings.getConnectMicros());
+    Assertions.assertTrue(secondTimings.getBytesReceived() > RESPONSE_BODY.length());
+  }
+
+  /**
+   * verifies that exchanges outside of a running timer are not recorded and that a nested timer restores the
+   * outer timer when it is closed
+   */
+  @Test
+  public void testNestedTimers()
+  {
+    sendRequest();
+    try (HttpExchangeTimer outerTimer = HttpExchangeTimer.start())
+    {
+      HttpTimings innerTimings = sendRequest();
+      Assertions.assertTrue(innerTimings.getBytesReceived() > 0);
+
+      HttpTimings outerTimings = outerTimer.stop();
+      Assertions.assertEquals(0, outerTimings.getBytesSent());
+      Assertions.assertEquals(0, outerTimings.getBytesReceived());
+      Assertions.assertNull(outerTimings.getTimeToFirstByteMicros());
+
+      sendRequestWithoutTimer();
+      Assertions.assertTrue(outerTimer.stop().getBytesReceived() > 0);
+    }
+  }
+
+  @SneakyThrows
+  private HttpTimings sendRequest()
+  {
+    try (HttpExchangeTimer timer = HttpExchangeTimer.start())
+    {
+      sendRequestWithoutTimer();
+      return timer.stop();
+    }
+  }
+
+  @SneakyThrows
+  private void sendRequestWithoutTimer()
+  {
+    HttpGet httpGet = new HttpGet("http://localhost:" + httpServer.getAddress().getPort() + "/");
+    try (CloseableHttpResponse response = httpClient.execute(httpGet))
+    {
+      Assertions.assertEquals(RESPONSE_BODY, EntityUtils.toString(response.getEntity()));
+    }
+  }
+}
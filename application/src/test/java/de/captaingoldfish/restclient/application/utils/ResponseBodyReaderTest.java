@@ -0,0 +1,131 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class ResponseBodyReaderTest
+{
+
+  private final ResponseBodyReader responseBodyReader = new ResponseBodyReader(1024, 10 * 1024, 100);
+
+  /**
+   * verifies that small textual bodies are stored completely as text and decoded with the charset of the
+   * content type
+   */
+  @SneakyThrows
+  @Test
+  public void testSmallTextBody()
+  {
+    String text = "Grüße";
+    ContentType contentType = ContentType.create("text/plain", StandardCharsets.ISO_8859_1);
+    SpooledResponseBody body = responseBodyReader.read(new ByteArrayEntity(text.getBytes(StandardCharsets.ISO_8859_1),
+                                                                           contentType));
+
+    HttpResponse httpResponse = toHttpResponse(body);
+    Assertions.assertEquals(text, httpResponse.getResponseBody());
+    Assertions.assertEquals(5, httpResponse.getResponseBodySize());
+    Assertions.assertFalse(httpResponse.isResponseBodyBinary());
+    Assertions.assertFalse(httpResponse.isResponseBodyPreview());
+    Assertions.assertNull(httpResponse.getResponseBodyContent());
+    Assertions.assertNull(body.getSpoolFile());
+  }
+
+  /**
+   * verifies that large textual bodies are spooled to a file, are only stored as preview, that the spooled body
+   * is handed over to the response as raw content and that the file is deleted when the content is closed
+   */
+  @SneakyThrows
+  @Test
+  public void testLargeTextBody()
+  {
+    String text = "0123456789".repeat(500);
+    SpooledResponseBody body = responseBodyReader.read(new ByteArrayEntity(text.getBytes(StandardCharsets.UTF_8),
+                                                                           ContentType.APPLICATION_JSON));
+
+    HttpResponse httpResponse = toHttpResponse(body);
+    Assertions.assertEquals(text.substring(0, 100), httpResponse.getResponseBody());
+    Assertions.assertTrue(httpResponse.isResponseBodyPreview());
+    Assertions.assertFalse(httpResponse.isResponseBodyTruncated());
+    Assertions.assertSame(body, httpResponse.getResponseBodyContent());
+    Assertions.assertEquals(text, new String(readContent(httpResponse), StandardCharsets.UTF_8));
+
+    Path spoolFile = body.getSpoolFile();
+    Assertions.assertTrue(Files.exists(spoolFile));
+    httpResponse.closeResponseBodyContent();
+    Assertions.assertFalse(Files.exists(spoolFile));
+    Assertions.assertDoesNotThrow(httpResponse::closeResponseBodyContent);
+  }
+
+  /**
+   * verifies that binary bodies are stored as raw bytes without textual representation and that bytes beyond
+   * the maximum size are discarded
+   */
+  @SneakyThrows
+  @Test
+  public void testBinaryBodyIsTruncated()
+  {
+    byte[] bytes = new byte[20 * 1024];
+    new Random(1).nextBytes(bytes);
+    SpooledResponseBody body = responseBodyReader.read(new ByteArrayEntity(bytes,
+                                                                           ContentType.APPLICATION_OCTET_STREAM));
+
+    HttpResponse httpResponse = toHttpResponse(body);
+    Assertions.assertNull(httpResponse.getResponseBody());
+    Assertions.assertTrue(httpResponse.isResponseBodyBinary());
+    Assertions.assertTrue(httpResponse.isResponseBodyTruncated());
+    Assertions.assertEquals(10 * 1024, httpResponse.getResponseBodySize());
+    Assertions.assertEquals(10 * 1024, httpResponse.getResponseBodyContent().getSize());
+    byte[] storedBytes = readContent(httpResponse);
+    Assertions.assertEquals(10 * 1024, storedBytes.length);
+    for ( int i = 0 ; i < storedBytes.length ; i++ )
+    {
+      Assertions.assertEquals(bytes[i], storedBytes[i]);
+    }
+  }
+
+  /**
+   * verifies the detection of binary content types
+   */
+  @ParameterizedTest
+  @CsvSource({"application/json,false", "text/html,false", "application/scim+json,false",
+              "application/octet-stream,true", "image/png,true", "application/octet-stream; charset=UTF-8,false"})
+  public void testIsBinary(String contentType, boolean binary)
+  {
+    Assertions.assertEquals(binary, ResponseBodyReader.isBinary(ContentType.parseLenient(contentType)));
+  }
+
+  @SneakyThrows
+  private static byte[] readContent(HttpResponse httpResponse)
+  {
+    try (InputStream inputStream = httpResponse.getResponseBodyContent().openInputStream())
+    {
+      return inputStream.readAllBytes();
+    }
+  }
+
+  @SneakyThrows
+  private HttpResponse toHttpResponse(SpooledResponseBody body)
+  {
+    HttpResponse.HttpResponseBuilder responseBuilder = HttpResponse.builder();
+    responseBodyReader.setBody(responseBuilder, body);
+    return responseBuilder.build();
+  }
+}
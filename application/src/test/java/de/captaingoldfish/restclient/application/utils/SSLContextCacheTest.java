@@ -0,0 +1,71 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.time.Instant;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import de.captaingoldfish.restclient.application.setup.AbstractOAuthRestClientTest;
+import de.captaingoldfish.restclient.application.setup.OAuthRestClientTest;
+import de.captaingoldfish.restclient.database.entities.Truststore;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@OAuthRestClientTest
+public class SSLContextCacheTest extends AbstractOAuthRestClientTest
+{
+
+  @Autowired
+  private SSLContextCache sslContextCache;
+
+  @AfterEach
+  public void invalidateCache()
+  {
+    sslContextCache.invalidate();
+  }
+
+  /**
+   * verifies that the same context is returned as long as the truststore is not modified
+   */
+  @Test
+  public void testSslContextIsReused()
+  {
+    truststoreDao.getTruststore();
+    SSLContext sslContext = sslContextCache.getSslContext(null);
+    Assertions.assertSame(sslContext, sslContextCache.getSslContext(null));
+  }
+
+  /**
+   * verifies that a new context is built after the truststore was modified
+   */
+  @Test
+  public void testSslContextIsRebuiltOnTruststoreChange()
+  {
+    truststoreDao.getTruststore();
+    SSLContext sslContext = sslContextCache.getSslContext(null);
+
+    Truststore truststore = truststoreDao.getTruststore();
+    truststore.setLastModified(Instant.now().plusSeconds(1));
+    truststoreDao.save(truststore);
+    Assertions.assertNotSame(sslContext, sslContextCache.getSslContext(null));
+  }
+
+  /**
+   * verifies that a new context is built after the cache was invalidated
+   */
+  @Test
+  public void testSslContextIsRebuiltAfterInvalidation()
+  {
+    truststoreDao.getTruststore();
+    SSLContext sslContext = sslContextCache.getSslContext(null);
+    sslContextCache.invalidate();
+    Assertions.assertNotSame(sslContext, sslContextCache.getSslContext(null));
+  }
+}
@@ -0,0 +1,96 @@
+package de.captaingoldfish.restclient.application.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class SingleFlightLoaderTest
+{
+
+  /**
+   * verifies that concurrent callers for the same key share a single load operation
+   */
+  @SneakyThrows
+  @Test
+  public void testConcurrentCallersShareLoadOperation()
+  {
+    SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>();
+    AtomicInteger loadCounter = new AtomicInteger();
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch releaseLoad = new CountDownLatch(1);
+
+    CompletableFuture<String> firstCaller = CompletableFuture.supplyAsync(() -> loader.load(1L, () -> {
+      loadCounter.incrementAndGet();
+      loadStarted.countDown();
+      awaitLatch(releaseLoad);
+      return "metadata";
+    }));
+    Assertions.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> secondCaller = CompletableFuture.supplyAsync(() -> loader.load(1L, () -> {
+      loadCounter.incrementAndGet();
+      return "other";
+    }));
+
+    // give the second caller the chance to join the running operation
+    Thread.sleep(100);
+    releaseLoad.countDown();
+    Assertions.assertEquals("metadata", firstCaller.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals("metadata", secondCaller.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, loadCounter.get());
+  }
+
+  /**
+   * verifies that a running load operation does not block callers for other keys
+   */
+  @SneakyThrows
+  @Test
+  public void testOtherKeysAreNotBlocked()
+  {
+    SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>();
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch releaseLoad = new CountDownLatch(1);
+
+    CompletableFuture<String> blockedCaller = CompletableFuture.supplyAsync(() -> loader.load(1L, () -> {
+      loadStarted.countDown();
+      awaitLatch(releaseLoad);
+      return "slow";
+    }));
+    Assertions.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals("fast", loader.load(2L, () -> "fast"));
+    releaseLoad.countDown();
+    Assertions.assertEquals("slow", blockedCaller.get(5, TimeUnit.SECONDS));
+  }
+
+  /**
+   * verifies that an exception of the loader is rethrown and that a subsequent call starts a new operation
+   */
+  @Test
+  public void testExceptionIsRethrown()
+  {
+    SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>();
+    IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> {
+      loader.load(1L, () -> {
+        throw new IllegalStateException("unreachable");
+      });
+    });
+    Assertions.assertEquals("unreachable", exception.getMessage());
+    Assertions.assertEquals("metadata", loader.load(1L, () -> "metadata"));
+  }
+
+  @SneakyThrows
+  private static void awaitLatch(CountDownLatch latch)
+  {
+    Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+  }
+}
@@ -0,0 +1,49 @@
+package de.captaingoldfish.restclient.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import de.captaingoldfish.restclient.application.OAuth2RestClient;
+
+
+/**
+ * starts the complete application with an in-memory database for the benchmarks that need the spring context
+ * or the database. The application is started once per fork and shared by all benchmarks of the fork
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class ApplicationContextState
+{
+
+  private ConfigurableApplicationContext applicationContext;
+
+  @Setup(Level.Trial)
+  public void startApplication()
+  {
+    applicationContext = new SpringApplicationBuilder(OAuth2RestClient.class).properties("server.port=0",
+                                                                                         "spring.main.banner-mode=off",
+                                                                                         "database.url=jdbc:hsqldb:mem:benchmarks")
+                                                                             .run();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopApplication()
+  {
+    applicationContext.close();
+  }
+
+  /**
+   * @return the bean of the given type from the started application
+   */
+  public <T> T getBean(Class<T> type)
+  {
+    return applicationContext.getBean(type);
+  }
+}
@@ -0,0 +1,245 @@
+package de.captaingoldfish.restclient.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.RSAKeyGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWSAlgorithm;
+
+import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
+import de.captaingoldfish.restclient.commons.keyhelper.SecurityProvider;
+import de.captaingoldfish.restclient.database.entities.Keystore;
+import de.captaingoldfish.restclient.database.entities.KeystoreEntry;
+import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+
+/**
+ * provides the key material for the benchmarks. The keys are generated from a fixed seed so that every run
+ * works with the same keys and certificates
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkKeys
+{
+
+  /**
+   * the password of the keystores and of the private keys within them
+   */
+  public static final String KEYSTORE_PASSWORD = "123456";
+
+  public static final String RSA_ALIAS = "benchmark-rsa";
+
+  public static final String EC_P256_ALIAS = "benchmark-ec-p256";
+
+  public static final String EC_P384_ALIAS = "benchmark-ec-p384";
+
+  public static final String EC_P521_ALIAS = "benchmark-ec-p521";
+
+  /**
+   * the seed of the random number generator that is used to generate the keys
+   */
+  private static final long KEY_SEED = 20261018L;
+
+  /**
+   * the generated private keys together with their self-signed certificates mapped by their aliases
+   */
+  private static final Map<String, KeyStore.PrivateKeyEntry> KEY_ENTRIES = createKeyEntries();
+
+  /**
+   * @return the alias of the key that is able to create signatures with the given algorithm
+   */
+  public static String getSignatureKeyAlias(JWSAlgorithm algorithm)
+  {
+    if (JWSAlgorithm.Family.RSA.contains(algorithm))
+    {
+      return RSA_ALIAS;
+    }
+    if (JWSAlgorithm.ES256.equals(algorithm))
+    {
+      return EC_P256_ALIAS;
+    }
+    if (JWSAlgorithm.ES384.equals(algorithm))
+    {
+      return EC_P384_ALIAS;
+    }
+    if (JWSAlgorithm.ES512.equals(algorithm))
+    {
+      return EC_P521_ALIAS;
+    }
+    throw new IllegalArgumentException(String.format("Unsupported signature algorithm '%s'", algorithm));
+  }
+
+  /**
+   * @return the alias of the key that is able to encrypt with the given algorithm
+   */
+  public static String getEncryptionKeyAlias(JWEAlgorithm algorithm)
+  {
+    if (JWEAlgorithm.Family.RSA.contains(algorithm))
+    {
+      return RSA_ALIAS;
+    }
+    if (JWEAlgorithm.Family.ECDH_ES.contains(algorithm))
+    {
+      return EC_P256_ALIAS;
+    }
+    throw new IllegalArgumentException(String.format("Unsupported encryption algorithm '%s'", algorithm));
+  }
+
+  /**
+   * @return a new keystore of the given type that contains all benchmark keys
+   */
+  public static KeyStore createKeyStore(KeyStoreSupporter.KeyStoreType keyStoreType)
+  {
+    KeyStore keyStore = KeyStoreSupporter.createEmptyKeyStore(keyStoreType, KEYSTORE_PASSWORD);
+    KEY_ENTRIES.forEach((alias, keyEntry) -> {
+      KeyStoreSupporter.addEntryToKeystore(keyStore,
+                                           alias,
+                                           keyEntry.getPrivateKey(),
+                                           keyEntry.getCertificateChain(),
+                                           KEYSTORE_PASSWORD);
+    });
+    return keyStore;
+  }
+
+  /**
+   * @return an application keystore that contains all benchmark keys
+   */
+  public static Keystore createApplicationKeystore()
+  {
+    KeyStore keyStore = createKeyStore(KeyStoreSupporter.KeyStoreType.JKS);
+    byte[] keystoreBytes = KeyStoreSupporter.getBytes(keyStore, KEYSTORE_PASSWORD);
+    Keystore applicationKeystore = new Keystore(new ByteArrayInputStream(keystoreBytes),
+                                                KeyStoreSupporter.KeyStoreType.JKS, KEYSTORE_PASSWORD);
+    KEY_ENTRIES.keySet().forEach(alias -> applicationKeystore.addKeyEntry(alias, KEYSTORE_PASSWORD));
+    return applicationKeystore;
+  }
+
+  /**
+   * adds the benchmark key with the given alias to the application keystore within the database in the same way
+   * as the keystore endpoint does
+   */
+  public static void addToApplicationKeystore(KeystoreDao keystoreDao, String alias)
+  {
+    Keystore applicationKeystore = keystoreDao.getKeystore();
+    KeyStore.PrivateKeyEntry keyEntry = KEY_ENTRIES.get(alias);
+    String keystorePassword = applicationKeystore.getKeystorePassword();
+    KeyStore mergedKeystore = KeyStoreSupporter.addEntryToKeystore(applicationKeystore.getKeyStore(),
+                                                                   alias,
+                                                                   keyEntry.getPrivateKey(),
+                                                                   keyEntry.getCertificateChain(),
+                                                                   keystorePassword);
+    applicationKeystore.setKeystoreBytes(KeyStoreSupporter.getBytes(mergedKeystore, keystorePassword));
+    applicationKeystore.addKeyEntry(new KeystoreEntry(alias, keystorePassword));
+    applicationKeystore.setLastModified(Instant.now());
+    keystoreDao.save(applicationKeystore);
+  }
+
+  /**
+   * creates a keystore dao that always returns the given keystore. This allows to benchmark the crypto
+   * operations without a database
+   */
+  public static KeystoreDao createKeystoreDao(Keystore keystore)
+  {
+    return (KeystoreDao)Proxy.newProxyInstance(KeystoreDao.class.getClassLoader(),
+                                               new Class<?>[]{KeystoreDao.class},
+                                               (proxy, method, args) -> {
+                                                 switch (method.getName())
+                                                 {
+                                                   case "getKeystore":
+                                                     return keystore;
+                                                   case "getKeystoreLastModified":
+                                                     return Optional.ofNullable(keystore.getLastModified());
+                                                   default:
+                                                     throw new UnsupportedOperationException(method.getName());
+                                                 }
+                                               });
+  }
+
+  private static Map<String, KeyStore.PrivateKeyEntry> createKeyEntries()
+  {
+    SecureRandom random = createSeededRandom();
+    Map<String, KeyStore.PrivateKeyEntry> keyEntries = new LinkedHashMap<>();
+    keyEntries.put(RSA_ALIAS,
+                   createKeyEntry(RSA_ALIAS,
+                                  "RSA",
+                                  new RSAKeyGenParameterSpec(2048, RSAKeyGenParameterSpec.F4),
+                                  "SHA256withRSA",
+                                  random));
+    keyEntries.put(EC_P256_ALIAS,
+                   createKeyEntry(EC_P256_ALIAS, "EC", new ECGenParameterSpec("secp256r1"), "SHA256withECDSA", random));
+    keyEntries.put(EC_P384_ALIAS,
+                   createKeyEntry(EC_P384_ALIAS, "EC", new ECGenParameterSpec("secp384r1"), "SHA384withECDSA", random));
+    keyEntries.put(EC_P521_ALIAS,
+                   createKeyEntry(EC_P521_ALIAS, "EC", new ECGenParameterSpec("secp521r1"), "SHA512withECDSA", random));
+    return keyEntries;
+  }
+
+  /**
+   * the SHA1PRNG algorithm produces the same sequence for the same seed if it is seeded before its first use
+   */
+  @SneakyThrows
+  private static SecureRandom createSeededRandom()
+  {
+    SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+    random.setSeed(KEY_SEED);
+    return random;
+  }
+
+  /**
+   * generates a key pair and a self-signed certificate for it
+   */
+  @SneakyThrows
+  private static KeyStore.PrivateKeyEntry createKeyEntry(String alias,
+                                                         String keyAlgorithm,
+                                                         AlgorithmParameterSpec keySpec,
+                                                         String signatureAlgorithm,
+                                                         SecureRandom random)
+  {
+    KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(keyAlgorithm);
+    keyPairGenerator.initialize(keySpec, random);
+    KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+    X500Name distinguishedName = new X500Name("CN=" + alias);
+    Instant notBefore = Instant.now().truncatedTo(ChronoUnit.DAYS);
+    Instant notAfter = notBefore.plus(365, ChronoUnit.DAYS);
+    JcaX509v3CertificateBuilder certificateBuilder = new JcaX509v3CertificateBuilder(distinguishedName,
+                                                                                     BigInteger.valueOf(alias.hashCode())
+                                                                                               .abs(),
+                                                                                     Date.from(notBefore),
+                                                                                     Date.from(notAfter),
+                                                                                     distinguishedName,
+                                                                                     keyPair.getPublic());
+    ContentSigner contentSigner = new JcaContentSignerBuilder(signatureAlgorithm).setProvider(SecurityProvider.BOUNCY_CASTLE_PROVIDER)
+                                                                                 .build(keyPair.getPrivate());
+    X509Certificate certificate = new JcaX509CertificateConverter().setProvider(SecurityProvider.BOUNCY_CASTLE_PROVIDER)
+                                                                   .getCertificate(certificateBuilder.build(contentSigner));
+    return new KeyStore.PrivateKeyEntry(keyPair.getPrivate(), new Certificate[]{certificate});
+  }
+}
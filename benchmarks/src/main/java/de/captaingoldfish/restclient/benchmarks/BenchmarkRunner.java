@@ -0,0 +1,98 @@
+package de.captaingoldfish.restclient.benchmarks;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * runs the benchmarks with a fixed configuration so that the results of different runs are comparable and
+ * checks the results against a recorded baseline afterwards.<br>
+ * <br>
+ * the following system properties are supported:
+ * <ul>
+ * <li>{@code benchmarks.include}: a regular expression that selects the benchmarks to run. The first program
+ * argument is used if present</li>
+ * <li>{@code benchmarks.baseline}: the location of the baseline file. Default is
+ * {@value #DEFAULT_BASELINE}</li>
+ * <li>{@code benchmarks.tolerance}: the allowed relative deviation from the baseline. Default is
+ * {@value #DEFAULT_TOLERANCE}</li>
+ * <li>{@code benchmarks.record-baseline}: if true the results are written as the new baseline instead of
+ * being checked. The baseline scores of benchmarks that were not run are kept</li>
+ * <li>{@code benchmarks.allow-missing-baseline}: if true benchmarks without a baseline score do not fail the
+ * check. Default is false</li>
+ * </ul>
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Slf4j
+public final class BenchmarkRunner
+{
+
+  /**
+   * the default location of the baseline file relative to the project root
+   */
+  private static final String DEFAULT_BASELINE = "benchmarks/baseline.properties";
+
+  /**
+   * a benchmark regresses if it is more than 25 percent slower than its baseline
+   */
+  private static final String DEFAULT_TOLERANCE = "0.25";
+
+  /**
+   * the file that receives the complete results of a run
+   */
+  private static final String RESULT_FILE = "benchmarks/target/benchmark-results.json";
+
+  private BenchmarkRunner()
+  {}
+
+  public static void main(String[] args) throws RunnerException
+  {
+    String include = args.length > 0 ? args[0]
+      : System.getProperty("benchmarks.include", BenchmarkRunner.class.getPackageName() + ".*Benchmark");
+    Path baselineFile = Path.of(System.getProperty("benchmarks.baseline", DEFAULT_BASELINE));
+    double tolerance = Double.parseDouble(System.getProperty("benchmarks.tolerance", DEFAULT_TOLERANCE));
+    boolean recordBaseline = Boolean.getBoolean("benchmarks.record-baseline");
+    boolean allowMissingBaseline = Boolean.getBoolean("benchmarks.allow-missing-baseline");
+
+    Options options = new OptionsBuilder().include(include)
+                                          .mode(Mode.AverageTime)
+                                          .timeUnit(TimeUnit.MICROSECONDS)
+                                          .warmupIterations(5)
+                                          .warmupTime(TimeValue.seconds(1))
+                                          .measurementIterations(5)
+                                          .measurementTime(TimeValue.seconds(1))
+                                          .forks(2)
+                                          .jvmArgsAppend("-Xms1g", "-Xmx1g")
+                                          .shouldFailOnError(true)
+                                          .resultFormat(ResultFormatType.JSON)
+                                          .result(RESULT_FILE)
+                                          .build();
+    Collection<RunResult> results = new Runner(options).run();
+
+    RegressionCheck regressionCheck = new RegressionCheck(baselineFile, tolerance, allowMissingBaseline);
+    if (recordBaseline)
+    {
+      regressionCheck.recordBaseline(results);
+      log.info("Recorded the baseline of {} benchmarks in '{}'", results.size(), baselineFile);
+      return;
+    }
+    if (!regressionCheck.check(results))
+    {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package de.captaingoldfish.restclient.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * compares the results of a benchmark run with the scores of a recorded baseline. A benchmark regresses if
+ * its score exceeds the baseline by more than the tolerance and if the baseline is still exceeded after the
+ * score error was subtracted. The second condition prevents failures caused by noisy measurements. A
+ * benchmark without a baseline fails the check unless missing baselines are explicitly allowed
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+class RegressionCheck
+{
+
+  /**
+   * the properties file that maps the benchmark keys to their baseline scores
+   */
+  private final Path baselineFile;
+
+  /**
+   * the allowed relative deviation from the baseline e.g. 0.25 for 25 percent
+   */
+  private final double tolerance;
+
+  /**
+   * if true a missing baseline file or a benchmark without a baseline score is only logged instead of failing
+   * the check
+   */
+  private final boolean allowMissingBaseline;
+
+  /**
+   * writes the scores of the given results into the baseline file. The scores of benchmarks that were not part
+   * of the run are kept
+   */
+  public void recordBaseline(Collection<RunResult> results)
+  {
+    Properties baseline = Files.exists(baselineFile) ? readBaseline() : new Properties();
+    for ( RunResult runResult : results )
+    {
+      baseline.setProperty(getKey(runResult.getParams()), String.valueOf(runResult.getPrimaryResult().getScore()));
+    }
+    try (Writer writer = Files.newBufferedWriter(baselineFile))
+    {
+      baseline.store(writer, "benchmark baseline in " + results.iterator().next().getPrimaryResult().getScoreUnit());
+    }
+    catch (IOException ex)
+    {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * checks the given results against the baseline
+   *
+   * @return false if at least one benchmark regressed, true else
+   */
+  public boolean check(Collection<RunResult> results)
+  {
+    if (!Files.exists(baselineFile))
+    {
+      return handleMissingBaseline(String.format("No baseline found at '%s'", baselineFile));
+    }
+    Properties baseline = readBaseline();
+    boolean passed = true;
+    for ( RunResult runResult : results )
+    {
+      String key = getKey(runResult.getParams());
+      String baselineScore = baseline.getProperty(key);
+      if (baselineScore == null)
+      {
+        passed &= handleMissingBaseline(String.format("No baseline for benchmark '%s'", key));
+        continue;
+      }
+      Result<?> result = runResult.getPrimaryResult();
+      double expectedScore = Double.parseDouble(baselineScore);
+      boolean regressed = result.getScore() > expectedScore * (1 + tolerance)
+                          && result.getScore() - result.getScoreError() > expectedScore;
+      if (regressed)
+      {
+        log.error("Benchmark '{}' regressed: {} {} against a baseline of {} {}",
+                  key,
+                  result.getScore(),
+                  result.getScoreUnit(),
+                  expectedScore,
+                  result.getScoreUnit());
+        passed = false;
+      }
+    }
+    return passed;
+  }
+
+  /**
+   * @return true if missing baselines are allowed, false else
+   */
+  private boolean handleMissingBaseline(String message)
+  {
+    if (allowMissingBaseline)
+    {
+      log.warn("{}. Record it with -Dbenchmarks.record-baseline=true", message);
+      return true;
+    }
+    log.error("{}. Record it with -Dbenchmarks.record-baseline=true or allow missing baselines with "
+              + "-Dbenchmarks.allow-missing-baseline=true",
+              message);
+    return false;
+  }
+
+  private Properties readBaseline()
+  {
+    Properties baseline = new Properties();
+    try (Reader reader = Files.newBufferedReader(baselineFile))
+    {
+      baseline.load(reader);
+    }
+    catch (IOException ex)
+    {
+      throw new UncheckedIOException(ex);
+    }
+    return baseline;
+  }
+
+  /**
+   * builds a stable key from the name of the benchmark and its parameters e.g.
+   * "crypto.JwtSignatureBenchmark.sign[algorithm=ES256]"
+   */
+  private static String getKey(BenchmarkParams params)
+  {
+    String benchmarkName = params.getBenchmark().substring(BenchmarkRunner.class.getPackageName().length() + 1);
+    StringBuilder key = new StringBuilder(benchmarkName);
+    TreeSet<String> paramKeys = new TreeSet<>(params.getParamsKeys());
+    if (!paramKeys.isEmpty())
+    {
+      key.append('[');
+      for ( String paramKey : paramKeys )
+      {
+        if (key.charAt(key.length() - 1) != '[')
+        {
+          key.append(',');
+        }
+        key.append(paramKey).append('=').append(params.getParam(paramKey));
+      }
+      key.append(']');
+    }
+    return key.toString();
+  }
+}
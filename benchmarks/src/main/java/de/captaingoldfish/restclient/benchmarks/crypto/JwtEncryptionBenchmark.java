@@ -0,0 +1,62 @@
+package de.captaingoldfish.restclient.benchmarks.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+
+import de.captaingoldfish.restclient.application.crypto.JwtHandler;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
+import de.captaingoldfish.restclient.benchmarks.BenchmarkKeys;
+import de.captaingoldfish.restclient.database.entities.Keystore;
+
+
+/**
+ * measures the encryption and decryption of JWTs
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class JwtEncryptionBenchmark
+{
+
+  @Param({"RSA-OAEP-256", "ECDH-ES"})
+  private String algorithm;
+
+  private JwtHandler jwtHandler;
+
+  private String keyId;
+
+  private String header;
+
+  private String encryptedJwt;
+
+  @Setup
+  public void setup()
+  {
+    Keystore applicationKeystore = BenchmarkKeys.createApplicationKeystore();
+    jwtHandler = new JwtHandler(new KeystoreSnapshotService(BenchmarkKeys.createKeystoreDao(applicationKeystore)));
+    JWEAlgorithm jweAlgorithm = JWEAlgorithm.parse(algorithm);
+    keyId = BenchmarkKeys.getEncryptionKeyAlias(jweAlgorithm);
+    header = new JWEHeader.Builder(jweAlgorithm, EncryptionMethod.A256GCM).keyID(keyId).build().toString();
+    encryptedJwt = jwtHandler.createJwt(keyId, header, JwtSignatureBenchmark.CLIENT_ASSERTION_BODY);
+  }
+
+  @Benchmark
+  public String encrypt()
+  {
+    return jwtHandler.createJwt(keyId, header, JwtSignatureBenchmark.CLIENT_ASSERTION_BODY);
+  }
+
+  @Benchmark
+  public JwtHandler.PlainJwtData decrypt()
+  {
+    return jwtHandler.handleJwt(keyId, encryptedJwt);
+  }
+}
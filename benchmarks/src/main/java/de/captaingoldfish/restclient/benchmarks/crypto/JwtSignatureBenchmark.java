@@ -0,0 +1,83 @@
+package de.captaingoldfish.restclient.benchmarks.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+
+import de.captaingoldfish.restclient.application.crypto.JwtHandler;
+import de.captaingoldfish.restclient.application.crypto.KeystoreSnapshotService;
+import de.captaingoldfish.restclient.benchmarks.BenchmarkKeys;
+import de.captaingoldfish.restclient.database.entities.Keystore;
+
+
+/**
+ * measures the creation and verification of signed JWTs like client assertions, DPoP proofs and JWT secured
+ * authorization requests
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class JwtSignatureBenchmark
+{
+
+  /**
+   * the body of a typical client assertion
+   */
+  static final String CLIENT_ASSERTION_BODY = "{\"iss\":\"goldfish\",\"sub\":\"goldfish\","
+                                              + "\"aud\":\"https://localhost:8443/realms/goldfish/token\","
+                                              + "\"jti\":\"9f3c1a52-1d55-4a5c-9b39-0c6c2a0c6a1e\","
+                                              + "\"iat\":1792281600,\"exp\":1792281900}";
+
+  @Param({"RS256", "PS256", "ES256", "ES384", "ES512"})
+  private String algorithm;
+
+  private JwtHandler jwtHandler;
+
+  private String keyId;
+
+  private String header;
+
+  private String signedJwt;
+
+  @Setup
+  public void setup()
+  {
+    Keystore applicationKeystore = BenchmarkKeys.createApplicationKeystore();
+    jwtHandler = new JwtHandler(new KeystoreSnapshotService(BenchmarkKeys.createKeystoreDao(applicationKeystore)));
+    JWSAlgorithm jwsAlgorithm = JWSAlgorithm.parse(algorithm);
+    keyId = BenchmarkKeys.getSignatureKeyAlias(jwsAlgorithm);
+    header = new JWSHeader.Builder(jwsAlgorithm).keyID(keyId).build().toString();
+    signedJwt = jwtHandler.createJwt(keyId, header, CLIENT_ASSERTION_BODY);
+  }
+
+  @Benchmark
+  public String sign()
+  {
+    return jwtHandler.createJwt(keyId, header, CLIENT_ASSERTION_BODY);
+  }
+
+  /**
+   * signs like the DPoP proofs that carry the public key and the certificate thumbprint within the header
+   */
+  @Benchmark
+  public String signWithAdditionalHeaders()
+  {
+    return jwtHandler.createJwt(keyId,
+                                header,
+                                CLIENT_ASSERTION_BODY,
+                                JwtHandler.JwtAttribute.ADD_PUBLIC_KEY,
+                                JwtHandler.JwtAttribute.X5T_SHA256);
+  }
+
+  @Benchmark
+  public JwtHandler.PlainJwtData verify()
+  {
+    return jwtHandler.handleJwt(keyId, signedJwt);
+  }
+}
@@ -0,0 +1,73 @@
+package de.captaingoldfish.restclient.benchmarks.database;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.captaingoldfish.restclient.database.entities.CompressedTextConverter;
+
+
+/**
+ * measures the conversion of request and response texts into their stored representation and back. The sizes
+ * cover a value below the compression threshold, a typical JSON response and a large response body
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class CompressedTextConverterBenchmark
+{
+
+  @Param({"128", "4096", "65536"})
+  private int length;
+
+  private final CompressedTextConverter converter = new CompressedTextConverter();
+
+  private String text;
+
+  private byte[] storedText;
+
+  @Setup
+  public void setup()
+  {
+    text = createJsonText(length);
+    storedText = converter.convertToDatabaseColumn(text);
+  }
+
+  @Benchmark
+  public byte[] write()
+  {
+    return converter.convertToDatabaseColumn(text);
+  }
+
+  @Benchmark
+  public String read()
+  {
+    return converter.convertToEntityAttribute(storedText);
+  }
+
+  /**
+   * creates a JSON array of token-like objects with the given length. The content is always the same for the
+   * same length so that the compression ratio does not vary between runs
+   */
+  static String createJsonText(int length)
+  {
+    StringBuilder text = new StringBuilder(length + 128);
+    text.append('[');
+    for ( int i = 0 ; text.length() < length ; i++ )
+    {
+      text.append("{\"id\":")
+          .append(i)
+          .append(",\"name\":\"token-")
+          .append(i)
+          .append("\",\"token\":\"")
+          .append(Integer.toHexString(i * 0x9E3779B1))
+          .append("\",\"expires_in\":")
+          .append(300 + i % 60)
+          .append("},");
+    }
+    return text.substring(0, length - 1) + "]";
+  }
+}
@@ -0,0 +1,142 @@
+package de.captaingoldfish.restclient.benchmarks.database;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.captaingoldfish.restclient.benchmarks.ApplicationContextState;
+import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.entities.TokenCategory;
+import de.captaingoldfish.restclient.database.entities.TokenStore;
+import de.captaingoldfish.restclient.database.repositories.HttpRequestsDao;
+import de.captaingoldfish.restclient.database.repositories.TokenCategoryDao;
+import jakarta.persistence.EntityManager;
+
+
+/**
+ * measures the time per row for writing tokens and the response history in transactions of
+ * {@link #ROWS_PER_TRANSACTION} rows. This covers the id generation from the pooled sequences and the JDBC
+ * batching of the inserts
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class InsertThroughputBenchmark
+{
+
+  /**
+   * the number of rows that are written within a single transaction
+   */
+  private static final int ROWS_PER_TRANSACTION = 500;
+
+  private EntityManager entityManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  private TokenCategory tokenCategory;
+
+  private HttpRequest httpRequest;
+
+  /**
+   * a typical JSON response body of 4 KB
+   */
+  private String responseBody;
+
+  /**
+   * makes the names of the written tokens unique
+   */
+  private long tokenCounter;
+
+  @Setup(Level.Trial)
+  public void setup(ApplicationContextState applicationContextState)
+  {
+    entityManager = applicationContextState.getBean(EntityManager.class);
+    PlatformTransactionManager transactionManager = applicationContextState.getBean(PlatformTransactionManager.class);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    TokenCategoryDao tokenCategoryDao = applicationContextState.getBean(TokenCategoryDao.class);
+    tokenCategory = tokenCategoryDao.save(TokenCategory.builder().name("insert-benchmark").build());
+    HttpRequestsDao httpRequestsDao = applicationContextState.getBean(HttpRequestsDao.class);
+    httpRequest = httpRequestsDao.save(HttpRequest.builder()
+                                                  .name("insert-benchmark")
+                                                  .httpMethod("GET")
+                                                  .url("https://localhost:8443/realms/goldfish")
+                                                  .build());
+    responseBody = CompressedTextConverterBenchmark.createJsonText(4096);
+  }
+
+  /**
+   * removes the written rows so that all iterations start with the same table sizes
+   */
+  @TearDown(Level.Iteration)
+  public void deleteWrittenRows()
+  {
+    transactionTemplate.executeWithoutResult(status -> {
+      entityManager.createQuery("delete from TokenStore t where t.tokenCategory = :tokenCategory")
+                   .setParameter("tokenCategory", tokenCategory)
+                   .executeUpdate();
+    });
+    // a bulk delete of the responses would also delete from the join table with a subquery on the response ids.
+    // HSQLDB rejects this subquery because the join table stores the response ids as strings
+    boolean deletedResponses;
+    do
+    {
+      deletedResponses = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+        List<HttpResponse> httpResponses = entityManager.createQuery("select r from HttpResponse r "
+                                                                     + "where r.httpRequest = :httpRequest",
+                                                                     HttpResponse.class)
+                                                        .setParameter("httpRequest", httpRequest)
+                                                        .setMaxResults(ROWS_PER_TRANSACTION)
+                                                        .getResultList();
+        httpResponses.forEach(entityManager::remove);
+        return !httpResponses.isEmpty();
+      }));
+    }
+    while (deletedResponses);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+  public void insertTokens()
+  {
+    transactionTemplate.executeWithoutResult(status -> {
+      for ( int i = 0 ; i < ROWS_PER_TRANSACTION ; i++ )
+      {
+        long tokenNumber = tokenCounter++;
+        entityManager.persist(TokenStore.builder()
+                                        .tokenCategory(tokenCategory)
+                                        .name("token-" + tokenNumber)
+                                        .token("eyJhbGciOiJSUzI1NiJ9.token-" + tokenNumber)
+                                        .build());
+      }
+    });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+  public void insertResponseHistory()
+  {
+    transactionTemplate.executeWithoutResult(status -> {
+      for ( int i = 0 ; i < ROWS_PER_TRANSACTION ; i++ )
+      {
+        HttpResponse httpResponse = HttpResponse.builder()
+                                                .responseStatus(200)
+                                                .responseBody(responseBody)
+                                                .created(Instant.now())
+                                                .build();
+        httpResponse.setHttpRequest(httpRequest);
+        entityManager.persist(httpResponse);
+      }
+    });
+  }
+}
@@ -0,0 +1,108 @@
+package de.captaingoldfish.restclient.benchmarks.database;
+
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import de.captaingoldfish.restclient.application.endpoints.filtering.JpaFilterResolver;
+import de.captaingoldfish.restclient.benchmarks.ApplicationContextState;
+import de.captaingoldfish.restclient.database.entities.TokenCategory;
+import de.captaingoldfish.restclient.database.entities.TokenStore;
+import de.captaingoldfish.restclient.database.repositories.TokenCategoryDao;
+import de.captaingoldfish.restclient.scim.resources.ScimTokenStore;
+import de.captaingoldfish.scim.sdk.server.endpoints.ResourceEndpoint;
+import de.captaingoldfish.scim.sdk.server.filter.FilterNode;
+import de.captaingoldfish.scim.sdk.server.schemas.ResourceType;
+import de.captaingoldfish.scim.sdk.server.utils.RequestUtils;
+import jakarta.persistence.EntityManager;
+
+
+/**
+ * measures the translation of SCIM filters on the token store into JPA criteria queries together with their
+ * execution against a token store with {@link #NUMBER_OF_TOKENS} entries
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class TokenStoreFilterBenchmark
+{
+
+  /**
+   * the number of tokens within the token store
+   */
+  private static final int NUMBER_OF_TOKENS = 10_000;
+
+  /**
+   * the number of tokens that are persisted within a single transaction while the token store is filled
+   */
+  private static final int TOKENS_PER_TRANSACTION = 500;
+
+  /**
+   * the same mapping that is used by the token store endpoint
+   */
+  private static final Map<String, String> FILTER_ATTRIBUTES = Map.of(ScimTokenStore.FieldNames.CATEGORY_ID,
+                                                                      "tokenCategory.id",
+                                                                      ScimTokenStore.FieldNames.NAME,
+                                                                      "name",
+                                                                      ScimTokenStore.FieldNames.TOKEN,
+                                                                      "token");
+
+  @Param({"name eq \"token-5000\"", "name co \"-50\"", "name sw \"token-1\" and token co \"value-9\""})
+  private String filter;
+
+  private FilterNode filterNode;
+
+  @Setup(Level.Trial)
+  public void setup(ApplicationContextState applicationContextState)
+  {
+    TokenCategoryDao tokenCategoryDao = applicationContextState.getBean(TokenCategoryDao.class);
+    TokenCategory tokenCategory = tokenCategoryDao.save(TokenCategory.builder().name("filter-benchmark").build());
+    EntityManager entityManager = applicationContextState.getBean(EntityManager.class);
+    PlatformTransactionManager transactionManager = applicationContextState.getBean(PlatformTransactionManager.class);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    for ( int offset = 0 ; offset < NUMBER_OF_TOKENS ; offset += TOKENS_PER_TRANSACTION )
+    {
+      final int firstToken = offset;
+      transactionTemplate.executeWithoutResult(status -> {
+        for ( int i = firstToken ; i < firstToken + TOKENS_PER_TRANSACTION ; i++ )
+        {
+          entityManager.persist(TokenStore.builder()
+                                          .tokenCategory(tokenCategory)
+                                          .name("token-" + i)
+                                          .token("value-" + i)
+                                          .build());
+        }
+      });
+    }
+
+    ResourceEndpoint resourceEndpoint = applicationContextState.getBean(ResourceEndpoint.class);
+    ResourceType resourceType = resourceEndpoint.getResourceTypeByName("TokenStore").get();
+    filterNode = RequestUtils.parseFilter(resourceType, filter);
+  }
+
+  @Benchmark
+  public long countMatches()
+  {
+    JpaFilterResolver<TokenStore> filterResolver = new JpaFilterResolver<>(TokenStore.class, FILTER_ATTRIBUTES);
+    return filterResolver.countMatches(filterNode);
+  }
+
+  /**
+   * resolves the first page in the same way as the list request of the token store endpoint
+   */
+  @Benchmark
+  public List<TokenStore> resolveFirstPage()
+  {
+    JpaFilterResolver<TokenStore> filterResolver = new JpaFilterResolver<>(TokenStore.class, FILTER_ATTRIBUTES);
+    return filterResolver.resolveFilter(filterNode, 1, 50, null, null);
+  }
+}
@@ -0,0 +1,79 @@
+package de.captaingoldfish.restclient.benchmarks.http;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.captaingoldfish.restclient.application.utils.HttpClientBuilder;
+import de.captaingoldfish.restclient.application.utils.HttpClientRegistry;
+import de.captaingoldfish.restclient.application.utils.SSLContextCache;
+import de.captaingoldfish.restclient.application.utils.SSLContextHelper;
+import de.captaingoldfish.restclient.benchmarks.ApplicationContextState;
+import de.captaingoldfish.restclient.benchmarks.BenchmarkKeys;
+import de.captaingoldfish.restclient.database.entities.HttpClientSettings;
+import de.captaingoldfish.restclient.database.repositories.KeystoreDao;
+
+
+/**
+ * measures the access to the TLS contexts and http clients that are used for every request to an identity
+ * provider. The "cached" benchmarks measure the lookup of an existing instance while the "build" benchmarks
+ * discard the cached instances first and therefore measure the construction of a new instance
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class HttpClientBenchmark
+{
+
+  private SSLContextCache sslContextCache;
+
+  private HttpClientRegistry httpClientRegistry;
+
+  /**
+   * settings with mutual TLS client authentication so that the key material of the application keystore is part
+   * of the measured work
+   */
+  private HttpClientSettings clientSettings;
+
+  @Setup(Level.Trial)
+  public void setup(ApplicationContextState applicationContextState)
+  {
+    KeystoreDao keystoreDao = applicationContextState.getBean(KeystoreDao.class);
+    BenchmarkKeys.addToApplicationKeystore(keystoreDao, BenchmarkKeys.RSA_ALIAS);
+    sslContextCache = applicationContextState.getBean(SSLContextCache.class);
+    httpClientRegistry = applicationContextState.getBean(HttpClientRegistry.class);
+    clientSettings = HttpClientSettings.builder().tlsClientAuthKeyRef(BenchmarkKeys.RSA_ALIAS).build();
+  }
+
+  @Benchmark
+  public SSLContext getCachedSslContext()
+  {
+    return SSLContextHelper.getSslContext(clientSettings);
+  }
+
+  @Benchmark
+  public SSLContext buildSslContext()
+  {
+    sslContextCache.invalidate();
+    return SSLContextHelper.getSslContext(clientSettings);
+  }
+
+  @Benchmark
+  public CloseableHttpClient getCachedHttpClient()
+  {
+    return HttpClientBuilder.getHttpClient(clientSettings);
+  }
+
+  @Benchmark
+  public CloseableHttpClient buildHttpClient()
+  {
+    httpClientRegistry.clear();
+    return HttpClientBuilder.getHttpClient(clientSettings);
+  }
+}
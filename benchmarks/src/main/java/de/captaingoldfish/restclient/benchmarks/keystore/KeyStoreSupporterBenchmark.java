@@ -0,0 +1,50 @@
+package de.captaingoldfish.restclient.benchmarks.keystore;
+
+import java.security.KeyStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.captaingoldfish.restclient.benchmarks.BenchmarkKeys;
+import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
+
+
+/**
+ * measures the parsing and serialization of keystores with one RSA and three EC key entries
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class KeyStoreSupporterBenchmark
+{
+
+  @Param({"JKS", "JCEKS", "PKCS12"})
+  private KeyStoreSupporter.KeyStoreType keyStoreType;
+
+  private KeyStore keyStore;
+
+  private byte[] keyStoreBytes;
+
+  @Setup
+  public void setup()
+  {
+    keyStore = BenchmarkKeys.createKeyStore(keyStoreType);
+    keyStoreBytes = KeyStoreSupporter.getBytes(keyStore, BenchmarkKeys.KEYSTORE_PASSWORD);
+  }
+
+  @Benchmark
+  public KeyStore readKeyStore()
+  {
+    return KeyStoreSupporter.readKeyStore(keyStoreBytes, keyStoreType, BenchmarkKeys.KEYSTORE_PASSWORD);
+  }
+
+  @Benchmark
+  public byte[] getBytes()
+  {
+    return KeyStoreSupporter.getBytes(keyStore, BenchmarkKeys.KEYSTORE_PASSWORD);
+  }
+}
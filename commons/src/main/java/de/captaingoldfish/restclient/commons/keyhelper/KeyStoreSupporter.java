@@ -19,9 +19,12 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -224,15 +227,33 @@ public final class KeyStoreSupporter
    * @param alias the alias that will be used for the certificate entry.
    * @return the keystore that was also given as parameter with the added certificate.
    */
-  @SneakyThrows
   public static KeyStore addCertificateEntryToKeyStore(KeyStore keyStore, Certificate certificate, String alias)
+  {
+    return addCertificateEntryToKeyStore(keyStore, certificate, alias, cert -> containsCertificate(keyStore, cert));
+  }
+
+  /**
+   * adds a certificate entry to the given keystore if neither the alias nor the certificate are already present
+   *
+   * @param keyStore the keystore to which the certificate should be added
+   * @param certificate the certificate to add to the given keystore
+   * @param alias the alias that will be used for the certificate entry.
+   * @param isCertificatePresent tells if the given certificate is already present within the keystore. This
+   *          allows callers that add many entries to check against an index instead of scanning all entries of
+   *          the keystore
+   * @return the keystore that was also given as parameter with the added certificate.
+   */
+  private static KeyStore addCertificateEntryToKeyStore(KeyStore keyStore,
+                                                        Certificate certificate,
+                                                        String alias,
+                                                        Predicate<Certificate> isCertificatePresent)
   {
     Optional<Certificate> certificateOptional = getCertificate(keyStore, alias);
     if (certificateOptional.isPresent())
     {
       throw new IllegalArgumentException(String.format("certificate entry for alias '%s' does already exist", alias));
     }
-    else if (keyStore.getCertificateAlias(certificate) != null)
+    else if (isCertificatePresent.test(certificate))
     {
       throw new IllegalArgumentException(String.format("certificate entry already present under alias '%s'", alias));
     }
@@ -243,6 +264,16 @@ public final class KeyStoreSupporter
     return keyStore;
   }
 
+  /**
+   * @return true if the given certificate is present within the given keystore either as certificate entry or
+   *         as the first certificate of a key entry
+   */
+  @SneakyThrows
+  private static boolean containsCertificate(KeyStore keyStore, Certificate certificate)
+  {
+    return keyStore.getCertificateAlias(certificate) != null;
+  }
+
   /**
    * convenience method for adding a certificate entry to the given keystore under the given alias, without
    * having to handle the checked exception
@@ -373,6 +404,29 @@ public final class KeyStoreSupporter
                                   KeyStoreType keyStoreType,
                                   KeyStore newKeyStore,
                                   String alias)
+  {
+    tryCopyEntry(keyStore,
+                 keyStorePassword,
+                 keyPassword,
+                 keyStoreType,
+                 newKeyStore,
+                 alias,
+                 certificate -> containsCertificate(newKeyStore, certificate));
+  }
+
+  /**
+   * copies the entry as described in
+   * {@link #tryCopyEntry(KeyStore, String, String, KeyStoreType, KeyStore, String)}
+   *
+   * @param isCertificatePresent tells if a certificate is already present within the {@code newKeyStore}
+   */
+  private static void tryCopyEntry(KeyStore keyStore,
+                                   String keyStorePassword,
+                                   String keyPassword,
+                                   KeyStoreType keyStoreType,
+                                   KeyStore newKeyStore,
+                                   String alias,
+                                   Predicate<Certificate> isCertificatePresent)
   {
     log.trace("adding key-entry of alias '{}' to new keystore of type '{}'", alias, keyStoreType.name());
     Optional<Certificate[]> certificateChainOptional = getCertificateChain(keyStore, alias);
@@ -385,7 +439,7 @@ public final class KeyStoreSupporter
     else if (certificateOptional.isPresent())
     {
       Certificate certificate = certificateOptional.get();
-      addCertificateEntryToKeyStore(newKeyStore, certificate, alias);
+      addCertificateEntryToKeyStore(newKeyStore, certificate, alias, isCertificatePresent);
     }
     else
     {
@@ -681,6 +735,10 @@ public final class KeyStoreSupporter
     // under the same alias. In order for these both not to collide with one another the alias from keystore2
     // will be extended by "_2"
     List<String> aliasMap = new ArrayList<>();
+    // the certificates that were added to the merged keystore. Checking this set instead of
+    // KeyStore#getCertificateAlias keeps the merge linear because the keystore implementations compare the
+    // certificate against all of their entries
+    Set<Certificate> mergedCertificates = new HashSet<>();
 
     Enumeration<String> aliases1 = getAliases(keyStore1);
     log.trace("adding the entries of keystore1 '{}'", keyStore1);
@@ -688,7 +746,14 @@ public final class KeyStoreSupporter
     {
       String alias = aliases1.nextElement();
       aliasMap.add(alias);
-      tryCopyEntry(keyStore1, mergedKeyStoreKeyPassword, password1, keyStoreType, mergedKeyStore, alias);
+      tryCopyEntry(keyStore1,
+                   mergedKeyStoreKeyPassword,
+                   password1,
+                   keyStoreType,
+                   mergedKeyStore,
+                   alias,
+                   mergedCertificates::contains);
+      getCertificate(mergedKeyStore, alias).ifPresent(mergedCertificates::add);
     }
 
     Enumeration<String> aliases2 = getAliases(keyStore2);
@@ -712,7 +777,14 @@ public final class KeyStoreSupporter
         getCertificateChain(keyStore2, alias).ifPresent(certificates -> {
           try
           {
-            tryCopyEntry(keyStore2, mergedKeyStoreKeyPassword, password2, keyStoreType, mergedKeyStore, alias);
+            tryCopyEntry(keyStore2,
+                         mergedKeyStoreKeyPassword,
+                         password2,
+                         keyStoreType,
+                         mergedKeyStore,
+                         alias,
+                         mergedCertificates::contains);
+            getCertificate(mergedKeyStore, alias).ifPresent(mergedCertificates::add);
           }
           catch (IllegalArgumentException ex)
           {
@@ -726,7 +798,8 @@ public final class KeyStoreSupporter
         certificate.ifPresent(cert -> {
           try
           {
-            addCertificateEntryToKeyStore(mergedKeyStore, cert, alias);
+            addCertificateEntryToKeyStore(mergedKeyStore, cert, alias, mergedCertificates::contains);
+            mergedCertificates.add(cert);
           }
           catch (IllegalArgumentException ex)
           {
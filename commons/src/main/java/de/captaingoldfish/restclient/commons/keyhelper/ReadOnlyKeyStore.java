@@ -0,0 +1,181 @@
+package de.captaingoldfish.restclient.commons.keyhelper;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.KeyStoreSpi;
+import java.security.cert.Certificate;
+import java.util.Date;
+import java.util.Enumeration;
+
+import lombok.SneakyThrows;
+
+
+/**
+ * a view of a keystore that delegates all reading operations to the wrapped keystore and rejects every
+ * modification with a {@link KeyStoreException}. It allows to share a keystore between many threads without
+ * the risk that one of them modifies it
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public final class ReadOnlyKeyStore extends KeyStore
+{
+
+  private ReadOnlyKeyStore(KeyStore keyStore)
+  {
+    super(new ReadOnlyKeyStoreSpi(keyStore), keyStore.getProvider(), keyStore.getType());
+  }
+
+  /**
+   * @param keyStore the loaded keystore to wrap
+   * @return a read-only view of the given keystore. Modifications of the given keystore are visible through the
+   *         view so the given keystore must not be modified anymore if the view should represent a fixed state
+   */
+  @SneakyThrows
+  public static KeyStore of(KeyStore keyStore)
+  {
+    if (keyStore instanceof ReadOnlyKeyStore)
+    {
+      return keyStore;
+    }
+    KeyStore readOnlyKeyStore = new ReadOnlyKeyStore(keyStore);
+    // marks the view as initialized. The wrapped keystore is already loaded
+    readOnlyKeyStore.load(null, null);
+    return readOnlyKeyStore;
+  }
+
+  /**
+   * delegates the reading operations to the wrapped keystore
+   */
+  private static final class ReadOnlyKeyStoreSpi extends KeyStoreSpi
+  {
+
+    private final KeyStore keyStore;
+
+    private ReadOnlyKeyStoreSpi(KeyStore keyStore)
+    {
+      this.keyStore = keyStore;
+    }
+
+    @SneakyThrows
+    @Override
+    public Key engineGetKey(String alias, char[] password)
+    {
+      return keyStore.getKey(alias, password);
+    }
+
+    @SneakyThrows
+    @Override
+    public Certificate[] engineGetCertificateChain(String alias)
+    {
+      return keyStore.getCertificateChain(alias);
+    }
+
+    @SneakyThrows
+    @Override
+    public Certificate engineGetCertificate(String alias)
+    {
+      return keyStore.getCertificate(alias);
+    }
+
+    @SneakyThrows
+    @Override
+    public Date engineGetCreationDate(String alias)
+    {
+      return keyStore.getCreationDate(alias);
+    }
+
+    @Override
+    public void engineSetKeyEntry(String alias, Key key, char[] password, Certificate[] chain) throws KeyStoreException
+    {
+      throw readOnly();
+    }
+
+    @Override
+    public void engineSetKeyEntry(String alias, byte[] key, Certificate[] chain) throws KeyStoreException
+    {
+      throw readOnly();
+    }
+
+    @Override
+    public void engineSetCertificateEntry(String alias, Certificate cert) throws KeyStoreException
+    {
+      throw readOnly();
+    }
+
+    @Override
+    public void engineDeleteEntry(String alias) throws KeyStoreException
+    {
+      throw readOnly();
+    }
+
+    @SneakyThrows
+    @Override
+    public Enumeration<String> engineAliases()
+    {
+      return keyStore.aliases();
+    }
+
+    @SneakyThrows
+    @Override
+    public boolean engineContainsAlias(String alias)
+    {
+      return keyStore.containsAlias(alias);
+    }
+
+    @SneakyThrows
+    @Override
+    public int engineSize()
+    {
+      return keyStore.size();
+    }
+
+    @SneakyThrows
+    @Override
+    public boolean engineIsKeyEntry(String alias)
+    {
+      return keyStore.isKeyEntry(alias);
+    }
+
+    @SneakyThrows
+    @Override
+    public boolean engineIsCertificateEntry(String alias)
+    {
+      return keyStore.isCertificateEntry(alias);
+    }
+
+    @SneakyThrows
+    @Override
+    public String engineGetCertificateAlias(Certificate cert)
+    {
+      return keyStore.getCertificateAlias(cert);
+    }
+
+    @SneakyThrows
+    @Override
+    public void engineStore(OutputStream stream, char[] password)
+    {
+      keyStore.store(stream, password);
+    }
+
+    /**
+     * only the initial load without data from {@link ReadOnlyKeyStore#of(KeyStore)} is accepted
+     */
+    @Override
+    public void engineLoad(InputStream stream, char[] password)
+    {
+      if (stream != null)
+      {
+        throw new UnsupportedOperationException("the keystore is read-only and cannot be loaded again");
+      }
+    }
+
+    private static KeyStoreException readOnly()
+    {
+      return new KeyStoreException("the keystore is read-only");
+    }
+  }
+}
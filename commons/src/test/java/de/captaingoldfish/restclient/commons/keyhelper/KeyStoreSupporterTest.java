@@ -604,6 +604,45 @@ public class KeyStoreSupporterTest implements FileReferences
     Assertions.assertArrayEquals(certificate2.getEncoded(), cert2.getEncoded());
   }
 
+  /**
+   * verifies that certificates of the second truststore that are already present within the first truststore
+   * are not merged a second time
+   */
+  @Test
+  public void testMergeTruststoresSkipsDuplicateCertificates() throws KeyStoreException
+  {
+    KeyPair keyPair1 = generateKey(new KeyGenerationParameters(new SecureRandom(), 512));
+    X509Certificate certificate1 = CertificateCreator.createX509SelfSignedCertificate(keyPair1,
+                                                                                      distinguishedName,
+                                                                                      new Date(),
+                                                                                      new Date(System.currentTimeMillis()
+                                                                                               + 1000L * 60 * 60 * 24));
+    KeyPair keyPair2 = generateKey(new KeyGenerationParameters(new SecureRandom(), 512));
+    X509Certificate certificate2 = CertificateCreator.createX509SelfSignedCertificate(keyPair2,
+                                                                                      distinguishedName,
+                                                                                      new Date(),
+                                                                                      new Date(System.currentTimeMillis()
+                                                                                               + 1000L * 60 * 60 * 24));
+    String password = "password";
+    KeyStore keyStore1 = KeyStoreSupporter.createEmptyKeyStore(KeyStoreSupporter.KeyStoreType.JKS, password);
+    KeyStoreSupporter.addCertificateEntry(keyStore1, "alias1", certificate1);
+    KeyStore keyStore2 = KeyStoreSupporter.createEmptyKeyStore(KeyStoreSupporter.KeyStoreType.JKS, password);
+    KeyStoreSupporter.addCertificateEntry(keyStore2, "alias2", certificate1);
+    KeyStoreSupporter.addCertificateEntry(keyStore2, "alias3", certificate2);
+
+    KeyStore mergedKeyStore = KeyStoreSupporter.mergeTruststores(keyStore1,
+                                                                 password,
+                                                                 keyStore2,
+                                                                 password,
+                                                                 KeyStoreSupporter.KeyStoreType.JKS,
+                                                                 password);
+
+    Assertions.assertEquals(2, mergedKeyStore.size());
+    Assertions.assertEquals(certificate1, mergedKeyStore.getCertificate("alias1"));
+    Assertions.assertFalse(mergedKeyStore.containsAlias("alias2"));
+    Assertions.assertEquals(certificate2, mergedKeyStore.getCertificate("alias3"));
+  }
+
   /**
    * this test will prove that the method
    * {@link KeyStoreSupporter#readFirstKeyPairEntryFromKeyStore(KeyStore, String)} works correctly
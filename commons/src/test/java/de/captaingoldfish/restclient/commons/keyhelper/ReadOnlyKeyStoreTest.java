@@ -0,0 +1,97 @@
+package de.captaingoldfish.restclient.commons.keyhelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.Certificate;
+import java.util.Collections;
+
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.captaingoldfish.restclient.commons.FileReferences;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public class ReadOnlyKeyStoreTest implements FileReferences
+{
+
+  private static final String PASSWORD = "123456";
+
+  /**
+   * verifies that the view returns the entries of the wrapped keystore and can be used to initialize a trust
+   * manager and to store the keystore
+   */
+  @SneakyThrows
+  @Test
+  public void testReadEntries()
+  {
+    KeyStore keyStore = readTruststore();
+    KeyStore readOnlyKeyStore = ReadOnlyKeyStore.of(keyStore);
+    String alias = keyStore.aliases().nextElement();
+
+    Assertions.assertEquals(keyStore.getType(), readOnlyKeyStore.getType());
+    Assertions.assertEquals(keyStore.size(), readOnlyKeyStore.size());
+    Assertions.assertEquals(Collections.list(keyStore.aliases()), Collections.list(readOnlyKeyStore.aliases()));
+    Assertions.assertTrue(readOnlyKeyStore.containsAlias(alias));
+    Assertions.assertTrue(readOnlyKeyStore.isCertificateEntry(alias));
+    Certificate certificate = readOnlyKeyStore.getCertificate(alias);
+    Assertions.assertEquals(keyStore.getCertificate(alias), certificate);
+    Assertions.assertEquals(alias, readOnlyKeyStore.getCertificateAlias(certificate));
+    Assertions.assertSame(readOnlyKeyStore, ReadOnlyKeyStore.of(readOnlyKeyStore));
+
+    TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    Assertions.assertDoesNotThrow(() -> trustManagerFactory.init(readOnlyKeyStore));
+
+    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream())
+    {
+      readOnlyKeyStore.store(outputStream, PASSWORD.toCharArray());
+      KeyStore storedKeyStore = KeyStoreSupporter.readTruststore(new ByteArrayInputStream(outputStream.toByteArray()),
+                                                                 KeyStoreSupporter.KeyStoreType.JKS,
+                                                                 PASSWORD);
+      Assertions.assertEquals(certificate, storedKeyStore.getCertificate(alias));
+    }
+  }
+
+  /**
+   * verifies that the view and the wrapped keystore cannot be modified through the view
+   */
+  @SneakyThrows
+  @Test
+  public void testModificationsAreRejected()
+  {
+    KeyStore keyStore = readTruststore();
+    KeyStore readOnlyKeyStore = ReadOnlyKeyStore.of(keyStore);
+    String alias = keyStore.aliases().nextElement();
+    Certificate certificate = keyStore.getCertificate(alias);
+
+    Assertions.assertThrows(KeyStoreException.class, () -> readOnlyKeyStore.deleteEntry(alias));
+    Assertions.assertThrows(KeyStoreException.class,
+                            () -> readOnlyKeyStore.setCertificateEntry("another-alias", certificate));
+    Assertions.assertThrows(KeyStoreException.class,
+                            () -> readOnlyKeyStore.setEntry("another-alias",
+                                                            new KeyStore.TrustedCertificateEntry(certificate),
+                                                            null));
+    Assertions.assertThrows(UnsupportedOperationException.class,
+                            () -> readOnlyKeyStore.load(new ByteArrayInputStream(new byte[0]), null));
+    Assertions.assertEquals(Collections.list(keyStore.aliases()), Collections.list(readOnlyKeyStore.aliases()));
+    Assertions.assertTrue(keyStore.containsAlias(alias));
+  }
+
+  @SneakyThrows
+  private KeyStore readTruststore()
+  {
+    try (InputStream inputStream = getClass().getResourceAsStream(UNIT_TEST_TRUSTSTORE_JKS))
+    {
+      return KeyStoreSupporter.readTruststore(inputStream, KeyStoreSupporter.KeyStoreType.JKS, PASSWORD);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package de.captaingoldfish.restclient.database.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * a hibernate second level cache that keeps the regions in bounded caffeine caches. The entity, collection
+ * and query result regions are limited by {@link #MAXIMUM_SIZE} and {@link #EXPIRE_AFTER_WRITE}. The
+ * timestamps region is never limited because evicting the last update timestamp of a table would let
+ * hibernate accept cached query results that are older than the latest modification of that table
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+public class CaffeineRegionFactory extends RegionFactoryTemplate
+{
+
+  /**
+   * the maximum number of entries within a single region
+   */
+  public static final String MAXIMUM_SIZE = "hibernate.cache.caffeine.maximum_size";
+
+  /**
+   * the number of seconds after which an entry of a region expires. A value of 0 disables the expiration
+   */
+  public static final String EXPIRE_AFTER_WRITE = "hibernate.cache.caffeine.expire_after_write";
+
+  /**
+   * the maximum number of entries within a region if not configured otherwise
+   */
+  private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  /**
+   * the caches of all regions mapped by the region names
+   */
+  private final Map<String, CaffeineStorageAccess> regions = new ConcurrentHashMap<>();
+
+  /**
+   * the maximum number of entries within a single region
+   */
+  private long maximumSize;
+
+  /**
+   * the time after which an entry of a region expires
+   */
+  private Duration expireAfterWrite;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues)
+  {
+    maximumSize = getLongValue(configValues, MAXIMUM_SIZE).orElse(DEFAULT_MAXIMUM_SIZE);
+    expireAfterWrite = Duration.ofSeconds(getLongValue(configValues, EXPIRE_AFTER_WRITE).orElse(0L));
+    log.debug("Second level cache regions are limited to {} entries that expire after {}",
+              maximumSize,
+              expireAfterWrite);
+  }
+
+  private static Optional<Long> getLongValue(Map<String, Object> configValues, String key)
+  {
+    return Optional.ofNullable(configValues.get(key)).map(String::valueOf).map(Long::parseLong);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void releaseFromUse()
+  {
+    regions.values().forEach(CaffeineStorageAccess::release);
+    regions.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                  DomainDataRegionBuildingContext buildingContext)
+  {
+    return createStorageAccess(regionConfig.getRegionName(), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory)
+  {
+    return createStorageAccess(regionName, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                              SessionFactoryImplementor sessionFactory)
+  {
+    return createStorageAccess(regionName, false);
+  }
+
+  private CaffeineStorageAccess createStorageAccess(String regionName, boolean bounded)
+  {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (bounded)
+    {
+      builder.maximumSize(maximumSize);
+      if (!expireAfterWrite.isZero())
+      {
+        builder.expireAfterWrite(expireAfterWrite);
+      }
+    }
+    Cache<Object, Object> cache = builder.build();
+    return regions.computeIfAbsent(regionName, name -> new CaffeineStorageAccess(name, cache));
+  }
+
+  /**
+   * @param entityManagerFactory the entity manager factory whose second level cache should be accessed
+   * @return the region factory of the given entity manager factory or an empty if the second level cache is
+   *         disabled
+   */
+  public static Optional<CaffeineRegionFactory> of(EntityManagerFactory entityManagerFactory)
+  {
+    return Optional.of(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory())
+                   .filter(CaffeineRegionFactory.class::isInstance)
+                   .map(CaffeineRegionFactory.class::cast);
+  }
+
+  /**
+   * @return the statistics of the caffeine caches mapped by the region names. In addition to the hibernate
+   *         statistics these statistics also contain the number of entries that were evicted due to the size
+   *         limit or the expiration
+   */
+  public Map<String, CacheStats> getCacheStatistics()
+  {
+    return regions.values()
+                  .stream()
+                  .collect(Collectors.toMap(CaffeineStorageAccess::getRegionName, region -> region.getCache().stats()));
+  }
+}
@@ -0,0 +1,92 @@
+package de.captaingoldfish.restclient.database.config;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.Getter;
+
+
+/**
+ * stores the entries of a single second level cache region within a caffeine cache
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class CaffeineStorageAccess implements DomainDataStorageAccess
+{
+
+  /**
+   * the name of the region whose entries are stored
+   */
+  @Getter
+  private final String regionName;
+
+  /**
+   * the cache that holds the entries of the region
+   */
+  @Getter
+  private final Cache<Object, Object> cache;
+
+  public CaffeineStorageAccess(String regionName, Cache<Object, Object> cache)
+  {
+    this.regionName = regionName;
+    this.cache = cache;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Object getFromCache(Object key, SharedSessionContractImplementor session)
+  {
+    return cache.getIfPresent(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session)
+  {
+    cache.put(key, value);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(Object key)
+  {
+    return cache.getIfPresent(key) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void evictData()
+  {
+    cache.invalidateAll();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void evictData(Object key)
+  {
+    cache.invalidate(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void release()
+  {
+    cache.invalidateAll();
+    cache.cleanUp();
+  }
+}
@@ -11,13 +11,14 @@ import java.util.stream.Collectors;
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -25,7 +26,11 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
 import liquibase.integration.spring.SpringLiquibase;
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -54,6 +59,16 @@ public class DatabaseConfig
   protected static final String[] PACKAGE_TO_SCAN = new String[]{"de.captaingoldfish.restclient.database.entities",
                                                                  REPOSITORY_PACKAGE};
 
+  /**
+   * the hibernate properties that are set for all supported databases. Inserts and updates are sent to the
+   * database in batches and ordered by entity type so that a flush of many entities of the same type results in
+   * a few batched statements. The batch size matches the allocation size of the id sequences
+   */
+  protected static final Map<String, String> COMMON_HIBERNATE_PROPERTIES = // @formatter:off
+    Map.of(AvailableSettings.STATEMENT_BATCH_SIZE, "50",
+           AvailableSettings.ORDER_INSERTS, "true",
+           AvailableSettings.ORDER_UPDATES, "true"); // @formatter:on
+
   /**
    * the database URL
    */
@@ -69,13 +84,91 @@ public class DatabaseConfig
    */
   private final String databasePassword;
 
+  /**
+   * the maximum number of connections within the connection pool. If not set the default of the used database
+   * is taken
+   */
+  private final Integer poolMaxSize;
+
+  /**
+   * the minimum number of idle connections within the connection pool. If not set the default of the used
+   * database is taken
+   */
+  private final Integer poolMinIdle;
+
+  /**
+   * the maximum number of milliseconds to wait for a connection from the pool
+   */
+  private final long poolConnectionTimeoutMillis;
+
+  /**
+   * the number of milliseconds a connection may be borrowed from the pool before a possible connection leak is
+   * logged. A value of 0 disables the leak detection
+   */
+  private final long poolLeakDetectionThresholdMillis;
+
+  /**
+   * the query that is used to validate connections of the pool. Should only be set for drivers that do not
+   * support {@link Connection#isValid(int)} because the query costs an additional roundtrip on each checkout
+   */
+  private final String poolValidationQuery;
+
+  /**
+   * if the pool should register its configuration and statistics as JMX MBeans
+   */
+  private final boolean poolRegisterMbeans;
+
+  /**
+   * if the hot configuration entities and the queries that select them should be kept in the second level cache
+   */
+  private final boolean cacheEnabled;
+
+  /**
+   * the maximum number of entries within a single region of the second level cache
+   */
+  private final long cacheMaximumSize;
+
+  /**
+   * the number of seconds after which an entry of the second level cache expires. A value of 0 disables the
+   * expiration
+   */
+  private final long cacheExpireAfterWriteSeconds;
+
+  /**
+   * if hibernate should collect statistics like the hits and misses of the second level cache. Disabled by
+   * default because hibernate logs a summary of these statistics at the end of each session. The statistics of
+   * the second level cache regions are collected regardless of this setting (see
+   * {@link CaffeineRegionFactory#getCacheStatistics()})
+   */
+  private final boolean generateStatistics;
+
   public DatabaseConfig(@Value("${database.url:jdbc:hsqldb:file:./hsql-db/application-db}") String databaseUrl,
                         @Value("${database.user:sa}") String databaseUsername,
-                        @Value("${database.password:123456}") String databasePassword)
+                        @Value("${database.password:123456}") String databasePassword,
+                        @Value("${database.pool.max-size:#{null}}") Integer poolMaxSize,
+                        @Value("${database.pool.min-idle:#{null}}") Integer poolMinIdle,
+                        @Value("${database.pool.connection-timeout-millis:10000}") long poolConnectionTimeoutMillis,
+                        @Value("${database.pool.leak-detection-threshold-millis:60000}") long poolLeakDetectionThresholdMillis,
+                        @Value("${database.pool.validation-query:#{null}}") String poolValidationQuery,
+                        @Value("${database.pool.register-mbeans:false}") boolean poolRegisterMbeans,
+                        @Value("${database.cache.enabled:true}") boolean cacheEnabled,
+                        @Value("${database.cache.maximum-size:1000}") long cacheMaximumSize,
+                        @Value("${database.cache.expire-after-write-seconds:3600}") long cacheExpireAfterWriteSeconds,
+                        @Value("${database.statistics.enabled:false}") boolean generateStatistics)
   {
     this.databaseUrl = databaseUrl;
     this.databaseUsername = databaseUsername;
     this.databasePassword = databasePassword;
+    this.poolMaxSize = poolMaxSize;
+    this.poolMinIdle = poolMinIdle;
+    this.poolConnectionTimeoutMillis = poolConnectionTimeoutMillis;
+    this.poolLeakDetectionThresholdMillis = poolLeakDetectionThresholdMillis;
+    this.poolValidationQuery = poolValidationQuery;
+    this.poolRegisterMbeans = poolRegisterMbeans;
+    this.cacheEnabled = cacheEnabled;
+    this.cacheMaximumSize = cacheMaximumSize;
+    this.cacheExpireAfterWriteSeconds = cacheExpireAfterWriteSeconds;
+    this.generateStatistics = generateStatistics;
   }
 
   /**
@@ -100,20 +193,43 @@ public class DatabaseConfig
     throw new IllegalStateException(errorMessage);
   }
 
+  /**
+   * @return collects the metrics of the database connection pool. The application exposes them under
+   *         "/metrics/database"
+   */
+  @Bean
+  public DatabasePoolMetrics databasePoolMetrics()
+  {
+    return new DatabasePoolMetrics();
+  }
+
   /**
    * tries to resolve the datasource from the URI string in {@link #databaseUrl}
    *
-   * @return the datasource
+   * @return the pooled datasource
    */
   @Bean(name = "datasource")
-  protected DataSource datasourceProduction(SupportedDatabases usedDatabase)
+  protected DataSource datasourceProduction(SupportedDatabases usedDatabase, DatabasePoolMetrics databasePoolMetrics)
   {
     log.info("connecting to {} server: {}", usedDatabase.name(), databaseUrl);
-    DriverManagerDataSource dataSource = new DriverManagerDataSource();
-    dataSource.setDriverClassName(usedDatabase.getDriverClass());
-    dataSource.setUrl(databaseUrl);
-    dataSource.setUsername(databaseUsername);
-    dataSource.setPassword(databasePassword);
+    HikariConfig hikariConfig = new HikariConfig();
+    hikariConfig.setPoolName("oauth2-rest-client-" + usedDatabase.name().toLowerCase());
+    hikariConfig.setDriverClassName(usedDatabase.getDriverClass());
+    hikariConfig.setJdbcUrl(databaseUrl);
+    hikariConfig.setUsername(databaseUsername);
+    hikariConfig.setPassword(databasePassword);
+    hikariConfig.setMaximumPoolSize(Optional.ofNullable(poolMaxSize).orElse(usedDatabase.getDefaultMaxPoolSize()));
+    hikariConfig.setMinimumIdle(Optional.ofNullable(poolMinIdle).orElse(usedDatabase.getDefaultMinIdle()));
+    hikariConfig.setConnectionTimeout(poolConnectionTimeoutMillis);
+    hikariConfig.setLeakDetectionThreshold(poolLeakDetectionThresholdMillis);
+    // all supported drivers validate connections with Connection#isValid so a test query is only set if it was
+    // explicitly configured
+    Optional.ofNullable(poolValidationQuery)
+            .filter(StringUtils::isNotBlank)
+            .ifPresent(hikariConfig::setConnectionTestQuery);
+    hikariConfig.setRegisterMbeans(poolRegisterMbeans);
+    hikariConfig.setMetricsTrackerFactory(databasePoolMetrics);
+    HikariDataSource dataSource = new HikariDataSource(hikariConfig);
     usedDatabase.checkConnection(dataSource);
     return dataSource;
   }
@@ -147,6 +263,23 @@ public class DatabaseConfig
     JpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
     em.setJpaVendorAdapter(vendorAdapter);
     em.setJpaProperties(usedDatabase.getAdditionalProperties());
+    // return the connection to the pool as soon as a transaction has finished instead of holding it until the
+    // entity manager is closed
+    em.getJpaPropertyMap()
+      .put(AvailableSettings.CONNECTION_HANDLING,
+           PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    // only the entities that are annotated with @Cacheable are kept in the second level cache. Bulk updates and
+    // deletes with JPQL or the criteria API evict the affected regions by themselves
+    em.getJpaPropertyMap().put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+    em.getJpaPropertyMap().put(AvailableSettings.USE_SECOND_LEVEL_CACHE, cacheEnabled);
+    em.getJpaPropertyMap().put(AvailableSettings.USE_QUERY_CACHE, cacheEnabled);
+    if (cacheEnabled)
+    {
+      em.getJpaPropertyMap().put(AvailableSettings.CACHE_REGION_FACTORY, CaffeineRegionFactory.class.getName());
+      em.getJpaPropertyMap().put(CaffeineRegionFactory.MAXIMUM_SIZE, cacheMaximumSize);
+      em.getJpaPropertyMap().put(CaffeineRegionFactory.EXPIRE_AFTER_WRITE, cacheExpireAfterWriteSeconds);
+    }
+    em.getJpaPropertyMap().put(AvailableSettings.GENERATE_STATISTICS, generateStatistics);
 
     em.afterPropertiesSet();
     return em.getObject();
@@ -180,24 +313,31 @@ public class DatabaseConfig
   public enum SupportedDatabases
   {
 
+    /*
+     * the embedded database is running within the application process so opening connections is cheap and a small
+     * pool is sufficient for the single user of this application
+     */
     HSQLDB("jdbc:hsqldb",
            "org.hsqldb.jdbcDriver",
            "org.hibernate.dialect.HSQLDialect", // @formatter:off
-           Map.of("hibernate.format_sql", "false", "hibernate.show_sql", "false")// @formatter:on
-    ),
+           Map.of("hibernate.format_sql", "false", "hibernate.show_sql", "false"), // @formatter:on
+           5,
+           1),
 
     SQLSERVER("jdbc:sqlserver",
               "com.microsoft.sqlserver.jdbc.SQLServerDriver",
               "org.hibernate.dialect.SQLServerDialect",
-              null),
+              null,
+              10,
+              2),
 
-    MYSQL("jdbc:mysql", "com.mysql.cj.jdbc.Driver", "org.hibernate.dialect.MySQL8Dialect", null),
+    MYSQL("jdbc:mysql", "com.mysql.cj.jdbc.Driver", "org.hibernate.dialect.MySQL8Dialect", null, 10, 2),
 
-    MARIADB("jdbc:mariadb", "org.mariadb.jdbc.Driver", "org.hibernate.dialect.MariaDBDialect", null),
+    MARIADB("jdbc:mariadb", "org.mariadb.jdbc.Driver", "org.hibernate.dialect.MariaDBDialect", null, 10, 2),
 
-    POSTGRES("jdbc:postgres", "org.postgresql.Driver", "org.hibernate.dialect.PostgreSQLDialect", null),
+    POSTGRES("jdbc:postgres", "org.postgresql.Driver", "org.hibernate.dialect.PostgreSQLDialect", null, 10, 2),
 
-    ORACLE("jdbc:oracle", "oracle.jdbc.driver.OracleDriver", "org.hibernate.dialect.Oracle12cDialect", null);
+    ORACLE("jdbc:oracle", "oracle.jdbc.driver.OracleDriver", "org.hibernate.dialect.Oracle12cDialect", null, 10, 2);
 
     /**
      * this prefix is used to determine if a JDBC url maps to this supported database type
@@ -218,25 +358,42 @@ public class DatabaseConfig
     private String hibernateDialect;
 
     /**
-     * optional additional properties that can be set for each supported database individually
+     * the {@link #COMMON_HIBERNATE_PROPERTIES} together with the optional properties that can be set for each
+     * supported database individually
      */
     @Getter
     private Properties additionalProperties;
 
+    /**
+     * the maximum number of pooled connections if not configured otherwise
+     */
+    @Getter
+    private int defaultMaxPoolSize;
+
+    /**
+     * the minimum number of idle pooled connections if not configured otherwise
+     */
+    @Getter
+    private int defaultMinIdle;
+
 
     SupportedDatabases(String expectedUrlPrefix,
                        String driverClass,
                        String hibernateDialect,
-                       Map<String, String> additionalProperties)
+                       Map<String, String> additionalProperties,
+                       int defaultMaxPoolSize,
+                       int defaultMinIdle)
     {
       this.expectedUrlPrefix = expectedUrlPrefix;
       this.driverClass = driverClass;
       this.hibernateDialect = hibernateDialect;
-      this.additionalProperties = Optional.ofNullable(additionalProperties).map(propertyMap -> {
-        Properties properties = new Properties();
-        propertyMap.forEach(properties::setProperty);
-        return properties;
-      }).orElse(null);
+      this.defaultMaxPoolSize = defaultMaxPoolSize;
+      this.defaultMinIdle = defaultMinIdle;
+      this.additionalProperties = new Properties();
+      COMMON_HIBERNATE_PROPERTIES.forEach(this.additionalProperties::setProperty);
+      Optional.ofNullable(additionalProperties).ifPresent(properties -> {
+        properties.forEach(this.additionalProperties::setProperty);
+      });
     }
 
     /**
@@ -0,0 +1,178 @@
+package de.captaingoldfish.restclient.database.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * collects the metrics of the database connection pool. The connection counts are taken from the statistics
+ * of the pool itself and are refreshed by the pool at most once per second while the time it took to acquire
+ * a connection from the pool is recorded on each acquisition.
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+public class DatabasePoolMetrics implements MetricsTrackerFactory
+{
+
+  /**
+   * the number of connections that were acquired from the pool
+   */
+  private final LongAdder acquireCount = new LongAdder();
+
+  /**
+   * the summed up time in nanoseconds that was spent on acquiring connections
+   */
+  private final LongAdder acquireNanosTotal = new LongAdder();
+
+  /**
+   * the longest time in nanoseconds that was spent on acquiring a single connection
+   */
+  private final LongAccumulator acquireNanosMax = new LongAccumulator(Math::max, 0);
+
+  /**
+   * the number of connection requests that have failed because no connection became available in time
+   */
+  private final LongAdder timeoutCount = new LongAdder();
+
+  /**
+   * the statistics of the pool. Will be null until the pool was started
+   */
+  private volatile PoolStats poolStats;
+
+  /**
+   * called by the pool on startup
+   */
+  @Override
+  public IMetricsTracker create(String poolName, PoolStats poolStats)
+  {
+    log.debug("Recording metrics of database connection pool '{}'", poolName);
+    this.poolStats = poolStats;
+    return new PoolMetricsTracker();
+  }
+
+  /**
+   * @return the number of connections that are currently in use
+   */
+  public int getActiveConnections()
+  {
+    return getPoolStatistic(PoolStats::getActiveConnections);
+  }
+
+  /**
+   * @return the number of open connections that are currently not in use
+   */
+  public int getIdleConnections()
+  {
+    return getPoolStatistic(PoolStats::getIdleConnections);
+  }
+
+  /**
+   * @return the number of threads that are currently waiting for a connection
+   */
+  public int getPendingThreads()
+  {
+    return getPoolStatistic(PoolStats::getPendingThreads);
+  }
+
+  /**
+   * @return the number of currently open connections
+   */
+  public int getTotalConnections()
+  {
+    return getPoolStatistic(PoolStats::getTotalConnections);
+  }
+
+  /**
+   * @return the maximum number of connections the pool will open
+   */
+  public int getMaxConnections()
+  {
+    return getPoolStatistic(PoolStats::getMaxConnections);
+  }
+
+  /**
+   * @return the number of connections that were acquired from the pool
+   */
+  public long getAcquireCount()
+  {
+    return acquireCount.sum();
+  }
+
+  /**
+   * @return the average time it took to acquire a connection from the pool
+   */
+  public Duration getAverageAcquireTime()
+  {
+    long count = acquireCount.sum();
+    return count == 0 ? Duration.ZERO : Duration.ofNanos(acquireNanosTotal.sum() / count);
+  }
+
+  /**
+   * @return the longest time it took to acquire a single connection from the pool
+   */
+  public Duration getMaxAcquireTime()
+  {
+    return Duration.ofNanos(acquireNanosMax.get());
+  }
+
+  /**
+   * @return the number of connection requests that have failed because no connection became available in time
+   */
+  public long getTimeoutCount()
+  {
+    return timeoutCount.sum();
+  }
+
+  private int getPoolStatistic(ToIntFunction<PoolStats> statistic)
+  {
+    return Optional.ofNullable(poolStats).map(statistic::applyAsInt).orElse(0);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("active=%d, idle=%d, pending=%d, total=%d, acquired=%d, avgAcquireTime=%s, "
+                         + "maxAcquireTime=%s, timeouts=%d",
+                         getActiveConnections(),
+                         getIdleConnections(),
+                         getPendingThreads(),
+                         getTotalConnections(),
+                         getAcquireCount(),
+                         getAverageAcquireTime(),
+                         getMaxAcquireTime(),
+                         getTimeoutCount());
+  }
+
+  /**
+   * receives the events of the pool
+   */
+  private class PoolMetricsTracker implements IMetricsTracker
+  {
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos)
+    {
+      acquireCount.increment();
+      acquireNanosTotal.add(elapsedAcquiredNanos);
+      acquireNanosMax.accumulate(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionTimeout()
+    {
+      timeoutCount.increment();
+      log.warn("Timeout while waiting for a database connection: {}", DatabasePoolMetrics.this);
+    }
+  }
+}
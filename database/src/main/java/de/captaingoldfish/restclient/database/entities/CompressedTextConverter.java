@@ -0,0 +1,149 @@
+package de.captaingoldfish.restclient.database.entities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+
+/**
+ * stores large text values compressed with deflate. Every stored value starts with a single byte that tells
+ * if the remaining bytes are compressed or plain UTF-8. Short values and values that do not get smaller are
+ * stored uncompressed so that reading them does not require an inflater
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]>
+{
+
+  /**
+   * marks a value whose remaining bytes are plain UTF-8
+   */
+  static final byte PLAIN = 0;
+
+  /**
+   * marks a value whose remaining bytes are deflated UTF-8
+   */
+  static final byte DEFLATED = 1;
+
+  /**
+   * values with fewer bytes than this are not compressed because the deflate overhead outweighs the savings
+   */
+  static final int MIN_COMPRESSION_LENGTH = 256;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] convertToDatabaseColumn(String text)
+  {
+    return compress(text);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String convertToEntityAttribute(byte[] data)
+  {
+    return decompress(data);
+  }
+
+  /**
+   * @return the stored representation of the given text or null if the text is null
+   */
+  public static byte[] compress(String text)
+  {
+    if (text == null)
+    {
+      return null;
+    }
+    byte[] plainBytes = text.getBytes(StandardCharsets.UTF_8);
+    if (plainBytes.length >= MIN_COMPRESSION_LENGTH)
+    {
+      byte[] deflatedBytes = deflate(plainBytes);
+      if (deflatedBytes.length < plainBytes.length)
+      {
+        return deflatedBytes;
+      }
+    }
+    byte[] storedBytes = new byte[plainBytes.length + 1];
+    storedBytes[0] = PLAIN;
+    System.arraycopy(plainBytes, 0, storedBytes, 1, plainBytes.length);
+    return storedBytes;
+  }
+
+  /**
+   * @return the text of the given stored representation or null if the data is null
+   */
+  public static String decompress(byte[] data)
+  {
+    if (data == null)
+    {
+      return null;
+    }
+    if (data.length == 0)
+    {
+      return "";
+    }
+    switch (data[0])
+    {
+      case PLAIN:
+        return new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+      case DEFLATED:
+        return new String(inflate(data), StandardCharsets.UTF_8);
+      default:
+        throw new IllegalStateException(String.format("Unknown compression marker '%s'", data[0]));
+    }
+  }
+
+  /**
+   * @return the marker {@link #DEFLATED} followed by the deflated bytes
+   */
+  private static byte[] deflate(byte[] plainBytes)
+  {
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    try
+    {
+      deflater.setInput(plainBytes);
+      deflater.finish();
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(plainBytes.length / 4 + 16);
+      outputStream.write(DEFLATED);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished())
+      {
+        int length = deflater.deflate(buffer);
+        outputStream.write(buffer, 0, length);
+      }
+      return outputStream.toByteArray();
+    }
+    finally
+    {
+      deflater.end();
+    }
+  }
+
+  /**
+   * @return the inflated bytes of a value that was stored with the marker {@link #DEFLATED}
+   */
+  private static byte[] inflate(byte[] data)
+  {
+    try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(data, 1, data.length - 1)))
+    {
+      return inputStream.readAllBytes();
+    }
+    catch (IOException ex)
+    {
+      throw new UncheckedIOException("Failed to inflate stored text", ex);
+    }
+  }
+}
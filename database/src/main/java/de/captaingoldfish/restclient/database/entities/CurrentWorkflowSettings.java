@@ -32,7 +32,7 @@ public class CurrentWorkflowSettings
    */
   @Id
   @GeneratedValue(generator = "CURRENT_WORKFLOW_SETTINGS_SEQ")
-  @SequenceGenerator(name = "CURRENT_WORKFLOW_SETTINGS_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "CURRENT_WORKFLOW_SETTINGS_SEQ", sequenceName = "CURRENT_WORKFLOW_SETTINGS_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
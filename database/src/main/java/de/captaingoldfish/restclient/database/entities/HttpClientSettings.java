@@ -4,8 +4,11 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -13,6 +16,9 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -25,6 +31,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "HTTP_CLIENT_SETTINGS")
 public class HttpClientSettings
 {
@@ -34,7 +42,7 @@ public class HttpClientSettings
    */
   @Id
   @GeneratedValue(generator = "HTTP_CLIENT_SETTINGS_SEQ")
-  @SequenceGenerator(name = "HTTP_CLIENT_SETTINGS_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "HTTP_CLIENT_SETTINGS_SEQ", sequenceName = "HTTP_CLIENT_SETTINGS_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
@@ -84,6 +92,13 @@ public class HttpClientSettings
   @Column(name = "TLS_CLIENT_AUTH_KEY_REF")
   private String tlsClientAuthKeyRef;
 
+  /**
+   * the http client implementation that is used to send the requests
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "EXECUTION_ENGINE")
+  private ExecutionEngine executionEngine;
+
   /**
    * the moment this instance was created
    */
@@ -104,7 +119,8 @@ public class HttpClientSettings
                             Integer connectionTimeout,
                             Integer socketTimeout,
                             boolean useHostnameVerifier,
-                            String tlsClientAuthKeyRef)
+                            String tlsClientAuthKeyRef,
+                            ExecutionEngine executionEngine)
   {
     this.id = id;
     this.openIdClient = openIdClient;
@@ -114,6 +130,7 @@ public class HttpClientSettings
     this.socketTimeout = Optional.ofNullable(socketTimeout).orElse(30);
     this.useHostnameVerifier = useHostnameVerifier;
     this.tlsClientAuthKeyRef = tlsClientAuthKeyRef;
+    this.executionEngine = Optional.ofNullable(executionEngine).orElse(ExecutionEngine.CLASSIC);
     this.created = Instant.now().truncatedTo(ChronoUnit.MILLIS);
     this.lastModified = this.created;
   }
@@ -125,4 +142,21 @@ public class HttpClientSettings
   {
     this.lastModified = lastModified.truncatedTo(ChronoUnit.MILLIS);
   }
+
+  /**
+   * the http client implementations that can be used to send requests
+   */
+  public enum ExecutionEngine
+  {
+    /**
+     * the blocking apache http client that sends HTTP/1.1 requests over pooled connections
+     */
+    CLASSIC,
+
+    /**
+     * the non-blocking apache http client that negotiates the protocol with ALPN. It uses HTTP/2 if the server
+     * supports it and falls back to HTTP/1.1 otherwise
+     */
+    ASYNC_HTTP2
+  }
 }
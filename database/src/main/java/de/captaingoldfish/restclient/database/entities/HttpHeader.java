@@ -29,7 +29,7 @@ public class HttpHeader
    */
   @Id
   @GeneratedValue(generator = "HTTP_HEADERS_SEQ")
-  @SequenceGenerator(name = "HTTP_HEADERS_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "HTTP_HEADERS_SEQ", sequenceName = "HTTP_HEADERS_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
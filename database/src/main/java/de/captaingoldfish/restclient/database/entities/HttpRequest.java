@@ -3,9 +3,11 @@ package de.captaingoldfish.restclient.database.entities;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
@@ -14,6 +16,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
@@ -23,6 +26,7 @@ import org.hibernate.annotations.LazyCollectionOption;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 
 /**
@@ -42,7 +46,7 @@ public class HttpRequest
    */
   @Id
   @GeneratedValue(generator = "HTTP_REQUESTS_SEQ")
-  @SequenceGenerator(name = "HTTP_REQUESTS_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "HTTP_REQUESTS_SEQ", sequenceName = "HTTP_REQUESTS_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
@@ -93,19 +97,18 @@ public class HttpRequest
   /**
    * the body of the http request
    */
+  @Convert(converter = CompressedTextConverter.class)
   @Column(name = "REQUEST_BODY")
   private String requestBody;
 
   /**
-   * the http response history of this request
+   * the http response history of this request. The history is loaded lazily because it may become large and is
+   * owned by {@link HttpResponse#getHttpRequest()} so that new responses can be appended without loading the
+   * existing ones
    */
-  @LazyCollection(LazyCollectionOption.FALSE)
-  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-  // @formatter:off
-  @JoinTable(name = "HTTP_REQUEST_RESPONSE_MAPPING",
-             joinColumns = @JoinColumn(name = "HTTP_REQUEST_ID", referencedColumnName = "ID"),
-             inverseJoinColumns = @JoinColumn(name = "HTTP_RESPONSE_ID", referencedColumnName = "ID"))
-  // @formatter:on
+  @ToString.Exclude
+  @OrderBy("id ASC")
+  @OneToMany(mappedBy = "httpRequest", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<HttpResponse> httpResponses;
 
   /**
@@ -142,11 +145,22 @@ public class HttpRequest
     this.url = url;
     this.httpHeaders = httpHeaders;
     this.requestBody = requestBody;
-    this.httpResponses = httpResponses;
+    setHttpResponses(httpResponses);
     this.created = created;
     this.lastModified = lastModified;
   }
 
+  /**
+   * @see #httpResponses
+   */
+  public void setHttpResponses(List<HttpResponse> httpResponses)
+  {
+    this.httpResponses = httpResponses;
+    Optional.ofNullable(httpResponses).ifPresent(responses -> responses.forEach(response -> {
+      response.setHttpRequest(this);
+    }));
+  }
+
   /**
    * @see #lastModified
    */
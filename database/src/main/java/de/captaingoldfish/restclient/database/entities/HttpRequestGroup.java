@@ -32,7 +32,7 @@ public class HttpRequestGroup
    */
   @Id
   @GeneratedValue(generator = "HTTP_REQUEST_GROUPS_SEQ")
-  @SequenceGenerator(name = "HTTP_REQUEST_GROUPS_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "HTTP_REQUEST_GROUPS_SEQ", sequenceName = "HTTP_REQUEST_GROUPS_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
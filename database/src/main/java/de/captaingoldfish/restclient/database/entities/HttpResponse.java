@@ -3,15 +3,25 @@ package de.captaingoldfish.restclient.database.entities;
 import java.time.Instant;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.ToString;
 
 
 /**
@@ -31,14 +41,28 @@ public class HttpResponse
    */
   @Id
   @GeneratedValue(generator = "HTTP_RESPONSES_SEQ")
-  @SequenceGenerator(name = "HTTP_RESPONSES_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "HTTP_RESPONSES_SEQ", sequenceName = "HTTP_RESPONSES_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
+  /**
+   * the request whose response history contains this response
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @ManyToOne(fetch = FetchType.LAZY)
+  // @formatter:off
+  @JoinTable(name = "HTTP_REQUEST_RESPONSE_MAPPING",
+             joinColumns = @JoinColumn(name = "HTTP_RESPONSE_ID", referencedColumnName = "ID"),
+             inverseJoinColumns = @JoinColumn(name = "HTTP_REQUEST_ID", referencedColumnName = "ID"))
+  // @formatter:on
+  private HttpRequest httpRequest;
+
   /**
    * the request details merged into a single string representation that have led to this response (the parent
    * object might have been altered already)
    */
+  @Convert(converter = CompressedTextConverter.class)
   @Column(name = "REQUEST_DETAILS")
   private String requestDetails;
 
@@ -51,21 +75,73 @@ public class HttpResponse
   /**
    * the response headers as simple string representation
    */
+  @Convert(converter = CompressedTextConverter.class)
   @Column(name = "RESPONSE_HEADERS")
   private String responseHeaders;
 
   /**
-   * the response body that belongs to the request details
+   * the response body that belongs to the request details decoded with the charset of the content type. Large
+   * bodies are cut off after a configurable length (see {@link #responseBodyPreview}) and binary bodies have no
+   * textual representation
    */
+  @Convert(converter = CompressedTextConverter.class)
   @Column(name = "RESPONSE_BODY")
   private String responseBody;
 
+  /**
+   * the content type of the response body
+   */
+  @Column(name = "RESPONSE_CONTENT_TYPE")
+  private String responseContentType;
+
+  /**
+   * the number of stored bytes of the response body
+   */
+  @Column(name = "RESPONSE_BODY_SIZE")
+  private Long responseBodySize;
+
+  /**
+   * if the response body is not text and is therefore only available as raw content
+   */
+  @Column(name = "RESPONSE_BODY_BINARY")
+  private boolean responseBodyBinary;
+
+  /**
+   * if {@link #responseBody} contains only the beginning of the body. The complete body is available as raw
+   * content
+   */
+  @Column(name = "RESPONSE_BODY_PREVIEW")
+  private boolean responseBodyPreview;
+
+  /**
+   * if the response body exceeded the configured maximum size and the remaining bytes were discarded
+   */
+  @Column(name = "RESPONSE_BODY_TRUNCATED")
+  private boolean responseBodyTruncated;
+
+  /**
+   * the raw bytes of a received response body that are written into the table "HTTP_RESPONSE_BODIES" when the
+   * response is stored with {@link de.captaingoldfish.restclient.database.repositories.HttpResponsesDao}. Only
+   * set for binary bodies and for bodies that did not fit into the preview so that small text responses are not
+   * stored twice. The stored bytes are never loaded together with the response and must be read as a stream
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @Transient
+  private ResponseBodyContent responseBodyContent;
+
   /**
    * the moment this instance was created
    */
   @Column(name = "CREATED")
   private Instant created;
 
+  /**
+   * the time that was spent in the single phases of the exchange. Responses that were received before the
+   * timings were recorded have no timings
+   */
+  @Embedded
+  private HttpTimings timings;
 
   @Builder
   public HttpResponse(long id,
@@ -73,7 +149,14 @@ public class HttpResponse
                       int responseStatus,
                       String responseHeaders,
                       String responseBody,
-                      Instant created)
+                      Instant created,
+                      HttpTimings timings,
+                      String responseContentType,
+                      Long responseBodySize,
+                      boolean responseBodyBinary,
+                      boolean responseBodyPreview,
+                      boolean responseBodyTruncated,
+                      ResponseBodyContent responseBodyContent)
   {
     this.id = id;
     this.requestDetails = requestDetails;
@@ -81,5 +164,25 @@ public class HttpResponse
     this.responseHeaders = responseHeaders;
     this.responseBody = responseBody;
     this.created = created;
+    this.timings = timings;
+    this.responseContentType = responseContentType;
+    this.responseBodySize = responseBodySize;
+    this.responseBodyBinary = responseBodyBinary;
+    this.responseBodyPreview = responseBodyPreview;
+    this.responseBodyTruncated = responseBodyTruncated;
+    this.responseBodyContent = responseBodyContent;
+  }
+
+  /**
+   * releases the resources of the raw response body. Must be called once the response was stored or if it is
+   * not stored at all. Calling it more than once has no effect
+   */
+  @SneakyThrows
+  public void closeResponseBodyContent()
+  {
+    if (responseBodyContent != null)
+    {
+      responseBodyContent.close();
+    }
   }
 }
@@ -0,0 +1,100 @@
+package de.captaingoldfish.restclient.database.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * the time that was spent in the single phases of a http exchange. All durations are given in microseconds.
+ * Phases that did not take place within the exchange (e.g. the dns lookup and connect of a reused pooled
+ * connection) are 0
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Data
+@NoArgsConstructor
+@Embeddable
+public class HttpTimings
+{
+
+  /**
+   * the time that was needed to resolve the address of the remote host
+   */
+  @Column(name = "DNS_LOOKUP_MICROS")
+  private Long dnsLookupMicros;
+
+  /**
+   * the time that was needed to establish the tcp connection
+   */
+  @Column(name = "CONNECT_MICROS")
+  private Long connectMicros;
+
+  /**
+   * the time that was needed for the tls handshake
+   */
+  @Column(name = "TLS_HANDSHAKE_MICROS")
+  private Long tlsHandshakeMicros;
+
+  /**
+   * the time between an established connection and the arrival of the response head
+   */
+  @Column(name = "TIME_TO_FIRST_BYTE_MICROS")
+  private Long timeToFirstByteMicros;
+
+  /**
+   * the time that was needed to read the response body after the response head has arrived
+   */
+  @Column(name = "DOWNLOAD_MICROS")
+  private Long downloadMicros;
+
+  /**
+   * the time of the complete exchange
+   */
+  @Column(name = "TOTAL_MICROS")
+  private Long totalMicros;
+
+  /**
+   * the number of bytes that were written to the connection including the tls overhead
+   */
+  @Column(name = "BYTES_SENT")
+  private Long bytesSent;
+
+  /**
+   * the number of bytes that were read from the connection including the tls overhead
+   */
+  @Column(name = "BYTES_RECEIVED")
+  private Long bytesReceived;
+
+  /**
+   * if the exchange was sent over a pooled connection that was already established
+   */
+  @Column(name = "CONNECTION_REUSED")
+  private Boolean connectionReused;
+
+  @Builder
+  public HttpTimings(Long dnsLookupMicros,
+                     Long connectMicros,
+                     Long tlsHandshakeMicros,
+                     Long timeToFirstByteMicros,
+                     Long downloadMicros,
+                     Long totalMicros,
+                     Long bytesSent,
+                     Long bytesReceived,
+                     Boolean connectionReused)
+  {
+    this.dnsLookupMicros = dnsLookupMicros;
+    this.connectMicros = connectMicros;
+    this.tlsHandshakeMicros = tlsHandshakeMicros;
+    this.timeToFirstByteMicros = timeToFirstByteMicros;
+    this.downloadMicros = downloadMicros;
+    this.totalMicros = totalMicros;
+    this.bytesSent = bytesSent;
+    this.bytesReceived = bytesReceived;
+    this.connectionReused = connectionReused;
+  }
+}
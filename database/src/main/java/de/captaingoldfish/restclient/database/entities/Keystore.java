@@ -21,6 +21,7 @@ import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -35,6 +36,8 @@ import jakarta.persistence.Transient;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
 import lombok.Data;
@@ -51,6 +54,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "KEYSTORE")
 @NoArgsConstructor
 public class Keystore
@@ -85,6 +90,7 @@ public class Keystore
   /**
    * the collection of alias key entries within this keystore
    */
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @ElementCollection(fetch = FetchType.EAGER)
   @CollectionTable(name = "KEYSTORE_ENTRIES", joinColumns = @JoinColumn(name = "KEYSTORE_ID"))
   private List<KeystoreEntry> keystoreEntries = new ArrayList<>();
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Set;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -15,6 +16,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -30,6 +34,8 @@ import lombok.extern.slf4j.Slf4j;
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "OPENID_PROVIDER")
 public class OpenIdProvider
 {
@@ -39,7 +45,7 @@ public class OpenIdProvider
    */
   @Id
   @GeneratedValue(generator = "OPENID_PROVIDER_SEQ")
-  @SequenceGenerator(name = "OPENID_PROVIDER_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "OPENID_PROVIDER_SEQ", sequenceName = "OPENID_PROVIDER_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
@@ -77,6 +83,7 @@ public class OpenIdProvider
   /**
    * resource endpoints that should be accessible after a token was acquired
    */
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @ElementCollection(fetch = FetchType.EAGER)
   @CollectionTable(name = "RESOURCE_ENDPOINTS", joinColumns = @JoinColumn(name = "OPENID_PROVIDER_ID"))
   @Column(name = "ENDPOINT")
@@ -3,6 +3,7 @@ package de.captaingoldfish.restclient.database.entities;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -10,6 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,6 +27,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "PROXY")
 public class Proxy
 {
@@ -32,7 +38,7 @@ public class Proxy
    */
   @Id
   @GeneratedValue(generator = "PROXY_SEQ")
-  @SequenceGenerator(name = "PROXY_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "PROXY_SEQ", sequenceName = "PROXY_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
@@ -0,0 +1,29 @@
+package de.captaingoldfish.restclient.database.entities;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+
+/**
+ * the raw bytes of a received response body that have not been stored yet. The bytes are not held by the
+ * {@link HttpResponse} entity but are streamed into their own table when the response is stored so that large
+ * bodies never have to be loaded into memory as a whole. Closing the content releases the resources that hold
+ * the bytes until then
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public interface ResponseBodyContent extends Closeable
+{
+
+  /**
+   * @return the number of bytes of the content
+   */
+  long getSize();
+
+  /**
+   * @return a new stream that reads the content from its beginning
+   */
+  InputStream openInputStream() throws IOException;
+}
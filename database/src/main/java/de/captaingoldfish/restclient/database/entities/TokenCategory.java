@@ -31,7 +31,7 @@ public class TokenCategory
    */
   @Id
   @GeneratedValue(generator = "TOKEN_CATEGORY_SEQ")
-  @SequenceGenerator(name = "TOKEN_CATEGORY_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "TOKEN_CATEGORY_SEQ", sequenceName = "TOKEN_CATEGORY_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
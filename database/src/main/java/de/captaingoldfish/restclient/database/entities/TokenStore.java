@@ -33,7 +33,7 @@ public class TokenStore
    */
   @Id
   @GeneratedValue(generator = "TOKEN_STORE_SEQ")
-  @SequenceGenerator(name = "TOKEN_STORE_SEQ", sequenceName = "hibernate_sequence", allocationSize = 1)
+  @SequenceGenerator(name = "TOKEN_STORE_SEQ", sequenceName = "TOKEN_STORE_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private long id;
 
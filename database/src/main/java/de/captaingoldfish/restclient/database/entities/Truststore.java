@@ -1,14 +1,18 @@
 package de.captaingoldfish.restclient.database.entities;
 
-import java.io.InputStream;
 import java.security.KeyStore;
 import java.security.cert.X509Certificate;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -17,13 +21,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 
-import org.apache.commons.io.IOUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
-import lombok.extern.slf4j.Slf4j;
 
 
 /**
@@ -31,10 +35,11 @@ import lombok.extern.slf4j.Slf4j;
  * created at: 29.04.2018 - 22:46 <br>
  * <br>
  */
-@Slf4j
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "TRUSTSTORE")
 public class Truststore
 {
@@ -46,12 +51,6 @@ public class Truststore
   @Column(name = "ID")
   private long id = 1L;
 
-  /**
-   * the bytes representing this keystore
-   */
-  @Column(name = "TRUSTSTORE_BYTES")
-  private byte[] truststoreBytes;
-
   /**
    * the password to open the truststore. Is only necessary for pkcs PKCS2 keystores
    */
@@ -78,20 +77,28 @@ public class Truststore
   private Instant lastModified;
 
   /**
-   * the truststore that is the main object of this class
+   * the truststore that is the main object of this class. The entries are stored in
+   * {@link TruststoreCertificate} rows and the keystore is attached by the truststore repository. It must not
+   * be modified directly because the modifications would not be persisted
    */
   @Transient
   private KeyStore truststore;
 
-  @SneakyThrows
-  public Truststore(InputStream truststoreInputStream,
-                    KeyStoreSupporter.KeyStoreType truststoreType,
-                    String truststorePassword)
+  /**
+   * the aliases of the entries within {@link #truststore} mapped by the SHA-256 fingerprints of their
+   * certificates. Several entries may contain the same certificate so each fingerprint maps to the aliases in
+   * the order the entries were added. It is attached together with the keystore and allows to detect duplicate
+   * certificates without comparing them against every entry of the truststore
+   */
+  @Transient
+  private Map<String, Set<String>> certificateFingerprints;
+
+  public Truststore(KeyStoreSupporter.KeyStoreType truststoreType, String truststorePassword)
   {
-    this.truststoreBytes = IOUtils.toByteArray(truststoreInputStream);
     this.truststorePassword = truststorePassword;
     this.truststoreType = truststoreType;
-    this.truststore = KeyStoreSupporter.readTruststore(truststoreBytes, truststoreType, truststorePassword);
+    this.truststore = KeyStoreSupporter.createEmptyKeyStore(truststoreType, truststorePassword);
+    this.certificateFingerprints = new HashMap<>();
     this.created = Instant.now().truncatedTo(ChronoUnit.MILLIS);
     this.lastModified = this.created;
   }
@@ -105,24 +112,23 @@ public class Truststore
   }
 
   /**
-   * will load the keystore instance
+   * @param sha256Fingerprint the fingerprint as created by
+   *          {@link TruststoreCertificate#getSha256Fingerprint(byte[])}
+   * @return the alias of the first entry that contains the certificate with the given fingerprint
    */
-  public KeyStore getTruststore()
+  public Optional<String> getCertificateAlias(String sha256Fingerprint)
   {
-    if (this.truststore == null)
-    {
-      try
-      {
-        this.truststore = KeyStoreSupporter.readKeyStore(getTruststoreBytes(),
-                                                         getTruststoreType(),
-                                                         getTruststorePassword());
-      }
-      catch (Exception ex)
-      {
-        log.error(ex.getMessage(), ex);
-      }
-    }
-    return this.truststore;
+    return certificateFingerprints.getOrDefault(sha256Fingerprint, Set.of()).stream().findFirst();
+  }
+
+  /**
+   * @param certificate the certificate to search for
+   * @return the alias of the first entry that contains the given certificate
+   */
+  @SneakyThrows
+  public Optional<String> getCertificateAlias(X509Certificate certificate)
+  {
+    return getCertificateAlias(TruststoreCertificate.getSha256Fingerprint(certificate.getEncoded()));
   }
 
   /**
@@ -0,0 +1,161 @@
+package de.captaingoldfish.restclient.database.entities;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Locale;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.ToString;
+
+
+/**
+ * a single certificate entry of the application truststore. Each entry is stored in its own row so that
+ * adding or removing a certificate does not require to rewrite the complete truststore
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "TRUSTSTORE_CERTIFICATES")
+public class TruststoreCertificate
+{
+
+  /**
+   * the primary key of this table
+   */
+  @Id
+  @GeneratedValue(generator = "TRUSTSTORE_CERTIFICATES_SEQ")
+  @SequenceGenerator(name = "TRUSTSTORE_CERTIFICATES_SEQ", sequenceName = "TRUSTSTORE_CERTIFICATES_SEQ", allocationSize = 50)
+  @Column(name = "ID")
+  private long id;
+
+  /**
+   * the truststore that contains this entry. The entries are removed together with the truststore
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @ManyToOne(fetch = FetchType.LAZY)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  @JoinColumn(name = "TRUSTSTORE_ID")
+  private Truststore truststore;
+
+  /**
+   * the alias of this entry within the truststore. It is stored in lowercase because the keystore
+   * implementations treat aliases case-insensitive so the unique constraint on this column must do the same
+   */
+  @Column(name = "ALIAS")
+  private String alias;
+
+  /**
+   * the DER encoded certificate
+   */
+  @Column(name = "CERTIFICATE_BYTES")
+  private byte[] certificateBytes;
+
+  /**
+   * the lowercase hex encoded SHA-256 fingerprint of {@link #certificateBytes}
+   */
+  @Column(name = "SHA256_FINGERPRINT")
+  private String sha256Fingerprint;
+
+  /**
+   * the subject DN of the certificate
+   */
+  @Column(name = "SUBJECT_DN")
+  private String subjectDn;
+
+  /**
+   * the issuer DN of the certificate
+   */
+  @Column(name = "ISSUER_DN")
+  private String issuerDn;
+
+  /**
+   * the start of the validity period of the certificate
+   */
+  @Column(name = "NOT_BEFORE")
+  private Instant notBefore;
+
+  /**
+   * the end of the validity period of the certificate
+   */
+  @Column(name = "NOT_AFTER")
+  private Instant notAfter;
+
+  /**
+   * the moment this instance was created
+   */
+  @Column(name = "CREATED")
+  private Instant created;
+
+  /**
+   * the parsed representation of {@link #certificateBytes}
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @Transient
+  private X509Certificate certificate;
+
+  @SneakyThrows
+  public TruststoreCertificate(Truststore truststore, String alias, X509Certificate certificate)
+  {
+    this.truststore = truststore;
+    this.alias = alias.toLowerCase(Locale.ENGLISH);
+    this.certificate = certificate;
+    this.certificateBytes = certificate.getEncoded();
+    this.sha256Fingerprint = getSha256Fingerprint(certificateBytes);
+    this.subjectDn = certificate.getSubjectX500Principal().getName();
+    this.issuerDn = certificate.getIssuerX500Principal().getName();
+    this.notBefore = certificate.getNotBefore().toInstant();
+    this.notAfter = certificate.getNotAfter().toInstant();
+    this.created = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  /**
+   * will parse the certificate on first access
+   */
+  @SneakyThrows
+  public X509Certificate getCertificate()
+  {
+    if (this.certificate == null)
+    {
+      CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+      this.certificate = (X509Certificate)certificateFactory.generateCertificate(new ByteArrayInputStream(certificateBytes));
+    }
+    return this.certificate;
+  }
+
+  /**
+   * @param encodedCertificate the DER encoded certificate
+   * @return the lowercase hex encoded SHA-256 fingerprint of the given certificate
+   */
+  @SneakyThrows
+  public static String getSha256Fingerprint(byte[] encodedCertificate)
+  {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(encodedCertificate));
+  }
+}
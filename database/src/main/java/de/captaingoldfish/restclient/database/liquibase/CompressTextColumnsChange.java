@@ -0,0 +1,169 @@
+package de.captaingoldfish.restclient.database.liquibase;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import de.captaingoldfish.restclient.database.entities.CompressedTextConverter;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * copies the values of text columns into binary columns in the format of {@link CompressedTextConverter}. For
+ * each given column the binary column must be named like the text column with the suffix
+ * {@link #COMPRESSED_COLUMN_SUFFIX}. The rows are read once and updated in batches
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+public class CompressTextColumnsChange implements CustomTaskChange
+{
+
+  /**
+   * the suffix of the binary columns that receive the compressed values
+   */
+  public static final String COMPRESSED_COLUMN_SUFFIX = "_COMPRESSED";
+
+  /**
+   * the number of rows that are updated with a single batch
+   */
+  private static final int BATCH_SIZE = 200;
+
+  /**
+   * the table whose columns should be compressed. The table must have a column named "ID"
+   */
+  @Setter
+  private String tableName;
+
+  /**
+   * the comma separated names of the text columns that should be compressed
+   */
+  @Setter
+  private String columnNames;
+
+  /**
+   * the number of rows that were migrated
+   */
+  private int migratedRows;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void execute(Database database) throws CustomChangeException
+  {
+    Connection connection = ((JdbcConnection)database.getConnection()).getUnderlyingConnection();
+    try
+    {
+      migratedRows = compressColumns(connection, tableName, getColumnNameList());
+      log.info("Compressed the columns {} of {} rows of table '{}'", columnNames, migratedRows, tableName);
+    }
+    catch (SQLException ex)
+    {
+      throw new CustomChangeException(String.format("Failed to compress the columns %s of table '%s'",
+                                                    columnNames,
+                                                    tableName),
+                                      ex);
+    }
+  }
+
+  /**
+   * writes the compressed values of the given text columns of all rows into the matching binary columns
+   *
+   * @return the number of migrated rows
+   */
+  static int compressColumns(Connection connection, String tableName, List<String> columnNames) throws SQLException
+  {
+    String selectSql = String.format("SELECT ID, %s FROM %s", String.join(", ", columnNames), tableName);
+    String updateSql = String.format("UPDATE %s SET %s WHERE ID = ?",
+                                     tableName,
+                                     columnNames.stream()
+                                                .map(columnName -> columnName + COMPRESSED_COLUMN_SUFFIX + " = ?")
+                                                .collect(Collectors.joining(", ")));
+    int rows = 0;
+    try (Statement selectStatement = connection.createStatement();
+      PreparedStatement updateStatement = connection.prepareStatement(updateSql))
+    {
+      selectStatement.setFetchSize(BATCH_SIZE);
+      try (ResultSet resultSet = selectStatement.executeQuery(selectSql))
+      {
+        while (resultSet.next())
+        {
+          for ( int i = 0 ; i < columnNames.size() ; i++ )
+          {
+            updateStatement.setBytes(i + 1, CompressedTextConverter.compress(resultSet.getString(i + 2)));
+          }
+          updateStatement.setLong(columnNames.size() + 1, resultSet.getLong(1));
+          updateStatement.addBatch();
+          rows++;
+          if (rows % BATCH_SIZE == 0)
+          {
+            updateStatement.executeBatch();
+          }
+        }
+      }
+      if (rows % BATCH_SIZE != 0)
+      {
+        updateStatement.executeBatch();
+      }
+    }
+    return rows;
+  }
+
+  private List<String> getColumnNameList()
+  {
+    return Arrays.stream(columnNames.split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getConfirmationMessage()
+  {
+    return String.format("Compressed the columns %s of %s rows of table '%s'", columnNames, migratedRows, tableName);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setUp()
+  {
+    // nothing to set up
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setFileOpener(ResourceAccessor resourceAccessor)
+  {
+    // no files are needed
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ValidationErrors validate(Database database)
+  {
+    ValidationErrors validationErrors = new ValidationErrors();
+    validationErrors.checkRequiredField("tableName", tableName);
+    validationErrors.checkRequiredField("columnNames", columnNames);
+    return validationErrors;
+  }
+}
@@ -0,0 +1,152 @@
+package de.captaingoldfish.restclient.database.liquibase;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import liquibase.change.custom.CustomSqlChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.datatype.DataTypeFactory;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import liquibase.statement.SqlStatement;
+import liquibase.statement.core.CreateSequenceStatement;
+import liquibase.statement.core.CreateTableStatement;
+import liquibase.statement.core.InsertStatement;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * creates a separate id sequence for each of the given tables. The sequences are named like the table with
+ * the suffix {@link #SEQUENCE_SUFFIX} and are incremented by {@link #incrementBy} so that hibernate can use
+ * its pooled optimizer with the same allocation size. Each sequence starts at the highest existing id of its
+ * table plus the increment because the pooled optimizer hands out the ids below the value it has read from
+ * the sequence. On databases without sequence support a table with a single "next_val" column is created
+ * instead which is the structure hibernate uses to emulate sequences
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Slf4j
+public class CreateTableSequencesChange implements CustomSqlChange
+{
+
+  /**
+   * the suffix that is appended to the table names to get the names of the sequences
+   */
+  public static final String SEQUENCE_SUFFIX = "_SEQ";
+
+  /**
+   * the comma separated names of the tables that get their own sequence. The tables must have a column named
+   * "ID"
+   */
+  @Setter
+  private String tableNames;
+
+  /**
+   * the value by which the sequences are incremented. Must match the allocation size of the id generators
+   */
+  @Setter
+  private Integer incrementBy;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SqlStatement[] generateStatements(Database database) throws CustomChangeException
+  {
+    Connection connection = ((JdbcConnection)database.getConnection()).getUnderlyingConnection();
+    List<SqlStatement> statements = new ArrayList<>();
+    for ( String tableName : getTableNameList() )
+    {
+      String sequenceName = tableName + SEQUENCE_SUFFIX;
+      BigInteger startValue = BigInteger.valueOf(getMaxId(connection, tableName) + incrementBy);
+      log.info("Creating sequence '{}' starting at {}", sequenceName, startValue);
+      String catalogName = database.getDefaultCatalogName();
+      String schemaName = database.getDefaultSchemaName();
+      if (database.supportsSequences())
+      {
+        CreateSequenceStatement createSequence = new CreateSequenceStatement(catalogName, schemaName, sequenceName);
+        createSequence.setStartValue(startValue).setIncrementBy(BigInteger.valueOf(incrementBy));
+        statements.add(createSequence);
+      }
+      else
+      {
+        CreateTableStatement createTable = new CreateTableStatement(catalogName, schemaName, sequenceName);
+        createTable.addColumn("next_val", DataTypeFactory.getInstance().fromDescription("BIGINT", database));
+        statements.add(createTable);
+        statements.add(new InsertStatement(catalogName, schemaName, sequenceName).addColumnValue("next_val",
+                                                                                                 startValue));
+      }
+    }
+    return statements.toArray(SqlStatement[]::new);
+  }
+
+  /**
+   * @return the highest id within the given table or 0 if the table is empty
+   */
+  static long getMaxId(Connection connection, String tableName) throws CustomChangeException
+  {
+    try (Statement statement = connection.createStatement();
+      ResultSet resultSet = statement.executeQuery("SELECT MAX(ID) FROM " + tableName))
+    {
+      return resultSet.next() ? resultSet.getLong(1) : 0;
+    }
+    catch (SQLException ex)
+    {
+      throw new CustomChangeException(String.format("Failed to read the highest id of table '%s'", tableName), ex);
+    }
+  }
+
+  private List<String> getTableNameList()
+  {
+    return Arrays.stream(tableNames.split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getConfirmationMessage()
+  {
+    return String.format("Created id sequences for the tables %s", tableNames);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setUp()
+  {
+    // nothing to set up
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setFileOpener(ResourceAccessor resourceAccessor)
+  {
+    // no files are needed
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ValidationErrors validate(Database database)
+  {
+    ValidationErrors validationErrors = new ValidationErrors();
+    validationErrors.checkRequiredField("tableNames", tableNames);
+    validationErrors.checkRequiredField("incrementBy", incrementBy);
+    return validationErrors;
+  }
+}
@@ -0,0 +1,213 @@
+package de.captaingoldfish.restclient.database.liquibase;
+
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Enumeration;
+
+import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
+import de.captaingoldfish.restclient.database.entities.TruststoreCertificate;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * splits the serialized truststores into one row per certificate entry in the format of
+ * {@link TruststoreCertificate}. The truststore table must have the columns "ID", "TRUSTSTORE_BYTES",
+ * "TRUSTSTORE_TYPE" and "TRUSTSTORE_PASSWORD". The ids of the new rows continue the highest existing id of
+ * the certificates table
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@Slf4j
+public class SplitTruststoreChange implements CustomTaskChange
+{
+
+  /**
+   * the number of rows that are inserted with a single batch
+   */
+  private static final int BATCH_SIZE = 200;
+
+  /**
+   * the table that contains the serialized truststores
+   */
+  @Setter
+  private String truststoreTableName;
+
+  /**
+   * the table that receives the certificate entries
+   */
+  @Setter
+  private String certificatesTableName;
+
+  /**
+   * the number of certificate entries that were migrated
+   */
+  private int migratedEntries;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void execute(Database database) throws CustomChangeException
+  {
+    Connection connection = ((JdbcConnection)database.getConnection()).getUnderlyingConnection();
+    try
+    {
+      migratedEntries = splitTruststores(connection, truststoreTableName, certificatesTableName);
+      log.info("Moved {} entries of table '{}' into table '{}'",
+               migratedEntries,
+               truststoreTableName,
+               certificatesTableName);
+    }
+    catch (SQLException ex)
+    {
+      throw new CustomChangeException(String.format("Failed to split the truststores of table '%s'",
+                                                    truststoreTableName),
+                                      ex);
+    }
+  }
+
+  /**
+   * inserts a row into the certificates table for each certificate entry of the serialized truststores
+   *
+   * @return the number of inserted rows
+   */
+  static int splitTruststores(Connection connection, String truststoreTableName, String certificatesTableName)
+    throws SQLException, CustomChangeException
+  {
+    String selectSql = String.format("SELECT ID, TRUSTSTORE_BYTES, TRUSTSTORE_TYPE, TRUSTSTORE_PASSWORD FROM %s",
+                                     truststoreTableName);
+    String insertSql = String.format("INSERT INTO %s (ID, TRUSTSTORE_ID, ALIAS, CERTIFICATE_BYTES, SHA256_FINGERPRINT, "
+                                     + "SUBJECT_DN, ISSUER_DN, NOT_BEFORE, NOT_AFTER, CREATED) "
+                                     + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                                     certificatesTableName);
+    long nextId = CreateTableSequencesChange.getMaxId(connection, certificatesTableName) + 1;
+    int rows = 0;
+    try (Statement selectStatement = connection.createStatement();
+      ResultSet resultSet = selectStatement.executeQuery(selectSql);
+      PreparedStatement insertStatement = connection.prepareStatement(insertSql))
+    {
+      while (resultSet.next())
+      {
+        long truststoreId = resultSet.getLong(1);
+        byte[] truststoreBytes = resultSet.getBytes(2);
+        if (truststoreBytes == null)
+        {
+          continue;
+        }
+        KeyStore truststore = readTruststore(truststoreId,
+                                             truststoreBytes,
+                                             resultSet.getString(3),
+                                             resultSet.getString(4));
+        Enumeration<String> aliases = KeyStoreSupporter.getAliases(truststore);
+        while (aliases.hasMoreElements())
+        {
+          String alias = aliases.nextElement();
+          Certificate certificate = KeyStoreSupporter.getCertificate(truststore, alias).orElse(null);
+          if (!(certificate instanceof X509Certificate))
+          {
+            log.warn("Skipping entry '{}' of truststore '{}' because it is not a X509 certificate",
+                     alias,
+                     truststoreId);
+            continue;
+          }
+          TruststoreCertificate entry = new TruststoreCertificate(null, alias, (X509Certificate)certificate);
+          insertStatement.setLong(1, nextId++);
+          insertStatement.setLong(2, truststoreId);
+          insertStatement.setString(3, entry.getAlias());
+          insertStatement.setBytes(4, entry.getCertificateBytes());
+          insertStatement.setString(5, entry.getSha256Fingerprint());
+          insertStatement.setString(6, entry.getSubjectDn());
+          insertStatement.setString(7, entry.getIssuerDn());
+          insertStatement.setTimestamp(8, Timestamp.from(entry.getNotBefore()));
+          insertStatement.setTimestamp(9, Timestamp.from(entry.getNotAfter()));
+          insertStatement.setTimestamp(10, Timestamp.from(entry.getCreated()));
+          insertStatement.addBatch();
+          rows++;
+          if (rows % BATCH_SIZE == 0)
+          {
+            insertStatement.executeBatch();
+          }
+        }
+      }
+      if (rows % BATCH_SIZE != 0)
+      {
+        insertStatement.executeBatch();
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * reads a stored truststore. The migration fails if a truststore cannot be read because its bytes are removed
+   * afterwards
+   */
+  private static KeyStore readTruststore(long truststoreId, byte[] truststoreBytes, String type, String password)
+    throws CustomChangeException
+  {
+    try
+    {
+      return KeyStoreSupporter.readTruststore(truststoreBytes, KeyStoreSupporter.KeyStoreType.valueOf(type), password);
+    }
+    catch (Exception ex)
+    {
+      throw new CustomChangeException(String.format("Failed to read the truststore with id '%s'", truststoreId), ex);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getConfirmationMessage()
+  {
+    return String.format("Moved %s entries of table '%s' into table '%s'",
+                         migratedEntries,
+                         truststoreTableName,
+                         certificatesTableName);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setUp()
+  {
+    // nothing to set up
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setFileOpener(ResourceAccessor resourceAccessor)
+  {
+    // no files are needed
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ValidationErrors validate(Database database)
+  {
+    ValidationErrors validationErrors = new ValidationErrors();
+    validationErrors.checkRequiredField("truststoreTableName", truststoreTableName);
+    validationErrors.checkRequiredField("certificatesTableName", certificatesTableName);
+    return validationErrors;
+  }
+}
@@ -2,6 +2,10 @@ package de.captaingoldfish.restclient.database.repositories;
 
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import de.captaingoldfish.restclient.database.ScimCrudRepository;
@@ -26,9 +30,11 @@ public interface HttpClientSettingsDao extends ScimCrudRepository<HttpClientSett
   void deleteById(Long id);
 
   /**
-   * finds http client setting by its parent
-   * 
+   * finds http client setting by its parent. The result is kept in the query cache because the settings are
+   * read each time an http client for the given client is built
+   *
    * @param openIdClient the parent of the instance to find
    */
+  @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
   Optional<HttpClientSettings> findByOpenIdClient(OpenIdClient openIdClient);
 }
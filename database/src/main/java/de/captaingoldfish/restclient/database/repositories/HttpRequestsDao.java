@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import de.captaingoldfish.restclient.database.ScimCrudRepository;
 import de.captaingoldfish.restclient.database.entities.HttpRequest;
+import de.captaingoldfish.restclient.database.entities.HttpRequestGroup;
 
 
 /**
@@ -30,4 +31,9 @@ public interface HttpRequestsDao extends ScimCrudRepository<HttpRequest, Long>
    */
   Optional<HttpRequest> findByName(String name);
 
+  /**
+   * gets all http requests that belong to the given group
+   */
+  List<HttpRequest> findByHttpRequestGroup(HttpRequestGroup httpRequestGroup);
+
 }
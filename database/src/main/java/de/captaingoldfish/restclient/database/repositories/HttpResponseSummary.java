@@ -0,0 +1,35 @@
+package de.captaingoldfish.restclient.database.repositories;
+
+import java.time.Instant;
+
+
+/**
+ * the columns of a stored response that are needed to list the response history. Reading the history with
+ * this projection does not load the headers, the request details or the textual body of the responses
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public interface HttpResponseSummary
+{
+
+  long getId();
+
+  int getResponseStatus();
+
+  Instant getCreated();
+
+  String getResponseContentType();
+
+  Long getResponseBodySize();
+
+  boolean isResponseBodyBinary();
+
+  boolean isResponseBodyPreview();
+
+  boolean isResponseBodyTruncated();
+
+  Long getTimeToFirstByteMicros();
+
+  Long getTotalMicros();
+}
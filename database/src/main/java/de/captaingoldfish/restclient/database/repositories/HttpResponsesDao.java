@@ -0,0 +1,84 @@
+package de.captaingoldfish.restclient.database.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import de.captaingoldfish.restclient.database.ScimCrudRepository;
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@Repository
+public interface HttpResponsesDao extends ScimCrudRepository<HttpResponse, Long>, HttpResponsesDaoExtension
+{
+
+  /**
+   * deletes the responses with the given ids with a single statement without loading them
+   *
+   * @param ids the ids of the responses to delete
+   */
+  void deleteAllByIdInBatch(Iterable<Long> ids);
+
+  /**
+   * gets a single page of the response history of a http request starting with the most recent response without
+   * loading the responses themselves
+   */
+  // @formatter:off
+  @Query(value = "select r.id as id, r.responseStatus as responseStatus, r.created as created, "
+                 + "r.responseContentType as responseContentType, r.responseBodySize as responseBodySize, "
+                 + "r.responseBodyBinary as responseBodyBinary, r.responseBodyPreview as responseBodyPreview, "
+                 + "r.responseBodyTruncated as responseBodyTruncated, "
+                 + "r.timings.timeToFirstByteMicros as timeToFirstByteMicros, r.timings.totalMicros as totalMicros "
+                 + "from HttpResponse r where r.httpRequest.id = :httpRequestId order by r.id desc",
+         countQuery = "select count(r) from HttpResponse r where r.httpRequest.id = :httpRequestId")
+  // @formatter:on
+  Page<HttpResponseSummary> findSummariesByHttpRequestId(@Param("httpRequestId") long httpRequestId, Pageable pageable);
+
+  /**
+   * gets the most recent response of a http request
+   */
+  Optional<HttpResponse> findFirstByHttpRequestIdOrderByIdDesc(long httpRequestId);
+
+  /**
+   * counts the responses in the history of a http request
+   */
+  long countByHttpRequestId(long httpRequestId);
+
+  /**
+   * gets a part of the ids of the response history of a http request starting with the most recent response
+   */
+  @Query("select r.id from HttpResponse r where r.httpRequest.id = :httpRequestId order by r.id desc")
+  List<Long> findIdsByHttpRequestId(@Param("httpRequestId") long httpRequestId, Pageable pageable);
+
+  /**
+   * gets the ids of the oldest responses of a http request up to the given id starting with the oldest response
+   */
+  @Query("select r.id from HttpResponse r where r.httpRequest.id = :httpRequestId and r.id <= :maxId order by r.id")
+  List<Long> findIdsByHttpRequestIdUpTo(@Param("httpRequestId") long httpRequestId,
+                                        @Param("maxId") long maxId,
+                                        Limit limit);
+
+  /**
+   * gets the ids of the http requests whose response history contains more than the given number of responses
+   */
+  @Query("select r.httpRequest.id from HttpResponse r group by r.httpRequest.id having count(r) > :maxEntries")
+  List<Long> findHttpRequestIdsWithMoreResponsesThan(@Param("maxEntries") long maxEntries);
+
+  /**
+   * gets the ids of the responses that were created before the given moment
+   */
+  @Query("select r.id from HttpResponse r where r.created < :createdBefore order by r.id")
+  List<Long> findIdsCreatedBefore(@Param("createdBefore") Instant createdBefore, Limit limit);
+
+}
@@ -0,0 +1,44 @@
+package de.captaingoldfish.restclient.database.repositories;
+
+import java.io.OutputStream;
+
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+
+
+/**
+ * stores and reads the raw response bodies that are kept in their own table so that they are never loaded
+ * together with the responses
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+public interface HttpResponsesDaoExtension
+{
+
+  /**
+   * stores the given new response and streams its {@link HttpResponse#getResponseBodyContent()} into the
+   * database within the same transaction. The content is not closed by this method
+   *
+   * @param httpResponse the response to store
+   * @return the stored response
+   */
+  public HttpResponse saveWithBody(HttpResponse httpResponse);
+
+  /**
+   * @param httpResponseId the id of a stored response
+   * @return true if the raw body of the response was stored
+   */
+  public boolean hasResponseBody(long httpResponseId);
+
+  /**
+   * copies a range of the stored raw body of a response into the given stream without loading the complete body
+   * into memory
+   *
+   * @param httpResponseId the id of a stored response
+   * @param start the index of the first byte to copy
+   * @param length the maximum number of bytes to copy
+   * @param outputStream the stream to write the bytes into
+   * @return the number of copied bytes or -1 if the response has no stored raw body
+   */
+  public long copyResponseBody(long httpResponseId, long start, long length, OutputStream outputStream);
+}
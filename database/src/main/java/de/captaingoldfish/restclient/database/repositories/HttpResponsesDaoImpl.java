@@ -0,0 +1,131 @@
+package de.captaingoldfish.restclient.database.repositories;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.Session;
+
+import de.captaingoldfish.restclient.database.entities.HttpResponse;
+import de.captaingoldfish.restclient.database.entities.ResponseBodyContent;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+
+/**
+ * the raw bodies are written and read with plain JDBC streams because mapping them as attribute would load
+ * them into memory as a whole. The rows are removed by the database together with their responses
+ *
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor
+public class HttpResponsesDaoImpl implements HttpResponsesDaoExtension
+{
+
+  private static final String INSERT_BODY = "INSERT INTO HTTP_RESPONSE_BODIES (HTTP_RESPONSE_ID, CONTENT) VALUES (?, ?)";
+
+  private static final String SELECT_BODY = "SELECT CONTENT FROM HTTP_RESPONSE_BODIES WHERE HTTP_RESPONSE_ID = ?";
+
+  private static final String COUNT_BODY = "SELECT COUNT(*) FROM HTTP_RESPONSE_BODIES WHERE HTTP_RESPONSE_ID = ?";
+
+  private final EntityManager entityManager;
+
+  @Transactional
+  @Override
+  public HttpResponse saveWithBody(HttpResponse httpResponse)
+  {
+    entityManager.persist(httpResponse);
+    ResponseBodyContent responseBodyContent = httpResponse.getResponseBodyContent();
+    if (responseBodyContent != null)
+    {
+      // the body references the response so the response must be inserted first
+      entityManager.flush();
+      entityManager.unwrap(Session.class).doWork(connection -> {
+        insertBody(connection, httpResponse.getId(), responseBodyContent);
+      });
+    }
+    return httpResponse;
+  }
+
+  @Transactional
+  @Override
+  public boolean hasResponseBody(long httpResponseId)
+  {
+    Number count = (Number)entityManager.createNativeQuery(COUNT_BODY)
+                                        .setParameter(1, String.valueOf(httpResponseId))
+                                        .getSingleResult();
+    return count.longValue() > 0;
+  }
+
+  @Transactional
+  @Override
+  public long copyResponseBody(long httpResponseId, long start, long length, OutputStream outputStream)
+  {
+    return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+      return copyBody(connection, httpResponseId, start, length, outputStream);
+    });
+  }
+
+  /**
+   * streams the content into the database so that a spooled body is not read into memory
+   */
+  @SneakyThrows
+  private static void insertBody(Connection connection, long httpResponseId, ResponseBodyContent responseBodyContent)
+  {
+    try (PreparedStatement statement = connection.prepareStatement(INSERT_BODY);
+      InputStream inputStream = responseBodyContent.openInputStream())
+    {
+      // the id column of the responses is a VARCHAR and the reference must have the same type
+      statement.setString(1, String.valueOf(httpResponseId));
+      statement.setBinaryStream(2, inputStream, responseBodyContent.getSize());
+      statement.executeUpdate();
+    }
+  }
+
+  /**
+   * skips the bytes before the range and copies the range in small chunks
+   */
+  @SneakyThrows
+  private static long copyBody(Connection connection,
+                               long httpResponseId,
+                               long start,
+                               long length,
+                               OutputStream outputStream)
+  {
+    try (PreparedStatement statement = connection.prepareStatement(SELECT_BODY))
+    {
+      statement.setString(1, String.valueOf(httpResponseId));
+      try (ResultSet resultSet = statement.executeQuery())
+      {
+        if (!resultSet.next())
+        {
+          return -1;
+        }
+        try (InputStream inputStream = resultSet.getBinaryStream(1))
+        {
+          if (inputStream == null)
+          {
+            return 0;
+          }
+          inputStream.skipNBytes(start);
+          byte[] buffer = new byte[8192];
+          long copiedBytes = 0;
+          int readBytes;
+          while (copiedBytes < length
+                 && (readBytes = inputStream.read(buffer, 0, (int)Math.min(buffer.length, length - copiedBytes))) != -1)
+          {
+            outputStream.write(buffer, 0, readBytes);
+            copiedBytes += readBytes;
+          }
+          return copiedBytes;
+        }
+      }
+    }
+  }
+}
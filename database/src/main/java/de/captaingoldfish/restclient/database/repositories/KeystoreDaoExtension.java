@@ -1,5 +1,8 @@
 package de.captaingoldfish.restclient.database.repositories;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import de.captaingoldfish.restclient.database.entities.Keystore;
 
 
@@ -15,6 +18,13 @@ public interface KeystoreDaoExtension
    */
   public Keystore getKeystore();
 
+  /**
+   * reads only the last modified timestamp of the application keystore without loading the keystore bytes
+   *
+   * @return the last modified timestamp or an empty if the application keystore was not created yet
+   */
+  public Optional<Instant> getKeystoreLastModified();
+
   /**
    * removes entries from other resources that are linked with entries within the application keystore
    * 
@@ -2,12 +2,15 @@ package de.captaingoldfish.restclient.database.repositories;
 
 import java.io.ByteArrayInputStream;
 import java.security.KeyStore;
+import java.time.Instant;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import jakarta.transaction.Transactional;
 
+import org.hibernate.jpa.AvailableHints;
+
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
 import de.captaingoldfish.restclient.database.entities.Keystore;
 import de.captaingoldfish.restclient.database.entities.KeystoreEntry;
@@ -46,6 +49,19 @@ public class KeystoreDaoImpl implements KeystoreDaoExtension
     return keystore;
   }
 
+  @Transactional
+  @Override
+  public Optional<Instant> getKeystoreLastModified()
+  {
+    return entityManager.createQuery("select keystore.lastModified from " + Keystore.class.getSimpleName()
+                                     + " keystore where keystore.id = 1",
+                                     Instant.class)
+                        .setHint(AvailableHints.HINT_CACHEABLE, true)
+                        .getResultList()
+                        .stream()
+                        .findAny();
+  }
+
   @SneakyThrows
   @Transactional
   @Override
@@ -63,6 +79,7 @@ public class KeystoreDaoImpl implements KeystoreDaoExtension
     byte[] newKeystoreBytes = KeyStoreSupporter.getBytes(applicationKeystore.getKeyStore(),
                                                          applicationKeystore.getKeystorePassword());
     applicationKeystore.setKeystoreBytes(newKeystoreBytes);
+    applicationKeystore.setLastModified(Instant.now());
     entityManager.merge(applicationKeystore);
 
     setOpenIdClientReferencesToNull(alias);
@@ -1,5 +1,10 @@
 package de.captaingoldfish.restclient.database.repositories;
 
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
 import de.captaingoldfish.restclient.database.entities.Truststore;
 
 
@@ -12,4 +17,28 @@ public interface TruststoreDaoExtension
 
   public Truststore getTruststore();
 
+  /**
+   * reads only the last modified timestamp of the application truststore without loading the truststore entries
+   *
+   * @return the last modified timestamp or an empty if the application truststore was not created yet
+   */
+  public Optional<Instant> getTruststoreLastModified();
+
+  /**
+   * adds the given certificates to the application truststore. Each certificate is inserted as a separate row
+   * so the existing entries are not rewritten
+   *
+   * @param certificates the certificates to add mapped by their aliases. The aliases and certificates must not
+   *          be present within the application truststore yet
+   */
+  public void addCertificates(Map<String, X509Certificate> certificates);
+
+  /**
+   * removes the entry with the given alias from the application truststore
+   *
+   * @param alias the alias of the entry to remove
+   * @return true if the entry was removed, false if the alias does not exist
+   */
+  public boolean deleteCertificate(String alias);
+
 }
@@ -1,20 +1,43 @@
 package de.captaingoldfish.restclient.database.repositories;
 
-import java.io.ByteArrayInputStream;
 import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
+import de.captaingoldfish.restclient.commons.keyhelper.ReadOnlyKeyStore;
 import de.captaingoldfish.restclient.database.entities.Truststore;
+import de.captaingoldfish.restclient.database.entities.TruststoreCertificate;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
 
 /**
  * @author Pascal Knueppel
  * @since 04.04.2021
  */
+@Slf4j
 @RequiredArgsConstructor
 public class TruststoreDaoImpl implements TruststoreDaoExtension
 {
@@ -23,21 +46,283 @@ public class TruststoreDaoImpl implements TruststoreDaoExtension
 
   private final EntityManager entityManager;
 
+  /**
+   * the in-memory representation of the application truststore as of the last committed modification. It is
+   * built from the {@link TruststoreCertificate} rows on first access. Modifications made through this
+   * repository are applied to a copy that replaces this state after the transaction was committed so that
+   * readers never see uncommitted or partially applied changes
+   */
+  private volatile TruststoreState publishedState;
+
   @Transactional
   @Override
   public Truststore getTruststore()
   {
-    Truststore applicationTruststore = entityManager.find(Truststore.class, 1L);
-    if (applicationTruststore != null)
+    return getTruststore(LockModeType.NONE);
+  }
+
+  /**
+   * @param lockModeType {@link LockModeType#PESSIMISTIC_WRITE} serializes the modifications of the truststore
+   *          so that each of them is applied to the in-memory truststore of the previous one
+   */
+  private Truststore getTruststore(LockModeType lockModeType)
+  {
+    Truststore truststore = entityManager.find(Truststore.class, 1L, lockModeType);
+    if (truststore == null)
     {
-      return applicationTruststore;
+      truststore = new Truststore(KeyStoreSupporter.KeyStoreType.JKS, APPLICATION_TRUSTSTORE_PASSWORD);
+      entityManager.persist(truststore);
     }
-    KeyStore javakeyStore = KeyStoreSupporter.createEmptyKeyStore(KeyStoreSupporter.KeyStoreType.JKS,
-                                                                  APPLICATION_TRUSTSTORE_PASSWORD);
-    byte[] keystoreBytes = KeyStoreSupporter.getBytes(javakeyStore, APPLICATION_TRUSTSTORE_PASSWORD);
-    Truststore truststore = new Truststore(new ByteArrayInputStream(keystoreBytes), KeyStoreSupporter.KeyStoreType.JKS,
-                                           APPLICATION_TRUSTSTORE_PASSWORD);
-    entityManager.persist(truststore);
+    attachKeyStore(truststore);
     return truststore;
   }
+
+  @Transactional
+  @Override
+  public Optional<Instant> getTruststoreLastModified()
+  {
+    return entityManager.createQuery("select truststore.lastModified from " + Truststore.class.getSimpleName()
+                                     + " truststore where truststore.id = 1",
+                                     Instant.class)
+                        .setHint(AvailableHints.HINT_CACHEABLE, true)
+                        .getResultList()
+                        .stream()
+                        .findAny();
+  }
+
+  @Transactional
+  @Override
+  public void addCertificates(Map<String, X509Certificate> certificates)
+  {
+    if (certificates.isEmpty())
+    {
+      return;
+    }
+    Truststore truststore = getTruststore(LockModeType.PESSIMISTIC_WRITE);
+    List<TruststoreCertificate> truststoreCertificates = new ArrayList<>();
+    certificates.forEach((alias, certificate) -> {
+      TruststoreCertificate truststoreCertificate = new TruststoreCertificate(truststore, alias, certificate);
+      entityManager.persist(truststoreCertificate);
+      truststoreCertificates.add(truststoreCertificate);
+    });
+    updateTruststore(truststore, (keyStore, certificateFingerprints) -> {
+      truststoreCertificates.forEach(truststoreCertificate -> {
+        KeyStoreSupporter.addCertificateEntry(keyStore,
+                                              truststoreCertificate.getAlias(),
+                                              truststoreCertificate.getCertificate());
+        addFingerprint(certificateFingerprints, truststoreCertificate);
+      });
+    });
+  }
+
+  @Transactional
+  @Override
+  public boolean deleteCertificate(String alias)
+  {
+    Truststore truststore = getTruststore(LockModeType.PESSIMISTIC_WRITE);
+    // the aliases are stored in lowercase like the keystore implementations return them
+    int deletedRows = entityManager.createQuery("delete from " + TruststoreCertificate.class.getSimpleName()
+                                                + " c where c.truststore = :truststore and lower(c.alias) = :alias")
+                                   .setParameter("truststore", truststore)
+                                   .setParameter("alias", alias.toLowerCase(Locale.ENGLISH))
+                                   .executeUpdate();
+    if (deletedRows == 0)
+    {
+      return false;
+    }
+    updateTruststore(truststore, (keyStore, certificateFingerprints) -> {
+      deleteEntry(keyStore, alias, certificateFingerprints);
+    });
+    return true;
+  }
+
+  /**
+   * gives the truststore a new last modified timestamp and applies the given modification to a copy of the
+   * in-memory truststore. The copy is visible within the current transaction only and is published after the
+   * transaction was committed. If the transaction is rolled back the copy is discarded
+   */
+  private void updateTruststore(Truststore truststore, BiConsumer<KeyStore, Map<String, Set<String>>> modification)
+  {
+    TruststoreState currentState = getState(truststore);
+    Instant previousVersion = truststore.getLastModified();
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    // the timestamp identifies the state of the truststore so it must change on every modification
+    truststore.setLastModified(now.isAfter(previousVersion) ? now : previousVersion.plusMillis(1));
+
+    KeyStore keyStore = copyKeyStore(truststore, currentState.keyStore());
+    Map<String, Set<String>> certificateFingerprints = new HashMap<>();
+    currentState.certificateFingerprints().forEach((fingerprint, aliases) -> {
+      certificateFingerprints.put(fingerprint, new LinkedHashSet<>(aliases));
+    });
+    modification.accept(keyStore, certificateFingerprints);
+    TruststoreState modifiedState = new TruststoreState(truststore.getLastModified(), ReadOnlyKeyStore.of(keyStore),
+                                                        toUnmodifiableIndex(certificateFingerprints));
+    setState(truststore, modifiedState);
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive())
+    {
+      publishedState = modifiedState;
+      return;
+    }
+    if (TransactionSynchronizationManager.hasResource(this))
+    {
+      // a previous modification within this transaction already registered the synchronization
+      TransactionSynchronizationManager.unbindResource(this);
+    }
+    else
+    {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+      {
+
+        @Override
+        public void afterCommit()
+        {
+          publishedState = (TruststoreState)TransactionSynchronizationManager.getResource(TruststoreDaoImpl.this);
+        }
+
+        @Override
+        public void afterCompletion(int status)
+        {
+          TransactionSynchronizationManager.unbindResourceIfPossible(TruststoreDaoImpl.this);
+        }
+      });
+    }
+    TransactionSynchronizationManager.bindResource(this, modifiedState);
+  }
+
+  /**
+   * attaches the in-memory truststore matching the given truststore row and its fingerprint index
+   */
+  private void attachKeyStore(Truststore truststore)
+  {
+    setState(truststore, getState(truststore));
+  }
+
+  private static void setState(Truststore truststore, TruststoreState state)
+  {
+    truststore.setTruststore(state.keyStore());
+    truststore.setCertificateFingerprints(state.certificateFingerprints());
+  }
+
+  /**
+   * @return the state modified within the current transaction, the published state or a state rebuilt from the
+   *         database if none of them matches the last modified timestamp of the given truststore row
+   */
+  private TruststoreState getState(Truststore truststore)
+  {
+    Instant version = truststore.getLastModified();
+    TruststoreState pendingState = (TruststoreState)TransactionSynchronizationManager.getResource(this);
+    if (pendingState != null && pendingState.version().equals(version))
+    {
+      return pendingState;
+    }
+    TruststoreState state = publishedState;
+    if (state != null && state.version().equals(version))
+    {
+      return state;
+    }
+    Map<String, Set<String>> certificateFingerprints = new HashMap<>();
+    KeyStore keyStore = loadKeyStore(truststore, certificateFingerprints);
+    state = new TruststoreState(version, ReadOnlyKeyStore.of(keyStore), toUnmodifiableIndex(certificateFingerprints));
+    if (pendingState == null)
+    {
+      // the rows read by a transaction without pending modifications represent a committed state
+      publishedState = state;
+    }
+    return state;
+  }
+
+  /**
+   * builds the keystore from the stored entries of the given truststore and fills the given fingerprint index
+   * with the stored fingerprints
+   */
+  @SneakyThrows
+  private KeyStore loadKeyStore(Truststore truststore, Map<String, Set<String>> certificateFingerprints)
+  {
+    KeyStore keyStore = KeyStoreSupporter.createEmptyKeyStore(truststore.getTruststoreType(),
+                                                              truststore.getTruststorePassword());
+    entityManager.createQuery("select c from " + TruststoreCertificate.class.getSimpleName()
+                              + " c where c.truststore = :truststore order by c.id",
+                              TruststoreCertificate.class)
+                 .setParameter("truststore", truststore)
+                 .getResultStream()
+                 .forEach(truststoreCertificate -> {
+                   KeyStoreSupporter.addCertificateEntry(keyStore,
+                                                         truststoreCertificate.getAlias(),
+                                                         truststoreCertificate.getCertificate());
+                   addFingerprint(certificateFingerprints, truststoreCertificate);
+                   entityManager.detach(truststoreCertificate);
+                 });
+    log.debug("Loaded {} entries of the application truststore", keyStore.size());
+    return keyStore;
+  }
+
+  /**
+   * removes the entry from the keystore and its alias from the index. The fingerprint remains in the index as
+   * long as other entries contain the same certificate
+   */
+  @SneakyThrows
+  private static void deleteEntry(KeyStore keyStore, String alias, Map<String, Set<String>> certificateFingerprints)
+  {
+    Certificate certificate = keyStore.getCertificate(alias);
+    if (certificate != null)
+    {
+      certificateFingerprints.computeIfPresent(getSha256Fingerprint(certificate), (fingerprint, aliases) -> {
+        aliases.removeIf(alias::equalsIgnoreCase);
+        return aliases.isEmpty() ? null : aliases;
+      });
+    }
+    keyStore.deleteEntry(alias);
+  }
+
+  private static void addFingerprint(Map<String, Set<String>> certificateFingerprints,
+                                     TruststoreCertificate truststoreCertificate)
+  {
+    certificateFingerprints.computeIfAbsent(truststoreCertificate.getSha256Fingerprint(),
+                                            fingerprint -> new LinkedHashSet<>())
+                           .add(truststoreCertificate.getAlias());
+  }
+
+  /**
+   * @return an unmodifiable view of the given index that does not allow to modify the alias sets either
+   */
+  private static Map<String, Set<String>> toUnmodifiableIndex(Map<String, Set<String>> certificateFingerprints)
+  {
+    certificateFingerprints.replaceAll((fingerprint, aliases) -> Collections.unmodifiableSet(aliases));
+    return Collections.unmodifiableMap(certificateFingerprints);
+  }
+
+  /**
+   * @return a modifiable copy of the given keystore
+   */
+  @SneakyThrows
+  private static KeyStore copyKeyStore(Truststore truststore, KeyStore keyStore)
+  {
+    KeyStore copy = KeyStoreSupporter.createEmptyKeyStore(truststore.getTruststoreType(),
+                                                          truststore.getTruststorePassword());
+    for ( String alias : Collections.list(keyStore.aliases()) )
+    {
+      KeyStoreSupporter.addCertificateEntry(copy, alias, keyStore.getCertificate(alias));
+    }
+    return copy;
+  }
+
+  @SneakyThrows
+  private static String getSha256Fingerprint(Certificate certificate)
+  {
+    return TruststoreCertificate.getSha256Fingerprint(certificate.getEncoded());
+  }
+
+  /**
+   * an immutable state of the application truststore
+   *
+   * @param version the last modified timestamp of the truststore row this state represents
+   * @param keyStore a read-only view of the keystore
+   * @param certificateFingerprints the aliases of the entries mapped by the SHA-256 fingerprints of their
+   *          certificates
+   */
+  private record TruststoreState(Instant version, KeyStore keyStore, Map<String, Set<String>> certificateFingerprints)
+  {
+
+  }
 }
@@ -0,0 +1,65 @@
+package de.captaingoldfish.restclient.database.config;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.captaingoldfish.restclient.database.DatabaseTest;
+import de.captaingoldfish.restclient.database.DbBaseTest;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@DatabaseTest
+public class DatabasePoolMetricsTest extends DbBaseTest
+{
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private DatabasePoolMetrics databasePoolMetrics;
+
+  /**
+   * verifies that the datasource is pooled with the defaults of the embedded database
+   */
+  @Test
+  public void testDataSourceIsPooled()
+  {
+    HikariDataSource hikariDataSource = Assertions.assertInstanceOf(HikariDataSource.class, dataSource);
+    DatabaseConfig.SupportedDatabases hsqldb = DatabaseConfig.SupportedDatabases.HSQLDB;
+    Assertions.assertEquals(hsqldb.getDefaultMaxPoolSize(), hikariDataSource.getMaximumPoolSize());
+    Assertions.assertEquals(hsqldb.getDefaultMinIdle(), hikariDataSource.getMinimumIdle());
+    Assertions.assertNull(hikariDataSource.getConnectionTestQuery());
+  }
+
+  /**
+   * verifies that acquiring connections is recorded in the pool metrics
+   */
+  @SneakyThrows
+  @Test
+  public void testConnectionAcquisitionIsRecorded()
+  {
+    long acquireCount = databasePoolMetrics.getAcquireCount();
+    try (Connection connection = dataSource.getConnection())
+    {
+      Assertions.assertTrue(connection.isValid(1));
+    }
+    Assertions.assertEquals(acquireCount + 1, databasePoolMetrics.getAcquireCount());
+    Assertions.assertTrue(databasePoolMetrics.getMaxAcquireTime()
+                                             .compareTo(databasePoolMetrics.getAverageAcquireTime()) >= 0);
+    Assertions.assertEquals(DatabaseConfig.SupportedDatabases.HSQLDB.getDefaultMaxPoolSize(),
+                            databasePoolMetrics.getMaxConnections());
+    Assertions.assertTrue(databasePoolMetrics.getTotalConnections() >= 1);
+    Assertions.assertEquals(0, databasePoolMetrics.getTimeoutCount());
+  }
+}
@@ -0,0 +1,79 @@
+package de.captaingoldfish.restclient.database.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.captaingoldfish.restclient.database.DatabaseTest;
+import de.captaingoldfish.restclient.database.DbBaseTest;
+import de.captaingoldfish.restclient.database.entities.OpenIdClient;
+import de.captaingoldfish.restclient.database.entities.Proxy;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@DatabaseTest
+public class SecondLevelCacheTest extends DbBaseTest
+{
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void clearStatistics()
+  {
+    statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @AfterEach
+  public void disableStatistics()
+  {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  /**
+   * verifies that the configuration entities are read from the second level cache once they were loaded
+   */
+  @Test
+  public void testEntityIsReadFromCache()
+  {
+    Proxy proxy = proxyDao.save(Proxy.builder().host("localhost").port(8888).build());
+
+    Assertions.assertEquals("localhost", proxyDao.findById(proxy.getId()).get().getHost());
+    Assertions.assertEquals("localhost", proxyDao.findById(proxy.getId()).get().getHost());
+
+    Assertions.assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+    Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    CaffeineRegionFactory regionFactory = CaffeineRegionFactory.of(entityManager.getEntityManagerFactory())
+                                                               .orElseThrow();
+    Assertions.assertTrue(regionFactory.getCacheStatistics().get(Proxy.class.getName()).hitCount() >= 1);
+  }
+
+  /**
+   * verifies that the bulk update that removes the references to a deleted keystore alias evicts the cached
+   * clients so that the next read does not return the stale reference
+   */
+  @Test
+  public void testBulkUpdateEvictsCachedClients()
+  {
+    final String alias = getUnitTestKeystore().getKeystoreEntries().get(0).getAlias();
+    OpenIdClient openIdClient = openIdClientDao.save(OpenIdClient.builder()
+                                                                 .clientId("goldfish")
+                                                                 .signingKeyRef(alias)
+                                                                 .decryptionKeyRef(alias)
+                                                                 .build());
+    Assertions.assertEquals(alias, openIdClientDao.findById(openIdClient.getId()).get().getSigningKeyRef());
+
+    keystoreDao.deleteKeystoreAlias(alias);
+
+    OpenIdClient reloadedClient = openIdClientDao.findById(openIdClient.getId()).get();
+    Assertions.assertNull(reloadedClient.getSigningKeyRef());
+    Assertions.assertNull(reloadedClient.getDecryptionKeyRef());
+  }
+}
@@ -0,0 +1,68 @@
+package de.captaingoldfish.restclient.database.entities;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class CompressedTextConverterTest
+{
+
+  private final CompressedTextConverter converter = new CompressedTextConverter();
+
+  /**
+   * verifies that short values are stored uncompressed and are read back unchanged
+   */
+  @ParameterizedTest
+  @ValueSource(strings = {"", "a", "{\"name\": \"Grüße\"}"})
+  public void testShortValuesAreStoredPlain(String text)
+  {
+    byte[] data = converter.convertToDatabaseColumn(text);
+    Assertions.assertEquals(CompressedTextConverter.PLAIN, data[0]);
+    Assertions.assertEquals(text.getBytes(StandardCharsets.UTF_8).length + 1, data.length);
+    Assertions.assertEquals(text, converter.convertToEntityAttribute(data));
+  }
+
+  /**
+   * verifies that large json values are compressed and are read back unchanged
+   */
+  @Test
+  public void testLargeJsonIsCompressed()
+  {
+    StringBuilder json = new StringBuilder("[");
+    for ( int i = 0 ; i < 500 ; i++ )
+    {
+      json.append(i == 0 ? "" : ",")
+          .append("{\"id\": \"")
+          .append(i)
+          .append("\", \"userName\": \"user-")
+          .append(i)
+          .append("\", \"active\": true, \"emails\": [{\"value\": \"user-")
+          .append(i)
+          .append("@example.com\", \"primary\": true}]}");
+    }
+    String text = json.append("]").toString();
+
+    byte[] data = converter.convertToDatabaseColumn(text);
+    Assertions.assertEquals(CompressedTextConverter.DEFLATED, data[0]);
+    Assertions.assertTrue(data.length * 5 < text.length(), data.length + " / " + text.length());
+    Assertions.assertEquals(text, converter.convertToEntityAttribute(data));
+  }
+
+  /**
+   * verifies that null is stored as null
+   */
+  @Test
+  public void testNull()
+  {
+    Assertions.assertNull(converter.convertToDatabaseColumn(null));
+    Assertions.assertNull(converter.convertToEntityAttribute(null));
+  }
+}
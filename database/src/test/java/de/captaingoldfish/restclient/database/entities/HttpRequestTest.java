@@ -1,14 +1,33 @@
 package de.captaingoldfish.restclient.database.entities;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpMethod;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import de.captaingoldfish.restclient.database.DatabaseTest;
 import de.captaingoldfish.restclient.database.DbBaseTest;
+import de.captaingoldfish.restclient.database.repositories.HttpResponseSummary;
+import de.captaingoldfish.restclient.database.repositories.HttpResponsesDao;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 
 
 /**
@@ -20,6 +39,12 @@ import de.captaingoldfish.restclient.database.DbBaseTest;
 public class HttpRequestTest extends DbBaseTest
 {
 
+  @Autowired
+  private HttpResponsesDao httpResponsesDao;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
   @Test
   public void testCreateAndDeleteHttpRequest()
   {
@@ -87,4 +112,195 @@ public class HttpRequestTest extends DbBaseTest
     Assertions.assertEquals(0, countEntriesOfTableNative("HTTP_HEADERS_REQUEST_MAPPING"));
     Assertions.assertEquals(0, countEntriesOfTableNative("HTTP_REQUEST_RESPONSE_MAPPING"));
   }
+
+  /**
+   * verifies that a large binary response body is stored in its own table, is not loaded together with the
+   * response, can be read back in ranges and is removed together with the response
+   */
+  @SneakyThrows
+  @Test
+  public void testStoreBinaryResponseBody()
+  {
+    byte[] responseBody = new byte[3 * 1024 * 1024];
+    new Random(1).nextBytes(responseBody);
+    HttpRequest httpRequest = httpRequestsDao.save(HttpRequest.builder()
+                                                              .httpMethod(HttpMethod.GET.name())
+                                                              .url("https://localhost:8443")
+                                                              .created(Instant.now())
+                                                              .lastModified(Instant.now())
+                                                              .build());
+    HttpResponse storedResponse = HttpResponse.builder()
+                                              .responseStatus(200)
+                                              .responseContentType("application/pdf")
+                                              .responseBodySize((long)responseBody.length)
+                                              .responseBodyBinary(true)
+                                              .responseBodyContent(new ByteArrayContent(responseBody))
+                                              .created(Instant.now())
+                                              .build();
+    storedResponse.setHttpRequest(httpRequest);
+    long responseId = httpResponsesDao.saveWithBody(storedResponse).getId();
+    Assertions.assertEquals(1, countEntriesOfTableNative("HTTP_RESPONSE_BODIES"));
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      HttpResponse httpResponse = httpResponsesDao.findById(responseId).orElseThrow();
+      Assertions.assertTrue(httpResponse.isResponseBodyBinary());
+      Assertions.assertNull(httpResponse.getResponseBody());
+      Assertions.assertNull(httpResponse.getResponseBodyContent());
+    });
+    Assertions.assertTrue(httpResponsesDao.hasResponseBody(responseId));
+
+    ByteArrayOutputStream completeBody = new ByteArrayOutputStream();
+    Assertions.assertEquals(responseBody.length,
+                            httpResponsesDao.copyResponseBody(responseId, 0, Long.MAX_VALUE, completeBody));
+    Assertions.assertArrayEquals(responseBody, completeBody.toByteArray());
+
+    ByteArrayOutputStream bodyRange = new ByteArrayOutputStream();
+    Assertions.assertEquals(100, httpResponsesDao.copyResponseBody(responseId, 1_000_000, 100, bodyRange));
+    Assertions.assertArrayEquals(Arrays.copyOfRange(responseBody, 1_000_000, 1_000_100), bodyRange.toByteArray());
+
+    httpRequestsDao.deleteAll();
+    Assertions.assertFalse(httpResponsesDao.hasResponseBody(responseId));
+    Assertions.assertEquals(-1, httpResponsesDao.copyResponseBody(responseId, 0, 1, new ByteArrayOutputStream()));
+    Assertions.assertEquals(0, countEntriesOfTableNative("HTTP_RESPONSE_BODIES"));
+  }
+
+  /**
+   * verifies that the response history is not loaded together with the request and that responses can be
+   * appended and read in pages without loading the complete history
+   */
+  @Test
+  public void testPagedResponseHistory()
+  {
+    HttpRequest httpRequest = httpRequestsDao.save(newHttpRequest(Instant.now(), Instant.now()));
+    for ( int i = 0 ; i < 3 ; i++ )
+    {
+      HttpResponse httpResponse = newHttpResponse(Instant.now());
+      httpResponse.setHttpRequest(httpRequest);
+      httpResponsesDao.save(httpResponse);
+    }
+
+    HttpRequest loadedHttpRequest = httpRequestsDao.findById(httpRequest.getId()).orElseThrow();
+    Assertions.assertFalse(Hibernate.isInitialized(loadedHttpRequest.getHttpResponses()));
+    Assertions.assertEquals(5, httpResponsesDao.countByHttpRequestId(httpRequest.getId()));
+    Assertions.assertEquals(5, countEntriesOfTableNative("HTTP_REQUEST_RESPONSE_MAPPING"));
+
+    List<Long> historyIds = httpResponsesDao.findIdsByHttpRequestId(httpRequest.getId(), Pageable.unpaged());
+    Assertions.assertEquals(5, historyIds.size());
+    Page<HttpResponseSummary> page = httpResponsesDao.findSummariesByHttpRequestId(httpRequest.getId(),
+                                                                                   PageRequest.of(1, 2));
+    Assertions.assertEquals(5, page.getTotalElements());
+    Assertions.assertEquals(historyIds.subList(2, 4), page.map(HttpResponseSummary::getId).getContent());
+    HttpResponseSummary summary = page.getContent().get(0);
+    Assertions.assertEquals(200, summary.getResponseStatus());
+    Assertions.assertNotNull(summary.getCreated());
+
+    Assertions.assertEquals(historyIds.subList(3, 4),
+                            httpResponsesDao.findIdsByHttpRequestId(httpRequest.getId(), PageRequest.of(3, 1)));
+    Assertions.assertEquals(List.of(historyIds.get(4)),
+                            httpResponsesDao.findIdsByHttpRequestIdUpTo(httpRequest.getId(),
+                                                                        historyIds.get(3),
+                                                                        Limit.of(1)));
+    Assertions.assertEquals(List.of(historyIds.get(4), historyIds.get(3)),
+                            httpResponsesDao.findIdsByHttpRequestIdUpTo(httpRequest.getId(),
+                                                                        historyIds.get(3),
+                                                                        Limit.of(10)));
+    Assertions.assertEquals(historyIds.get(0),
+                            httpResponsesDao.findFirstByHttpRequestIdOrderByIdDesc(httpRequest.getId())
+                                            .map(HttpResponse::getId)
+                                            .orElseThrow());
+  }
+
+  /**
+   * verifies that old responses can be found and removed in batches together with their history mapping
+   */
+  @Test
+  public void testDeleteOldResponsesInBatches()
+  {
+    Instant now = Instant.now();
+    Instant longAgo = now.minus(Duration.ofDays(100));
+    HttpRequest oldHttpRequest = httpRequestsDao.save(newHttpRequest(longAgo, longAgo));
+    HttpRequest newHttpRequest = httpRequestsDao.save(newHttpRequest(longAgo, now));
+
+    Assertions.assertEquals(List.of(), httpResponsesDao.findHttpRequestIdsWithMoreResponsesThan(2));
+    Assertions.assertEquals(2, httpResponsesDao.findHttpRequestIdsWithMoreResponsesThan(1).size());
+
+    Instant createdBefore = now.minus(Duration.ofDays(1));
+    List<Long> firstBatch = httpResponsesDao.findIdsCreatedBefore(createdBefore, Limit.of(2));
+    Assertions.assertEquals(2, firstBatch.size());
+    httpResponsesDao.deleteAllByIdInBatch(firstBatch);
+    List<Long> secondBatch = httpResponsesDao.findIdsCreatedBefore(createdBefore, Limit.of(2));
+    Assertions.assertEquals(1, secondBatch.size());
+    httpResponsesDao.deleteAllByIdInBatch(secondBatch);
+    Assertions.assertEquals(List.of(), httpResponsesDao.findIdsCreatedBefore(createdBefore, Limit.of(2)));
+
+    Assertions.assertEquals(0, httpResponsesDao.countByHttpRequestId(oldHttpRequest.getId()));
+    Assertions.assertEquals(1, httpResponsesDao.countByHttpRequestId(newHttpRequest.getId()));
+    Assertions.assertEquals(1, countEntriesOfTableNative("HTTP_REQUEST_RESPONSE_MAPPING"));
+    Assertions.assertEquals(2, httpRequestsDao.count());
+  }
+
+  /**
+   * verifies that large text values are stored compressed and are read back unchanged
+   */
+  @Test
+  public void testLargeTextIsStoredCompressed()
+  {
+    String responseBody = "{\"name\": \"value\"}, ".repeat(1000);
+    HttpRequest httpRequest = newHttpRequest(Instant.now(), Instant.now());
+    httpRequest.getHttpResponses().get(0).setResponseBody(responseBody);
+    httpRequest = httpRequestsDao.save(httpRequest);
+    long responseId = httpRequest.getHttpResponses().get(0).getId();
+
+    String lengthQuery = "select octet_length(RESPONSE_BODY) from HTTP_RESPONSES where ID = " + responseId;
+    long storedLength = ((Number)entityManager.createNativeQuery(lengthQuery).getSingleResult()).longValue();
+    Assertions.assertTrue(storedLength * 10 < responseBody.length(), storedLength + " / " + responseBody.length());
+    Assertions.assertEquals(responseBody, httpResponsesDao.findById(responseId).orElseThrow().getResponseBody());
+  }
+
+  private HttpRequest newHttpRequest(Instant firstResponseCreated, Instant secondResponseCreated)
+  {
+    List<HttpResponse> httpResponses = new ArrayList<>();
+    httpResponses.add(newHttpResponse(firstResponseCreated));
+    httpResponses.add(newHttpResponse(secondResponseCreated));
+    return HttpRequest.builder()
+                      .httpMethod(HttpMethod.GET.name())
+                      .url("https://localhost:8443")
+                      .httpResponses(httpResponses)
+                      .created(Instant.now())
+                      .lastModified(Instant.now())
+                      .build();
+  }
+
+  private HttpResponse newHttpResponse(Instant created)
+  {
+    return HttpResponse.builder().responseStatus(200).responseBody("response body").created(created).build();
+  }
+
+  /**
+   * a response body content that is held in memory
+   */
+  @RequiredArgsConstructor
+  private static class ByteArrayContent implements ResponseBodyContent
+  {
+
+    private final byte[] content;
+
+    @Override
+    public long getSize()
+    {
+      return content.length;
+    }
+
+    @Override
+    public InputStream openInputStream()
+    {
+      return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void close()
+    {
+      // nothing to release
+    }
+  }
 }
@@ -1,13 +1,21 @@
 package de.captaingoldfish.restclient.database.entities;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
-import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
 import de.captaingoldfish.restclient.database.DatabaseTest;
@@ -24,28 +32,203 @@ import lombok.SneakyThrows;
 public class TruststoreTest extends DbBaseTest implements FileReferences
 {
 
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
   @SneakyThrows
   @ParameterizedTest
   @CsvSource({"JKS," + UNIT_TEST_JKS_TRUSTSTORE, "PKCS12," + UNIT_TEST_PKCS12_TRUSTSTORE})
   public void testSaveAndReadTruststore(KeyStoreSupporter.KeyStoreType keyStoreType, String truststorePath)
   {
-    try (InputStream inputStream = getResourceStream(truststorePath))
-    {
-      final byte[] truststoreBytes = IOUtils.toByteArray(inputStream);
-      Truststore truststore = new Truststore(new ByteArrayInputStream(truststoreBytes), keyStoreType, PASSWORD);
-      truststore = truststoreDao.save(truststore);
-      Assertions.assertNotEquals(0, truststore.getId());
-      Assertions.assertArrayEquals(truststoreBytes, truststore.getTruststoreBytes());
-      Assertions.assertEquals(keyStoreType, truststore.getTruststoreType());
+    Map<String, X509Certificate> certificates = readCertificates(keyStoreType, truststorePath);
+    truststoreDao.addCertificates(certificates);
+
+    Truststore truststore = truststoreDao.getTruststore();
+    Assertions.assertEquals(1L, truststore.getId());
+    Assertions.assertEquals(KeyStoreSupporter.KeyStoreType.JKS, truststore.getTruststoreType());
+    Assertions.assertEquals(1, truststore.getCertificates().size());
+    Assertions.assertEquals(1, countEntriesOfTableNative("TRUSTSTORE_CERTIFICATES"));
+
+    String alias = certificates.keySet().iterator().next();
+    X509Certificate certificate = certificates.get(alias);
+    TruststoreCertificate truststoreCertificate = entityManager.createQuery("select c from TruststoreCertificate c",
+                                                                            TruststoreCertificate.class)
+                                                               .getSingleResult();
+    Assertions.assertEquals(alias, truststoreCertificate.getAlias());
+    Assertions.assertArrayEquals(certificate.getEncoded(), truststoreCertificate.getCertificateBytes());
+    Assertions.assertEquals(TruststoreCertificate.getSha256Fingerprint(certificate.getEncoded()),
+                            truststoreCertificate.getSha256Fingerprint());
+    Assertions.assertEquals(certificate.getSubjectX500Principal().getName(), truststoreCertificate.getSubjectDn());
+    Assertions.assertEquals(certificate.getNotAfter().toInstant(), truststoreCertificate.getNotAfter());
+    Assertions.assertEquals(certificate, truststoreCertificate.getCertificate());
+
+    List<Truststore> truststoreList = truststoreDao.findAll();
+    Assertions.assertEquals(1, truststoreList.size());
+
+    Assertions.assertEquals(1, truststoreDao.count());
+    truststoreDao.deleteAll();
+    Assertions.assertEquals(0, truststoreDao.count());
+    Assertions.assertEquals(0, countEntriesOfTableNative("TRUSTSTORE_CERTIFICATES"));
+  }
+
+  /**
+   * verifies that the in-memory truststore is modified together with the stored entries and that the previously
+   * returned truststores are not modified
+   */
+  @SneakyThrows
+  @Test
+  public void testAddAndDeleteCertificate()
+  {
+    Map<String, X509Certificate> certificates = readCertificates(KeyStoreSupporter.KeyStoreType.JKS,
+                                                                 UNIT_TEST_JKS_TRUSTSTORE);
+    String alias = certificates.keySet().iterator().next();
+    KeyStore truststore = truststoreDao.getTruststore().getTruststore();
+    Assertions.assertSame(truststore, truststoreDao.getTruststore().getTruststore());
+    Instant lastModified = truststoreDao.getTruststoreLastModified().get();
 
-      Assertions.assertEquals(1, truststore.getCertificates().size());
+    X509Certificate certificate = certificates.get(alias);
+    Assertions.assertTrue(truststoreDao.getTruststore().getCertificateAlias(certificate).isEmpty());
+
+    truststoreDao.addCertificates(certificates);
+    KeyStore modifiedTruststore = truststoreDao.getTruststore().getTruststore();
+    Assertions.assertNotSame(truststore, modifiedTruststore);
+    Assertions.assertEquals(0, truststore.size());
+    Assertions.assertEquals(List.of(alias), truststoreDao.getTruststore().getTruststoreAliases());
+    Assertions.assertEquals(alias, truststoreDao.getTruststore().getCertificateAlias(certificate).get());
+    Assertions.assertTrue(truststoreDao.getTruststoreLastModified().get().isAfter(lastModified));
+
+    Assertions.assertTrue(truststoreDao.deleteCertificate(alias));
+    Assertions.assertFalse(truststoreDao.deleteCertificate(alias));
+    Assertions.assertNotSame(modifiedTruststore, truststoreDao.getTruststore().getTruststore());
+    Assertions.assertTrue(modifiedTruststore.containsAlias(alias));
+    Assertions.assertEquals(0, truststoreDao.getTruststore().getTruststoreAliases().size());
+    Assertions.assertTrue(truststoreDao.getTruststore().getCertificateAlias(certificate).isEmpty());
+    Assertions.assertEquals(0, countEntriesOfTableNative("TRUSTSTORE_CERTIFICATES"));
+  }
+
+  /**
+   * verifies that the certificate is still found under the remaining alias if one of two entries containing the
+   * same certificate is deleted
+   */
+  @Test
+  public void testDeleteOneOfTwoEntriesWithSameCertificate()
+  {
+    X509Certificate certificate = readCertificates(KeyStoreSupporter.KeyStoreType.JKS,
+                                                   UNIT_TEST_JKS_TRUSTSTORE).values().iterator().next();
+    truststoreDao.addCertificates(Map.of("first", certificate));
+    truststoreDao.addCertificates(Map.of("second", certificate));
+    Assertions.assertEquals("first", truststoreDao.getTruststore().getCertificateAlias(certificate).get());
+
+    Assertions.assertTrue(truststoreDao.deleteCertificate("first"));
+    Assertions.assertEquals(List.of("second"), truststoreDao.getTruststore().getTruststoreAliases());
+    Assertions.assertEquals("second", truststoreDao.getTruststore().getCertificateAlias(certificate).get());
+
+    Assertions.assertTrue(truststoreDao.deleteCertificate("second"));
+    Assertions.assertTrue(truststoreDao.getTruststore().getCertificateAlias(certificate).isEmpty());
+  }
+
+  /**
+   * verifies that a modification is visible within its transaction only and is discarded if the transaction is
+   * rolled back
+   */
+  @Test
+  public void testModificationIsDiscardedOnRollback()
+  {
+    Map<String, X509Certificate> certificates = readCertificates(KeyStoreSupporter.KeyStoreType.JKS,
+                                                                 UNIT_TEST_JKS_TRUSTSTORE);
+    String alias = certificates.keySet().iterator().next();
+    KeyStore truststore = truststoreDao.getTruststore().getTruststore();
 
-      List<Truststore> truststoreList = truststoreDao.findAll();
-      Assertions.assertEquals(1, truststoreList.size());
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      truststoreDao.addCertificates(certificates);
+      Assertions.assertEquals(List.of(alias), truststoreDao.getTruststore().getTruststoreAliases());
+      status.setRollbackOnly();
+    });
 
-      Assertions.assertEquals(1, truststoreDao.count());
-      truststoreDao.deleteAll();
-      Assertions.assertEquals(0, truststoreDao.count());
+    Assertions.assertSame(truststore, truststoreDao.getTruststore().getTruststore());
+    Assertions.assertEquals(0, truststoreDao.getTruststore().getTruststoreAliases().size());
+    Assertions.assertEquals(0, countEntriesOfTableNative("TRUSTSTORE_CERTIFICATES"));
+  }
+
+  /**
+   * verifies that the shared in-memory truststore cannot be modified by the callers
+   */
+  @Test
+  public void testTruststoreIsReadOnly()
+  {
+    Map<String, X509Certificate> certificates = readCertificates(KeyStoreSupporter.KeyStoreType.JKS,
+                                                                 UNIT_TEST_JKS_TRUSTSTORE);
+    truststoreDao.addCertificates(certificates);
+    Truststore truststore = truststoreDao.getTruststore();
+    String alias = certificates.keySet().iterator().next();
+
+    Assertions.assertThrows(KeyStoreException.class,
+                            () -> truststore.getTruststore()
+                                            .setCertificateEntry("another-alias", certificates.get(alias)));
+    Assertions.assertThrows(KeyStoreException.class, () -> truststore.getTruststore().deleteEntry(alias));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> truststore.getCertificateFingerprints().clear());
+    Assertions.assertEquals(List.of(alias), truststoreDao.getTruststore().getTruststoreAliases());
+  }
+
+  /**
+   * verifies that aliases are stored in lowercase so that aliases differing in case only are rejected like the
+   * keystore would treat them as the same alias
+   */
+  @Test
+  public void testAliasesAreStoredInLowercase()
+  {
+    X509Certificate certificate = readCertificates(KeyStoreSupporter.KeyStoreType.JKS,
+                                                   UNIT_TEST_JKS_TRUSTSTORE).values().iterator().next();
+    truststoreDao.addCertificates(Map.of("My-Alias", certificate));
+    Assertions.assertEquals("my-alias",
+                            entityManager.createQuery("select c from TruststoreCertificate c",
+                                                      TruststoreCertificate.class)
+                                         .getSingleResult()
+                                         .getAlias());
+    Assertions.assertEquals(List.of("my-alias"), truststoreDao.getTruststore().getTruststoreAliases());
+    Assertions.assertEquals("my-alias", truststoreDao.getTruststore().getCertificateAlias(certificate).get());
+
+    Assertions.assertThrows(DataIntegrityViolationException.class,
+                            () -> truststoreDao.addCertificates(Map.of("MY-ALIAS", certificate)));
+    Assertions.assertEquals(1, countEntriesOfTableNative("TRUSTSTORE_CERTIFICATES"));
+
+    Assertions.assertTrue(truststoreDao.deleteCertificate("MY-ALIAS"));
+    Assertions.assertEquals(0, truststoreDao.getTruststore().getTruststoreAliases().size());
+  }
+
+  /**
+   * verifies that the in-memory truststore is rebuilt from the stored entries if the truststore was modified by
+   * another application instance
+   */
+  @Test
+  public void testTruststoreIsRebuiltAfterExternalModification()
+  {
+    Map<String, X509Certificate> certificates = readCertificates(KeyStoreSupporter.KeyStoreType.JKS,
+                                                                 UNIT_TEST_JKS_TRUSTSTORE);
+    truststoreDao.addCertificates(certificates);
+    KeyStore truststore = truststoreDao.getTruststore().getTruststore();
+
+    Truststore modifiedTruststore = truststoreDao.getTruststore();
+    modifiedTruststore.setLastModified(Instant.now().plusSeconds(1));
+    truststoreDao.save(modifiedTruststore);
+
+    Truststore reloadedTruststore = truststoreDao.getTruststore();
+    Assertions.assertNotSame(truststore, reloadedTruststore.getTruststore());
+    Assertions.assertEquals(List.copyOf(certificates.keySet()), reloadedTruststore.getTruststoreAliases());
+    certificates.forEach((alias, certificate) -> {
+      Assertions.assertEquals(alias, reloadedTruststore.getCertificateAlias(certificate).get());
+    });
+  }
+
+  @SneakyThrows
+  private Map<String, X509Certificate> readCertificates(KeyStoreSupporter.KeyStoreType keyStoreType,
+                                                        String truststorePath)
+  {
+    try (InputStream inputStream = getResourceStream(truststorePath))
+    {
+      KeyStore keyStore = KeyStoreSupporter.readTruststore(inputStream, keyStoreType, PASSWORD);
+      String alias = keyStore.aliases().nextElement();
+      return Map.of(alias, (X509Certificate)keyStore.getCertificate(alias));
     }
   }
 }
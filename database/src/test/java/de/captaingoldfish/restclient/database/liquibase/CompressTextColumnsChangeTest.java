@@ -0,0 +1,85 @@
+package de.captaingoldfish.restclient.database.liquibase;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import de.captaingoldfish.restclient.database.DatabaseTest;
+import de.captaingoldfish.restclient.database.DbBaseTest;
+import de.captaingoldfish.restclient.database.entities.CompressedTextConverter;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+@DatabaseTest
+public class CompressTextColumnsChangeTest extends DbBaseTest
+{
+
+  @Autowired
+  private DataSource dataSource;
+
+  /**
+   * verifies that the text values of all rows are copied in compressed form into the binary columns, also if
+   * the rows exceed a single batch
+   */
+  @SneakyThrows
+  @Test
+  public void testCompressColumns()
+  {
+    final int numberOfRows = 450;
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement())
+    {
+      statement.execute("CREATE TABLE TEXT_MIGRATION (ID BIGINT PRIMARY KEY, CONTENT CLOB, CONTENT_COMPRESSED BLOB)");
+      try
+      {
+        try (
+          PreparedStatement insertStatement = connection.prepareStatement("INSERT INTO TEXT_MIGRATION (ID, CONTENT) VALUES (?, ?)"))
+        {
+          for ( int i = 0 ; i < numberOfRows ; i++ )
+          {
+            insertStatement.setLong(1, i);
+            insertStatement.setString(2, i % 10 == 0 ? null : getContent(i));
+            insertStatement.addBatch();
+          }
+          insertStatement.executeBatch();
+        }
+
+        int migratedRows = CompressTextColumnsChange.compressColumns(connection, "TEXT_MIGRATION", List.of("CONTENT"));
+
+        Assertions.assertEquals(numberOfRows, migratedRows);
+        try (ResultSet resultSet = statement.executeQuery("SELECT ID, CONTENT_COMPRESSED FROM TEXT_MIGRATION"))
+        {
+          int rows = 0;
+          while (resultSet.next())
+          {
+            int id = resultSet.getInt(1);
+            Assertions.assertEquals(id % 10 == 0 ? null : getContent(id),
+                                    CompressedTextConverter.decompress(resultSet.getBytes(2)));
+            rows++;
+          }
+          Assertions.assertEquals(numberOfRows, rows);
+        }
+      }
+      finally
+      {
+        statement.execute("DROP TABLE TEXT_MIGRATION");
+      }
+    }
+  }
+
+  private String getContent(int index)
+  {
+    return "{\"index\": " + index + ", \"value\": \"" + "x".repeat(index) + "\"}";
+  }
+}
@@ -0,0 +1,83 @@
+package de.captaingoldfish.restclient.database.liquibase;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import de.captaingoldfish.restclient.database.DatabaseTest;
+import de.captaingoldfish.restclient.database.DbBaseTest;
+import de.captaingoldfish.restclient.database.entities.TokenCategory;
+import de.captaingoldfish.restclient.database.entities.TokenStore;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.statement.SqlStatement;
+import liquibase.statement.core.CreateSequenceStatement;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@DatabaseTest
+public class CreateTableSequencesChangeTest extends DbBaseTest
+{
+
+  @Autowired
+  private DataSource dataSource;
+
+  /**
+   * verifies that the created sequence starts above the highest existing id so that the ids handed out by the
+   * pooled optimizer do not collide with existing rows
+   */
+  @SneakyThrows
+  @Test
+  public void testSequenceStartsAboveExistingIds()
+  {
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement())
+    {
+      statement.execute("CREATE TABLE SEQUENCE_MIGRATION (ID BIGINT PRIMARY KEY)");
+      try
+      {
+        statement.execute("INSERT INTO SEQUENCE_MIGRATION (ID) VALUES (1), (120), (7)");
+        Database database = DatabaseFactory.getInstance()
+                                           .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+        CreateTableSequencesChange change = new CreateTableSequencesChange();
+        change.setTableNames("SEQUENCE_MIGRATION");
+        change.setIncrementBy(50);
+
+        SqlStatement[] statements = change.generateStatements(database);
+
+        Assertions.assertEquals(1, statements.length);
+        CreateSequenceStatement createSequence = (CreateSequenceStatement)statements[0];
+        Assertions.assertEquals("SEQUENCE_MIGRATION_SEQ", createSequence.getSequenceName());
+        Assertions.assertEquals(BigInteger.valueOf(170), createSequence.getStartValue());
+        Assertions.assertEquals(BigInteger.valueOf(50), createSequence.getIncrementBy());
+      }
+      finally
+      {
+        statement.execute("DROP TABLE SEQUENCE_MIGRATION");
+      }
+    }
+  }
+
+  /**
+   * verifies that the entities get consecutive ids from the pooled table sequences
+   */
+  @Test
+  public void testPooledIdsAreConsecutive()
+  {
+    TokenCategory tokenCategory = tokenCategoryDao.save(TokenCategory.builder().name("sequences").build());
+    TokenStore first = tokenStoreDao.save(TokenStore.builder().tokenCategory(tokenCategory).name("1").build());
+    TokenStore second = tokenStoreDao.save(TokenStore.builder().tokenCategory(tokenCategory).name("2").build());
+
+    Assertions.assertEquals(first.getId() + 1, second.getId());
+  }
+}
@@ -0,0 +1,105 @@
+package de.captaingoldfish.restclient.database.liquibase;
+
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import de.captaingoldfish.restclient.commons.keyhelper.KeyStoreSupporter;
+import de.captaingoldfish.restclient.database.DatabaseTest;
+import de.captaingoldfish.restclient.database.DbBaseTest;
+import de.captaingoldfish.restclient.database.entities.TruststoreCertificate;
+import lombok.SneakyThrows;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 18.10.2026
+ */
+@DatabaseTest
+public class SplitTruststoreChangeTest extends DbBaseTest
+{
+
+  @Autowired
+  private DataSource dataSource;
+
+  /**
+   * verifies that each certificate entry of the stored truststores is inserted as a separate row and that
+   * truststores without content are skipped
+   */
+  @SneakyThrows
+  @Test
+  public void testSplitTruststores()
+  {
+    final byte[] truststoreBytes;
+    try (InputStream inputStream = getResourceStream(UNIT_TEST_JKS_TRUSTSTORE))
+    {
+      truststoreBytes = IOUtils.toByteArray(inputStream);
+    }
+    KeyStore truststore = KeyStoreSupporter.readTruststore(truststoreBytes,
+                                                           KeyStoreSupporter.KeyStoreType.JKS,
+                                                           PASSWORD);
+    String alias = truststore.aliases().nextElement();
+    X509Certificate certificate = (X509Certificate)truststore.getCertificate(alias);
+
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement())
+    {
+      statement.execute("CREATE TABLE TRUSTSTORE_MIGRATION (ID BIGINT PRIMARY KEY, TRUSTSTORE_BYTES BLOB, "
+                        + "TRUSTSTORE_TYPE VARCHAR(10), TRUSTSTORE_PASSWORD VARCHAR(255))");
+      statement.execute("CREATE TABLE TRUSTSTORE_MIGRATION_CERTIFICATES (ID BIGINT PRIMARY KEY, TRUSTSTORE_ID BIGINT, "
+                        + "ALIAS VARCHAR(255), CERTIFICATE_BYTES BLOB, SHA256_FINGERPRINT VARCHAR(64), "
+                        + "SUBJECT_DN VARCHAR(1024), ISSUER_DN VARCHAR(1024), NOT_BEFORE TIMESTAMP, "
+                        + "NOT_AFTER TIMESTAMP, CREATED TIMESTAMP)");
+      try
+      {
+        try (PreparedStatement insertStatement = connection.prepareStatement("INSERT INTO TRUSTSTORE_MIGRATION "
+                                                                             + "VALUES (?, ?, ?, ?)"))
+        {
+          insertStatement.setLong(1, 1);
+          insertStatement.setBytes(2, truststoreBytes);
+          insertStatement.setString(3, KeyStoreSupporter.KeyStoreType.JKS.name());
+          insertStatement.setString(4, PASSWORD);
+          insertStatement.addBatch();
+          insertStatement.setLong(1, 2);
+          insertStatement.setBytes(2, null);
+          insertStatement.addBatch();
+          insertStatement.executeBatch();
+        }
+
+        int migratedRows = SplitTruststoreChange.splitTruststores(connection,
+                                                                  "TRUSTSTORE_MIGRATION",
+                                                                  "TRUSTSTORE_MIGRATION_CERTIFICATES");
+
+        Assertions.assertEquals(1, migratedRows);
+        try (
+          ResultSet resultSet = statement.executeQuery("SELECT ID, TRUSTSTORE_ID, ALIAS, CERTIFICATE_BYTES, "
+                                                       + "SHA256_FINGERPRINT FROM TRUSTSTORE_MIGRATION_CERTIFICATES"))
+        {
+          Assertions.assertTrue(resultSet.next());
+          Assertions.assertEquals(1, resultSet.getLong(1));
+          Assertions.assertEquals(1, resultSet.getLong(2));
+          Assertions.assertEquals(alias, resultSet.getString(3));
+          Assertions.assertArrayEquals(certificate.getEncoded(), resultSet.getBytes(4));
+          Assertions.assertEquals(TruststoreCertificate.getSha256Fingerprint(certificate.getEncoded()),
+                                  resultSet.getString(5));
+          Assertions.assertFalse(resultSet.next());
+        }
+      }
+      finally
+      {
+        statement.execute("DROP TABLE TRUSTSTORE_MIGRATION_CERTIFICATES");
+        statement.execute("DROP TABLE TRUSTSTORE_MIGRATION");
+      }
+    }
+  }
+}
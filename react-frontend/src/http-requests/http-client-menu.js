@@ -16,6 +16,7 @@ export function HttpClientMenu(props)
     let scimClient = new ScimClient2();
     scimClient.listResources({
       resourcePath: HTTP_REQUEST_CATEGORIES_ENDPOINT,
+      attributes: "id,name",
       onSuccess: listResponse => setMenuEntries([...listResponse.Resources || []]),
       onError: errorResponse => setErrorResponse(errorResponse)
     });
@@ -33,19 +33,24 @@ export function HttpRequestMenuBar()
   function updateResourceOnServer(request)
   {
     let scimClient = new ScimClient2();
+    let newName = requestRefName.current.value;
     let onSuccess = updatedRequest =>
     {
       setEditMode(false);
       requestGroupContext.updateHttpRequest(request, updatedRequest);
     };
     let onError = errorResponse => setErrorResponse(errorResponse);
-    let newResource = lodash.cloneDeep(request);
-    newResource.name = requestRefName.current.value;
-    scimClient.updateResource(HTTP_REQUESTS_ENDPOINT,
-      request.id,
-      newResource,
-      onSuccess,
-      onError);
+    // the listed request contains only the displayed attributes and must not replace the complete request
+    scimClient.getResource(HTTP_REQUESTS_ENDPOINT, request.id, null, completeRequest =>
+    {
+      let newResource = lodash.cloneDeep(completeRequest);
+      newResource.name = newName;
+      scimClient.updateResource(HTTP_REQUESTS_ENDPOINT,
+        request.id,
+        newResource,
+        onSuccess,
+        onError);
+    }, onError);
   }
 
   let isRequestBodyPresent = new Optional(httpRequestContext.httpRequest.current).map(o => o.requestBody)
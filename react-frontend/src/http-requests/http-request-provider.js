@@ -1,7 +1,7 @@
 import React, {useRef} from 'react';
 import {useUniqueArray} from "../services/array-utils";
 import {ScimClient2} from "../scim/scim-client-2";
-import {HTTP_RESPONSE_HISTORY_ENDPOINT} from "../scim/scim-constants";
+import {HTTP_REQUESTS_ENDPOINT, HTTP_RESPONSE_HISTORY_ENDPOINT} from "../scim/scim-constants";
 import {useScimErrorResponse} from "../services/utils";
 
 export const HttpRequestContext = React.createContext();
@@ -16,6 +16,8 @@ export function HttpRequestProvider({children})
 {
 
   const httpRequest = useRef(DEFAULT_HTTP_REQUEST);
+  // the id of the most recently selected request. Responses for previous selections are ignored
+  const selectedHttpRequestId = useRef(null);
   const [setErrorResponse] = useScimErrorResponse();
   const [httpResponses, setHttpResponses, isInsertable,
     addHttpResponse, updateHttpResponse, removeHttpResponse] = useUniqueArray([],
@@ -42,10 +44,33 @@ export function HttpRequestProvider({children})
     );
   }
 
+  function selectHttpRequest(selectedHttpRequest)
+  {
+    // the list of requests contains only the displayed attributes so the complete request is loaded here
+    selectedHttpRequestId.current = selectedHttpRequest.id;
+    let scimClient = new ScimClient2();
+    scimClient.getResource(
+      HTTP_REQUESTS_ENDPOINT,
+      selectedHttpRequest.id,
+      null,
+      completeHttpRequest =>
+      {
+        if (selectedHttpRequestId.current !== completeHttpRequest.id)
+        {
+          return;
+        }
+        httpRequest.current = completeHttpRequest;
+        loadResponseHistory();
+      },
+      errorResponse => setErrorResponse(errorResponse)
+    );
+  }
+
   let httpRequestContext = {
     httpRequest: httpRequest,
     undoSelection: () =>
     {
+      selectedHttpRequestId.current = null;
       httpRequest.current = DEFAULT_HTTP_REQUEST;
       setHttpResponses([]);
     },
@@ -57,11 +82,7 @@ export function HttpRequestProvider({children})
 
   return (
     <HttpRequestContext.Provider value={httpRequestContext}>
-      <HttpRequestUpdateContext.Provider value={selectedHttpRequest =>
-      {
-        httpRequest.current = selectedHttpRequest;
-        loadResponseHistory();
-      }}>
+      <HttpRequestUpdateContext.Provider value={selectedHttpRequest => selectHttpRequest(selectedHttpRequest)}>
         {children}
       </HttpRequestUpdateContext.Provider>
     </HttpRequestContext.Provider>
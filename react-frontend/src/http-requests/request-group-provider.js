@@ -5,6 +5,11 @@ import {ScimClient2} from "../scim/scim-client-2";
 import {HTTP_REQUESTS_ENDPOINT} from "../scim/scim-constants";
 import {HttpRequestContext} from "./http-request-provider";
 
+/**
+ * the attributes that are displayed in the list of requests. The complete request is loaded when it is selected
+ */
+const LISTED_HTTP_REQUEST_ATTRIBUTES = "id,name,groupName,httpMethod,url";
+
 export const RequestGroupContext = React.createContext();
 export const RequestGroupUpdateContext = React.createContext();
 
@@ -25,6 +30,7 @@ export function RequestGroupProvider({children})
     scimClient.listResources({
       resourcePath: HTTP_REQUESTS_ENDPOINT,
       filter: "groupName eq \"" + requestGroup.current.name + "\"",
+      attributes: LISTED_HTTP_REQUEST_ATTRIBUTES,
       onSuccess: listResponse =>
       {
         setHttpRequests([...listResponse.Resources || []]);
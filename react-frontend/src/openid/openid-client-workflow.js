@@ -602,7 +602,8 @@ class ClientCredentialsGrantForm extends React.Component
       dpopNonce: previousDpopNonce || "",
       dpopJti: previousDpopJti || "",
       dpopHtm: previousDpopHtm || "",
-      dpopHtu: previousDpopHtu || ""
+      dpopHtu: previousDpopHtu || "",
+      bypassTokenCache: false
     };
     this.setState = this.setState.bind(this);
     this.retrieveAccessTokenDetails = this.retrieveAccessTokenDetails.bind(this);
@@ -622,7 +623,9 @@ class ClientCredentialsGrantForm extends React.Component
     let resource = {
       grantType: "client_credentials",
       openIdClientId: parseInt(this.props.client.id),
-      scope: scope
+      scope: scope,
+      // a cached token is returned unless the user explicitly wants to see a new request to the token endpoint
+      bypassTokenCache: this.state.bypassTokenCache
     }
 
     let openIdClientId = this.props.workflowDetails.openIdClientId;
@@ -698,6 +701,21 @@ class ClientCredentialsGrantForm extends React.Component
             }
           </Col>
         </Form.Group>
+        <Form.Group as={Row}>
+          <Col sm={2}>
+            Token Cache
+          </Col>
+          <Col>
+            <FormCheck type="switch"
+                       id="bypass-token-cache-switch"
+                       className={"d-inline-block"}
+                       label="Request a new token even if a cached token is still valid"
+                       checked={this.state.bypassTokenCache}
+                       onChange={e => {
+                         this.setState({bypassTokenCache: e.target.checked})
+                       }} />
+          </Col>
+        </Form.Group>
         <Form.Group as={Row}>
           <Col sm={{span: 10, offset: 2}}>
             <Button id={"upload"} type="submit" onClick={this.retrieveAccessTokenDetails}>
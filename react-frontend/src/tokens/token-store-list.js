@@ -75,7 +75,7 @@ export function TokenStoreList(props)
   useEffect(() =>
   {
     let searchRequest = {
-      startIndex: tokenStoreList.length,
+      startIndex: tokenStoreList.length + 1,
       filter: new Optional(props.filter).map(v => v.trim())
         .map(v => v.length === 0 ? undefined : v)
         .map(v => "token co \"" + v + "\" and categoryId eq " + props.category.id)
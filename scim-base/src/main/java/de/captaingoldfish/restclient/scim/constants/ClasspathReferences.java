@@ -96,4 +96,8 @@ public final class ClasspathReferences
   public static final String PROVIDER_METADATA_RESOURCE_TYPE = BASE_PATH
                                                                + "/resourcetypes/provider-metadata-resource-type.json";
 
+  public static final String LOAD_TEST_RESOURCE_TYPE = BASE_PATH + "/resourcetypes/load-test-resource-type.json";
+
+  public static final String LOAD_TEST_SCHEMA = BASE_PATH + "/resource/load-test.json";
+
 }
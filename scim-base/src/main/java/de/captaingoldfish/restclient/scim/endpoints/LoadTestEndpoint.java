@@ -0,0 +1,22 @@
+package de.captaingoldfish.restclient.scim.endpoints;
+
+import de.captaingoldfish.restclient.scim.constants.ClasspathReferences;
+import de.captaingoldfish.restclient.scim.resources.ScimLoadTest;
+import de.captaingoldfish.scim.sdk.common.utils.JsonHelper;
+import de.captaingoldfish.scim.sdk.server.endpoints.EndpointDefinition;
+import de.captaingoldfish.scim.sdk.server.endpoints.ResourceHandler;
+
+
+/**
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class LoadTestEndpoint extends EndpointDefinition
+{
+
+  public LoadTestEndpoint(ResourceHandler<ScimLoadTest> resourceHandler)
+  {
+    super(JsonHelper.loadJsonDocument(ClasspathReferences.LOAD_TEST_RESOURCE_TYPE),
+          JsonHelper.loadJsonDocument(ClasspathReferences.LOAD_TEST_SCHEMA), null, resourceHandler);
+  }
+}
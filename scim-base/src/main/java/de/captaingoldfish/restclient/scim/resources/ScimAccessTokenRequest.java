@@ -33,6 +33,7 @@ public class ScimAccessTokenRequest extends ResourceNode
                                 String username,
                                 String password,
                                 String scope,
+                                Boolean bypassTokenCache,
                                 List<RequestHeaders> requestHeadersList,
                                 List<RequestParams> requestParamsList,
                                 Integer statusCode,
@@ -40,6 +41,8 @@ public class ScimAccessTokenRequest extends ResourceNode
                                 List<HttpHeaders> resourceEndpointHeaders,
                                 String plainResponse,
                                 String metaDataJson,
+                                List<TokenVerifications> tokenVerificationsList,
+                                ScimHttpTimings timings,
                                 ScimCurrentWorkflowSettings currentWorkflowSettings,
                                 Meta meta)
   {
@@ -53,6 +56,7 @@ public class ScimAccessTokenRequest extends ResourceNode
     setUsername(username);
     setPassword(password);
     setScope(scope);
+    setBypassTokenCache(bypassTokenCache);
     setRequestHeaders(requestHeadersList);
     setRequestParams(requestParamsList);
     setStatusCode(statusCode);
@@ -60,6 +64,8 @@ public class ScimAccessTokenRequest extends ResourceNode
     setResourceEndpoint(resourceEndpointHeaders);
     setPlainResponse(plainResponse);
     setMetaDataJson(metaDataJson);
+    setTokenVerifications(tokenVerificationsList);
+    setTimings(timings);
     setCurrentWorkflowSettings(currentWorkflowSettings);
     setMeta(meta);
   }
@@ -179,6 +185,24 @@ public class ScimAccessTokenRequest extends ResourceNode
     setAttribute(FieldNames.SCOPE, scope);
   }
 
+  /**
+   * If true a new AccessToken is requested even if a still valid AccessToken of a previous client-credentials
+   * request is cached
+   */
+  public boolean isBypassTokenCache()
+  {
+    return getBooleanAttribute(FieldNames.BYPASS_TOKEN_CACHE).orElse(false);
+  }
+
+  /**
+   * If true a new AccessToken is requested even if a still valid AccessToken of a previous client-credentials
+   * request is cached
+   */
+  public void setBypassTokenCache(Boolean bypassTokenCache)
+  {
+    setAttribute(FieldNames.BYPASS_TOKEN_CACHE, bypassTokenCache);
+  }
+
   /** The response code from the AccessToken response */
   public Integer getStatusCode()
   {
@@ -273,6 +297,30 @@ public class ScimAccessTokenRequest extends ResourceNode
     setAttribute(FieldNames.RESOURCE_ENDPOINT_HEADERS, responseHeadersList);
   }
 
+  /** The results of the signature verifications of the signed tokens within the AccessToken response */
+  public List<TokenVerifications> getTokenVerifications()
+  {
+    return getArrayAttribute(FieldNames.TOKEN_VERIFICATIONS, TokenVerifications.class);
+  }
+
+  /** The results of the signature verifications of the signed tokens within the AccessToken response */
+  public void setTokenVerifications(List<TokenVerifications> tokenVerificationsList)
+  {
+    setAttribute(FieldNames.TOKEN_VERIFICATIONS, tokenVerificationsList);
+  }
+
+  /** The time that was spent in the single phases of the AccessToken request */
+  public Optional<ScimHttpTimings> getTimings()
+  {
+    return getObjectAttribute(ScimHttpTimings.FieldNames.TIMINGS, ScimHttpTimings.class);
+  }
+
+  /** The time that was spent in the single phases of the AccessToken request */
+  public void setTimings(ScimHttpTimings timings)
+  {
+    setAttribute(ScimHttpTimings.FieldNames.TIMINGS, timings);
+  }
+
   /**
    * only returned if the get-resource method is called. It contains the last used settings of previous OpenID
    * Connect workflows for this client.
@@ -409,6 +457,72 @@ public class ScimAccessTokenRequest extends ResourceNode
     }
 
 
+  }
+
+  /** The results of the signature verifications of the signed tokens within the AccessToken response */
+  public static class TokenVerifications extends ScimObjectNode
+  {
+
+    public TokenVerifications()
+    {}
+
+    public TokenVerifications(String tokenName, Boolean valid, String keyId, String message)
+    {
+      setTokenName(tokenName);
+      setValid(valid);
+      setKeyId(keyId);
+      setMessage(message);
+    }
+
+    /** The name of the verified token e.g. id_token */
+    public String getTokenName()
+    {
+      return getStringAttribute(FieldNames.TOKEN_NAME).orElse(null);
+    }
+
+    /** The name of the verified token e.g. id_token */
+    public void setTokenName(String tokenName)
+    {
+      setAttribute(FieldNames.TOKEN_NAME, tokenName);
+    }
+
+    /** If the token was successfully verified */
+    public boolean isValid()
+    {
+      return getBooleanAttribute(FieldNames.VALID).orElse(false);
+    }
+
+    /** If the token was successfully verified */
+    public void setValid(Boolean valid)
+    {
+      setAttribute(FieldNames.VALID, valid);
+    }
+
+    /** The key id from the header of the verified token */
+    public Optional<String> getKeyId()
+    {
+      return getStringAttribute(FieldNames.KEY_ID);
+    }
+
+    /** The key id from the header of the verified token */
+    public void setKeyId(String keyId)
+    {
+      setAttribute(FieldNames.KEY_ID, keyId);
+    }
+
+    /** Describes the result of the verification */
+    public Optional<String> getMessage()
+    {
+      return getStringAttribute(FieldNames.MESSAGE);
+    }
+
+    /** Describes the result of the verification */
+    public void setMessage(String message)
+    {
+      setAttribute(FieldNames.MESSAGE, message);
+    }
+
+
   }
 
   public static class FieldNames
@@ -440,6 +554,8 @@ public class ScimAccessTokenRequest extends ResourceNode
 
     public static final String SCOPE = "scope";
 
+    public static final String BYPASS_TOKEN_CACHE = "bypassTokenCache";
+
     public static final String NAME = "name";
 
     public static final String ID = "id";
@@ -451,5 +567,15 @@ public class ScimAccessTokenRequest extends ResourceNode
     public static final String USERNAME = "username";
 
     public static final String STATUS_CODE = "statusCode";
+
+    public static final String TOKEN_VERIFICATIONS = "tokenVerifications";
+
+    public static final String TOKEN_NAME = "tokenName";
+
+    public static final String VALID = "valid";
+
+    public static final String KEY_ID = "keyId";
+
+    public static final String MESSAGE = "message";
   }
 }
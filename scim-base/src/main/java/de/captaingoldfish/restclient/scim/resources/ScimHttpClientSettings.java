@@ -31,6 +31,7 @@ public class ScimHttpClientSettings extends ResourceNode
                                 Long openIdClientReference,
                                 String proxyReference,
                                 String tlsClientAuthAliasReference,
+                                String executionEngine,
                                 Meta meta)
   {
     setSchemas(Collections.singletonList(FieldNames.SCHEMA_ID));
@@ -42,6 +43,7 @@ public class ScimHttpClientSettings extends ResourceNode
     setOpenIdClientReference(openIdClientReference);
     setProxyReference(proxyReference);
     setTlsClientAuthAliasReference(tlsClientAuthAliasReference);
+    setExecutionEngine(executionEngine);
     setMeta(meta);
   }
 
@@ -129,6 +131,18 @@ public class ScimHttpClientSettings extends ResourceNode
     setAttribute(FieldNames.TLS_CLIENT_AUTH_ALIAS_REFERENCE, tlsClientAuthAliasReference);
   }
 
+  /** The http client implementation that is used to send the requests. */
+  public Optional<String> getExecutionEngine()
+  {
+    return getStringAttribute(FieldNames.EXECUTION_ENGINE);
+  }
+
+  /** The http client implementation that is used to send the requests. */
+  public void setExecutionEngine(String executionEngine)
+  {
+    setAttribute(FieldNames.EXECUTION_ENGINE, executionEngine);
+  }
+
 
   public static class FieldNames
   {
@@ -150,5 +164,7 @@ public class ScimHttpClientSettings extends ResourceNode
     public static final String CONNECTION_TIMEOUT = "connectionTimeout";
 
     public static final String REQUEST_TIMEOUT = "requestTimeout";
+
+    public static final String EXECUTION_ENGINE = "executionEngine";
   }
 }
@@ -34,7 +34,14 @@ public class ScimHttpRequest extends ResourceNode
                          List<HttpHeaders> responseHeaders,
                          String responseStatus,
                          String responseBody,
-                         ScimHttpClientSettings scimHttpClientSettings)
+                         ScimHttpClientSettings scimHttpClientSettings,
+                         ScimHttpTimings timings,
+                         String responseContentType,
+                         Long responseBodySize,
+                         Boolean responseBodyBinary,
+                         Boolean responseBodyPreview,
+                         Boolean responseBodyTruncated,
+                         String responseBodyLocation)
   {
     setSchemas(Arrays.asList(FieldNames.SCHEMA));
     setId(id);
@@ -50,6 +57,13 @@ public class ScimHttpRequest extends ResourceNode
     setHttpResponseStatus(responseStatus);
     setResponseBody(responseBody);
     setHttpClientSettings(scimHttpClientSettings);
+    setTimings(timings);
+    setResponseContentType(responseContentType);
+    setResponseBodySize(responseBodySize);
+    setResponseBodyBinary(responseBodyBinary);
+    setResponseBodyPreview(responseBodyPreview);
+    setResponseBodyTruncated(responseBodyTruncated);
+    setResponseBodyLocation(responseBodyLocation);
   }
 
   /**
@@ -229,6 +243,118 @@ public class ScimHttpRequest extends ResourceNode
     setAttribute(FieldNames.RESPONSEBODY, responseBody);
   }
 
+  /**
+   * the time that was spent in the single phases of the exchange that led to the response
+   */
+  public Optional<ScimHttpTimings> getTimings()
+  {
+    return getObjectAttribute(ScimHttpTimings.FieldNames.TIMINGS, ScimHttpTimings.class);
+  }
+
+  /**
+   * the time that was spent in the single phases of the exchange that led to the response
+   */
+  public void setTimings(ScimHttpTimings timings)
+  {
+    setAttribute(ScimHttpTimings.FieldNames.TIMINGS, timings);
+  }
+
+  /**
+   * the content type of the response body
+   */
+  public Optional<String> getResponseContentType()
+  {
+    return getStringAttribute(FieldNames.RESPONSE_CONTENT_TYPE);
+  }
+
+  /**
+   * the content type of the response body
+   */
+  public void setResponseContentType(String responseContentType)
+  {
+    setAttribute(FieldNames.RESPONSE_CONTENT_TYPE, responseContentType);
+  }
+
+  /**
+   * the number of stored bytes of the response body
+   */
+  public Optional<Long> getResponseBodySize()
+  {
+    return getLongAttribute(FieldNames.RESPONSE_BODY_SIZE);
+  }
+
+  /**
+   * the number of stored bytes of the response body
+   */
+  public void setResponseBodySize(Long responseBodySize)
+  {
+    setAttribute(FieldNames.RESPONSE_BODY_SIZE, responseBodySize);
+  }
+
+  /**
+   * if the response body is not text and can only be downloaded from the responseBodyLocation
+   */
+  public Optional<Boolean> getResponseBodyBinary()
+  {
+    return getBooleanAttribute(FieldNames.RESPONSE_BODY_BINARY);
+  }
+
+  /**
+   * if the response body is not text and can only be downloaded from the responseBodyLocation
+   */
+  public void setResponseBodyBinary(Boolean responseBodyBinary)
+  {
+    setAttribute(FieldNames.RESPONSE_BODY_BINARY, responseBodyBinary);
+  }
+
+  /**
+   * if the responseBody contains only the beginning of the body
+   */
+  public Optional<Boolean> getResponseBodyPreview()
+  {
+    return getBooleanAttribute(FieldNames.RESPONSE_BODY_PREVIEW);
+  }
+
+  /**
+   * if the responseBody contains only the beginning of the body
+   */
+  public void setResponseBodyPreview(Boolean responseBodyPreview)
+  {
+    setAttribute(FieldNames.RESPONSE_BODY_PREVIEW, responseBodyPreview);
+  }
+
+  /**
+   * if the response body exceeded the maximum size and the remaining bytes were discarded
+   */
+  public Optional<Boolean> getResponseBodyTruncated()
+  {
+    return getBooleanAttribute(FieldNames.RESPONSE_BODY_TRUNCATED);
+  }
+
+  /**
+   * if the response body exceeded the maximum size and the remaining bytes were discarded
+   */
+  public void setResponseBodyTruncated(Boolean responseBodyTruncated)
+  {
+    setAttribute(FieldNames.RESPONSE_BODY_TRUNCATED, responseBodyTruncated);
+  }
+
+  /**
+   * the path from which the complete response body can be downloaded. Supports byte ranges
+   */
+  public Optional<String> getResponseBodyLocation()
+  {
+    return getStringAttribute(FieldNames.RESPONSE_BODY_LOCATION);
+  }
+
+  /**
+   * the path from which the complete response body can be downloaded. Supports byte ranges
+   */
+  public void setResponseBodyLocation(String responseBodyLocation)
+  {
+    setAttribute(FieldNames.RESPONSE_BODY_LOCATION, responseBodyLocation);
+  }
+
   /**
    * the http header values that will be added to the request
    */
@@ -309,5 +435,17 @@ public class ScimHttpRequest extends ResourceNode
     public static final String RESPONSEBODY = "responseBody";
 
     public static final String RESPONSEID = "responseId";
+
+    public static final String RESPONSE_CONTENT_TYPE = "responseContentType";
+
+    public static final String RESPONSE_BODY_SIZE = "responseBodySize";
+
+    public static final String RESPONSE_BODY_BINARY = "responseBodyBinary";
+
+    public static final String RESPONSE_BODY_PREVIEW = "responseBodyPreview";
+
+    public static final String RESPONSE_BODY_TRUNCATED = "responseBodyTruncated";
+
+    public static final String RESPONSE_BODY_LOCATION = "responseBodyLocation";
   }
 }
@@ -0,0 +1,172 @@
+package de.captaingoldfish.restclient.scim.resources;
+
+import de.captaingoldfish.scim.sdk.common.resources.base.ScimObjectNode;
+import lombok.Builder;
+
+
+/**
+ * The time that was spent in the single phases of a http exchange. All durations are given in microseconds
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class ScimHttpTimings extends ScimObjectNode
+{
+
+  public ScimHttpTimings()
+  {}
+
+  @Builder
+  public ScimHttpTimings(Long dnsLookupMicros,
+                         Long connectMicros,
+                         Long tlsHandshakeMicros,
+                         Long timeToFirstByteMicros,
+                         Long downloadMicros,
+                         Long totalMicros,
+                         Long bytesSent,
+                         Long bytesReceived,
+                         Boolean connectionReused)
+  {
+    setDnsLookupMicros(dnsLookupMicros);
+    setConnectMicros(connectMicros);
+    setTlsHandshakeMicros(tlsHandshakeMicros);
+    setTimeToFirstByteMicros(timeToFirstByteMicros);
+    setDownloadMicros(downloadMicros);
+    setTotalMicros(totalMicros);
+    setBytesSent(bytesSent);
+    setBytesReceived(bytesReceived);
+    setConnectionReused(connectionReused);
+  }
+
+  /** The time that was needed to resolve the address of the remote host */
+  public Long getDnsLookupMicros()
+  {
+    return getLongAttribute(FieldNames.DNS_LOOKUP_MICROS).orElse(null);
+  }
+
+  /** The time that was needed to resolve the address of the remote host */
+  public void setDnsLookupMicros(Long dnsLookupMicros)
+  {
+    setAttribute(FieldNames.DNS_LOOKUP_MICROS, dnsLookupMicros);
+  }
+
+  /** The time that was needed to establish the tcp connection */
+  public Long getConnectMicros()
+  {
+    return getLongAttribute(FieldNames.CONNECT_MICROS).orElse(null);
+  }
+
+  /** The time that was needed to establish the tcp connection */
+  public void setConnectMicros(Long connectMicros)
+  {
+    setAttribute(FieldNames.CONNECT_MICROS, connectMicros);
+  }
+
+  /** The time that was needed for the tls handshake */
+  public Long getTlsHandshakeMicros()
+  {
+    return getLongAttribute(FieldNames.TLS_HANDSHAKE_MICROS).orElse(null);
+  }
+
+  /** The time that was needed for the tls handshake */
+  public void setTlsHandshakeMicros(Long tlsHandshakeMicros)
+  {
+    setAttribute(FieldNames.TLS_HANDSHAKE_MICROS, tlsHandshakeMicros);
+  }
+
+  /** The time between an established connection and the arrival of the response head */
+  public Long getTimeToFirstByteMicros()
+  {
+    return getLongAttribute(FieldNames.TIME_TO_FIRST_BYTE_MICROS).orElse(null);
+  }
+
+  /** The time between an established connection and the arrival of the response head */
+  public void setTimeToFirstByteMicros(Long timeToFirstByteMicros)
+  {
+    setAttribute(FieldNames.TIME_TO_FIRST_BYTE_MICROS, timeToFirstByteMicros);
+  }
+
+  /** The time that was needed to read the response body */
+  public Long getDownloadMicros()
+  {
+    return getLongAttribute(FieldNames.DOWNLOAD_MICROS).orElse(null);
+  }
+
+  /** The time that was needed to read the response body */
+  public void setDownloadMicros(Long downloadMicros)
+  {
+    setAttribute(FieldNames.DOWNLOAD_MICROS, downloadMicros);
+  }
+
+  /** The time of the complete exchange */
+  public Long getTotalMicros()
+  {
+    return getLongAttribute(FieldNames.TOTAL_MICROS).orElse(null);
+  }
+
+  /** The time of the complete exchange */
+  public void setTotalMicros(Long totalMicros)
+  {
+    setAttribute(FieldNames.TOTAL_MICROS, totalMicros);
+  }
+
+  /** The number of bytes that were written to the connection */
+  public Long getBytesSent()
+  {
+    return getLongAttribute(FieldNames.BYTES_SENT).orElse(null);
+  }
+
+  /** The number of bytes that were written to the connection */
+  public void setBytesSent(Long bytesSent)
+  {
+    setAttribute(FieldNames.BYTES_SENT, bytesSent);
+  }
+
+  /** The number of bytes that were read from the connection */
+  public Long getBytesReceived()
+  {
+    return getLongAttribute(FieldNames.BYTES_RECEIVED).orElse(null);
+  }
+
+  /** The number of bytes that were read from the connection */
+  public void setBytesReceived(Long bytesReceived)
+  {
+    setAttribute(FieldNames.BYTES_RECEIVED, bytesReceived);
+  }
+
+  /** If the exchange was sent over an already established pooled connection */
+  public Boolean getConnectionReused()
+  {
+    return getBooleanAttribute(FieldNames.CONNECTION_REUSED).orElse(null);
+  }
+
+  /** If the exchange was sent over an already established pooled connection */
+  public void setConnectionReused(Boolean connectionReused)
+  {
+    setAttribute(FieldNames.CONNECTION_REUSED, connectionReused);
+  }
+
+  public static class FieldNames
+  {
+
+    public static final String TIMINGS = "timings";
+
+    public static final String DNS_LOOKUP_MICROS = "dnsLookupMicros";
+
+    public static final String CONNECT_MICROS = "connectMicros";
+
+    public static final String TLS_HANDSHAKE_MICROS = "tlsHandshakeMicros";
+
+    public static final String TIME_TO_FIRST_BYTE_MICROS = "timeToFirstByteMicros";
+
+    public static final String DOWNLOAD_MICROS = "downloadMicros";
+
+    public static final String TOTAL_MICROS = "totalMicros";
+
+    public static final String BYTES_SENT = "bytesSent";
+
+    public static final String BYTES_RECEIVED = "bytesReceived";
+
+    public static final String CONNECTION_REUSED = "connectionReused";
+  }
+}
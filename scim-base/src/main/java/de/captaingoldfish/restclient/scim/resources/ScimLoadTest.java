@@ -0,0 +1,402 @@
+package de.captaingoldfish.restclient.scim.resources;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import de.captaingoldfish.scim.sdk.common.resources.ResourceNode;
+import de.captaingoldfish.scim.sdk.common.resources.base.ScimObjectNode;
+import de.captaingoldfish.scim.sdk.common.resources.complex.Meta;
+import lombok.Builder;
+
+
+/**
+ * A load test that replays a stored http request and reports the measured latencies. The load test runs in
+ * the background and its intermediate result can be retrieved by its id until it has finished
+ *
+ * @author Pascal Knueppel
+ * @since 17.10.2026
+ */
+public class ScimLoadTest extends ResourceNode
+{
+
+  public ScimLoadTest()
+  {}
+
+  @Builder
+  public ScimLoadTest(String id,
+                      String httpRequestId,
+                      Long totalRequests,
+                      Long durationSeconds,
+                      Integer concurrency,
+                      Integer requestsPerSecond,
+                      String status,
+                      Long sentRequests,
+                      Long errorCount,
+                      Long durationMillis,
+                      Double throughput,
+                      Latency latency,
+                      List<StatusCodes> statusCodesList,
+                      Meta meta)
+  {
+    setSchemas(Collections.singletonList(FieldNames.SCHEMA_ID));
+    setId(id);
+    setHttpRequestId(httpRequestId);
+    setTotalRequests(totalRequests);
+    setDurationSeconds(durationSeconds);
+    setConcurrency(concurrency);
+    setRequestsPerSecond(requestsPerSecond);
+    setStatus(status);
+    setSentRequests(sentRequests);
+    setErrorCount(errorCount);
+    setDurationMillis(durationMillis);
+    setThroughput(throughput);
+    setLatency(latency);
+    setStatusCodes(statusCodesList);
+    setMeta(meta);
+  }
+
+  /** The id of the stored http request that is replayed */
+  public String getHttpRequestId()
+  {
+    return getStringAttribute(FieldNames.HTTP_REQUEST_ID).orElse(null);
+  }
+
+  /** The id of the stored http request that is replayed */
+  public void setHttpRequestId(String httpRequestId)
+  {
+    setAttribute(FieldNames.HTTP_REQUEST_ID, httpRequestId);
+  }
+
+  /** The number of requests to send */
+  public Optional<Long> getTotalRequests()
+  {
+    return getLongAttribute(FieldNames.TOTAL_REQUESTS);
+  }
+
+  /** The number of requests to send */
+  public void setTotalRequests(Long totalRequests)
+  {
+    setAttribute(FieldNames.TOTAL_REQUESTS, totalRequests);
+  }
+
+  /** The number of seconds after which no more requests are sent */
+  public Optional<Long> getDurationSeconds()
+  {
+    return getLongAttribute(FieldNames.DURATION_SECONDS);
+  }
+
+  /** The number of seconds after which no more requests are sent */
+  public void setDurationSeconds(Long durationSeconds)
+  {
+    setAttribute(FieldNames.DURATION_SECONDS, durationSeconds);
+  }
+
+  /** The number of requests that are sent at the same time */
+  public Optional<Integer> getConcurrency()
+  {
+    return getIntegerAttribute(FieldNames.CONCURRENCY);
+  }
+
+  /** The number of requests that are sent at the same time */
+  public void setConcurrency(Integer concurrency)
+  {
+    setAttribute(FieldNames.CONCURRENCY, concurrency);
+  }
+
+  /** The target request rate. If not present the requests are sent as fast as possible */
+  public Optional<Integer> getRequestsPerSecond()
+  {
+    return getIntegerAttribute(FieldNames.REQUESTS_PER_SECOND);
+  }
+
+  /** The target request rate. If not present the requests are sent as fast as possible */
+  public void setRequestsPerSecond(Integer requestsPerSecond)
+  {
+    setAttribute(FieldNames.REQUESTS_PER_SECOND, requestsPerSecond);
+  }
+
+  /** The state of the load test. Either RUNNING or FINISHED */
+  public String getStatus()
+  {
+    return getStringAttribute(FieldNames.STATUS).orElse(null);
+  }
+
+  /** The state of the load test. Either RUNNING or FINISHED */
+  public void setStatus(String status)
+  {
+    setAttribute(FieldNames.STATUS, status);
+  }
+
+  /** The number of requests that were sent */
+  public Long getSentRequests()
+  {
+    return getLongAttribute(FieldNames.SENT_REQUESTS).orElse(null);
+  }
+
+  /** The number of requests that were sent */
+  public void setSentRequests(Long sentRequests)
+  {
+    setAttribute(FieldNames.SENT_REQUESTS, sentRequests);
+  }
+
+  /** The number of requests that did not get a response */
+  public Long getErrorCount()
+  {
+    return getLongAttribute(FieldNames.ERROR_COUNT).orElse(null);
+  }
+
+  /** The number of requests that did not get a response */
+  public void setErrorCount(Long errorCount)
+  {
+    setAttribute(FieldNames.ERROR_COUNT, errorCount);
+  }
+
+  /** The time in milliseconds the load test took */
+  public Long getDurationMillis()
+  {
+    return getLongAttribute(FieldNames.DURATION_MILLIS).orElse(null);
+  }
+
+  /** The time in milliseconds the load test took */
+  public void setDurationMillis(Long durationMillis)
+  {
+    setAttribute(FieldNames.DURATION_MILLIS, durationMillis);
+  }
+
+  /** The number of sent requests per second */
+  public Double getThroughput()
+  {
+    return getDoubleAttribute(FieldNames.THROUGHPUT).orElse(null);
+  }
+
+  /** The number of sent requests per second */
+  public void setThroughput(Double throughput)
+  {
+    setAttribute(FieldNames.THROUGHPUT, throughput);
+  }
+
+  /** The latency distribution of the requests that got a response */
+  public Optional<Latency> getLatency()
+  {
+    return getObjectAttribute(FieldNames.LATENCY, Latency.class);
+  }
+
+  /** The latency distribution of the requests that got a response */
+  public void setLatency(Latency latency)
+  {
+    setAttribute(FieldNames.LATENCY, latency);
+  }
+
+  /** The number of responses per status code */
+  public List<StatusCodes> getStatusCodes()
+  {
+    return getArrayAttribute(FieldNames.STATUS_CODES, StatusCodes.class);
+  }
+
+  /** The number of responses per status code */
+  public void setStatusCodes(List<StatusCodes> statusCodesList)
+  {
+    setAttribute(FieldNames.STATUS_CODES, statusCodesList);
+  }
+
+  /** The latency distribution of the requests that got a response */
+  public static class Latency extends ScimObjectNode
+  {
+
+    public Latency()
+    {}
+
+    @Builder
+    public Latency(Double minMillis,
+                   Double meanMillis,
+                   Double p50Millis,
+                   Double p90Millis,
+                   Double p99Millis,
+                   Double p999Millis,
+                   Double maxMillis)
+    {
+      setMinMillis(minMillis);
+      setMeanMillis(meanMillis);
+      setP50Millis(p50Millis);
+      setP90Millis(p90Millis);
+      setP99Millis(p99Millis);
+      setP999Millis(p999Millis);
+      setMaxMillis(maxMillis);
+    }
+
+    /** The smallest latency in milliseconds */
+    public Double getMinMillis()
+    {
+      return getDoubleAttribute(FieldNames.MIN_MILLIS).orElse(null);
+    }
+
+    /** The smallest latency in milliseconds */
+    public void setMinMillis(Double minMillis)
+    {
+      setAttribute(FieldNames.MIN_MILLIS, minMillis);
+    }
+
+    /** The mean latency in milliseconds */
+    public Double getMeanMillis()
+    {
+      return getDoubleAttribute(FieldNames.MEAN_MILLIS).orElse(null);
+    }
+
+    /** The mean latency in milliseconds */
+    public void setMeanMillis(Double meanMillis)
+    {
+      setAttribute(FieldNames.MEAN_MILLIS, meanMillis);
+    }
+
+    /** The median latency in milliseconds */
+    public Double getP50Millis()
+    {
+      return getDoubleAttribute(FieldNames.P50_MILLIS).orElse(null);
+    }
+
+    /** The median latency in milliseconds */
+    public void setP50Millis(Double p50Millis)
+    {
+      setAttribute(FieldNames.P50_MILLIS, p50Millis);
+    }
+
+    /** The 90th percentile of the latencies in milliseconds */
+    public Double getP90Millis()
+    {
+      return getDoubleAttribute(FieldNames.P90_MILLIS).orElse(null);
+    }
+
+    /** The 90th percentile of the latencies in milliseconds */
+    public void setP90Millis(Double p90Millis)
+    {
+      setAttribute(FieldNames.P90_MILLIS, p90Millis);
+    }
+
+    /** The 99th percentile of the latencies in milliseconds */
+    public Double getP99Millis()
+    {
+      return getDoubleAttribute(FieldNames.P99_MILLIS).orElse(null);
+    }
+
+    /** The 99th percentile of the latencies in milliseconds */
+    public void setP99Millis(Double p99Millis)
+    {
+      setAttribute(FieldNames.P99_MILLIS, p99Millis);
+    }
+
+    /** The 99.9th percentile of the latencies in milliseconds */
+    public Double getP999Millis()
+    {
+      return getDoubleAttribute(FieldNames.P999_MILLIS).orElse(null);
+    }
+
+    /** The 99.9th percentile of the latencies in milliseconds */
+    public void setP999Millis(Double p999Millis)
+    {
+      setAttribute(FieldNames.P999_MILLIS, p999Millis);
+    }
+
+    /** The largest latency in milliseconds */
+    public Double getMaxMillis()
+    {
+      return getDoubleAttribute(FieldNames.MAX_MILLIS).orElse(null);
+    }
+
+    /** The largest latency in milliseconds */
+    public void setMaxMillis(Double maxMillis)
+    {
+      setAttribute(FieldNames.MAX_MILLIS, maxMillis);
+    }
+
+
+  }
+
+  /** The number of responses with a specific status code */
+  public static class StatusCodes extends ScimObjectNode
+  {
+
+    public StatusCodes()
+    {}
+
+    public StatusCodes(Integer statusCode, Long count)
+    {
+      setStatusCode(statusCode);
+      setCount(count);
+    }
+
+    /** The status code of the responses */
+    public Integer getStatusCode()
+    {
+      return getIntegerAttribute(FieldNames.STATUS_CODE).orElse(null);
+    }
+
+    /** The status code of the responses */
+    public void setStatusCode(Integer statusCode)
+    {
+      setAttribute(FieldNames.STATUS_CODE, statusCode);
+    }
+
+    /** The number of responses with this status code */
+    public Long getCount()
+    {
+      return getLongAttribute(FieldNames.COUNT).orElse(null);
+    }
+
+    /** The number of responses with this status code */
+    public void setCount(Long count)
+    {
+      setAttribute(FieldNames.COUNT, count);
+    }
+
+
+  }
+
+  public static class FieldNames
+  {
+
+    public static final String SCHEMA_ID = "urn:ietf:params:scim:schemas:captaingoldfish:2.0:LoadTest";
+
+    public static final String HTTP_REQUEST_ID = "httpRequestId";
+
+    public static final String TOTAL_REQUESTS = "totalRequests";
+
+    public static final String DURATION_SECONDS = "durationSeconds";
+
+    public static final String CONCURRENCY = "concurrency";
+
+    public static final String REQUESTS_PER_SECOND = "requestsPerSecond";
+
+    public static final String STATUS = "status";
+
+    public static final String SENT_REQUESTS = "sentRequests";
+
+    public static final String ERROR_COUNT = "errorCount";
+
+    public static final String DURATION_MILLIS = "durationMillis";
+
+    public static final String THROUGHPUT = "throughput";
+
+    public static final String LATENCY = "latency";
+
+    public static final String MIN_MILLIS = "minMillis";
+
+    public static final String MEAN_MILLIS = "meanMillis";
+
+    public static final String P50_MILLIS = "p50Millis";
+
+    public static final String P90_MILLIS = "p90Millis";
+
+    public static final String P99_MILLIS = "p99Millis";
+
+    public static final String P999_MILLIS = "p999Millis";
+
+    public static final String MAX_MILLIS = "maxMillis";
+
+    public static final String STATUS_CODES = "statusCodes";
+
+    public static final String STATUS_CODE = "statusCode";
+
+    public static final String COUNT = "count";
+  }
+}